@@ -28,6 +28,7 @@ val platformProjects by extra(listOf(
 		projects.junitPlatformSuite,
 		projects.junitPlatformSuiteApi,
 		projects.junitPlatformSuiteEngine,
+		projects.junitPlatformTestIndex,
 		projects.junitPlatformTestkit
 ).map { dependencyProject(it) })
 
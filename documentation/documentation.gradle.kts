@@ -131,6 +131,7 @@ val consoleLauncherOptionsFile = generatedAsciiDocPath.map { it.file("console-la
 val consoleLauncherDiscoverOptionsFile = generatedAsciiDocPath.map { it.file("console-launcher-discover-options.txt") }
 val consoleLauncherExecuteOptionsFile = generatedAsciiDocPath.map { it.file("console-launcher-execute-options.txt") }
 val consoleLauncherEnginesOptionsFile = generatedAsciiDocPath.map { it.file("console-launcher-engines-options.txt") }
+val consoleLauncherDaemonOptionsFile = generatedAsciiDocPath.map { it.file("console-launcher-daemon-options.txt") }
 val experimentalApisTableFile = generatedAsciiDocPath.map { it.file("experimental-apis-table.adoc") }
 val deprecatedApisTableFile = generatedAsciiDocPath.map { it.file("deprecated-apis-table.adoc") }
 val standaloneConsoleLauncherShadowedArtifactsFile = generatedAsciiDocPath.map { it.file("console-launcher-standalone-shadowed-artifacts.adoc") }
@@ -240,6 +241,13 @@ tasks {
 		outputFile = consoleLauncherEnginesOptionsFile
 	}
 
+	val generateConsoleLauncherDaemonOptions by registering(CaptureJavaExecOutput::class) {
+		classpath.from(standaloneConsoleLauncherClasspath)
+		mainClass = "org.junit.platform.console.ConsoleLauncher"
+		args.addAll("daemon", "--help", "--disable-banner")
+		outputFile = consoleLauncherDaemonOptionsFile
+	}
+
 	val generateApiTables by registering(JavaExec::class) {
 		classpath = tools.runtimeClasspath
 		mainClass = "org.junit.api.tools.ApiReportGenerator"
@@ -274,6 +282,7 @@ tasks {
 			generateConsoleLauncherDiscoverOptions,
 			generateConsoleLauncherExecuteOptions,
 			generateConsoleLauncherEnginesOptions,
+			generateConsoleLauncherDaemonOptions,
 			generateApiTables,
 			generateStandaloneConsoleLauncherShadowedArtifactsFile,
 			componentDiagram
@@ -306,6 +315,7 @@ tasks {
 				"consoleLauncherDiscoverOptionsFile" to consoleLauncherDiscoverOptionsFile.get(),
 				"consoleLauncherExecuteOptionsFile" to consoleLauncherExecuteOptionsFile.get(),
 				"consoleLauncherEnginesOptionsFile" to consoleLauncherEnginesOptionsFile.get(),
+				"consoleLauncherDaemonOptionsFile" to consoleLauncherDaemonOptionsFile.get(),
 				"experimentalApisTableFile" to experimentalApisTableFile.get(),
 				"deprecatedApisTableFile" to deprecatedApisTableFile.get(),
 				"standaloneConsoleLauncherShadowedArtifactsFile" to standaloneConsoleLauncherShadowedArtifactsFile.get(),
@@ -10,11 +10,14 @@
 
 package org.junit.platform.commons.support.scanning;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.util.Preconditions;
 
 /**
@@ -43,15 +46,66 @@ public class ClassFilter {
 	 * @return an instance of {@code ClassFilter}; never {@code null}
 	 */
 	public static ClassFilter of(Predicate<String> namePredicate, Predicate<Class<?>> classPredicate) {
-		return new ClassFilter(namePredicate, classPredicate);
+		return new ClassFilter(namePredicate, classPredicate, null);
 	}
 
 	private final Predicate<String> namePredicate;
 	private final Predicate<Class<?>> classPredicate;
 
-	private ClassFilter(Predicate<String> namePredicate, Predicate<Class<?>> classPredicate) {
+	private final @Nullable Predicate<String> referencedClassNamePredicate;
+
+	private ClassFilter(Predicate<String> namePredicate, Predicate<Class<?>> classPredicate,
+			@Nullable Predicate<String> referencedClassNamePredicate) {
 		this.namePredicate = Preconditions.notNull(namePredicate, "name predicate must not be null");
 		this.classPredicate = Preconditions.notNull(classPredicate, "class predicate must not be null");
+		this.referencedClassNamePredicate = referencedClassNamePredicate;
+	}
+
+	/**
+	 * Create a copy of this {@link ClassFilter} that additionally pre-filters
+	 * classes based on the classes their class files reference.
+	 *
+	 * <p>A class that passes the name predicate is only loaded and tested
+	 * using the class predicate if the constant pool of its class file
+	 * references a class whose name matches the supplied predicate, or if it
+	 * references another scanned class that does so, directly or transitively.
+	 * The latter takes, for example, subclasses, composed annotations, and
+	 * enclosing classes declared in the scanned class containers into account.
+	 * Classes whose class files cannot be read are always loaded.
+	 *
+	 * <p>Since class files are read without loading classes, this avoids
+	 * loading, verifying, and initializing classes that cannot pass the class
+	 * predicate, for example, production classes that do not reference any
+	 * test annotation. However, classes that only inherit from or are
+	 * annotated with classes outside the scanned class containers that match
+	 * the supplied predicate are not found.
+	 *
+	 * <p>{@link ClasspathScanner} implementations may ignore the supplied
+	 * predicate.
+	 *
+	 * @param referencedClassNamePredicate the predicate for the fully
+	 * qualified names of referenced classes; never {@code null}
+	 * @return a new {@code ClassFilter}; never {@code null}
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public ClassFilter withReferencedClassNamePredicate(Predicate<String> referencedClassNamePredicate) {
+		Preconditions.notNull(referencedClassNamePredicate, "referenced class name predicate must not be null");
+		return new ClassFilter(this.namePredicate, this.classPredicate, referencedClassNamePredicate);
+	}
+
+	/**
+	 * Get the predicate for the names of classes that class files of scanned
+	 * classes must reference, if any.
+	 *
+	 * @return an {@code Optional} containing the predicate; never {@code null}
+	 * but potentially empty
+	 * @since 6.0
+	 * @see #withReferencedClassNamePredicate(Predicate)
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public Optional<Predicate<String>> getReferencedClassNamePredicate() {
+		return Optional.ofNullable(this.referencedClassNamePredicate);
 	}
 
 	/**
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.support.scanning;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * {@link RecursiveTask} that processes the files in a directory of a classpath
+ * root and forks a new task for each of its subdirectories.
+ *
+ * <p>Files and subdirectories are processed in the same order as
+ * {@link ClasspathFileVisitor} would visit them, and the results of
+ * subdirectories are merged in that order as well. Works for directories of
+ * the default file system and of jar file systems alike. Like
+ * {@link Files#walkFileTree}, symbolic links to directories are not followed.
+ * Subdirectory tasks are forked into the pool of the thread that invokes
+ * this task.
+ *
+ * @param <T> the type of results collected for processed files
+ * @since 6.0
+ */
+// this class cannot be serialized because Path is not Serializable
+@SuppressWarnings("serial")
+class ClasspathDirectoryTask<T> extends RecursiveTask<List<T>> {
+
+	private static final Logger logger = LoggerFactory.getLogger(ClasspathDirectoryTask.class);
+
+	private final Path directory;
+	private final Predicate<Path> filter;
+	private final BiConsumer<Path, Consumer<T>> processor;
+
+	/**
+	 * @param directory the directory to process
+	 * @param filter the filter for files to process
+	 * @param processor the processor that is called for each file and may
+	 * pass results to the supplied consumer
+	 */
+	ClasspathDirectoryTask(Path directory, Predicate<Path> filter, BiConsumer<Path, Consumer<T>> processor) {
+		this.directory = directory;
+		this.filter = filter;
+		this.processor = processor;
+	}
+
+	@Override
+	protected List<T> compute() {
+		List<Object> entries = new ArrayList<>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.directory)) {
+			for (Path entry : stream) {
+				if (Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS)) {
+					entries.add(new ClasspathDirectoryTask<>(entry, this.filter, this.processor).fork());
+				}
+				else if (this.filter.test(entry)) {
+					entries.add(entry);
+				}
+			}
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> "I/O error visiting directory: " + this.directory);
+		}
+		return collectResults(entries);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<T> collectResults(List<Object> entries) {
+		List<T> results = new ArrayList<>();
+		for (Object entry : entries) {
+			if (entry instanceof ClasspathDirectoryTask<?> subdirectoryTask) {
+				results.addAll(((ClasspathDirectoryTask<T>) subdirectoryTask).join());
+			}
+			else {
+				this.processor.accept((Path) entry, results::add);
+			}
+		}
+		return results;
+	}
+
+}
@@ -11,36 +11,49 @@
 package org.junit.platform.commons.support.scanning;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.joining;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.junit.platform.commons.support.scanning.ClasspathFilters.CLASS_FILE_SUFFIX;
 import static org.junit.platform.commons.util.StringUtils.isNotBlank;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.commons.function.Try;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.support.DefaultResource;
 import org.junit.platform.commons.support.Resource;
+import org.junit.platform.commons.util.ClassFileUtils;
 import org.junit.platform.commons.util.PackageUtils;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.UnrecoverableExceptions;
@@ -57,6 +70,37 @@ import org.junit.platform.commons.util.UnrecoverableExceptions;
 @API(status = INTERNAL, since = "1.12")
 public class DefaultClasspathScanner implements ClasspathScanner {
 
+	/**
+	 * Name of the JVM system property that enables parallel scanning for
+	 * classes when set to {@code true}: {@value}
+	 *
+	 * <p>The property is read when the default {@link ClasspathScanner} is
+	 * created; it cannot be set via configuration parameters since classpath
+	 * scanning is not scoped to a launcher.
+	 *
+	 * @since 6.0
+	 * @see #DefaultClasspathScanner(Supplier, BiFunction, boolean)
+	 */
+	public static final String PARALLEL_SCANNING_PROPERTY_NAME = "junit.platform.classpath.scanning.parallel.enabled";
+
+	/**
+	 * Name of the JVM system property that enables the use of the test index
+	 * ({@code META-INF/junit-platform/test-index}) of classpath roots when set
+	 * to {@code true}: {@value}
+	 *
+	 * <p>If enabled, only the classes listed in the test index of a classpath
+	 * root are scanned instead of all of its class files. Classes that are
+	 * not listed, for example, test classes of engines the annotation
+	 * processor that generates the index does not know about, are not found.
+	 *
+	 * <p>Like {@link #PARALLEL_SCANNING_PROPERTY_NAME}, the property is read
+	 * when the default {@link ClasspathScanner} is created.
+	 *
+	 * @since 6.0
+	 * @see #DefaultClasspathScanner(Supplier, BiFunction, boolean, boolean)
+	 */
+	public static final String TEST_INDEX_ENABLED_PROPERTY_NAME = "junit.platform.classpath.scanning.test-index.enabled";
+
 	private static final Logger logger = LoggerFactory.getLogger(DefaultClasspathScanner.class);
 
 	private static final char CLASSPATH_RESOURCE_PATH_SEPARATOR = '/';
@@ -64,6 +108,9 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 		CLASSPATH_RESOURCE_PATH_SEPARATOR);
 	private static final char PACKAGE_SEPARATOR_CHAR = '.';
 	private static final String PACKAGE_SEPARATOR_STRING = String.valueOf(PACKAGE_SEPARATOR_CHAR);
+	private static final String FILE_URI_SCHEME = "file";
+	private static final String JAR_URI_SEPARATOR = "!/";
+	private static final String JAR_FILE_EXTENSION = ".jar";
 
 	/**
 	 * Malformed class name InternalError like reported in #401.
@@ -74,11 +121,73 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 
 	private final BiFunction<String, ClassLoader, Try<Class<?>>> loadClass;
 
+	private final boolean parallel;
+
+	private final boolean testIndexEnabled;
+
 	public DefaultClasspathScanner(Supplier<ClassLoader> classLoaderSupplier,
 			BiFunction<String, ClassLoader, Try<Class<?>>> loadClass) {
 
+		this(classLoaderSupplier, loadClass, false);
+	}
+
+	/**
+	 * Create a new {@code DefaultClasspathScanner}.
+	 *
+	 * <p>In parallel mode, classpath roots and their directories, including
+	 * directories within jar files, are walked concurrently in the
+	 * {@linkplain java.util.concurrent.ForkJoinPool#commonPool() common pool}
+	 * of the fork/join framework, even if the calling thread is a worker
+	 * thread of another pool. Class name filters are applied while walking, and
+	 * classes passing them are loaded concurrently as well. Class filters are
+	 * applied in the calling thread, and the order of the scanned classes is
+	 * the same as in sequential mode.
+	 *
+	 * @param parallel whether to scan for classes in parallel
+	 * @since 6.0
+	 * @see #PARALLEL_SCANNING_PROPERTY_NAME
+	 */
+	public DefaultClasspathScanner(Supplier<ClassLoader> classLoaderSupplier,
+			BiFunction<String, ClassLoader, Try<Class<?>>> loadClass, boolean parallel) {
+
+		this(classLoaderSupplier, loadClass, parallel, false);
+	}
+
+	/**
+	 * Create a new {@code DefaultClasspathScanner}.
+	 *
+	 * @param parallel whether to scan for classes in parallel
+	 * @param testIndexEnabled whether to only scan the classes listed in the
+	 * test index of classpath roots that contain one
+	 * @since 6.0
+	 * @see #DefaultClasspathScanner(Supplier, BiFunction, boolean)
+	 * @see #TEST_INDEX_ENABLED_PROPERTY_NAME
+	 */
+	public DefaultClasspathScanner(Supplier<ClassLoader> classLoaderSupplier,
+			BiFunction<String, ClassLoader, Try<Class<?>>> loadClass, boolean parallel, boolean testIndexEnabled) {
+
 		this.classLoaderSupplier = classLoaderSupplier;
 		this.loadClass = loadClass;
+		this.parallel = parallel;
+		this.testIndexEnabled = testIndexEnabled;
+	}
+
+	/**
+	 * Cache the central directories of jar files scanned by any
+	 * {@code DefaultClasspathScanner} until the returned {@link AutoCloseable}
+	 * is closed.
+	 *
+	 * <p>Scanning a jar file for classes only requires reading the names of
+	 * its entries from its central directory. If it is cached, repeated scans
+	 * of the same jar file, for example, for multiple packages, do not have to
+	 * read it again. Cached central directories are discarded once all
+	 * returned instances have been closed or if their jar file is modified.
+	 *
+	 * @return an {@code AutoCloseable} that ends caching when closed
+	 * @since 6.0
+	 */
+	public static AutoCloseable cacheJarCentralDirectories() {
+		return JarCentralDirectory.retainCache();
 	}
 
 	@Override
@@ -125,6 +234,9 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 	 * Recursively scan for classes in all the supplied source directories.
 	 */
 	private List<Class<?>> findClassesForUris(List<URI> baseUris, String basePackageName, ClassFilter classFilter) {
+		if (isCollectingClassFilesFirst(classFilter)) {
+			return findClassesForClassFiles(baseUris, basePackageName, classFilter);
+		}
 		// @formatter:off
 		return baseUris.stream()
 				.map(baseUri -> findClassesForUri(baseUri, basePackageName, classFilter))
@@ -135,15 +247,206 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 	}
 
 	private List<Class<?>> findClassesForUri(URI baseUri, String basePackageName, ClassFilter classFilter) {
+		if (isCollectingClassFilesFirst(classFilter)) {
+			return findClassesForClassFiles(List.of(baseUri), basePackageName, classFilter);
+		}
 		List<Class<?>> classes = new ArrayList<>();
+		Optional<JarClassNames> jarClassNames = findClassNamesInJar(baseUri, basePackageName);
+		if (jarClassNames.isPresent()) {
+			jarClassNames.get().forEach((location, className) -> processClassSafely(location, className,
+				classFilter, classes::add));
+			return classes;
+		}
 		// @formatter:off
-		walkFilesForUri(baseUri, ClasspathFilters.classFiles(),
+		walkFilesForUri(baseUri, baseDir -> findIndexedClassFiles(baseDir, basePackageName),
+				ClasspathFilters.classFiles(),
 				(baseDir, file) ->
 						processClassFileSafely(baseDir, basePackageName, classFilter, file, classes::add));
 		// @formatter:on
 		return classes;
 	}
 
+	/**
+	 * Class files need to be collected before loading any classes if they are
+	 * processed concurrently or if they need to be pre-filtered based on the
+	 * classes they reference.
+	 */
+	private boolean isCollectingClassFilesFirst(ClassFilter classFilter) {
+		return this.parallel || classFilter.getReferencedClassNamePredicate().isPresent();
+	}
+
+	private List<Class<?>> findClassesForClassFiles(List<URI> baseUris, String basePackageName,
+			ClassFilter classFilter) {
+		// Worker threads do not necessarily share the context class loader of the calling thread
+		ClassLoader classLoader = getClassLoader();
+		List<LoadedClass> loadedClasses;
+		if (this.parallel) {
+			// Fork/join tasks and parallel streams would otherwise be executed in the
+			// pool of the calling thread if it is a worker thread of another pool,
+			// for example, of a parallel test executor.
+			loadedClasses = ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(
+				() -> loadClasses(baseUris, basePackageName, classFilter, classLoader)));
+		}
+		else {
+			loadedClasses = loadClasses(baseUris, basePackageName, classFilter, classLoader);
+		}
+		// @formatter:off
+		return loadedClasses.stream()
+				.map(loadedClass -> matchSafely(loadedClass, classFilter))
+				.flatMap(Optional::stream)
+				.distinct()
+				.toList();
+		// @formatter:on
+	}
+
+	private List<LoadedClass> loadClasses(List<URI> baseUris, String basePackageName, ClassFilter classFilter,
+			ClassLoader classLoader) {
+		// @formatter:off
+		List<ClassFile> classFiles = stream(baseUris)
+				.map(baseUri -> findClassFilesForUri(baseUri, basePackageName, classFilter))
+				.flatMap(Collection::stream)
+				.toList();
+		if (classFilter.getReferencedClassNamePredicate().isPresent()) {
+			classFiles = retainClassFilesReferencingMatchingClasses(classFiles);
+		}
+		return stream(classFiles)
+				.map(classFile -> loadClassSafely(classFile, classLoader))
+				.toList();
+		// @formatter:on
+	}
+
+	private <E> Stream<E> stream(List<E> list) {
+		return this.parallel ? list.parallelStream() : list.stream();
+	}
+
+	private List<ClassFile> findClassFilesForUri(URI baseUri, String basePackageName, ClassFilter classFilter) {
+		// Reading class files from a jar file requires a zip file system
+		if (classFilter.getReferencedClassNamePredicate().isEmpty()) {
+			Optional<JarClassNames> jarClassNames = findClassNamesInJar(baseUri, basePackageName);
+			if (jarClassNames.isPresent()) {
+				List<ClassFile> classFiles = new ArrayList<>();
+				jarClassNames.get().forEach((location, className) -> processClassNameSafely(location, className,
+					classFilter, classFiles::add));
+				return classFiles;
+			}
+		}
+		try (CloseablePath closeablePath = CloseablePath.create(baseUri)) {
+			Path baseDir = closeablePath.getPath();
+			Preconditions.condition(Files.exists(baseDir), () -> "baseDir must exist: " + baseDir);
+			Optional<List<Path>> indexedClassFiles = findIndexedClassFiles(baseDir, basePackageName);
+			if (indexedClassFiles.isPresent()) {
+				// Indexed classes are test classes, so there's no need to read their class files
+				List<ClassFile> classFiles = new ArrayList<>();
+				indexedClassFiles.get().forEach(file -> processClassFileNameSafely(baseDir, basePackageName,
+					classFilter, file, false, classFiles::add));
+				return classFiles;
+			}
+			BiConsumer<Path, Consumer<ClassFile>> processor = (file, consumer) -> processClassFileNameSafely(baseDir,
+				basePackageName, classFilter, file, true, consumer);
+			if (this.parallel) {
+				return new ClasspathDirectoryTask<>(baseDir, ClasspathFilters.classFiles(), processor).invoke();
+			}
+			List<ClassFile> classFiles = new ArrayList<>();
+			Files.walkFileTree(baseDir, new ClasspathFileVisitor(baseDir, ClasspathFilters.classFiles(),
+				(__, file) -> processor.accept(file, classFiles::add)));
+			return classFiles;
+		}
+		catch (PreconditionViolationException ex) {
+			throw ex;
+		}
+		catch (Exception ex) {
+			logger.warn(ex, () -> "Error scanning files for URI " + baseUri);
+			return emptyList();
+		}
+	}
+
+	/**
+	 * Find the names of the classes in the supplied base package of a jar file
+	 * using its {@link JarCentralDirectory}.
+	 *
+	 * @return the class names; empty if the base URI does not denote a
+	 * directory within a jar file of the default file system, if the jar file
+	 * is not supported, or if it contains a {@link TestIndex} that is used
+	 */
+	private Optional<JarClassNames> findClassNamesInJar(URI baseUri, String basePackageName) {
+		Path jarFile;
+		String directory;
+		try {
+			if (CloseablePath.JAR_URI_SCHEME.equals(baseUri.getScheme())) {
+				// Parsing: jar:<url>!/[<entry>], see java.net.JarURLConnection
+				String uriString = baseUri.toString();
+				int lastJarUriSeparator = uriString.lastIndexOf(JAR_URI_SEPARATOR);
+				URI jarUri = new URI(uriString.substring(CloseablePath.JAR_URI_SCHEME.length() + 1,
+					lastJarUriSeparator));
+				if (!FILE_URI_SCHEME.equals(jarUri.getScheme())) {
+					return Optional.empty();
+				}
+				jarFile = Path.of(jarUri);
+				directory = trimClasspathResourcePathSeparators(
+					uriString.substring(lastJarUriSeparator + JAR_URI_SEPARATOR.length()));
+			}
+			else if (FILE_URI_SCHEME.equals(baseUri.getScheme()) && baseUri.getPath().endsWith(JAR_FILE_EXTENSION)) {
+				jarFile = Path.of(baseUri);
+				directory = "";
+			}
+			else {
+				return Optional.empty();
+			}
+			return JarCentralDirectory.get(jarFile) //
+					.filter(centralDirectory -> !this.testIndexEnabled
+							|| !centralDirectory.containsEntry(TestIndex.RESOURCE_NAME)) //
+					.map(centralDirectory -> new JarClassNames(jarFile, centralDirectory, directory, basePackageName));
+		}
+		catch (Exception ex) {
+			logger.debug(ex, () -> "Failed to read central directory for URI " + baseUri
+					+ "; scanning its file system instead.");
+			return Optional.empty();
+		}
+	}
+
+	private static String trimClasspathResourcePathSeparators(String path) {
+		int start = 0;
+		int end = path.length();
+		while (start < end && path.charAt(start) == CLASSPATH_RESOURCE_PATH_SEPARATOR) {
+			start++;
+		}
+		while (end > start && path.charAt(end - 1) == CLASSPATH_RESOURCE_PATH_SEPARATOR) {
+			end--;
+		}
+		return path.substring(start, end);
+	}
+
+	/**
+	 * Retain class files that reference a class matching the referenced class
+	 * name predicate or, directly or transitively, another retained class.
+	 */
+	private static List<ClassFile> retainClassFilesReferencingMatchingClasses(List<ClassFile> classFiles) {
+		Set<String> retainedClassNames = new HashSet<>();
+		Map<String, List<ClassFile>> referencingClassFiles = new HashMap<>();
+		Deque<String> queue = new ArrayDeque<>();
+		for (ClassFile classFile : classFiles) {
+			if (classFile.referencesMatchingClass()) {
+				if (retainedClassNames.add(classFile.className())) {
+					queue.add(classFile.className());
+				}
+			}
+			else {
+				classFile.referencedClassNames().forEach(referencedClassName -> referencingClassFiles.computeIfAbsent(
+					referencedClassName, __ -> new ArrayList<>()).add(classFile));
+			}
+		}
+		while (!queue.isEmpty()) {
+			for (ClassFile classFile : referencingClassFiles.getOrDefault(queue.remove(), emptyList())) {
+				if (retainedClassNames.add(classFile.className())) {
+					queue.add(classFile.className());
+				}
+			}
+		}
+		return classFiles.stream() //
+				.filter(classFile -> retainedClassNames.contains(classFile.className())) //
+				.toList();
+	}
+
 	/**
 	 * Recursively scan for resources in all the supplied source directories.
 	 */
@@ -162,17 +465,31 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 			Predicate<Resource> resourceFilter) {
 		List<Resource> resources = new ArrayList<>();
 		// @formatter:off
-		walkFilesForUri(baseUri, ClasspathFilters.resourceFiles(),
+		walkFilesForUri(baseUri, __ -> Optional.empty(), ClasspathFilters.resourceFiles(),
 				(baseDir, file) ->
 						processResourceFileSafely(baseDir, basePackageName, resourceFilter, file, resources::add));
 		// @formatter:on
 		return resources;
 	}
 
-	private static void walkFilesForUri(URI baseUri, Predicate<Path> filter, BiConsumer<Path, Path> consumer) {
+	private Optional<List<Path>> findIndexedClassFiles(Path baseDir, String basePackageName) {
+		return this.testIndexEnabled ? TestIndex.findClassFiles(baseDir, basePackageName) : Optional.empty();
+	}
+
+	/**
+	 * Walk the files of the supplied base URI unless the supplied function
+	 * lists the files to process, for example, based on a {@link TestIndex}.
+	 */
+	private static void walkFilesForUri(URI baseUri, Function<Path, Optional<List<Path>>> listedFiles,
+			Predicate<Path> filter, BiConsumer<Path, Path> consumer) {
 		try (CloseablePath closeablePath = CloseablePath.create(baseUri)) {
 			Path baseDir = closeablePath.getPath();
 			Preconditions.condition(Files.exists(baseDir), () -> "baseDir must exist: " + baseDir);
+			Optional<List<Path>> files = listedFiles.apply(baseDir);
+			if (files.isPresent()) {
+				files.get().forEach(file -> consumer.accept(baseDir, file));
+				return;
+			}
 			try {
 				Files.walkFileTree(baseDir, new ClasspathFileVisitor(baseDir, filter, consumer));
 			}
@@ -192,6 +509,19 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 			Consumer<Class<?>> classConsumer) {
 		try {
 			String fullyQualifiedClassName = determineFullyQualifiedClassName(baseDir, basePackageName, classFile);
+			processClassSafely(classFile, fullyQualifiedClassName, classFilter, classConsumer);
+		}
+		catch (Throwable throwable) {
+			handleThrowable(classFile, throwable);
+		}
+	}
+
+	/**
+	 * @param location the location of the class file for logging purposes
+	 */
+	private void processClassSafely(Object location, String fullyQualifiedClassName, ClassFilter classFilter,
+			Consumer<Class<?>> classConsumer) {
+		try {
 			if (classFilter.match(fullyQualifiedClassName)) {
 				try {
 					// @formatter:off
@@ -202,15 +532,92 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 					// @formatter:on
 				}
 				catch (InternalError internalError) {
-					handleInternalError(classFile, fullyQualifiedClassName, internalError);
+					handleInternalError(location, fullyQualifiedClassName, internalError);
 				}
 			}
 		}
+		catch (Throwable throwable) {
+			handleThrowable(location, throwable);
+		}
+	}
+
+	private void processClassFileNameSafely(Path baseDir, String basePackageName, ClassFilter classFilter,
+			Path classFile, boolean readReferencedClassNames, Consumer<ClassFile> classFileConsumer) {
+		try {
+			String fullyQualifiedClassName = determineFullyQualifiedClassName(baseDir, basePackageName, classFile);
+			if (classFilter.match(fullyQualifiedClassName)) {
+				classFileConsumer.accept(classFilter.getReferencedClassNamePredicate() //
+						.filter(__ -> readReferencedClassNames) //
+						.map(predicate -> readClassFile(classFile, fullyQualifiedClassName, predicate)) //
+						.orElseGet(() -> new ClassFile(classFile, fullyQualifiedClassName, true, emptySet())));
+			}
+		}
 		catch (Throwable throwable) {
 			handleThrowable(classFile, throwable);
 		}
 	}
 
+	private void processClassNameSafely(Object location, String fullyQualifiedClassName, ClassFilter classFilter,
+			Consumer<ClassFile> classFileConsumer) {
+		try {
+			if (classFilter.match(fullyQualifiedClassName)) {
+				classFileConsumer.accept(new ClassFile(location, fullyQualifiedClassName, true, emptySet()));
+			}
+		}
+		catch (Throwable throwable) {
+			handleThrowable(location, throwable);
+		}
+	}
+
+	private ClassFile readClassFile(Path classFile, String fullyQualifiedClassName,
+			Predicate<String> referencedClassNamePredicate) {
+		Set<String> referencedClassNames;
+		try (InputStream inputStream = Files.newInputStream(classFile)) {
+			referencedClassNames = ClassFileUtils.getReferencedClassNames(inputStream);
+		}
+		catch (IOException ex) {
+			logger.debug(ex, () -> "Failed to read referenced classes from [%s]; loading class regardless.".formatted(
+				classFile.toAbsolutePath()));
+			return new ClassFile(classFile, fullyQualifiedClassName, true, emptySet());
+		}
+		if (referencedClassNames.stream().anyMatch(referencedClassNamePredicate)) {
+			return new ClassFile(classFile, fullyQualifiedClassName, true, emptySet());
+		}
+		return new ClassFile(classFile, fullyQualifiedClassName, false, referencedClassNames);
+	}
+
+	private LoadedClass loadClassSafely(ClassFile classFile, ClassLoader classLoader) {
+		try {
+			Class<?> type = loadClass.apply(classFile.className(), classLoader).toOptional().orElse(null);
+			return new LoadedClass(classFile, type, null);
+		}
+		catch (Throwable throwable) {
+			UnrecoverableExceptions.rethrowIfUnrecoverable(throwable);
+			return new LoadedClass(classFile, null, throwable);
+		}
+	}
+
+	private Optional<Class<?>> matchSafely(LoadedClass loadedClass, ClassFilter classFilter) {
+		ClassFile classFile = loadedClass.classFile();
+		Class<?> type = loadedClass.type();
+		Throwable failure = loadedClass.failure();
+		if (failure == null && type != null) {
+			try {
+				return Optional.<Class<?>> of(type).filter(classFilter::match);
+			}
+			catch (Throwable throwable) {
+				failure = throwable;
+			}
+		}
+		if (failure instanceof InternalError internalError) {
+			handleInternalError(classFile.location(), classFile.className(), internalError);
+		}
+		else if (failure != null) {
+			handleThrowable(classFile.location(), failure);
+		}
+		return Optional.empty();
+	}
+
 	private void processResourceFileSafely(Path baseDir, String basePackageName, Predicate<Resource> resourceFilter,
 			Path resourceFile, Consumer<Resource> resourceConsumer) {
 		try {
@@ -279,7 +686,7 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 		return subpackageName;
 	}
 
-	private void handleInternalError(Path classFile, String fullyQualifiedClassName, InternalError ex) {
+	private void handleInternalError(Object classFile, String fullyQualifiedClassName, InternalError ex) {
 		if (MALFORMED_CLASS_NAME_ERROR_MESSAGE.equals(ex.getMessage())) {
 			logMalformedClassName(classFile, fullyQualifiedClassName, ex);
 		}
@@ -288,16 +695,16 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 		}
 	}
 
-	private void handleThrowable(Path classFile, Throwable throwable) {
+	private void handleThrowable(Object classFile, Throwable throwable) {
 		UnrecoverableExceptions.rethrowIfUnrecoverable(throwable);
 		logGenericFileProcessingException(classFile, throwable);
 	}
 
-	private void logMalformedClassName(Path classFile, String fullyQualifiedClassName, InternalError ex) {
+	private void logMalformedClassName(Object classFile, String fullyQualifiedClassName, InternalError ex) {
 		try {
 			logger.debug(ex,
 				() -> "The java.lang.Class loaded from path [%s] has a malformed class name [%s].".formatted(
-					classFile.toAbsolutePath(), fullyQualifiedClassName));
+					describe(classFile), fullyQualifiedClassName));
 		}
 		catch (Throwable t) {
 			UnrecoverableExceptions.rethrowIfUnrecoverable(t);
@@ -306,15 +713,53 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 		}
 	}
 
-	private void logGenericFileProcessingException(Path classpathFile, Throwable throwable) {
+	private void logGenericFileProcessingException(Object classpathFile, Throwable throwable) {
 		logger.debug(throwable,
-			() -> "Failed to load [%s] during classpath scanning.".formatted(classpathFile.toAbsolutePath()));
+			() -> "Failed to load [%s] during classpath scanning.".formatted(describe(classpathFile)));
+	}
+
+	private static Object describe(Object classpathFile) {
+		return classpathFile instanceof Path path ? path.toAbsolutePath() : classpathFile;
 	}
 
 	private ClassLoader getClassLoader() {
 		return this.classLoaderSupplier.get();
 	}
 
+	/**
+	 * @param location the {@link Path} of the class file or a
+	 * {@link JarEntryLocation}; only used for logging
+	 * @param referencesMatchingClass whether the class file references a class
+	 * that matches the referenced class name predicate of the
+	 * {@link ClassFilter}, or whether there is no such predicate
+	 * @param referencedClassNames the names of the classes referenced by the
+	 * class file; only populated if it does not reference a matching class
+	 */
+	private record ClassFile(Object location, String className, boolean referencesMatchingClass,
+			Set<String> referencedClassNames) {
+	}
+
+	private record JarClassNames(Path jarFile, JarCentralDirectory centralDirectory, String directory,
+			String packageName) {
+
+		void forEach(BiConsumer<JarEntryLocation, String> action) {
+			this.centralDirectory.forEachClassName(this.directory, this.packageName,
+				className -> action.accept(new JarEntryLocation(this.jarFile, className), className));
+		}
+	}
+
+	private record JarEntryLocation(Path jarFile, String className) {
+
+		@Override
+		public String toString() {
+			return this.jarFile.toAbsolutePath() + JAR_URI_SEPARATOR + packagePath(this.className)
+					+ CLASS_FILE_SUFFIX;
+		}
+	}
+
+	private record LoadedClass(ClassFile classFile, @Nullable Class<?> type, @Nullable Throwable failure) {
+	}
+
 	private List<URI> getRootUrisForPackageNameOnClassPathAndModulePath(String basePackageName) {
 		Set<URI> uriSet = new LinkedHashSet<>(getRootUrisForPackage(basePackageName));
 		if (!basePackageName.isEmpty() && !basePackageName.endsWith(PACKAGE_SEPARATOR_STRING)) {
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.support.scanning;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.platform.commons.support.scanning.ClasspathFilters.CLASS_FILE_SUFFIX;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Central directory of a jar file that allows enumerating the names of its
+ * class files without creating a zip {@link java.nio.file.FileSystem}.
+ *
+ * <p>The central directory is read with a single read operation and entry
+ * names are compared with the requested package as byte slices of it. Only
+ * names of matching class files are decoded.
+ *
+ * <p>While {@linkplain #retainCache() retained}, for example, by an open
+ * launcher session, central directories are cached per jar file so that
+ * repeated scans of the same jar file, for example, for multiple packages,
+ * do not have to read it again. Cached central directories are discarded if
+ * the size or last modification time of their jar file changes.
+ *
+ * <p>Jar files that use the ZIP64 format or that cannot be parsed are not
+ * supported; callers are expected to fall back to a zip file system for
+ * them.
+ *
+ * @since 6.0
+ */
+final class JarCentralDirectory {
+
+	private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+	private static final int END_OF_CENTRAL_DIRECTORY_LENGTH = 22;
+	private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+
+	private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+	private static final int CENTRAL_DIRECTORY_HEADER_LENGTH = 46;
+
+	private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+	private static final long ZIP64_MAGIC_VALUE = 0xFFFFFFFFL;
+
+	private static final byte PATH_SEPARATOR = '/';
+	private static final byte[] CLASS_FILE_SUFFIX_BYTES = CLASS_FILE_SUFFIX.getBytes(UTF_8);
+	private static final byte[] PACKAGE_INFO_FILE_NAME_BYTES = "package-info.class".getBytes(UTF_8);
+	private static final byte[] MODULE_INFO_FILE_NAME_BYTES = "module-info.class".getBytes(UTF_8);
+
+	private static final ConcurrentMap<Path, JarCentralDirectory> cache = new ConcurrentHashMap<>();
+
+	private static final AtomicInteger cacheRetentionCount = new AtomicInteger();
+
+	/**
+	 * Retain cached central directories until the returned
+	 * {@link AutoCloseable} is closed.
+	 *
+	 * <p>The cache is cleared once all retentions have been closed.
+	 */
+	static AutoCloseable retainCache() {
+		cacheRetentionCount.incrementAndGet();
+		AtomicBoolean closed = new AtomicBoolean();
+		return () -> {
+			if (closed.compareAndSet(false, true) && cacheRetentionCount.decrementAndGet() == 0) {
+				cache.clear();
+			}
+		};
+	}
+
+	/**
+	 * Read the central directory of the supplied jar file or get it from the
+	 * cache.
+	 *
+	 * @return the central directory; empty if the jar file is not supported
+	 * @throws IOException if the jar file cannot be read
+	 */
+	static Optional<JarCentralDirectory> get(Path jarFile) throws IOException {
+		Path key = jarFile.toAbsolutePath().normalize();
+		BasicFileAttributes attributes = Files.readAttributes(key, BasicFileAttributes.class);
+		JarCentralDirectory cached = cache.get(key);
+		if (cached != null && cached.isUpToDate(attributes)) {
+			return Optional.of(cached);
+		}
+		Optional<JarCentralDirectory> centralDirectory = read(key, attributes);
+		if (cacheRetentionCount.get() > 0) {
+			centralDirectory.ifPresentOrElse(it -> cache.put(key, it), () -> cache.remove(key));
+		}
+		return centralDirectory;
+	}
+
+	private static Optional<JarCentralDirectory> read(Path jarFile, BasicFileAttributes attributes)
+			throws IOException {
+		try (FileChannel channel = FileChannel.open(jarFile, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size < END_OF_CENTRAL_DIRECTORY_LENGTH) {
+				return Optional.empty();
+			}
+			int tailLength = (int) Math.min(size, END_OF_CENTRAL_DIRECTORY_LENGTH + MAX_COMMENT_LENGTH);
+			long tailPosition = size - tailLength;
+			ByteBuffer tail = readFully(channel, tailPosition, tailLength);
+			int endOfCentralDirectory = findEndOfCentralDirectory(tail);
+			if (endOfCentralDirectory < 0) {
+				return Optional.empty();
+			}
+			int entryCount = Short.toUnsignedInt(tail.getShort(endOfCentralDirectory + 10));
+			long length = Integer.toUnsignedLong(tail.getInt(endOfCentralDirectory + 12));
+			long offset = Integer.toUnsignedLong(tail.getInt(endOfCentralDirectory + 16));
+			if (entryCount == ZIP64_MAGIC_COUNT || length == ZIP64_MAGIC_VALUE || offset == ZIP64_MAGIC_VALUE) {
+				return Optional.empty();
+			}
+			// Determined relative to its end since data may have been prepended to the jar file
+			long position = tailPosition + endOfCentralDirectory - length;
+			if (position < 0 || length > Integer.MAX_VALUE) {
+				return Optional.empty();
+			}
+			ByteBuffer buffer = readFully(channel, position, (int) length);
+			return parse(buffer.array(), entryCount) //
+					.map(headerOffsets -> new JarCentralDirectory(buffer.array(), headerOffsets,
+						attributes.size(), attributes.lastModifiedTime()));
+		}
+	}
+
+	private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+				throw new EOFException();
+			}
+		}
+		return buffer.flip();
+	}
+
+	private static int findEndOfCentralDirectory(ByteBuffer tail) {
+		for (int i = tail.limit() - END_OF_CENTRAL_DIRECTORY_LENGTH; i >= 0; i--) {
+			if (tail.getInt(i) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static Optional<int[]> parse(byte[] bytes, int entryCount) {
+		ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+		int[] headerOffsets = new int[entryCount];
+		int offset = 0;
+		for (int i = 0; i < entryCount; i++) {
+			if (offset + CENTRAL_DIRECTORY_HEADER_LENGTH > bytes.length
+					|| buffer.getInt(offset) != CENTRAL_DIRECTORY_HEADER_SIGNATURE) {
+				return Optional.empty();
+			}
+			headerOffsets[i] = offset;
+			offset += CENTRAL_DIRECTORY_HEADER_LENGTH //
+					+ Short.toUnsignedInt(buffer.getShort(offset + 28)) // name
+					+ Short.toUnsignedInt(buffer.getShort(offset + 30)) // extra field
+					+ Short.toUnsignedInt(buffer.getShort(offset + 32)); // comment
+			if (offset > bytes.length) {
+				return Optional.empty();
+			}
+		}
+		return Optional.of(headerOffsets);
+	}
+
+	private final byte[] bytes;
+	private final int[] headerOffsets;
+	private final long size;
+	private final FileTime lastModifiedTime;
+
+	private JarCentralDirectory(byte[] bytes, int[] headerOffsets, long size, FileTime lastModifiedTime) {
+		this.bytes = bytes;
+		this.headerOffsets = headerOffsets;
+		this.size = size;
+		this.lastModifiedTime = lastModifiedTime;
+	}
+
+	private boolean isUpToDate(BasicFileAttributes attributes) {
+		return this.size == attributes.size() && this.lastModifiedTime.equals(attributes.lastModifiedTime());
+	}
+
+	/**
+	 * Determine whether this jar file contains an entry with the supplied
+	 * name.
+	 */
+	boolean containsEntry(String name) {
+		byte[] nameBytes = name.getBytes(UTF_8);
+		for (int headerOffset : this.headerOffsets) {
+			int nameOffset = headerOffset + CENTRAL_DIRECTORY_HEADER_LENGTH;
+			if (Arrays.equals(this.bytes, nameOffset, nameOffset + readUnsignedShort(headerOffset + 28), nameBytes, 0,
+				nameBytes.length)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Pass the names of all class files in the supplied directory of this jar
+	 * file and its subdirectories to the supplied action.
+	 *
+	 * <p>Entries for {@code package-info} and {@code module-info} class files
+	 * are skipped.
+	 *
+	 * @param directory the {@code /}-separated path of the directory relative
+	 * to the root of the jar file, without leading or trailing separators;
+	 * empty for the root directory
+	 * @param packageName the name of the package that corresponds to the
+	 * directory; empty for the default package
+	 * @param action the action that is called with the fully qualified name
+	 * of each class file in central directory order
+	 */
+	void forEachClassName(String directory, String packageName, Consumer<String> action) {
+		byte[] prefix = directory.isEmpty() ? new byte[0] : (directory + '/').getBytes(UTF_8);
+		String packagePrefix = packageName.isEmpty() ? "" : packageName + '.';
+		for (int headerOffset : this.headerOffsets) {
+			int nameLength = readUnsignedShort(headerOffset + 28);
+			int nameOffset = headerOffset + CENTRAL_DIRECTORY_HEADER_LENGTH;
+			int nameEnd = nameOffset + nameLength;
+			if (isClassFile(nameOffset, nameEnd) && regionMatches(nameOffset, nameEnd, prefix)) {
+				int relativeNameOffset = nameOffset + prefix.length;
+				String relativeName = new String(this.bytes, relativeNameOffset,
+					nameEnd - relativeNameOffset - CLASS_FILE_SUFFIX_BYTES.length, UTF_8);
+				action.accept(packagePrefix + relativeName.replace('/', '.'));
+			}
+		}
+	}
+
+	private boolean isClassFile(int nameOffset, int nameEnd) {
+		if (!regionMatches(nameEnd - CLASS_FILE_SUFFIX_BYTES.length, nameEnd, CLASS_FILE_SUFFIX_BYTES)) {
+			return false;
+		}
+		int fileNameOffset = nameOffset;
+		for (int i = nameEnd - 1; i >= nameOffset; i--) {
+			if (this.bytes[i] == PATH_SEPARATOR) {
+				fileNameOffset = i + 1;
+				break;
+			}
+		}
+		return fileNameOffset < nameEnd - CLASS_FILE_SUFFIX_BYTES.length //
+				&& !isFileName(fileNameOffset, nameEnd, PACKAGE_INFO_FILE_NAME_BYTES) //
+				&& !isFileName(fileNameOffset, nameEnd, MODULE_INFO_FILE_NAME_BYTES);
+	}
+
+	private boolean isFileName(int fileNameOffset, int nameEnd, byte[] fileName) {
+		return Arrays.equals(this.bytes, fileNameOffset, nameEnd, fileName, 0, fileName.length);
+	}
+
+	/**
+	 * Determine whether the supplied slice of the central directory starts
+	 * with the supplied bytes.
+	 */
+	private boolean regionMatches(int from, int to, byte[] prefix) {
+		return from >= 0 && to - from >= prefix.length
+				&& Arrays.equals(this.bytes, from, from + prefix.length, prefix, 0, prefix.length);
+	}
+
+	private int readUnsignedShort(int offset) {
+		return (this.bytes[offset] & 0xFF) | (this.bytes[offset + 1] & 0xFF) << 8;
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.support.scanning;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.platform.commons.support.scanning.ClasspathFilters.CLASS_FILE_SUFFIX;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Reader for the test index of a classpath root as generated by the
+ * {@code TestIndexProcessor} of the {@code junit-platform-test-index}
+ * artifact.
+ *
+ * <p>The index is a UTF-8 encoded text file located at
+ * {@value #RESOURCE_NAME} that contains the binary names of the test classes
+ * of its classpath root, one per line. Blank lines and lines starting with
+ * {@code #} are ignored.
+ *
+ * <p>The index is only used if enabled via
+ * {@link DefaultClasspathScanner#TEST_INDEX_ENABLED_PROPERTY_NAME}.
+ *
+ * @since 6.0
+ */
+class TestIndex {
+
+	static final String RESOURCE_NAME = "META-INF/junit-platform/test-index";
+
+	private static final Logger logger = LoggerFactory.getLogger(TestIndex.class);
+
+	private static final String PACKAGE_SEPARATOR = ".";
+
+	private static final String COMMENT_PREFIX = "#";
+
+	/**
+	 * Find the class files listed in the test index of the classpath root of
+	 * the supplied base directory that reside in the supplied base package or
+	 * one of its subpackages.
+	 *
+	 * <p>The returned paths are resolved against the base directory but are
+	 * not required to exist.
+	 *
+	 * @param baseDir the directory of the base package
+	 * @param basePackageName the name of the base package; empty for the
+	 * default package
+	 * @return the indexed class files; empty if the classpath root does not
+	 * contain a test index or if it could not be read
+	 */
+	static Optional<List<Path>> findClassFiles(Path baseDir, String basePackageName) {
+		Path root = determineClasspathRoot(baseDir, basePackageName);
+		if (root == null) {
+			return Optional.empty();
+		}
+		Path indexFile = root.resolve(RESOURCE_NAME);
+		if (!Files.isRegularFile(indexFile)) {
+			return Optional.empty();
+		}
+		try (var lines = Files.lines(indexFile, UTF_8)) {
+			String packagePrefix = basePackageName.isEmpty() ? "" : basePackageName + PACKAGE_SEPARATOR;
+			// @formatter:off
+			return Optional.of(lines
+					.map(String::trim)
+					.filter(line -> !line.isEmpty() && !line.startsWith(COMMENT_PREFIX))
+					.filter(className -> className.startsWith(packagePrefix))
+					.map(className -> root.resolve(className.replace(PACKAGE_SEPARATOR, "/") + CLASS_FILE_SUFFIX))
+					.toList());
+			// @formatter:on
+		}
+		catch (IOException | UncheckedIOException ex) {
+			logger.warn(ex, () -> "Failed to read test index " + indexFile + "; scanning classpath root instead.");
+			return Optional.empty();
+		}
+	}
+
+	private static @Nullable Path determineClasspathRoot(Path baseDir, String basePackageName) {
+		if (basePackageName.isEmpty()) {
+			return baseDir;
+		}
+		Path root = baseDir;
+		for (String ignored : basePackageName.split("\\.")) {
+			root = root.getParent();
+			if (root == null) {
+				return null;
+			}
+		}
+		return root;
+	}
+
+}
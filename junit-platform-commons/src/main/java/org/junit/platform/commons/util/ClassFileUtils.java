@@ -0,0 +1,133 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apiguardian.api.API;
+
+/**
+ * Collection of static utility methods for reading class files without
+ * loading them.
+ *
+ * @since 6.0
+ */
+@API(status = INTERNAL, since = "6.0")
+public final class ClassFileUtils {
+
+	private static final int MAGIC = 0xCAFEBABE;
+
+	private static final int CONSTANT_UTF8 = 1;
+	private static final int CONSTANT_CLASS = 7;
+
+	private ClassFileUtils() {
+		/* no-op */
+	}
+
+	/**
+	 * Get the fully qualified names of all classes referenced by the constant
+	 * pool of the supplied class file.
+	 *
+	 * <p>In addition to class constants, type descriptors and generic
+	 * signatures of fields, methods, and annotations are taken into account.
+	 * Since the latter are extracted heuristically, the returned set may
+	 * contain names of classes that do not exist.
+	 *
+	 * @param classFile the contents of the class file; never {@code null}
+	 * @return the binary names of the referenced classes, including the name
+	 * of the class itself; never {@code null}
+	 * @throws IOException if the supplied stream cannot be read or does not
+	 * contain a valid class file
+	 */
+	public static Set<String> getReferencedClassNames(InputStream classFile) throws IOException {
+		Preconditions.notNull(classFile, "classFile must not be null");
+
+		DataInputStream in = new DataInputStream(new BufferedInputStream(classFile));
+		if (in.readInt() != MAGIC) {
+			throw new IOException("Not a class file");
+		}
+		in.skipNBytes(4); // minor and major version
+		int constantPoolCount = in.readUnsignedShort();
+		String[] utf8Constants = new String[constantPoolCount];
+		int[] classNameIndices = new int[constantPoolCount];
+		int classCount = 0;
+		for (int i = 1; i < constantPoolCount; i++) {
+			int tag = in.readUnsignedByte();
+			switch (tag) {
+				case CONSTANT_UTF8 -> utf8Constants[i] = in.readUTF();
+				case CONSTANT_CLASS -> classNameIndices[classCount++] = in.readUnsignedShort();
+				// String, MethodType, Module, Package
+				case 8, 16, 19, 20 -> in.skipNBytes(2);
+				// MethodHandle
+				case 15 -> in.skipNBytes(3);
+				// Integer, Float, Fieldref, Methodref, InterfaceMethodref, NameAndType, Dynamic, InvokeDynamic
+				case 3, 4, 9, 10, 11, 12, 17, 18 -> in.skipNBytes(4);
+				// Long, Double (occupy two entries)
+				case 5, 6 -> {
+					in.skipNBytes(8);
+					i++;
+				}
+				default -> throw new IOException("Unsupported constant pool tag: " + tag);
+			}
+		}
+
+		Set<String> classNames = new TreeSet<>();
+		for (int i = 0; i < classCount; i++) {
+			String name = utf8Constants[classNameIndices[i]];
+			if (name != null) {
+				if (name.startsWith("[")) {
+					addClassNamesFromDescriptor(name, classNames);
+				}
+				else {
+					classNames.add(name.replace('/', '.'));
+				}
+			}
+		}
+		for (String constant : utf8Constants) {
+			if (constant != null && constant.indexOf(';') > 0) {
+				addClassNamesFromDescriptor(constant, classNames);
+			}
+		}
+		return classNames;
+	}
+
+	/**
+	 * Add the names of all classes referenced by the supplied type descriptor
+	 * or generic signature, for example, {@code (ILjava/util/List<Lfoo/Bar;>;)V},
+	 * to the supplied set.
+	 */
+	private static void addClassNamesFromDescriptor(String descriptor, Set<String> classNames) {
+		int start = descriptor.indexOf('L');
+		while (start >= 0) {
+			int end = start + 1;
+			while (end < descriptor.length() && isClassNameCharacter(descriptor.charAt(end))) {
+				end++;
+			}
+			if (end > start + 1 && end < descriptor.length()
+					&& (descriptor.charAt(end) == ';' || descriptor.charAt(end) == '<')) {
+				classNames.add(descriptor.substring(start + 1, end).replace('/', '.'));
+			}
+			start = descriptor.indexOf('L', end);
+		}
+	}
+
+	private static boolean isClassNameCharacter(char c) {
+		return c == '/' || Character.isJavaIdentifierPart(c);
+	}
+
+}
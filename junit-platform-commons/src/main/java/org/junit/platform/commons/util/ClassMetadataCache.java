@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import java.lang.ref.SoftReference;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Concurrent cache of metadata computed for classes, for example, their
+ * sorted methods.
+ *
+ * <p>Values are associated with their class via a {@link ClassValue}. Hence,
+ * this cache does not prevent classes and their class loaders from being
+ * unloaded even though values typically reference their class. Conversely,
+ * values of classes loaded by an ancestor of the class loader of this cache,
+ * for example, JDK classes, are not cached since they would keep this cache's
+ * class loader reachable. In addition, values are only referenced softly so
+ * that the cache is bounded by the available memory. Reclaimed values are
+ * computed again on demand.
+ *
+ * <p>Values may be computed more than once if they are requested
+ * concurrently and therefore must not depend on the identity of the
+ * computation.
+ *
+ * @param <V> the type of cached values
+ * @since 6.0
+ */
+final class ClassMetadataCache<V> {
+
+	private static final @Nullable ClassLoader CLASS_LOADER = ClassMetadataCache.class.getClassLoader();
+
+	private final ClassValue<Entry<V>> entries = new ClassValue<>() {
+		@Override
+		protected Entry<V> computeValue(Class<?> type) {
+			return new Entry<>();
+		}
+	};
+
+	private final Function<Class<?>, V> computer;
+
+	ClassMetadataCache(Function<Class<?>, V> computer) {
+		this.computer = computer;
+	}
+
+	/**
+	 * Get the value for the supplied class, computing it if it has not been
+	 * computed yet or if it has been reclaimed.
+	 */
+	V get(Class<?> type) {
+		if (!isCacheable(type)) {
+			return this.computer.apply(type);
+		}
+		Entry<V> entry = this.entries.get(type);
+		SoftReference<V> reference = entry.reference;
+		V value = reference == null ? null : reference.get();
+		if (value == null) {
+			value = this.computer.apply(type);
+			entry.reference = new SoftReference<>(value);
+		}
+		return value;
+	}
+
+	/**
+	 * Determine whether the supplied class was loaded by the class loader of
+	 * this cache or one of its descendants.
+	 */
+	static boolean isCacheable(Class<?> type) {
+		if (CLASS_LOADER == null) {
+			return true;
+		}
+		for (ClassLoader loader = type.getClassLoader(); loader != null; loader = loader.getParent()) {
+			if (loader == CLASS_LOADER) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static final class Entry<V> {
+
+		volatile @Nullable SoftReference<V> reference;
+
+	}
+
+}
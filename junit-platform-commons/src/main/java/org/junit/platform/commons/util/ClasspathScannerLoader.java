@@ -40,7 +40,9 @@ class ClasspathScannerLoader {
 					classpathScanners.size(), classpathScanners));
 		}
 
-		return new DefaultClasspathScanner(ClassLoaderUtils::getDefaultClassLoader, ReflectionUtils::tryToLoadClass);
+		return new DefaultClasspathScanner(ClassLoaderUtils::getDefaultClassLoader, ReflectionUtils::tryToLoadClass,
+			Boolean.getBoolean(DefaultClasspathScanner.PARALLEL_SCANNING_PROPERTY_NAME),
+			Boolean.getBoolean(DefaultClasspathScanner.TEST_INDEX_ENABLED_PROPERTY_NAME));
 	}
 
 }
@@ -134,6 +134,30 @@ public final class ReflectionUtils {
 	 */
 	private static final Set<String> noCyclesDetectedCache = ConcurrentHashMap.newKeySet();
 
+	/**
+	 * Caches for sorted methods and fields of classes and their hierarchies.
+	 *
+	 * <p>Cached lists are immutable and only used internally. Methods and
+	 * fields returned to callers are {@linkplain #copyMethod(Method) copies}
+	 * so that changing their accessibility does not affect other callers.
+	 * Only the members that match the caller's predicate are copied.
+	 *
+	 * @since 6.0
+	 * @see ClassMetadataCache
+	 */
+	private static final ClassMetadataCache<List<Method>> methodsCache = new ClassMetadataCache<>(
+		clazz -> List.copyOf(toSortedMutableList(clazz.getMethods())));
+	private static final ClassMetadataCache<DeclaredMethods> declaredMethodsCache = new ClassMetadataCache<>(
+		DeclaredMethods::of);
+	private static final ClassMetadataCache<List<Method>> topDownMethodHierarchyCache = new ClassMetadataCache<>(
+		clazz -> List.copyOf(computeAllMethodsInHierarchy(clazz, TOP_DOWN)));
+	private static final ClassMetadataCache<List<Method>> bottomUpMethodHierarchyCache = new ClassMetadataCache<>(
+		clazz -> List.copyOf(computeAllMethodsInHierarchy(clazz, BOTTOM_UP)));
+	private static final ClassMetadataCache<List<Field>> topDownFieldHierarchyCache = new ClassMetadataCache<>(
+		clazz -> List.copyOf(computeAllFieldsInHierarchy(clazz, TOP_DOWN)));
+	private static final ClassMetadataCache<List<Field>> bottomUpFieldHierarchyCache = new ClassMetadataCache<>(
+		clazz -> List.copyOf(computeAllFieldsInHierarchy(clazz, BOTTOM_UP)));
+
 	/**
 	 * Internal cache of common class names mapped to their types.
 	 */
@@ -1335,7 +1359,8 @@ public final class ReflectionUtils {
 		// @formatter:off
 		return findAllFieldsInHierarchy(clazz, traversalMode).stream()
 				.filter(predicate)
-				.distinct();
+				.distinct()
+				.map(ReflectionUtils::copyField);
 		// @formatter:on
 	}
 
@@ -1343,6 +1368,10 @@ public final class ReflectionUtils {
 		Preconditions.notNull(clazz, "Class must not be null");
 		Preconditions.notNull(traversalMode, "HierarchyTraversalMode must not be null");
 
+		return (traversalMode == TOP_DOWN ? topDownFieldHierarchyCache : bottomUpFieldHierarchyCache).get(clazz);
+	}
+
+	private static List<Field> computeAllFieldsInHierarchy(Class<?> clazz, HierarchyTraversalMode traversalMode) {
 		// @formatter:off
 		Field[] localFields = getDeclaredFields(clazz).stream()
 				.filter(field -> !field.isSynthetic())
@@ -1513,7 +1542,7 @@ public final class ReflectionUtils {
 			List<Method> methods = current.isInterface() ? getMethods(current) : getDeclaredMethods(current, BOTTOM_UP);
 			for (Method method : methods) {
 				if (predicate.test(method)) {
-					return Optional.of(method);
+					return Optional.of(copyMethod(method));
 				}
 			}
 
@@ -1597,7 +1626,8 @@ public final class ReflectionUtils {
 		// @formatter:off
 		return findAllMethodsInHierarchy(clazz, traversalMode).stream()
 				.filter(predicate)
-				.distinct();
+				.distinct()
+				.map(ReflectionUtils::copyMethod);
 		// @formatter:on
 	}
 
@@ -1609,6 +1639,10 @@ public final class ReflectionUtils {
 		Preconditions.notNull(clazz, "Class must not be null");
 		Preconditions.notNull(traversalMode, "HierarchyTraversalMode must not be null");
 
+		return (traversalMode == TOP_DOWN ? topDownMethodHierarchyCache : bottomUpMethodHierarchyCache).get(clazz);
+	}
+
+	private static List<Method> computeAllMethodsInHierarchy(Class<?> clazz, HierarchyTraversalMode traversalMode) {
 		// @formatter:off
 		Method[] localMethods = getDeclaredMethods(clazz, traversalMode).stream()
 				.filter(method -> !method.isSynthetic())
@@ -1645,34 +1679,47 @@ public final class ReflectionUtils {
 
 	/**
 	 * Custom alternative to {@link Class#getMethods()} that sorts the methods
-	 * and converts them to a mutable list.
+	 * and caches them in an immutable list.
 	 */
 	private static List<Method> getMethods(Class<?> clazz) {
-		return toSortedMutableList(clazz.getMethods());
+		return methodsCache.get(clazz);
 	}
 
 	/**
 	 * Custom alternative to {@link Class#getDeclaredMethods()} that sorts the
-	 * methods and converts them to a mutable list.
+	 * methods and caches them in an immutable list.
 	 *
 	 * <p>In addition, the list returned by this method includes interface
 	 * default methods which are either prepended or appended to the list of
 	 * declared methods depending on the supplied traversal mode.
 	 */
 	private static List<Method> getDeclaredMethods(Class<?> clazz, HierarchyTraversalMode traversalMode) {
-		// Note: getDefaultMethods() already sorts the methods,
-		List<Method> defaultMethods = getDefaultMethods(clazz);
-		List<Method> declaredMethods = toSortedMutableList(clazz.getDeclaredMethods());
+		DeclaredMethods declaredMethods = declaredMethodsCache.get(clazz);
+		return traversalMode == BOTTOM_UP ? declaredMethods.bottomUp() : declaredMethods.topDown();
+	}
 
-		// Take the traversal mode into account in order to retain the inherited
-		// nature of interface default methods.
-		if (traversalMode == BOTTOM_UP) {
-			declaredMethods.addAll(defaultMethods);
-			return declaredMethods;
-		}
-		else {
-			defaultMethods.addAll(declaredMethods);
-			return defaultMethods;
+	/**
+	 * Sorted declared methods of a class including visible interface default
+	 * methods in both traversal orders.
+	 *
+	 * @since 6.0
+	 */
+	private record DeclaredMethods(List<Method> topDown, List<Method> bottomUp) {
+
+		static DeclaredMethods of(Class<?> clazz) {
+			// Note: getDefaultMethods() already sorts the methods,
+			List<Method> defaultMethods = getDefaultMethods(clazz);
+			List<Method> declaredMethods = toSortedMutableList(clazz.getDeclaredMethods());
+
+			// Take the traversal mode into account in order to retain the inherited
+			// nature of interface default methods.
+			List<Method> topDown = new ArrayList<>(defaultMethods.size() + declaredMethods.size());
+			topDown.addAll(defaultMethods);
+			topDown.addAll(declaredMethods);
+			List<Method> bottomUp = new ArrayList<>(topDown.size());
+			bottomUp.addAll(declaredMethods);
+			bottomUp.addAll(defaultMethods);
+			return new DeclaredMethods(List.copyOf(topDown), List.copyOf(bottomUp));
 		}
 	}
 
@@ -1702,6 +1749,47 @@ public final class ReflectionUtils {
 		// @formatter:on
 	}
 
+	/**
+	 * Copy the supplied cached method by looking it up in its declaring class
+	 * which {@link Class} creates anew for each invocation.
+	 *
+	 * @since 6.0
+	 */
+	private static Method copyMethod(Method method) {
+		Class<?> declaringClass = method.getDeclaringClass();
+		try {
+			Method copy = declaringClass.getDeclaredMethod(method.getName(), method.getParameterTypes());
+			if (copy.equals(method)) {
+				return copy;
+			}
+		}
+		catch (NoSuchMethodException ignore) {
+			// fall back to searching all declared methods
+		}
+		// Bridge methods may only differ in their return type
+		for (Method declaredMethod : declaringClass.getDeclaredMethods()) {
+			if (declaredMethod.equals(method)) {
+				return declaredMethod;
+			}
+		}
+		return method;
+	}
+
+	/**
+	 * Copy the supplied cached field by looking it up in its declaring class
+	 * which {@link Class} creates anew for each invocation.
+	 *
+	 * @since 6.0
+	 */
+	private static Field copyField(Field field) {
+		try {
+			return field.getDeclaringClass().getDeclaredField(field.getName());
+		}
+		catch (NoSuchFieldException ignore) {
+			return field;
+		}
+	}
+
 	private static List<Field> toSortedMutableList(Field[] fields) {
 		return toSortedMutableList(fields, ReflectionUtils::defaultFieldSorter);
 	}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.options;
+
+import static java.nio.file.attribute.PosixFilePermission.OWNER_READ;
+import static java.nio.file.attribute.PosixFilePermission.OWNER_WRITE;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.AclEntry;
+import java.nio.file.attribute.AclEntryPermission;
+import java.nio.file.attribute.AclEntryType;
+import java.nio.file.attribute.AclFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.console.tasks.ConsoleTestExecutor;
+import org.junit.platform.console.tasks.CustomClassLoaderCloseStrategy;
+import org.junit.platform.console.tasks.LauncherDaemon;
+
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+@Command(//
+		name = "daemon", //
+		description = "Start a daemon that executes commands received over a local socket in the current JVM. "
+				+ "Clients first send the authentication token of the daemon on a line of its own, followed by "
+				+ "one argument per line and an empty line, for example, "
+				+ "'execute', '--class-path', 'build/classes', '--select-class', 'com.example.MyTests'. "
+				+ "Sending 'stop' as the only argument stops the daemon." //
+)
+class DaemonCommand extends BaseCommand<Void> {
+
+	private final ConsoleTestExecutor.Factory consoleTestExecutorFactory;
+
+	@Option(names = "--port", paramLabel = "PORT", defaultValue = "0", description = "Local port to listen on. "
+			+ "If not specified, an ephemeral port is chosen.")
+	private int port;
+
+	@Nullable
+	@Option(names = "--port-file", paramLabel = "FILE", description = "Write the port the daemon is listening on "
+			+ "and its authentication token on separate lines to the specified file which is only readable by "
+			+ "the current user. If not specified, the token is written to standard output.")
+	private Path portFile;
+
+	DaemonCommand() {
+		// Class loaders for the test class path are created for each command and
+		// must not accumulate over the lifetime of the daemon
+		this((discoveryOptions, outputOptions) -> new ConsoleTestExecutor(discoveryOptions, outputOptions,
+			CustomClassLoaderCloseStrategy.CLOSE_AFTER_CALLING_LAUNCHER));
+	}
+
+	DaemonCommand(ConsoleTestExecutor.Factory consoleTestExecutorFactory) {
+		this.consoleTestExecutorFactory = consoleTestExecutorFactory;
+	}
+
+	@Override
+	protected Void execute(PrintWriter out) {
+		try (LauncherDaemon daemon = new LauncherDaemon(this.port, this::executeCommand)) {
+			if (this.portFile != null) {
+				writePortFile(this.portFile, daemon);
+			}
+			out.println("JUnit Platform daemon listening on port " + daemon.getPort());
+			if (this.portFile == null) {
+				out.println("Authentication token: " + daemon.getToken());
+			}
+			out.flush();
+			daemon.run();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		return null;
+	}
+
+	private static void writePortFile(Path portFile, LauncherDaemon daemon) throws IOException {
+		// Recreated so that the permissions of an existing file are not retained
+		Files.deleteIfExists(portFile);
+		if (portFile.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+			Files.createFile(portFile, PosixFilePermissions.asFileAttribute(EnumSet.of(OWNER_READ, OWNER_WRITE)));
+		}
+		else {
+			Files.createFile(portFile);
+			restrictAccessToOwner(portFile);
+		}
+		Files.writeString(portFile, daemon.getPort() + System.lineSeparator() + daemon.getToken());
+	}
+
+	private static void restrictAccessToOwner(Path file) throws IOException {
+		AclFileAttributeView view = Files.getFileAttributeView(file, AclFileAttributeView.class);
+		if (view == null) {
+			return;
+		}
+		AclEntry entry = AclEntry.newBuilder() //
+				.setType(AclEntryType.ALLOW) //
+				.setPrincipal(view.getOwner()) //
+				.setPermissions(AclEntryPermission.values()) //
+				.build();
+		view.setAcl(List.of(entry));
+	}
+
+	private int executeCommand(String[] args, PrintWriter out) {
+		if (args.length > 0 && "daemon".equals(args[0])) {
+			out.println("The daemon command cannot be executed by a daemon.");
+			return CommandResult.FAILURE;
+		}
+		return new MainCommand(this.consoleTestExecutorFactory) //
+				.run(args, Optional.of(new OutputStreamConfig(out, out))) //
+				.getExitCode();
+	}
+
+}
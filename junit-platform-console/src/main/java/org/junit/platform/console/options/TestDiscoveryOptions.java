@@ -74,6 +74,9 @@ public class TestDiscoveryOptions {
 	private List<String> includedTagExpressions = emptyList();
 	private List<String> excludedTagExpressions = emptyList();
 
+	private int shardIndex;
+	private int shardCount;
+
 	private List<String> configurationParametersResources = emptyList();
 	private Map<String, String> configurationParameters = emptyMap();
 
@@ -281,6 +284,32 @@ public class TestDiscoveryOptions {
 		this.excludedEngines = excludedEngines;
 	}
 
+	/**
+	 * {@return the one-based index of the shard to execute or {@code 0} if
+	 * sharding is disabled}
+	 * @since 6.0
+	 */
+	public int getShardIndex() {
+		return this.shardIndex;
+	}
+
+	/**
+	 * {@return the total number of shards or {@code 0} if sharding is
+	 * disabled}
+	 * @since 6.0
+	 */
+	public int getShardCount() {
+		return this.shardCount;
+	}
+
+	/**
+	 * @since 6.0
+	 */
+	public void setShard(int shardIndex, int shardCount) {
+		this.shardIndex = shardIndex;
+		this.shardCount = shardCount;
+	}
+
 	public List<String> getIncludedTagExpressions() {
 		return this.includedTagExpressions;
 	}
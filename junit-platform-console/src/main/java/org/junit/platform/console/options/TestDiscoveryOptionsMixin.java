@@ -15,6 +15,8 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.platform.engine.DiscoverySelectorIdentifier;
@@ -38,6 +40,8 @@ class TestDiscoveryOptionsMixin {
 
 	private static final String CP_OPTION = "cp";
 
+	private static final Pattern SHARD_PATTERN = Pattern.compile("(\\d{1,9})/(\\d{1,9})");
+
 	@ArgGroup(validate = false, order = 2, heading = "%n@|bold SELECTORS|@%n%n")
 	SelectorOptions selectorOptions;
 
@@ -189,6 +193,31 @@ class TestDiscoveryOptionsMixin {
 				"--exclude-engine" }, paramLabel = "ID", arity = "1", description = "Provide the ID of an engine to be excluded from the test run. This option can be repeated.")
 		private final List<String> excludedEngines = new ArrayList<>();
 
+		// Implementation note: the @Option annotation is on a setter method to allow validation.
+		private int shardIndex;
+		private int shardCount;
+
+		@CommandLine.Spec
+		private CommandLine.Model.CommandSpec spec;
+
+		@Option(names = "--shard", paramLabel = "INDEX/COUNT", arity = "1", description = "Split the tests into COUNT shards by their top-level containers "
+				+ "and only execute the shard with the one-based INDEX -- for example, 2/4 for the second of four shards. " //
+				+ "All shards must discover the same tests.")
+		public void setShard(String shard) {
+			Matcher matcher = SHARD_PATTERN.matcher(shard);
+			if (matcher.matches()) {
+				int index = Integer.parseInt(matcher.group(1));
+				int count = Integer.parseInt(matcher.group(2));
+				if (index >= 1 && index <= count) {
+					this.shardIndex = index;
+					this.shardCount = count;
+					return;
+				}
+			}
+			throw new CommandLine.ParameterException(spec.commandLine(),
+				"Invalid shard '%s': expected INDEX/COUNT with 1 <= INDEX <= COUNT.".formatted(shard));
+		}
+
 		private void applyTo(TestDiscoveryOptions result) {
 			result.setIncludedClassNamePatterns(this.includeClassNamePatterns);
 			result.setExcludedClassNamePatterns(this.excludeClassNamePatterns);
@@ -200,6 +229,9 @@ class TestDiscoveryOptionsMixin {
 			result.setExcludedTagExpressions(this.excludedTags);
 			result.setIncludedEngines(this.includedEngines);
 			result.setExcludedEngines(this.excludedEngines);
+			if (this.shardCount > 0) {
+				result.setShard(this.shardIndex, this.shardCount);
+			}
 		}
 	}
 
@@ -18,6 +18,8 @@ import static org.junit.platform.engine.discovery.PackageNameFilter.excludePacka
 import static org.junit.platform.engine.discovery.PackageNameFilter.includePackageNames;
 import static org.junit.platform.launcher.EngineFilter.excludeEngines;
 import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_COUNT_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_INDEX_PROPERTY_NAME;
 import static org.junit.platform.launcher.MethodFilter.excludeMethodNamePatterns;
 import static org.junit.platform.launcher.MethodFilter.includeMethodNamePatterns;
 import static org.junit.platform.launcher.TagFilter.excludeTags;
@@ -57,6 +59,10 @@ class DiscoveryRequestCreator {
 		requestBuilder.configurationParameters(options.getConfigurationParameters());
 		requestBuilder.configurationParametersResources(
 			options.getConfigurationParametersResources().toArray(new String[0]));
+		if (options.getShardCount() > 0) {
+			requestBuilder.configurationParameter(SHARD_INDEX_PROPERTY_NAME, String.valueOf(options.getShardIndex()));
+			requestBuilder.configurationParameter(SHARD_COUNT_PROPERTY_NAME, String.valueOf(options.getShardCount()));
+		}
 		return requestBuilder;
 	}
 
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
+
+/**
+ * Long-lived server that executes console launcher commands it receives
+ * over a local socket in the current JVM.
+ *
+ * <p>Since the JVM, the test engines on its class path, and the JIT-compiled
+ * code of the JUnit Platform are reused, repeated runs do not have to pay
+ * their startup costs again. Test classes passed via {@code --class-path}
+ * are loaded by a new class loader for each command which is closed once the
+ * command has finished.
+ *
+ * <p>Since any local process may connect to the daemon, clients have to
+ * authenticate themselves by sending the {@linkplain #getToken() token} of
+ * the daemon, which is randomly generated when the daemon is created, as the
+ * first line. Connections that send a different token or do not send it
+ * within {@value #AUTHENTICATION_TIMEOUT_MILLIS} milliseconds are closed
+ * without executing anything.
+ *
+ * <p>After the token, clients send one argument per line, encoded in UTF-8,
+ * followed by an empty line. The daemon executes the command, writes its
+ * output, including the output of tests, to the connection, and finishes
+ * with a line of the form {@code "Exit code: <code>"} before closing it.
+ * Commands are executed one at a time. Sending {@value #STOP_COMMAND} as the
+ * only argument stops the daemon.
+ *
+ * @since 6.0
+ */
+@API(status = INTERNAL, since = "6.0")
+public class LauncherDaemon implements AutoCloseable {
+
+	public static final String STOP_COMMAND = "stop";
+
+	public static final String EXIT_CODE_PREFIX = "Exit code: ";
+
+	public static final String AUTHENTICATION_FAILED_MESSAGE = "Authentication failed";
+
+	static final int AUTHENTICATION_TIMEOUT_MILLIS = 10_000;
+
+	private static final int TOKEN_LENGTH = 32;
+
+	private static final Logger logger = LoggerFactory.getLogger(LauncherDaemon.class);
+
+	private final ServerSocket serverSocket;
+	private final CommandExecutor commandExecutor;
+	private final String token;
+
+	private volatile boolean stopped;
+
+	/**
+	 * Create a daemon that listens on the supplied port of the loopback
+	 * address.
+	 *
+	 * @param port the port to listen on; {@code 0} to use an ephemeral port
+	 * @param commandExecutor the executor of received commands
+	 */
+	public LauncherDaemon(int port, CommandExecutor commandExecutor) throws IOException {
+		this.serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+		this.commandExecutor = commandExecutor;
+		this.token = generateToken();
+	}
+
+	private static String generateToken() {
+		byte[] bytes = new byte[TOKEN_LENGTH];
+		new SecureRandom().nextBytes(bytes);
+		return HexFormat.of().formatHex(bytes);
+	}
+
+	/**
+	 * {@return the port this daemon is listening on}
+	 */
+	public int getPort() {
+		return this.serverSocket.getLocalPort();
+	}
+
+	/**
+	 * {@return the token clients have to send to authenticate themselves}
+	 *
+	 * <p>The token must only be shared with trusted clients since it permits
+	 * executing arbitrary code as the user running this daemon.
+	 */
+	public String getToken() {
+		return this.token;
+	}
+
+	/**
+	 * Accept and execute commands until this daemon is stopped.
+	 */
+	public void run() throws IOException {
+		while (!this.stopped) {
+			Socket socket;
+			try {
+				socket = this.serverSocket.accept();
+			}
+			catch (SocketException ex) {
+				if (this.stopped) {
+					break;
+				}
+				throw ex;
+			}
+			try (socket) {
+				handle(socket);
+			}
+			catch (IOException ex) {
+				logger.warn(ex, () -> "Failed to handle connection from " + socket.getRemoteSocketAddress());
+			}
+		}
+	}
+
+	private void handle(Socket socket) throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), UTF_8));
+		PrintStream stream = new PrintStream(socket.getOutputStream(), true, UTF_8);
+		PrintWriter writer = new PrintWriter(stream, true);
+		// Prevents unauthenticated clients from blocking the daemon indefinitely
+		socket.setSoTimeout(AUTHENTICATION_TIMEOUT_MILLIS);
+		if (!isAuthenticated(reader.readLine())) {
+			logger.warn(() -> "Rejected unauthenticated connection from " + socket.getRemoteSocketAddress());
+			writer.println(AUTHENTICATION_FAILED_MESSAGE);
+			return;
+		}
+		List<String> args = readArguments(reader);
+		socket.setSoTimeout(0);
+		if (args.equals(List.of(STOP_COMMAND))) {
+			writer.println("Stopping daemon");
+			writer.println(EXIT_CODE_PREFIX + 0);
+			close();
+			return;
+		}
+		writer.println(EXIT_CODE_PREFIX + execute(args, stream, writer));
+	}
+
+	private boolean isAuthenticated(@Nullable String line) {
+		// Constant-time comparison so the token cannot be guessed byte by byte
+		return line != null && MessageDigest.isEqual(line.getBytes(UTF_8), this.token.getBytes(UTF_8));
+	}
+
+	private static List<String> readArguments(BufferedReader reader) throws IOException {
+		List<String> args = new ArrayList<>();
+		String line;
+		while ((line = reader.readLine()) != null && !line.isEmpty()) {
+			args.add(line);
+		}
+		return args;
+	}
+
+	private int execute(List<String> args, PrintStream stream, PrintWriter writer) {
+		// Output of tests is sent to the client that requested their execution
+		PrintStream originalOut = System.out;
+		PrintStream originalErr = System.err;
+		System.setOut(stream);
+		System.setErr(stream);
+		try {
+			return this.commandExecutor.execute(args.toArray(new String[0]), writer);
+		}
+		catch (Throwable t) {
+			UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+			t.printStackTrace(writer);
+			return -1;
+		}
+		finally {
+			writer.flush();
+			System.setOut(originalOut);
+			System.setErr(originalErr);
+		}
+	}
+
+	/**
+	 * Stop this daemon and release its port.
+	 */
+	@Override
+	public void close() throws IOException {
+		this.stopped = true;
+		this.serverSocket.close();
+	}
+
+	/**
+	 * Executes a console launcher command.
+	 */
+	@FunctionalInterface
+	public interface CommandExecutor {
+
+		/**
+		 * Execute the command with the supplied arguments and write its output
+		 * to the supplied writer.
+		 *
+		 * @return the exit code of the command
+		 */
+		int execute(String[] args, PrintWriter out);
+
+	}
+
+}
@@ -18,6 +18,7 @@
  */
 module org.junit.platform.engine {
 
+	requires java.management; // needed by AdaptiveParallelismController to measure CPU time
 	requires static transitive org.apiguardian.api;
 	requires static org.jspecify;
 
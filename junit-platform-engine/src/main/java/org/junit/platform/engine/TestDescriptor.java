@@ -145,13 +145,18 @@ public interface TestDescriptor {
 	 */
 	default Set<? extends TestDescriptor> getDescendants() {
 		Set<TestDescriptor> descendants = new LinkedHashSet<>();
-		descendants.addAll(getChildren());
-		for (TestDescriptor child : getChildren()) {
-			descendants.addAll(child.getDescendants());
-		}
+		collectDescendants(this, descendants);
 		return Collections.unmodifiableSet(descendants);
 	}
 
+	private static void collectDescendants(TestDescriptor descriptor, Set<TestDescriptor> descendants) {
+		Set<? extends TestDescriptor> children = descriptor.getChildren();
+		descendants.addAll(children);
+		for (TestDescriptor child : children) {
+			collectDescendants(child, descendants);
+		}
+	}
+
 	/**
 	 * Add a <em>child</em> to this descriptor.
 	 *
@@ -309,8 +314,10 @@ public interface TestDescriptor {
 	default void accept(Visitor visitor) {
 		Preconditions.notNull(visitor, "Visitor must not be null");
 		visitor.visit(this);
-		// Create a copy of the set in order to avoid a ConcurrentModificationException
-		new LinkedHashSet<>(this.getChildren()).forEach(child -> child.accept(visitor));
+		// Iterate over a snapshot in order to avoid a ConcurrentModificationException
+		for (Object child : this.getChildren().toArray()) {
+			((TestDescriptor) child).accept(visitor);
+		}
 	}
 
 	/**
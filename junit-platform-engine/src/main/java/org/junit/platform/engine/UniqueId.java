@@ -12,13 +12,19 @@ package org.junit.platform.engine;
 
 import static org.apiguardian.api.API.Status.STABLE;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.lang.ref.SoftReference;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
@@ -32,6 +38,11 @@ import org.junit.platform.commons.util.ToStringBuilder;
  *
  * <p>Instances of this class have value semantics and are immutable.
  *
+ * @implNote Each {@code UniqueId} only stores its last {@link Segment} and a
+ * reference to the {@code UniqueId} it was {@linkplain #append(Segment)
+ * appended} to so that unique IDs of a tree of {@link TestDescriptor
+ * TestDescriptors} share their common prefixes.
+ *
  * @since 1.0
  */
 @API(status = STABLE, since = "1.0")
@@ -79,38 +90,60 @@ public class UniqueId implements Cloneable, Serializable {
 	 * @see #forEngine(String)
 	 */
 	public static UniqueId root(String segmentType, String value) {
-		return new UniqueId(UniqueIdFormat.getDefault(), new Segment(segmentType, value));
+		return new UniqueId(UniqueIdFormat.getDefault(), null, new Segment(segmentType, value));
 	}
 
-	private final UniqueIdFormat uniqueIdFormat;
-
-	@SuppressWarnings({ "serial", "RedundantSuppression" }) // always used with serializable implementation (singletonList() or ArrayList)
-	private final List<Segment> segments;
+	// Instances are serialized via SerializedForm
+	private final transient UniqueIdFormat uniqueIdFormat;
+	private final transient @Nullable UniqueId parent;
+	private final transient Segment lastSegment;
+	private final transient int size;
 
-	// lazily computed
-	private transient int hashCode;
+	// same as List#hashCode() of all segments
+	private final transient int segmentsHashCode;
 
 	// lazily computed
 	private transient @Nullable SoftReference<String> toString;
 
-	private UniqueId(UniqueIdFormat uniqueIdFormat, Segment segment) {
-		this(uniqueIdFormat, List.of(segment));
+	private UniqueId(UniqueIdFormat uniqueIdFormat, @Nullable UniqueId parent, Segment lastSegment) {
+		this.uniqueIdFormat = uniqueIdFormat;
+		this.parent = parent;
+		this.lastSegment = lastSegment;
+		this.size = parent == null ? 1 : parent.size + 1;
+		this.segmentsHashCode = 31 * (parent == null ? 1 : parent.segmentsHashCode) + lastSegment.hashCode();
 	}
 
 	/**
-	 * Initialize a {@code UniqueId} instance.
-	 *
-	 * @implNote A defensive copy of the segment list is <b>not</b> created by
-	 * this implementation. All callers should immediately drop the reference
-	 * to the list instance that they pass into this constructor.
+	 * Initialize a {@code UniqueId} instance from the supplied non-empty list
+	 * of segments.
 	 */
 	UniqueId(UniqueIdFormat uniqueIdFormat, List<Segment> segments) {
-		this.uniqueIdFormat = uniqueIdFormat;
-		this.segments = List.copyOf(segments);
+		this(uniqueIdFormat, createParent(uniqueIdFormat, segments), segments.get(segments.size() - 1));
+	}
+
+	private static @Nullable UniqueId createParent(UniqueIdFormat uniqueIdFormat, List<Segment> segments) {
+		Preconditions.notEmpty(segments, "segments must not be null or empty");
+		UniqueId parent = null;
+		for (Segment segment : segments.subList(0, segments.size() - 1)) {
+			parent = new UniqueId(uniqueIdFormat, parent, segment);
+		}
+		return parent;
 	}
 
 	final Optional<Segment> getRoot() {
-		return this.segments.isEmpty() ? Optional.empty() : Optional.of(this.segments.get(0));
+		UniqueId root = this;
+		while (root.parent != null) {
+			root = root.parent;
+		}
+		return Optional.of(root.lastSegment);
+	}
+
+	/**
+	 * Get the {@code UniqueId} this {@code UniqueId} was created from by
+	 * appending its {@linkplain #getLastSegment() last segment}, if any.
+	 */
+	final @Nullable UniqueId getParent() {
+		return this.parent;
 	}
 
 	/**
@@ -125,9 +158,15 @@ public class UniqueId implements Cloneable, Serializable {
 	/**
 	 * Get the immutable list of {@linkplain Segment segments} that make up this
 	 * {@code UniqueId}.
+	 *
+	 * @implNote The list is created on each invocation of this method.
 	 */
 	public final List<Segment> getSegments() {
-		return this.segments;
+		Segment[] segments = new Segment[this.size];
+		for (UniqueId current = this; current != null; current = current.parent) {
+			segments[current.size - 1] = current.lastSegment;
+		}
+		return Collections.unmodifiableList(Arrays.asList(segments));
 	}
 
 	/**
@@ -161,10 +200,7 @@ public class UniqueId implements Cloneable, Serializable {
 	@API(status = STABLE, since = "1.1")
 	public final UniqueId append(Segment segment) {
 		Preconditions.notNull(segment, "segment must not be null");
-		List<Segment> baseSegments = new ArrayList<>(this.segments.size() + 1);
-		baseSegments.addAll(this.segments);
-		baseSegments.add(segment);
-		return new UniqueId(this.uniqueIdFormat, baseSegments);
+		return new UniqueId(this.uniqueIdFormat, this, segment);
 	}
 
 	/**
@@ -196,9 +232,14 @@ public class UniqueId implements Cloneable, Serializable {
 	@API(status = STABLE, since = "1.1")
 	public boolean hasPrefix(UniqueId potentialPrefix) {
 		Preconditions.notNull(potentialPrefix, "potentialPrefix must not be null");
-		int size = this.segments.size();
-		int prefixSize = potentialPrefix.segments.size();
-		return size >= prefixSize && this.segments.subList(0, prefixSize).equals(potentialPrefix.segments);
+		if (this.size < potentialPrefix.size) {
+			return false;
+		}
+		UniqueId candidate = this;
+		while (candidate.size > potentialPrefix.size) {
+			candidate = requireParent(candidate);
+		}
+		return candidate.equalSegments(potentialPrefix);
 	}
 
 	/**
@@ -214,8 +255,8 @@ public class UniqueId implements Cloneable, Serializable {
 	 */
 	@API(status = STABLE, since = "1.5")
 	public UniqueId removeLastSegment() {
-		Preconditions.condition(this.segments.size() > 1, "Cannot remove last remaining segment");
-		return new UniqueId(uniqueIdFormat, List.copyOf(this.segments.subList(0, this.segments.size() - 1)));
+		Preconditions.condition(this.size > 1, "Cannot remove last remaining segment");
+		return requireParent(this);
 	}
 
 	/**
@@ -226,7 +267,11 @@ public class UniqueId implements Cloneable, Serializable {
 	 */
 	@API(status = STABLE, since = "1.5")
 	public Segment getLastSegment() {
-		return this.segments.get(this.segments.size() - 1);
+		return this.lastSegment;
+	}
+
+	private static UniqueId requireParent(UniqueId uniqueId) {
+		return Objects.requireNonNull(uniqueId.parent);
 	}
 
 	@Override
@@ -244,28 +289,30 @@ public class UniqueId implements Cloneable, Serializable {
 		}
 
 		UniqueId that = (UniqueId) o;
-		return this.segments.equals(that.segments);
+		return equalSegments(that);
 	}
 
-	@Override
-	public int hashCode() {
-		int value = this.hashCode;
-		if (value == 0) {
-			value = this.segments.hashCode();
-			if (value == 0) {
-				// handle the edge case of the computed hashCode being 0
-				value = 1;
+	private boolean equalSegments(UniqueId that) {
+		if (this.size != that.size || this.segmentsHashCode != that.segmentsHashCode) {
+			return false;
+		}
+		UniqueId left = this;
+		UniqueId right = that;
+		// stop as soon as both share the same prefix instance
+		while (left != right) {
+			if (left == null || right == null || !left.lastSegment.equals(right.lastSegment)) {
+				return false;
 			}
-			// this is a benign race like String#hash
-			// we potentially read and write values from multiple threads
-			// without a happens-before relationship
-			// however the JMM guarantees us that we only ever see values
-			// that were valid at one point, either 0 or the hash code
-			// so we might end up not seeing a value that a different thread
-			// has computed or multiple threads writing the same value
-			this.hashCode = value;
+			left = left.parent;
+			right = right.parent;
 		}
-		return value;
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		// handle the edge case of the computed hashCode being 0
+		return this.segmentsHashCode == 0 ? 1 : this.segmentsHashCode;
 	}
 
 	/**
@@ -290,6 +337,44 @@ public class UniqueId implements Cloneable, Serializable {
 		return value;
 	}
 
+	@Serial
+	private Object writeReplace() {
+		return new SerializedForm(this);
+	}
+
+	@Serial
+	private void readObject(ObjectInputStream s) throws InvalidObjectException {
+		throw new InvalidObjectException("UniqueId must be deserialized via its serialized form");
+	}
+
+	/**
+	 * Serialized form of a {@link UniqueId} that stores all of its segments
+	 * so that the fields of {@code UniqueId} can be {@code final}.
+	 */
+	private static final class SerializedForm implements Serializable {
+
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		private final UniqueIdFormat uniqueIdFormat;
+
+		@SuppressWarnings({ "serial", "RedundantSuppression" }) // always used with serializable implementation (ArrayList)
+		private final List<Segment> segments;
+
+		SerializedForm(UniqueId uniqueId) {
+			this.uniqueIdFormat = uniqueId.uniqueIdFormat;
+			this.segments = new ArrayList<>(uniqueId.getSegments());
+		}
+
+		@Serial
+		private Object readResolve() throws InvalidObjectException {
+			if (this.uniqueIdFormat == null || this.segments == null || this.segments.isEmpty()) {
+				throw new InvalidObjectException("uniqueIdFormat and segments must not be null or empty");
+			}
+			return new UniqueId(this.uniqueIdFormat, this.segments);
+		}
+	}
+
 	/**
 	 * A segment of a {@link UniqueId} comprises a <em>type</em> and a
 	 * <em>value</em>.
@@ -300,6 +385,11 @@ public class UniqueId implements Cloneable, Serializable {
 		@Serial
 		private static final long serialVersionUID = 1L;
 
+		private static final int MAX_INTERNED_TYPES = 1024;
+
+		// Types are reused by many segments, e.g. "class" or "method"
+		private static final Map<String, String> internedTypes = new ConcurrentHashMap<>();
+
 		private final String type;
 		private final String value;
 
@@ -313,10 +403,22 @@ public class UniqueId implements Cloneable, Serializable {
 		Segment(String type, String value) {
 			Preconditions.notBlank(type, "type must not be null or blank");
 			Preconditions.notBlank(value, "value must not be null or blank");
-			this.type = type;
+			this.type = intern(type);
 			this.value = value;
 		}
 
+		private static String intern(String type) {
+			String internedType = internedTypes.get(type);
+			if (internedType != null) {
+				return internedType;
+			}
+			if (internedTypes.size() >= MAX_INTERNED_TYPES) {
+				return type;
+			}
+			internedType = internedTypes.putIfAbsent(type, type);
+			return internedType == null ? type : internedType;
+		}
+
 		/**
 		 * Get the type of this segment.
 		 */
@@ -333,7 +435,8 @@ public class UniqueId implements Cloneable, Serializable {
 
 		@Override
 		public int hashCode() {
-			return Objects.hash(this.type, this.value);
+			// same as Objects.hash(type, value) without allocating an array
+			return 31 * (31 + this.type.hashCode()) + this.value.hashCode();
 		}
 
 		@Override
@@ -349,6 +452,15 @@ public class UniqueId implements Cloneable, Serializable {
 			return Objects.equals(this.type, that.type) && Objects.equals(this.value, that.value);
 		}
 
+		/**
+		 * Create a new {@code Segment} so that its type is interned as if it
+		 * had been created via the constructor.
+		 */
+		@Serial
+		private Object readResolve() {
+			return new Segment(this.type, this.value);
+		}
+
 		@Override
 		public String toString() {
 			// @formatter:off
@@ -10,8 +10,6 @@
 
 package org.junit.platform.engine;
 
-import static java.util.stream.Collectors.joining;
-
 import java.io.Serial;
 import java.io.Serializable;
 import java.net.URLDecoder;
@@ -118,11 +116,10 @@ class UniqueIdFormat implements Serializable {
 	 * Format and return the string representation of the supplied {@code UniqueId}.
 	 */
 	String format(UniqueId uniqueId) {
-		// @formatter:off
-		return uniqueId.getSegments().stream()
-			.map(this::describe)
-			.collect(joining(String.valueOf(this.segmentDelimiter)));
-		// @formatter:on
+		UniqueId parent = uniqueId.getParent();
+		String lastSegment = describe(uniqueId.getLastSegment());
+		// Reuse the cached string representation of the shared parent
+		return parent == null ? lastSegment : parent + String.valueOf(this.segmentDelimiter) + lastSegment;
 	}
 
 	private String describe(Segment segment) {
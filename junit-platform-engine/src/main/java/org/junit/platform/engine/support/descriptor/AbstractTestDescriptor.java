@@ -59,8 +59,14 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 	 *
 	 * <p>If a subclass overrides any of the methods related to children, this
 	 * set should be used instead of a set local to the subclass.
+	 *
+	 * <p>As of JUnit 6.0, this set does not allocate any storage for
+	 * descriptors without children, and iterating over it does not require
+	 * external synchronization. Iterators reflect the children at the time
+	 * they were created; thus, children may be added or removed while
+	 * iterating.
 	 */
-	protected final Set<TestDescriptor> children = Collections.synchronizedSet(new LinkedHashSet<>(16));
+	protected final Set<TestDescriptor> children = new ChildrenSet();
 
 	/**
 	 * Create a new {@code AbstractTestDescriptor} with the supplied
@@ -169,6 +175,21 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 		this.children.addAll(orderedChildren);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>In contrast to the default implementation, this method does not copy
+	 * the children of visited descriptors since iterating over
+	 * {@link #children} is not affected by modifications made by the supplied
+	 * visitor.
+	 */
+	@Override
+	public void accept(Visitor visitor) {
+		Preconditions.notNull(visitor, "Visitor must not be null");
+		visitor.visit(this);
+		this.children.forEach(child -> child.accept(visitor));
+	}
+
 	@Override
 	public Optional<? extends TestDescriptor> findByUniqueId(UniqueId uniqueId) {
 		Preconditions.notNull(uniqueId, "UniqueId must not be null");
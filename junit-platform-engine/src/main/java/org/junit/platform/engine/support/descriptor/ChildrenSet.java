@@ -0,0 +1,291 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.descriptor;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.TestDescriptor;
+
+/**
+ * Compact, synchronized, insertion-ordered {@link Set} of the children of an
+ * {@link AbstractTestDescriptor}.
+ *
+ * <p>Children are stored in an array that is shared by all instances as long
+ * as a descriptor does not have any children, which is the case for the vast
+ * majority of descriptors in large test plans. A hash-based index of the
+ * position of each child is only maintained for descriptors with many
+ * children.
+ *
+ * <p>Removing a child leaves an empty slot in the array which is compacted
+ * lazily once at least half of the slots are empty or before the array is
+ * handed out to an iterator. Hence, removing many children, for example, by a
+ * {@link org.junit.platform.engine.PostDiscoveryFilter}, takes amortized
+ * constant time per child for descriptors with many children.
+ *
+ * <p>Iterating over this set does not copy its elements and does not require
+ * external synchronization. Iterators reflect the children at the time they
+ * were created and never throw a
+ * {@link java.util.ConcurrentModificationException}. Hence, children may be
+ * added or removed during iteration, for example, by a
+ * {@link TestDescriptor.Visitor}. To achieve this, the array is copied when
+ * an element is removed while the array is referenced by an iterator.
+ *
+ * @since 6.0
+ */
+final class ChildrenSet extends AbstractSet<TestDescriptor> {
+
+	private static final TestDescriptor[] EMPTY = new TestDescriptor[0];
+
+	private static final int INDEX_THRESHOLD = 8;
+
+	/**
+	 * Children in insertion order; slots of removed children are {@code null}
+	 * until the array is compacted.
+	 */
+	private TestDescriptor[] elements = EMPTY;
+
+	/**
+	 * Number of used slots in {@link #elements}, including empty slots of
+	 * removed children.
+	 */
+	private int end;
+
+	private int size;
+
+	/**
+	 * Whether {@link #elements} may be referenced by an iterator and therefore
+	 * must not be modified other than by appending elements.
+	 *
+	 * <p>An array that is shared never contains empty slots.
+	 */
+	private boolean shared;
+
+	private @Nullable Map<TestDescriptor, Integer> index;
+
+	@Override
+	public synchronized int size() {
+		return this.size;
+	}
+
+	@Override
+	public synchronized boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	@Override
+	public synchronized boolean contains(Object element) {
+		return positionOf(element) >= 0;
+	}
+
+	@Override
+	public synchronized boolean add(TestDescriptor element) {
+		Preconditions.notNull(element, "child must not be null");
+		if (contains(element)) {
+			return false;
+		}
+		if (this.end == this.elements.length) {
+			compactInto(new TestDescriptor[Math.max(4, this.size * 2)]);
+			this.shared = false;
+		}
+		int position = this.end++;
+		this.elements[position] = element;
+		this.size++;
+		if (this.index != null) {
+			this.index.put(element, position);
+		}
+		else if (this.size > INDEX_THRESHOLD) {
+			this.index = new HashMap<>();
+			updateIndex();
+		}
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("NullAway") // empty slots are cleared to allow GC
+	public synchronized boolean remove(Object element) {
+		int position = positionOf(element);
+		if (position < 0) {
+			return false;
+		}
+		if (this.shared) {
+			this.elements = Arrays.copyOf(this.elements, this.elements.length);
+			this.shared = false;
+		}
+		this.elements[position] = null;
+		this.size--;
+		if (this.size <= INDEX_THRESHOLD) {
+			this.index = null;
+		}
+		else if (this.index != null) {
+			this.index.remove(element);
+		}
+		if (this.end - this.size > this.size) {
+			compactInto(this.elements);
+		}
+		return true;
+	}
+
+	@Override
+	public synchronized void clear() {
+		this.elements = EMPTY;
+		this.end = 0;
+		this.size = 0;
+		this.shared = false;
+		this.index = null;
+	}
+
+	@Override
+	public synchronized Object[] toArray() {
+		Object[] result = new Object[this.size];
+		int count = 0;
+		for (int i = 0; i < this.end; i++) {
+			if (this.elements[i] != null) {
+				result[count++] = this.elements[i];
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public Iterator<TestDescriptor> iterator() {
+		return new SnapshotIterator(snapshot());
+	}
+
+	@Override
+	public Spliterator<TestDescriptor> spliterator() {
+		Snapshot snapshot = snapshot();
+		return Spliterators.spliterator(snapshot.elements, 0, snapshot.size,
+			Spliterator.DISTINCT | Spliterator.ORDERED | Spliterator.NONNULL);
+	}
+
+	@Override
+	public void forEach(Consumer<? super TestDescriptor> action) {
+		Preconditions.notNull(action, "action must not be null");
+		Snapshot snapshot = snapshot();
+		for (int i = 0; i < snapshot.size; i++) {
+			action.accept(snapshot.elements[i]);
+		}
+	}
+
+	private synchronized Snapshot snapshot() {
+		if (this.end != this.size) {
+			// empty slots only exist in arrays that are not shared
+			compactInto(this.elements);
+		}
+		this.shared = true;
+		return new Snapshot(this.elements, this.size);
+	}
+
+	private int positionOf(Object element) {
+		if (this.index != null) {
+			Integer position = this.index.get(element);
+			return position == null ? -1 : position;
+		}
+		// Descriptors are usually removed by passing the same instance
+		for (int i = 0; i < this.end; i++) {
+			if (this.elements[i] == element) {
+				return i;
+			}
+		}
+		for (int i = 0; i < this.end; i++) {
+			if (this.elements[i] != null && this.elements[i].equals(element)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Move all children to the start of the supplied array, which may be
+	 * {@link #elements} itself if it is not shared, and update the index.
+	 */
+	@SuppressWarnings("NullAway") // empty slots are cleared to allow GC
+	private void compactInto(TestDescriptor[] target) {
+		int count = 0;
+		for (int i = 0; i < this.end; i++) {
+			TestDescriptor element = this.elements[i];
+			if (element != null) {
+				target[count++] = element;
+			}
+		}
+		if (target == this.elements) {
+			Arrays.fill(target, count, this.end, null);
+		}
+		this.elements = target;
+		this.end = count;
+		if (this.index != null) {
+			updateIndex();
+		}
+	}
+
+	private void updateIndex() {
+		Map<TestDescriptor, Integer> index = requireNonNull(this.index);
+		for (int i = 0; i < this.end; i++) {
+			if (this.elements[i] != null) {
+				index.put(this.elements[i], i);
+			}
+		}
+	}
+
+	private record Snapshot(TestDescriptor[] elements, int size) {
+	}
+
+	private final class SnapshotIterator implements Iterator<TestDescriptor> {
+
+		private final Snapshot snapshot;
+
+		private int cursor;
+
+		private @Nullable TestDescriptor lastReturned;
+
+		SnapshotIterator(Snapshot snapshot) {
+			this.snapshot = snapshot;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.cursor < this.snapshot.size;
+		}
+
+		@Override
+		public TestDescriptor next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			TestDescriptor next = this.snapshot.elements[this.cursor++];
+			this.lastReturned = next;
+			return next;
+		}
+
+		@Override
+		public void remove() {
+			if (this.lastReturned == null) {
+				throw new IllegalStateException();
+			}
+			ChildrenSet.this.remove(this.lastReturned);
+			this.lastReturned = null;
+		}
+	}
+
+}
@@ -11,16 +11,16 @@
 package org.junit.platform.engine.support.discovery;
 
 import static java.util.stream.Collectors.toSet;
-import static org.junit.platform.commons.support.ReflectionSupport.findAllClassesInClasspathRoot;
-import static org.junit.platform.commons.support.ReflectionSupport.findAllClassesInModule;
-import static org.junit.platform.commons.support.ReflectionSupport.findAllClassesInPackage;
 import static org.junit.platform.engine.support.discovery.SelectorResolver.Resolution.selectors;
 import static org.junit.platform.engine.support.discovery.SelectorResolver.Resolution.unresolved;
 
 import java.util.List;
 import java.util.function.Predicate;
 
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.support.scanning.ClassFilter;
 import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.ReflectionUtils;
 import org.junit.platform.engine.discovery.ClasspathRootSelector;
 import org.junit.platform.engine.discovery.DiscoverySelectors;
 import org.junit.platform.engine.discovery.ModuleSelector;
@@ -31,27 +31,34 @@ import org.junit.platform.engine.discovery.PackageSelector;
  */
 class ClassContainerSelectorResolver implements SelectorResolver {
 
-	private final Predicate<Class<?>> classFilter;
-	private final Predicate<String> classNameFilter;
+	private final ClassFilter classFilter;
 
 	ClassContainerSelectorResolver(Predicate<Class<?>> classFilter, Predicate<String> classNameFilter) {
-		this.classFilter = Preconditions.notNull(classFilter, "classFilter must not be null");
-		this.classNameFilter = Preconditions.notNull(classNameFilter, "classNameFilter must not be null");
+		this(classFilter, classNameFilter, null);
+	}
+
+	ClassContainerSelectorResolver(Predicate<Class<?>> classFilter, Predicate<String> classNameFilter,
+			@Nullable Predicate<String> referencedClassNameFilter) {
+		Preconditions.notNull(classFilter, "classFilter must not be null");
+		Preconditions.notNull(classNameFilter, "classNameFilter must not be null");
+		ClassFilter filter = ClassFilter.of(classNameFilter, classFilter);
+		this.classFilter = referencedClassNameFilter == null ? filter
+				: filter.withReferencedClassNamePredicate(referencedClassNameFilter);
 	}
 
 	@Override
 	public Resolution resolve(ClasspathRootSelector selector, Context context) {
-		return classSelectors(findAllClassesInClasspathRoot(selector.getClasspathRoot(), classFilter, classNameFilter));
+		return classSelectors(ReflectionUtils.findAllClassesInClasspathRoot(selector.getClasspathRoot(), classFilter));
 	}
 
 	@Override
 	public Resolution resolve(ModuleSelector selector, Context context) {
-		return classSelectors(findAllClassesInModule(selector.getModuleName(), classFilter, classNameFilter));
+		return classSelectors(ReflectionUtils.findAllClassesInModule(selector.getModuleName(), classFilter));
 	}
 
 	@Override
 	public Resolution resolve(PackageSelector selector, Context context) {
-		return classSelectors(findAllClassesInPackage(selector.getPackageName(), classFilter, classNameFilter));
+		return classSelectors(ReflectionUtils.findAllClassesInPackage(selector.getPackageName(), classFilter));
 	}
 
 	private Resolution classSelectors(List<Class<?>> classes) {
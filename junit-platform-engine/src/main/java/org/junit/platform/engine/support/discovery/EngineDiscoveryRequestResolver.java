@@ -55,6 +55,29 @@ import org.junit.platform.engine.support.discovery.SelectorResolver.Resolution;
 @API(status = STABLE, since = "1.10")
 public class EngineDiscoveryRequestResolver<T extends TestDescriptor> {
 
+	/**
+	 * Property name used to enable pre-filtering of scanned classes based on
+	 * the contents of their class files: {@value}
+	 *
+	 * <p>When enabled, resolvers registered via
+	 * {@link Builder#addClassContainerSelectorResolverWithContext(Function, Predicate)}
+	 * only load classes whose class files reference a class that matches the
+	 * predicate supplied by the test engine, for example, one of its test
+	 * annotations, or another scanned class that does so. This avoids loading
+	 * and initializing classes that cannot be test classes. However, test
+	 * classes that only inherit from or are annotated with classes from other
+	 * class containers, for example, abstract test classes in a jar file that
+	 * is not scanned, are not discovered.
+	 *
+	 * <p>Value must be either {@code true} or {@code false}; defaults to
+	 * {@code false}.
+	 *
+	 * @since 6.0
+	 * @see org.junit.platform.commons.support.scanning.ClassFilter#withReferencedClassNamePredicate(Predicate)
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String CLASS_FILE_PREFILTER_ENABLED_PROPERTY_NAME = "junit.platform.discovery.class-file-prefilter.enabled";
+
 	private final List<Function<InitializationContext<T>, SelectorResolver>> resolverCreators;
 	private final List<Function<InitializationContext<T>, TestDescriptor.Visitor>> visitorCreators;
 
@@ -216,6 +239,46 @@ public class EngineDiscoveryRequestResolver<T extends TestDescriptor> {
 				context.getClassNameFilter()));
 		}
 
+		/**
+		 * Add a predefined resolver that resolves {@link ClasspathRootSelector
+		 * ClasspathRootSelectors}, {@link ModuleSelector ModuleSelectors}, and
+		 * {@link PackageSelector PackageSelectors} into {@link ClassSelector
+		 * ClassSelectors} by scanning for classes that satisfy the predicate
+		 * created by the supplied {@code Function} in the respective class
+		 * containers to this builder.
+		 *
+		 * <p>If {@value EngineDiscoveryRequestResolver#CLASS_FILE_PREFILTER_ENABLED_PROPERTY_NAME} is set to
+		 * {@code true}, only classes whose class files reference a class whose
+		 * name satisfies the supplied {@code referencedClassNameFilter}, or
+		 * another scanned class that does so, are loaded and tested using the
+		 * created predicate.
+		 *
+		 * @param classFilterCreator the function that will be called to create
+		 * the predicate the resolved classes must satisfy; never
+		 * {@code null}
+		 * @param referencedClassNameFilter the predicate for names of classes
+		 * that class files of resolved classes must reference if pre-filtering
+		 * is enabled; never {@code null}
+		 * @return this builder for method chaining
+		 * @since 6.0
+		 * @see EngineDiscoveryRequestResolver#CLASS_FILE_PREFILTER_ENABLED_PROPERTY_NAME
+		 */
+		@API(status = EXPERIMENTAL, since = "6.0")
+		public Builder<T> addClassContainerSelectorResolverWithContext(
+				Function<InitializationContext<T>, Predicate<Class<?>>> classFilterCreator,
+				Predicate<String> referencedClassNameFilter) {
+			Preconditions.notNull(classFilterCreator, "classFilterCreator must not be null");
+			Preconditions.notNull(referencedClassNameFilter, "referencedClassNameFilter must not be null");
+			return addSelectorResolver(context -> new ClassContainerSelectorResolver(classFilterCreator.apply(context),
+				context.getClassNameFilter(), isClassFilePrefilterEnabled(context) ? referencedClassNameFilter : null));
+		}
+
+		private static boolean isClassFilePrefilterEnabled(InitializationContext<?> context) {
+			return context.getDiscoveryRequest().getConfigurationParameters() //
+					.getBoolean(CLASS_FILE_PREFILTER_ENABLED_PROPERTY_NAME) //
+					.orElse(false);
+		}
+
 		/**
 		 * Add a predefined resolver that resolves {@link ClasspathRootSelector
 		 * ClasspathRootSelectors}, {@link ModuleSelector ModuleSelectors}, and
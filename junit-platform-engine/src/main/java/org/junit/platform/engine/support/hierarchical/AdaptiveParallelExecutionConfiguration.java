@@ -0,0 +1,45 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+/**
+ * {@link ParallelExecutionConfiguration} whose parallelism is adjusted at
+ * runtime within the bounds of {@link #getMinParallelism()} and
+ * {@link #getMaxParallelism()}.
+ *
+ * @since 6.0
+ * @see DefaultParallelExecutionConfigurationStrategy#ADAPTIVE
+ * @see AdaptiveParallelismController
+ */
+class AdaptiveParallelExecutionConfiguration extends DefaultParallelExecutionConfiguration {
+
+	private final int minParallelism;
+	private final int maxParallelism;
+
+	AdaptiveParallelExecutionConfiguration(int parallelism, int minParallelism, int maxParallelism, int maxPoolSize,
+			int keepAliveSeconds, Predicate<? super ForkJoinPool> saturate) {
+		super(parallelism, parallelism, maxPoolSize, parallelism, keepAliveSeconds, saturate);
+		this.minParallelism = minParallelism;
+		this.maxParallelism = maxParallelism;
+	}
+
+	int getMinParallelism() {
+		return minParallelism;
+	}
+
+	int getMaxParallelism() {
+		return maxParallelism;
+	}
+
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.function.Try;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
+
+/**
+ * Periodically adjusts the parallelism of a {@link ForkJoinPool} based on the
+ * CPU utilization of its worker threads and the ratio of workers that are
+ * blocked while executing a task, for example, while acquiring a
+ * {@link ResourceLock} or while waiting for I/O in test code.
+ *
+ * <p>The parallelism is increased if most busy workers are blocked or if all
+ * workers are busy but hardly use any CPU, and the CPU is not saturated. It is
+ * decreased toward the number of available processors if the CPU is saturated
+ * and hardly any worker is blocked.
+ *
+ * <p>Adjusting the parallelism of a {@code ForkJoinPool} requires Java 19 or
+ * later. On earlier versions, the initial parallelism is retained.
+ *
+ * @since 6.0
+ * @see AdaptiveParallelExecutionConfiguration
+ * @see DefaultParallelExecutionConfigurationStrategy#ADAPTIVE
+ */
+class AdaptiveParallelismController implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(AdaptiveParallelismController.class);
+
+	static final long SAMPLING_INTERVAL_MILLIS = 250;
+	static final double CPU_SATURATION_THRESHOLD = 0.75;
+	static final double CPU_UNDERUTILIZATION_THRESHOLD = 0.5;
+
+	/**
+	 * Start a controller that adjusts the parallelism of the supplied pool
+	 * within the bounds of the supplied configuration.
+	 *
+	 * @return the started controller or {@code null} if the parallelism of
+	 * the supplied pool cannot be adjusted on the current JVM
+	 */
+	static @Nullable AdaptiveParallelismController start(ForkJoinPool forkJoinPool,
+			AdaptiveParallelExecutionConfiguration configuration) {
+		// ForkJoinPool.setParallelism(int) is only available on Java 19+
+		Method setParallelism = Try.call(() -> ForkJoinPool.class.getMethod("setParallelism", int.class)) //
+				.toOptional() //
+				.orElse(null);
+		if (setParallelism == null) {
+			logger.warn(() -> "Adaptive parallelism requires Java 19 or later; using fixed parallelism of "
+					+ forkJoinPool.getParallelism());
+			return null;
+		}
+		AdaptiveParallelismController controller = new AdaptiveParallelismController(forkJoinPool, setParallelism,
+			configuration.getMinParallelism(), configuration.getMaxParallelism());
+		controller.scheduler.scheduleWithFixedDelay(controller::adjustParallelism, SAMPLING_INTERVAL_MILLIS,
+			SAMPLING_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+		return controller;
+	}
+
+	private final ForkJoinPool forkJoinPool;
+	private final Method setParallelism;
+	private final int minParallelism;
+	private final int maxParallelism;
+	private final int availableProcessors = Runtime.getRuntime().availableProcessors();
+	private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+	private final boolean cpuTimeSupported;
+
+	private final Map<Thread, WorkerState> workers = new ConcurrentHashMap<>();
+	private final ThreadLocal<WorkerState> currentWorker = ThreadLocal.withInitial(this::registerCurrentThread);
+
+	// only accessed by the scheduler thread
+	private final Map<Thread, Long> lastCpuTimes = new HashMap<>();
+	private long lastSampleNanos = System.nanoTime();
+
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "junit-parallelism-controller");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private AdaptiveParallelismController(ForkJoinPool forkJoinPool, Method setParallelism, int minParallelism,
+			int maxParallelism) {
+		this.forkJoinPool = forkJoinPool;
+		this.setParallelism = setParallelism;
+		this.minParallelism = minParallelism;
+		this.maxParallelism = maxParallelism;
+		this.cpuTimeSupported = threadMXBean.isThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled();
+	}
+
+	private WorkerState registerCurrentThread() {
+		WorkerState workerState = new WorkerState();
+		workers.put(Thread.currentThread(), workerState);
+		return workerState;
+	}
+
+	/**
+	 * Record that the current thread starts executing a task or, if
+	 * {@code executingTask} is {@code false}, starts waiting for other tasks
+	 * to complete.
+	 *
+	 * @return an {@link Activity} that must be closed once the task or wait
+	 * has completed
+	 */
+	Activity enter(boolean executingTask) {
+		WorkerState workerState = currentWorker.get();
+		workerState.push(executingTask);
+		return workerState::pop;
+	}
+
+	private void adjustParallelism() {
+		try {
+			int current = forkJoinPool.getParallelism();
+			int target = computeParallelism(current, minParallelism, maxParallelism, availableProcessors,
+				takeSample());
+			if (target != current) {
+				setParallelism.invoke(forkJoinPool, target);
+				logger.config(() -> "Adjusted parallelism from %d to %d".formatted(current, target));
+			}
+		}
+		catch (Throwable t) {
+			UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+			logger.debug(t, () -> "Failed to adjust parallelism");
+		}
+	}
+
+	private Sample takeSample() {
+		long now = System.nanoTime();
+		int busyWorkers = 0;
+		int blockedWorkers = 0;
+		long cpuTimeNanos = 0;
+		for (Iterator<Map.Entry<Thread, WorkerState>> iterator = workers.entrySet().iterator(); iterator.hasNext();) {
+			Map.Entry<Thread, WorkerState> entry = iterator.next();
+			Thread thread = entry.getKey();
+			if (!thread.isAlive()) {
+				iterator.remove();
+				lastCpuTimes.remove(thread);
+				continue;
+			}
+			if (entry.getValue().executingTask) {
+				busyWorkers++;
+				if (isBlocked(thread.getState())) {
+					blockedWorkers++;
+				}
+			}
+			if (cpuTimeSupported) {
+				long cpuTime = threadMXBean.getThreadCpuTime(thread.getId());
+				Long lastCpuTime = cpuTime < 0 ? null : lastCpuTimes.put(thread, cpuTime);
+				if (lastCpuTime != null) {
+					cpuTimeNanos += cpuTime - lastCpuTime;
+				}
+			}
+		}
+		double cpuUtilization = cpuTimeSupported
+				? (double) cpuTimeNanos / (Math.max(1, now - lastSampleNanos) * availableProcessors)
+				: Double.NaN;
+		lastSampleNanos = now;
+		return new Sample(busyWorkers, blockedWorkers, cpuUtilization);
+	}
+
+	private static boolean isBlocked(Thread.State state) {
+		return state == Thread.State.BLOCKED || state == Thread.State.WAITING || state == Thread.State.TIMED_WAITING;
+	}
+
+	/**
+	 * Compute the parallelism to use based on the supplied sample.
+	 *
+	 * @param current the current parallelism
+	 * @param min the minimum parallelism
+	 * @param max the maximum parallelism
+	 * @param availableProcessors the number of available processors
+	 * @param sample the current sample
+	 * @return the new parallelism
+	 */
+	static int computeParallelism(int current, int min, int max, int availableProcessors, Sample sample) {
+		int step = Math.max(1, current / 4);
+		boolean cpuSaturated = sample.cpuUtilization() >= CPU_SATURATION_THRESHOLD;
+		boolean mostlyBlocked = sample.busyWorkers() > 0 && 2 * sample.blockedWorkers() >= sample.busyWorkers();
+		boolean underutilized = sample.busyWorkers() >= current
+				&& sample.cpuUtilization() < CPU_UNDERUTILIZATION_THRESHOLD;
+		if (!cpuSaturated && (mostlyBlocked || underutilized)) {
+			return Math.min(max, current + step);
+		}
+		int floor = Math.max(min, Math.min(max, availableProcessors));
+		boolean rarelyBlocked = 10 * sample.blockedWorkers() < sample.busyWorkers();
+		if (cpuSaturated && rarelyBlocked && current > floor) {
+			return Math.max(floor, current - step);
+		}
+		return current;
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+	}
+
+	/**
+	 * Snapshot of the state of the workers of a {@link ForkJoinPool}.
+	 *
+	 * @param busyWorkers the number of workers that are executing a task
+	 * @param blockedWorkers the number of busy workers that are blocked
+	 * @param cpuUtilization the ratio of the CPU time used by all workers
+	 * since the last sample to the available CPU time or {@link Double#NaN}
+	 * if unknown
+	 */
+	record Sample(int busyWorkers, int blockedWorkers, double cpuUtilization) {
+	}
+
+	interface Activity extends AutoCloseable {
+
+		Activity NOOP = () -> {
+		};
+
+		@Override
+		void close();
+	}
+
+	private static final class WorkerState {
+
+		// only accessed by the worker thread itself
+		private final Deque<Boolean> activities = new ArrayDeque<>();
+
+		private volatile boolean executingTask;
+
+		void push(boolean executingTask) {
+			activities.push(executingTask);
+			this.executingTask = executingTask;
+		}
+
+		void pop() {
+			activities.pop();
+			Boolean previous = activities.peek();
+			this.executingTask = previous != null && previous;
+		}
+	}
+
+}
@@ -10,7 +10,6 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.locks.Lock;
@@ -47,16 +46,30 @@ class CompositeLock implements ResourceLock {
 
 	@Override
 	public ResourceLock acquire() throws InterruptedException {
-		ForkJoinPool.managedBlock(new CompositeLockManagedBlocker());
+		// Avoid creating a managed blocker if none of the locks are contended
+		if (!tryAcquire()) {
+			ForkJoinPool.managedBlock(new CompositeLockManagedBlocker());
+		}
 		return this;
 	}
 
+	@Override
+	public boolean tryAcquire() {
+		for (int i = 0; i < this.locks.size(); i++) {
+			if (!this.locks.get(i).tryLock()) {
+				release(i);
+				return false;
+			}
+		}
+		return true;
+	}
+
 	private void acquireAllLocks() throws InterruptedException {
-		List<Lock> acquiredLocks = new ArrayList<>(this.locks.size());
+		int acquiredLocks = 0;
 		try {
 			for (Lock lock : this.locks) {
 				lock.lockInterruptibly();
-				acquiredLocks.add(lock);
+				acquiredLocks++;
 			}
 		}
 		catch (InterruptedException e) {
@@ -67,12 +80,12 @@ class CompositeLock implements ResourceLock {
 
 	@Override
 	public void release() {
-		release(this.locks);
+		release(this.locks.size());
 	}
 
-	private void release(List<Lock> acquiredLocks) {
-		for (int i = acquiredLocks.size() - 1; i >= 0; i--) {
-			acquiredLocks.get(i).unlock();
+	private void release(int numberOfAcquiredLocks) {
+		for (int i = numberOfAcquiredLocks - 1; i >= 0; i--) {
+			this.locks.get(i).unlock();
 		}
 	}
 
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.ToStringBuilder;
+
+/**
+ * {@link ResourceLock} that acquires a permit of each of the supplied
+ * {@linkplain Node#getConcurrencyLimit() concurrency limits} in addition to
+ * the supplied delegate lock.
+ *
+ * <p>The delegate lock is always acquired before the permits, and the permits
+ * are acquired in the order of the supplied list, which is expected to start
+ * with the limit of the outermost ancestor. Since permits are only acquired
+ * by tests that do not wait for other tasks to complete while holding them,
+ * this consistent ordering prevents deadlocks.
+ *
+ * @since 6.0
+ * @see Node#getConcurrencyLimit()
+ */
+class ConcurrencyLimitedLock implements ResourceLock {
+
+	private final ResourceLock delegate;
+	private final List<Semaphore> concurrencyLimits;
+
+	ConcurrencyLimitedLock(ResourceLock delegate, List<Semaphore> concurrencyLimits) {
+		this.delegate = delegate;
+		this.concurrencyLimits = Preconditions.notEmpty(concurrencyLimits, "Concurrency limits must not be empty");
+	}
+
+	// for tests only
+	ResourceLock getDelegate() {
+		return this.delegate;
+	}
+
+	@Override
+	public ResourceLock acquire() throws InterruptedException {
+		this.delegate.acquire();
+		// Avoid creating a managed blocker if none of the limits are exhausted
+		if (!tryAcquirePermits()) {
+			try {
+				ForkJoinPool.managedBlock(new PermitsManagedBlocker());
+			}
+			catch (InterruptedException e) {
+				this.delegate.release();
+				throw e;
+			}
+		}
+		return this;
+	}
+
+	@Override
+	public boolean tryAcquire() {
+		if (!this.delegate.tryAcquire()) {
+			return false;
+		}
+		if (!tryAcquirePermits()) {
+			this.delegate.release();
+			return false;
+		}
+		return true;
+	}
+
+	private boolean tryAcquirePermits() {
+		for (int i = 0; i < this.concurrencyLimits.size(); i++) {
+			if (!this.concurrencyLimits.get(i).tryAcquire()) {
+				releasePermits(i);
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void acquirePermits() throws InterruptedException {
+		int acquiredPermits = 0;
+		try {
+			for (Semaphore concurrencyLimit : this.concurrencyLimits) {
+				concurrencyLimit.acquire();
+				acquiredPermits++;
+			}
+		}
+		catch (InterruptedException e) {
+			releasePermits(acquiredPermits);
+			throw e;
+		}
+	}
+
+	@Override
+	public void release() {
+		releasePermits(this.concurrencyLimits.size());
+		this.delegate.release();
+	}
+
+	private void releasePermits(int numberOfAcquiredPermits) {
+		for (int i = numberOfAcquiredPermits - 1; i >= 0; i--) {
+			this.concurrencyLimits.get(i).release();
+		}
+	}
+
+	@Override
+	public List<ExclusiveResource> getResources() {
+		return this.delegate.getResources();
+	}
+
+	@Override
+	public boolean isExclusive() {
+		return this.delegate.isExclusive();
+	}
+
+	@Override
+	public boolean isCompatible(ResourceLock other) {
+		return this.delegate.isCompatible(other);
+	}
+
+	@Override
+	public String toString() {
+		return new ToStringBuilder(this) //
+				.append("delegate", this.delegate) //
+				.append("concurrencyLimits", this.concurrencyLimits) //
+				.toString();
+	}
+
+	private class PermitsManagedBlocker implements ForkJoinPool.ManagedBlocker {
+
+		private volatile boolean acquired;
+
+		@Override
+		public boolean block() throws InterruptedException {
+			if (!this.acquired) {
+				acquirePermits();
+				this.acquired = true;
+			}
+			return true;
+		}
+
+		@Override
+		public boolean isReleasable() {
+			return this.acquired;
+		}
+
+	}
+
+}
@@ -11,6 +11,7 @@
 package org.junit.platform.engine.support.hierarchical;
 
 import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
 
@@ -89,6 +90,53 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 		}
 	},
 
+	/**
+	 * Starts with a parallelism equal to the number of available
+	 * processors/cores and adjusts it during execution within the bounds of
+	 * the {@value #CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME} and
+	 * {@value #CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME} configuration
+	 * parameters.
+	 *
+	 * <p>The parallelism is increased while most busy worker threads are
+	 * blocked, for example, while waiting to acquire an
+	 * {@linkplain ExclusiveResource exclusive resource} or for I/O in test
+	 * code, and decreased toward the number of available processors while
+	 * the CPU is saturated by the worker threads. Adjusting the parallelism
+	 * requires Java 19 or later; on earlier versions, the initial parallelism
+	 * is retained.
+	 *
+	 * <p>This strategy is only supported by
+	 * {@link ForkJoinPoolHierarchicalTestExecutorService}. Other consumers of
+	 * the returned configuration use its initial parallelism.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	ADAPTIVE {
+		@Override
+		public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
+			int availableProcessors = Runtime.getRuntime().availableProcessors();
+
+			int minParallelism = configurationParameters.get(CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME,
+				Integer::valueOf).orElse(1);
+
+			int maxParallelism = configurationParameters.get(CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME,
+				Integer::valueOf).orElse(Math.max(minParallelism, 4 * availableProcessors));
+
+			Preconditions.condition(minParallelism > 0,
+				() -> "Parallelism '%d' specified via configuration parameter '%s' must be greater than 0".formatted(
+					minParallelism, CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME));
+			Preconditions.condition(maxParallelism >= minParallelism,
+				() -> "Parallelism '%d' specified via configuration parameter '%s' must be greater than or equal to %d".formatted(
+					maxParallelism, CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME, minParallelism));
+
+			int parallelism = Math.max(minParallelism, Math.min(maxParallelism, availableProcessors));
+
+			return new AdaptiveParallelExecutionConfiguration(parallelism, minParallelism, maxParallelism,
+				256 + maxParallelism, KEEP_ALIVE_SECONDS, __ -> true);
+		}
+	},
+
 	/**
 	 * Allows the specification of a custom {@link ParallelExecutionConfigurationStrategy}
 	 * implementation via the mandatory {@value #CONFIG_CUSTOM_CLASS_PROPERTY_NAME}
@@ -118,8 +166,8 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	/**
 	 * Property name used to determine the desired configuration strategy.
 	 *
-	 * <p>Value must be one of {@code dynamic}, {@code fixed}, or
-	 * {@code custom}.
+	 * <p>Value must be one of {@code dynamic}, {@code fixed},
+	 * {@code adaptive}, or {@code custom}.
 	 */
 	public static final String CONFIG_STRATEGY_PROPERTY_NAME = "strategy";
 
@@ -207,6 +255,32 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	@API(status = MAINTAINED, since = "1.13.3")
 	public static final String CONFIG_DYNAMIC_SATURATE_PROPERTY_NAME = "dynamic.saturate";
 
+	/**
+	 * Property name used to determine the minimum parallelism for the
+	 * {@link #ADAPTIVE} configuration strategy.
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 1}.
+	 *
+	 * @since 6.0
+	 * @see #ADAPTIVE
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME = "adaptive.min-parallelism";
+
+	/**
+	 * Property name used to determine the maximum parallelism for the
+	 * {@link #ADAPTIVE} configuration strategy.
+	 *
+	 * <p>Value must be an integer greater than or equal to
+	 * {@value #CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME}; defaults to
+	 * {@code 4 * Runtime.getRuntime().availableProcessors()}.
+	 *
+	 * @since 6.0
+	 * @see #ADAPTIVE
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME = "adaptive.max-parallelism";
+
 	/**
 	 * Property name used to specify the fully qualified class name of the
 	 * {@link ParallelExecutionConfigurationStrategy} to be used by the
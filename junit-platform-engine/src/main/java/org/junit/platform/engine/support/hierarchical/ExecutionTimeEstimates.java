@@ -0,0 +1,96 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestDescriptor;
+
+/**
+ * Execution times of test descriptors recorded during a previous test run
+ * that are used as estimates for the execution times of the current run.
+ *
+ * @since 6.0
+ */
+final class ExecutionTimeEstimates {
+
+	private static final Logger logger = LoggerFactory.getLogger(ExecutionTimeEstimates.class);
+
+	/**
+	 * Property name used to set the path to the file of execution times of a
+	 * previous test run which is defined by
+	 * {@code org.junit.platform.launcher.LauncherConstants#EXECUTION_TIMES_FILE_PROPERTY_NAME}.
+	 */
+	static final String EXECUTION_TIMES_FILE_PROPERTY_NAME = "junit.platform.execution.times.file";
+
+	static final ExecutionTimeEstimates NONE = new ExecutionTimeEstimates(Map.of());
+
+	static ExecutionTimeEstimates load(ConfigurationParameters configurationParameters) {
+		Optional<Path> file = configurationParameters.get(EXECUTION_TIMES_FILE_PROPERTY_NAME, Path::of);
+		return file.filter(Files::isRegularFile).map(ExecutionTimeEstimates::load).orElse(NONE);
+	}
+
+	static ExecutionTimeEstimates load(Path file) {
+		Properties properties = new Properties();
+		try (Reader reader = Files.newBufferedReader(file, UTF_8)) {
+			properties.load(reader);
+		}
+		catch (IOException | IllegalArgumentException ex) {
+			logger.warn(ex, () -> "Failed to read execution times from " + file.toAbsolutePath());
+			return NONE;
+		}
+		Map<String, Long> millisByUniqueId = new HashMap<>(properties.size() * 4 / 3 + 1);
+		properties.forEach((key, value) -> {
+			try {
+				millisByUniqueId.put((String) key, Long.parseLong(((String) value).strip()));
+			}
+			catch (NumberFormatException ex) {
+				logger.debug(() -> "Ignoring invalid execution time for unique ID [%s]: %s".formatted(key, value));
+			}
+		});
+		logger.config(() -> "Loaded %d execution times from %s".formatted(millisByUniqueId.size(), file));
+		return new ExecutionTimeEstimates(millisByUniqueId);
+	}
+
+	private final Map<String, Long> millisByUniqueId;
+
+	private ExecutionTimeEstimates(Map<String, Long> millisByUniqueId) {
+		this.millisByUniqueId = millisByUniqueId;
+	}
+
+	boolean isEmpty() {
+		return this.millisByUniqueId.isEmpty();
+	}
+
+	/**
+	 * {@return the estimated execution time of the supplied test descriptor in
+	 * milliseconds or {@code 0} if it is unknown}
+	 */
+	long getEstimatedMillis(TestDescriptor testDescriptor) {
+		if (isEmpty()) {
+			return 0;
+		}
+		return this.millisByUniqueId.getOrDefault(testDescriptor.getUniqueId().toString(), 0L);
+	}
+
+}
@@ -10,6 +10,7 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static java.util.Comparator.comparingLong;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.apiguardian.api.API.Status.STABLE;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ_WRITE;
@@ -23,8 +24,12 @@ import java.util.ArrayList;
 import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
 import java.util.concurrent.ForkJoinTask;
@@ -58,8 +63,9 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 	final ForkJoinPool forkJoinPool;
 
 	private final TaskEventListener taskEventListener;
-	private final int parallelism;
+	private final @Nullable AdaptiveParallelismController parallelismController;
 	private final ThreadLocal<ThreadLock> threadLocks = ThreadLocal.withInitial(ThreadLock::new);
+	private final DeferredTasks deferredTasks = new DeferredTasks();
 
 	/**
 	 * Create a new {@code ForkJoinPoolHierarchicalTestExecutorService} based on
@@ -86,8 +92,12 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 			TaskEventListener taskEventListener) {
 		forkJoinPool = createForkJoinPool(configuration);
 		this.taskEventListener = taskEventListener;
-		parallelism = forkJoinPool.getParallelism();
-		LoggerFactory.getLogger(getClass()).config(() -> "Using ForkJoinPool with parallelism of " + parallelism);
+		this.parallelismController = configuration instanceof AdaptiveParallelExecutionConfiguration adaptive
+				? AdaptiveParallelismController.start(forkJoinPool, adaptive)
+				: null;
+		int parallelism = forkJoinPool.getParallelism();
+		LoggerFactory.getLogger(getClass()).config(() -> "Using ForkJoinPool with parallelism of " + parallelism
+				+ (parallelismController != null ? " (adaptive)" : ""));
 	}
 
 	private static ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
@@ -144,7 +154,8 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		// can be stolen by otherwise idle workers and the new task takes significantly
 		// longer, parallelism will drop. However, that only happens if the enclosing test
 		// task is the only one remaining which should rarely be the case.
-		if (testTask.getExecutionMode() == CONCURRENT && ForkJoinTask.getSurplusQueuedTaskCount() < parallelism) {
+		if (testTask.getExecutionMode() == CONCURRENT
+				&& ForkJoinTask.getSurplusQueuedTaskCount() < forkJoinPool.getParallelism()) {
 			return exclusiveTask.fork();
 		}
 		exclusiveTask.execSync();
@@ -172,6 +183,7 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 
 	private void forkConcurrentTasks(List<? extends TestTask> tasks, Deque<ExclusiveTask> isolatedTasks,
 			Deque<ExclusiveTask> sameThreadTasks, Deque<ExclusiveTask> concurrentTasksInReverseOrder) {
+		List<ExclusiveTask> concurrentTasks = new ArrayList<>(tasks.size());
 		for (TestTask testTask : tasks) {
 			ExclusiveTask exclusiveTask = new ExclusiveTask(testTask);
 			if (requiresGlobalReadWriteLock(testTask)) {
@@ -181,10 +193,37 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 				sameThreadTasks.add(exclusiveTask);
 			}
 			else {
-				exclusiveTask.fork();
-				concurrentTasksInReverseOrder.addFirst(exclusiveTask);
+				concurrentTasks.add(exclusiveTask);
 			}
 		}
+		sortByEstimatedExecutionTimeDescending(concurrentTasks);
+		for (ExclusiveTask exclusiveTask : concurrentTasks) {
+			exclusiveTask.fork();
+			concurrentTasksInReverseOrder.addFirst(exclusiveTask);
+		}
+	}
+
+	/**
+	 * Sort the supplied tasks so that the ones that took the longest during a
+	 * previous run are forked first.
+	 *
+	 * <p>Tasks forked first end up at the bottom of the current worker's queue
+	 * from where they are stolen first by idle workers while the current worker
+	 * joins the remaining tasks in reverse order. Starting long-running tasks
+	 * early approximates a longest-processing-time-first schedule and thus
+	 * reduces the time the test run spends waiting for a few stragglers.
+	 *
+	 * <p>The sort is stable so that tasks without estimates retain their
+	 * declared order.
+	 *
+	 * @see ExecutionTimeEstimates
+	 */
+	// package-private for testing
+	static void sortByEstimatedExecutionTimeDescending(List<ExclusiveTask> concurrentTasks) {
+		if (concurrentTasks.size() > 1
+				&& concurrentTasks.stream().anyMatch(task -> task.getEstimatedExecutionMillis() > 0)) {
+			concurrentTasks.sort(comparingLong(ExclusiveTask::getEstimatedExecutionMillis).reversed());
+		}
 	}
 
 	private static boolean requiresGlobalReadWriteLock(TestTask testTask) {
@@ -197,26 +236,28 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		}
 	}
 
+	@SuppressWarnings("try")
 	private void joinConcurrentTasksInReverseOrderToEnableWorkStealing(
 			Deque<ExclusiveTask> concurrentTasksInReverseOrder) {
 		for (ExclusiveTask forkedTask : concurrentTasksInReverseOrder) {
-			forkedTask.join();
-			resubmitDeferredTasks();
+			try (AdaptiveParallelismController.Activity ignored = trackActivity(false)) {
+				forkedTask.join();
+			}
+			deferredTasks.resubmitCompatibleTasks(threadLocks.get());
 		}
 	}
 
-	private void resubmitDeferredTasks() {
-		List<ExclusiveTask> deferredTasks = threadLocks.get().deferredTasks;
-		for (ExclusiveTask deferredTask : deferredTasks) {
-			if (!deferredTask.isDone()) {
-				deferredTask.fork();
-			}
-		}
-		deferredTasks.clear();
+	private AdaptiveParallelismController.Activity trackActivity(boolean executingTask) {
+		return parallelismController == null //
+				? AdaptiveParallelismController.Activity.NOOP //
+				: parallelismController.enter(executingTask);
 	}
 
 	@Override
 	public void close() {
+		if (parallelismController != null) {
+			parallelismController.close();
+		}
 		forkJoinPool.shutdownNow();
 	}
 
@@ -230,6 +271,10 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 			this.testTask = testTask;
 		}
 
+		long getEstimatedExecutionMillis() {
+			return testTask instanceof NodeTestTask<?> nodeTestTask ? nodeTestTask.getEstimatedExecutionMillis() : 0;
+		}
+
 		/**
 		 * Always returns {@code null}.
 		 *
@@ -259,28 +304,97 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		@Override
 		public boolean exec() {
 			// Check if this task is compatible with the current resource lock, if there is any.
-			// If not, we put this task in the thread local as a deferred task
-			// and let the worker thread fork it once it is done with the current task.
+			// If not, we queue this task as a deferred task waiting for the incompatible lock
+			// to be released, at which point it will be forked by the releasing worker thread.
 			ResourceLock resourceLock = testTask.getResourceLock();
 			ThreadLock threadLock = threadLocks.get();
-			if (!threadLock.areAllHeldLocksCompatibleWith(resourceLock)) {
-				threadLock.addDeferredTask(this);
+			ResourceLock incompatibleLock = threadLock.findIncompatibleHeldLock(resourceLock);
+			if (incompatibleLock != null) {
+				deferredTasks.add(incompatibleLock, this);
 				taskEventListener.deferred(testTask);
 				// Return false to indicate that this task is not done yet
 				// this means that .join() will wait.
 				return false;
 			}
 			try ( //
-					ResourceLock lock = resourceLock.acquire(); //
 					@SuppressWarnings("unused")
-					ThreadLock.NestedResourceLock nested = threadLock.withNesting(lock) //
+					AdaptiveParallelismController.Activity activity = trackActivity(true) //
 			) {
-				testTask.execute();
-				return true;
+				execute(acquireWhileHelping(resourceLock, threadLock), threadLock);
 			}
 			catch (InterruptedException e) {
 				throw ExceptionUtils.throwAsUncheckedException(e);
 			}
+			return true;
+		}
+
+		@SuppressWarnings("try")
+		private void execute(ResourceLock acquiredLock, ThreadLock threadLock) {
+			try ( //
+					ResourceLock lock = acquiredLock; //
+					@SuppressWarnings("unused")
+					ThreadLock.NestedResourceLock nested = threadLock.withNesting(lock) //
+			) {
+				testTask.execute();
+			}
+			finally {
+				// The resource lock has already been released at this point
+				deferredTasks.resubmitTasksWaitingFor(acquiredLock, threadLock);
+			}
+		}
+
+		/**
+		 * Acquire the supplied lock; while it is contended, execute other
+		 * tasks from this worker's queue instead of blocking.
+		 *
+		 * <p>Only tasks that are compatible with the locks held by the current
+		 * thread and whose own lock can be acquired without blocking are
+		 * executed so that helping can neither defer them nor introduce
+		 * additional lock dependencies. Once there is no such task, this
+		 * method blocks in {@link ResourceLock#acquire()} which uses
+		 * {@link ForkJoinPool#managedBlock} and may thus cause the pool to
+		 * create a compensation thread.
+		 */
+		private ResourceLock acquireWhileHelping(ResourceLock resourceLock, ThreadLock threadLock)
+				throws InterruptedException {
+			if (isAlreadyRunningInForkJoinPool()) {
+				while (!resourceLock.tryAcquire()) {
+					if (!executeNextCompatibleLocalTask(threadLock)) {
+						return resourceLock.acquire();
+					}
+				}
+				return resourceLock;
+			}
+			return resourceLock.acquire();
+		}
+
+		private boolean executeNextCompatibleLocalTask(ThreadLock threadLock) {
+			if (peekNextLocalTask() instanceof ExclusiveTask task
+					&& threadLock.findIncompatibleHeldLock(task.getResourceLock()) == null) {
+				ResourceLock lock = task.getResourceLock();
+				if (lock.tryAcquire()) {
+					if (task.tryUnfork()) {
+						task.executeWithAcquiredLock(lock, threadLock);
+						return true;
+					}
+					lock.release();
+				}
+			}
+			return false;
+		}
+
+		private void executeWithAcquiredLock(ResourceLock lock, ThreadLock threadLock) {
+			try {
+				execute(lock, threadLock);
+				complete(null);
+			}
+			catch (Throwable t) {
+				completeExceptionally(t);
+			}
+		}
+
+		ResourceLock getResourceLock() {
+			return testTask.getResourceLock();
 		}
 
 		@Override
@@ -311,19 +425,24 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 
 	static class ThreadLock {
 		private final Deque<ResourceLock> locks = new ArrayDeque<>(2);
-		private final List<ExclusiveTask> deferredTasks = new ArrayList<>();
-
-		void addDeferredTask(ExclusiveTask task) {
-			deferredTasks.add(task);
-		}
 
 		NestedResourceLock withNesting(ResourceLock lock) {
 			locks.push(lock);
 			return locks::pop;
 		}
 
-		boolean areAllHeldLocksCompatibleWith(ResourceLock lock) {
-			return locks.stream().allMatch(l -> l.isCompatible(lock));
+		/**
+		 * {@return the innermost held lock that is incompatible with the
+		 * supplied lock or {@code null} if all held locks are compatible}
+		 */
+		@Nullable
+		ResourceLock findIncompatibleHeldLock(ResourceLock lock) {
+			for (ResourceLock heldLock : locks) {
+				if (!heldLock.isCompatible(lock)) {
+					return heldLock;
+				}
+			}
+			return null;
 		}
 
 		interface NestedResourceLock extends AutoCloseable {
@@ -332,6 +451,77 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		}
 	}
 
+	/**
+	 * Tasks that were deferred because they were incompatible with a lock held
+	 * by the worker thread that attempted to execute them, queued by the key of
+	 * the first resource of that lock.
+	 *
+	 * <p>Whenever a worker thread releases a lock, the tasks queued for the
+	 * keys of its resources are forked if they are compatible with the locks
+	 * the worker thread still holds. Otherwise, they are moved to the queue of
+	 * the incompatible lock that is still held so they are reconsidered once
+	 * that lock is released.
+	 *
+	 * <p>Queues are added and removed atomically per key so that the queue of
+	 * a key is removed once it has been drained without losing tasks that are
+	 * concurrently added for the same key.
+	 */
+	static class DeferredTasks {
+
+		private final Map<String, Queue<ExclusiveTask>> tasksByResourceKey = new ConcurrentHashMap<>();
+
+		void add(ResourceLock incompatibleLock, ExclusiveTask task) {
+			tasksByResourceKey.compute(queueKey(incompatibleLock), (__, tasks) -> {
+				Queue<ExclusiveTask> result = tasks == null ? new ConcurrentLinkedQueue<>() : tasks;
+				result.add(task);
+				return result;
+			});
+		}
+
+		void resubmitTasksWaitingFor(ResourceLock releasedLock, ThreadLock threadLock) {
+			for (ExclusiveResource resource : releasedLock.getResources()) {
+				Queue<ExclusiveTask> tasks = tasksByResourceKey.get(resource.getKey());
+				if (tasks != null) {
+					resubmitCompatibleTasks(resource.getKey(), tasks, threadLock);
+				}
+			}
+		}
+
+		void resubmitCompatibleTasks(ThreadLock threadLock) {
+			tasksByResourceKey.forEach((key, tasks) -> resubmitCompatibleTasks(key, tasks, threadLock));
+		}
+
+		private void resubmitCompatibleTasks(String key, Queue<ExclusiveTask> tasks, ThreadLock threadLock) {
+			for (ExclusiveTask task : tasks) {
+				if (task.isDone()) {
+					tasks.remove(task);
+					continue;
+				}
+				ResourceLock incompatibleLock = threadLock.findIncompatibleHeldLock(task.getResourceLock());
+				if (incompatibleLock == null) {
+					// Only the thread that manages to remove the task may fork it
+					if (tasks.remove(task)) {
+						task.fork();
+					}
+				}
+				else if (!key.equals(queueKey(incompatibleLock)) && tasks.remove(task)) {
+					add(incompatibleLock, task);
+				}
+			}
+			tasksByResourceKey.computeIfPresent(key, (__, remainingTasks) -> remainingTasks.isEmpty() ? null
+					: remainingTasks);
+		}
+
+		// package-private for testing
+		int size() {
+			return tasksByResourceKey.size();
+		}
+
+		private static String queueKey(ResourceLock lock) {
+			return lock.getResources().get(0).getKey();
+		}
+	}
+
 	interface TaskEventListener {
 
 		TaskEventListener NOOP = __ -> {
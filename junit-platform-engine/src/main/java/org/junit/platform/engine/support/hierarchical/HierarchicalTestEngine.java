@@ -10,6 +10,7 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
 
@@ -29,6 +30,43 @@ import org.junit.platform.engine.TestEngine;
 @API(status = MAINTAINED, since = "1.0")
 public abstract class HierarchicalTestEngine<C extends EngineExecutionContext> implements TestEngine {
 
+	/**
+	 * Property name used to select the implementation of the read-write locks
+	 * that back {@linkplain ExclusiveResource exclusive resources} during
+	 * parallel execution: {@value}
+	 *
+	 * <p>Value must be one of {@code reentrant} or {@code striped}; defaults
+	 * to {@code reentrant}. The {@code striped} implementation counts readers
+	 * in per-thread stripes which reduces contention when many tests acquire
+	 * {@linkplain ExclusiveResource.LockMode#READ read locks} on the same
+	 * resources, for example, the global read lock that all top-level nodes
+	 * acquire by default.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String RESOURCE_LOCK_IMPLEMENTATION_PROPERTY_NAME = "junit.platform.execution.resource-locks.implementation";
+
+	/**
+	 * Property name used to limit the number of dynamic tests registered by
+	 * a single node that may be in flight at the same time: {@value}
+	 *
+	 * <p>If set, a node that attempts to register another dynamic test via
+	 * its {@link Node.DynamicTestExecutor} while the configured number of its
+	 * dynamic tests have been submitted but not yet finished is blocked until
+	 * one of them has finished. This applies back-pressure to nodes that
+	 * generate dynamic tests lazily, for example, from an infinite stream, so
+	 * that they can be executed in parallel without holding on to all
+	 * generated test descriptors until execution has finished.
+	 *
+	 * <p>Value must be a positive integer. If not set, the number of dynamic
+	 * tests in flight is not limited.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String DYNAMIC_TESTS_MAX_IN_FLIGHT_PROPERTY_NAME = "junit.platform.execution.dynamic-tests.max-in-flight";
+
 	public HierarchicalTestEngine() {
 	}
 
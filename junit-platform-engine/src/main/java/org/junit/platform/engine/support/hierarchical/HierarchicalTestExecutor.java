@@ -10,9 +10,11 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import java.util.Locale;
 import java.util.concurrent.Future;
 
 import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestDescriptor;
@@ -50,12 +52,33 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 	Future<@Nullable Void> execute() {
 		TestDescriptor rootTestDescriptor = this.request.getRootTestDescriptor();
 		EngineExecutionListener executionListener = this.request.getEngineExecutionListener();
-		NodeExecutionAdvisor executionAdvisor = new NodeTreeWalker().walk(rootTestDescriptor);
+		LockManager lockManager = new LockManager(getLockImplementation());
+		NodeExecutionAdvisor executionAdvisor = new NodeTreeWalker(lockManager).walk(rootTestDescriptor);
 		NodeTestTaskContext taskContext = new NodeTestTaskContext(executionListener, this.executorService,
-			this.throwableCollectorFactory, executionAdvisor);
+			this.throwableCollectorFactory, executionAdvisor,
+			ExecutionTimeEstimates.load(this.request.getConfigurationParameters()), getMaxDynamicTestsInFlight());
 		NodeTestTask<C> rootTestTask = new NodeTestTask<>(taskContext, rootTestDescriptor);
 		rootTestTask.setParentContext(this.rootContext);
 		return this.executorService.submit(rootTestTask);
 	}
 
+	private int getMaxDynamicTestsInFlight() {
+		return this.request.getConfigurationParameters() //
+				.get(HierarchicalTestEngine.DYNAMIC_TESTS_MAX_IN_FLIGHT_PROPERTY_NAME, value -> {
+					int maxInFlight = Integer.parseInt(value.strip());
+					Preconditions.condition(maxInFlight > 0,
+						() -> "Maximum number of dynamic tests in flight must be greater than zero but was "
+								+ maxInFlight);
+					return maxInFlight;
+				}) //
+				.orElse(Integer.MAX_VALUE);
+	}
+
+	private LockManager.LockImplementation getLockImplementation() {
+		return this.request.getConfigurationParameters() //
+				.get(HierarchicalTestEngine.RESOURCE_LOCK_IMPLEMENTATION_PROPERTY_NAME,
+					value -> LockManager.LockImplementation.valueOf(value.strip().toUpperCase(Locale.ROOT))) //
+				.orElse(LockManager.LockImplementation.REENTRANT);
+	}
+
 }
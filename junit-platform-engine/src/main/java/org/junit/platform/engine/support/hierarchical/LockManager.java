@@ -27,6 +27,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 
 /**
  * @since 1.3
@@ -34,10 +35,16 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 class LockManager {
 
 	private final Map<String, ReadWriteLock> locksByKey = new ConcurrentHashMap<>();
+	private final LockImplementation lockImplementation;
 	private final SingleLock globalReadLock;
 	private final SingleLock globalReadWriteLock;
 
 	public LockManager() {
+		this(LockImplementation.REENTRANT);
+	}
+
+	LockManager(LockImplementation lockImplementation) {
+		this.lockImplementation = lockImplementation;
 		globalReadLock = new SingleLock(GLOBAL_READ, toLock(GLOBAL_READ));
 		globalReadWriteLock = new SingleLock(GLOBAL_READ_WRITE, toLock(GLOBAL_READ_WRITE));
 	}
@@ -92,8 +99,41 @@ class LockManager {
 	}
 
 	private Lock toLock(ExclusiveResource resource) {
-		ReadWriteLock lock = this.locksByKey.computeIfAbsent(resource.getKey(), key -> new ReentrantReadWriteLock());
+		ReadWriteLock lock = this.locksByKey.computeIfAbsent(resource.getKey(),
+			key -> this.lockImplementation.createLock());
 		return resource.getLockMode() == READ ? lock.readLock() : lock.writeLock();
 	}
 
+	/**
+	 * Supported implementations of the {@link ReadWriteLock} backing each
+	 * resource key.
+	 *
+	 * @since 6.0
+	 * @see HierarchicalTestEngine#RESOURCE_LOCK_IMPLEMENTATION_PROPERTY_NAME
+	 */
+	enum LockImplementation {
+
+		/**
+		 * Backs each resource key with a {@link ReentrantReadWriteLock}.
+		 */
+		REENTRANT(ReentrantReadWriteLock::new),
+
+		/**
+		 * Backs each resource key with a {@link StripedReadWriteLock} which
+		 * makes uncontended acquisition of read locks cheaper.
+		 */
+		STRIPED(StripedReadWriteLock::new);
+
+		private final Supplier<ReadWriteLock> lockFactory;
+
+		LockImplementation(Supplier<ReadWriteLock> lockFactory) {
+			this.lockFactory = lockFactory;
+		}
+
+		ReadWriteLock createLock() {
+			return lockFactory.get();
+		}
+
+	}
+
 }
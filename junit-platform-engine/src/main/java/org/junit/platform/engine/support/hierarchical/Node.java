@@ -11,10 +11,12 @@
 package org.junit.platform.engine.support.hierarchical;
 
 import static java.util.Collections.emptySet;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
 import java.util.concurrent.Future;
 
@@ -197,6 +199,38 @@ public interface Node<C extends EngineExecutionContext> {
 		return ExecutionMode.CONCURRENT;
 	}
 
+	/**
+	 * Get the maximum number of descendant tests of this node that may be
+	 * executed concurrently.
+	 *
+	 * <p>In contrast to {@link ExecutionMode#SAME_THREAD}, which forces all
+	 * descendants to be executed sequentially, a concurrency limit allows the
+	 * descendants of this node to be executed in parallel while ensuring that
+	 * at most the specified number of them are executing at the same time.
+	 * Limits declared by nested nodes are enforced in addition to the limits
+	 * of their ancestors.
+	 *
+	 * <p>The limit applies to descendants of type
+	 * {@link TestDescriptor.Type#TEST TEST}, including dynamically registered
+	 * ones, and is enforced by all {@link HierarchicalTestExecutorService}
+	 * implementations that acquire the {@link ResourceLock} of a task prior
+	 * to executing it.
+	 *
+	 * <p>The default implementation returns an empty {@link OptionalInt},
+	 * meaning that the number of concurrently executing descendants is only
+	 * limited by the configured parallelism.
+	 *
+	 * @return the maximum number of concurrently executing descendant tests;
+	 * never {@code null} but potentially empty; if present, the value must be
+	 * greater than zero
+	 * @since 6.0
+	 * @see ExecutionMode
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0", consumers = "org.junit.platform.engine.support.hierarchical")
+	default OptionalInt getConcurrencyLimit() {
+		return OptionalInt.empty();
+	}
+
 	/**
 	 * The result of determining whether the execution of a given {@code context}
 	 * should be <em>skipped</em>.
@@ -10,9 +10,12 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Semaphore;
 
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
@@ -24,6 +27,7 @@ class NodeExecutionAdvisor {
 
 	private final Map<TestDescriptor, ExecutionMode> forcedDescendantExecutionModeByTestDescriptor = new HashMap<>();
 	private final Map<TestDescriptor, ResourceLock> resourceLocksByTestDescriptor = new HashMap<>();
+	private final Map<TestDescriptor, Semaphore> concurrencyLimitsByTestDescriptor = new HashMap<>();
 
 	void forceDescendantExecutionMode(TestDescriptor testDescriptor, ExecutionMode executionMode) {
 		forcedDescendantExecutionModeByTestDescriptor.put(testDescriptor, executionMode);
@@ -33,6 +37,15 @@ class NodeExecutionAdvisor {
 		resourceLocksByTestDescriptor.put(testDescriptor, resourceLock);
 	}
 
+	void useConcurrencyLimit(TestDescriptor testDescriptor, Semaphore concurrencyLimit) {
+		concurrencyLimitsByTestDescriptor.put(testDescriptor, concurrencyLimit);
+	}
+
+	void enforceConcurrencyLimits(TestDescriptor testDescriptor, List<Semaphore> concurrencyLimits) {
+		ResourceLock resourceLock = resourceLocksByTestDescriptor.getOrDefault(testDescriptor, NopLock.INSTANCE);
+		resourceLocksByTestDescriptor.put(testDescriptor, new ConcurrencyLimitedLock(resourceLock, concurrencyLimits));
+	}
+
 	void removeResourceLock(TestDescriptor testDescriptor) {
 		resourceLocksByTestDescriptor.remove(testDescriptor);
 	}
@@ -50,6 +63,34 @@ class NodeExecutionAdvisor {
 	}
 
 	ResourceLock getResourceLock(TestDescriptor testDescriptor) {
-		return resourceLocksByTestDescriptor.getOrDefault(testDescriptor, NopLock.INSTANCE);
+		ResourceLock resourceLock = resourceLocksByTestDescriptor.get(testDescriptor);
+		if (resourceLock != null) {
+			return resourceLock;
+		}
+		// Dynamic tests are not known in advance, so their limits are looked up on demand
+		if (!concurrencyLimitsByTestDescriptor.isEmpty() && testDescriptor.getType() == TestDescriptor.Type.TEST) {
+			List<Semaphore> concurrencyLimits = getConcurrencyLimitsOfAncestors(testDescriptor);
+			if (!concurrencyLimits.isEmpty()) {
+				return new ConcurrencyLimitedLock(NopLock.INSTANCE, concurrencyLimits);
+			}
+		}
+		return NopLock.INSTANCE;
+	}
+
+	/**
+	 * {@return the concurrency limits declared by the ancestors of the
+	 * supplied test descriptor, starting with the outermost ancestor}
+	 */
+	private List<Semaphore> getConcurrencyLimitsOfAncestors(TestDescriptor testDescriptor) {
+		List<Semaphore> concurrencyLimits = new ArrayList<>();
+		Optional<TestDescriptor> ancestor = testDescriptor.getParent();
+		while (ancestor.isPresent()) {
+			Semaphore concurrencyLimit = concurrencyLimitsByTestDescriptor.get(ancestor.get());
+			if (concurrencyLimit != null) {
+				concurrencyLimits.add(0, concurrencyLimit);
+			}
+			ancestor = ancestor.get().getParent();
+		}
+		return concurrencyLimits;
 	}
 }
@@ -10,10 +10,10 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static java.util.Collections.emptyList;
 import static java.util.Objects.requireNonNull;
 import static java.util.Objects.requireNonNullElse;
 import static java.util.concurrent.CompletableFuture.completedFuture;
-import static java.util.stream.Collectors.toCollection;
 import static org.junit.platform.engine.TestExecutionResult.failed;
 
 import java.util.ArrayList;
@@ -24,6 +24,10 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.JUnitException;
@@ -86,6 +90,16 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 				.orElseGet(node::getExecutionMode);
 	}
 
+	/**
+	 * {@return the execution time of this task's test descriptor in
+	 * milliseconds as recorded by a previous run or {@code 0} if unknown}
+	 *
+	 * @see ExecutionTimeEstimates
+	 */
+	long getEstimatedExecutionMillis() {
+		return taskContext.executionTimeEstimates().getEstimatedMillis(testDescriptor);
+	}
+
 	@Override
 	public String toString() {
 		return "NodeTestTask [" + testDescriptor + "]";
@@ -149,32 +163,53 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 
 		var throwableCollector = requiredThrowableCollector();
 
-		throwableCollector.execute(() -> {
-			node.around(requiredContext(), ctx -> {
-				context = ctx;
-				throwableCollector.execute(() -> {
-					// @formatter:off
-					List<NodeTestTask<C>> children = testDescriptor.getChildren().stream()
-							.map(descriptor -> new NodeTestTask<C>(taskContext, descriptor))
-							.collect(toCollection(ArrayList::new));
-					// @formatter:on
+		if (NodeUtils.overridesAround(node)) {
+			throwableCollector.execute(() -> {
+				node.around(requiredContext(), ctx -> {
+					context = ctx;
+					executeBehavior(throwableCollector);
+				});
+			});
+		}
+		else {
+			// Avoid allocating an invocation if the default implementation is used
+			executeBehavior(throwableCollector);
+		}
+	}
 
-					context = node.before(requiredContext());
+	private void executeBehavior(ThrowableCollector throwableCollector) {
+		throwableCollector.execute(this::executeNodeAndChildren);
+		throwableCollector.execute(() -> node.after(requiredContext()));
+	}
 
-					final DynamicTestExecutor dynamicTestExecutor = new DefaultDynamicTestExecutor();
-					context = node.execute(requiredContext(), dynamicTestExecutor);
+	private void executeNodeAndChildren() throws Exception {
+		List<NodeTestTask<C>> children = createChildTasks();
 
-					if (!children.isEmpty()) {
-						children.forEach(child -> child.setParentContext(context));
-						taskContext.executorService().invokeAll(children);
-					}
+		context = node.before(requiredContext());
 
-					throwableCollector.execute(dynamicTestExecutor::awaitFinished);
-				});
+		final DefaultDynamicTestExecutor dynamicTestExecutor = new DefaultDynamicTestExecutor();
+		context = node.execute(requiredContext(), dynamicTestExecutor);
 
-				throwableCollector.execute(() -> node.after(requiredContext()));
-			});
-		});
+		if (!children.isEmpty()) {
+			children.forEach(child -> child.setParentContext(context));
+			taskContext.executorService().invokeAll(children);
+		}
+
+		if (dynamicTestExecutor.hasSubmittedTasks()) {
+			requiredThrowableCollector().execute(dynamicTestExecutor::awaitFinished);
+		}
+	}
+
+	private List<NodeTestTask<C>> createChildTasks() {
+		Set<? extends TestDescriptor> childDescriptors = testDescriptor.getChildren();
+		if (childDescriptors.isEmpty()) {
+			return emptyList();
+		}
+		List<NodeTestTask<C>> children = new ArrayList<>(childDescriptors.size());
+		for (TestDescriptor descriptor : childDescriptors) {
+			children.add(new NodeTestTask<>(taskContext, descriptor));
+		}
+		return children;
 	}
 
 	private void cleanUp() {
@@ -202,15 +237,16 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 			// Call executionStarted first to comply with the contract of EngineExecutionListener.
 			taskContext.listener().executionStarted(testDescriptor);
 		}
+		var result = throwableCollector.toTestExecutionResult();
 		try {
-			node.nodeFinished(requiredContext(), testDescriptor, throwableCollector.toTestExecutionResult());
+			node.nodeFinished(requiredContext(), testDescriptor, result);
 		}
 		catch (Throwable throwable) {
 			UnrecoverableExceptions.rethrowIfUnrecoverable(throwable);
 			logger.debug(throwable,
 				() -> "Failed to invoke nodeFinished() on Node %s".formatted(testDescriptor.getUniqueId()));
 		}
-		taskContext.listener().executionFinished(testDescriptor, throwableCollector.toTestExecutionResult());
+		taskContext.listener().executionFinished(testDescriptor, result);
 		this.throwableCollector = null;
 	}
 
@@ -227,7 +263,31 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 	}
 
 	private class DefaultDynamicTestExecutor implements DynamicTestExecutor {
-		private final Map<UniqueId, DynamicTaskState> unfinishedTasks = new ConcurrentHashMap<>();
+
+		// created lazily since most nodes never submit dynamic tests
+		private volatile @Nullable Map<UniqueId, DynamicTaskState> unfinishedTasks;
+
+		private final @Nullable Semaphore inFlightPermits = taskContext.maxDynamicTestsInFlight() == Integer.MAX_VALUE
+				? null
+				: new Semaphore(taskContext.maxDynamicTestsInFlight());
+
+		boolean hasSubmittedTasks() {
+			return unfinishedTasks != null;
+		}
+
+		private Map<UniqueId, DynamicTaskState> getOrCreateUnfinishedTasks() {
+			Map<UniqueId, DynamicTaskState> tasks = unfinishedTasks;
+			if (tasks == null) {
+				synchronized (this) {
+					tasks = unfinishedTasks;
+					if (tasks == null) {
+						tasks = new ConcurrentHashMap<>();
+						unfinishedTasks = tasks;
+					}
+				}
+			}
+			return tasks;
+		}
 
 		@Override
 		public void execute(TestDescriptor testDescriptor) {
@@ -249,18 +309,78 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 			}
 			else {
 				UniqueId uniqueId = testDescriptor.getUniqueId();
+				Map<UniqueId, DynamicTaskState> unfinishedTasks = getOrCreateUnfinishedTasks();
+				acquireInFlightPermit(unfinishedTasks);
+				// Called by the task once it has been executed or by the returned
+				// future if it is cancelled before the task has been executed
+				AtomicBoolean finished = new AtomicBoolean();
+				Runnable finalizer = () -> {
+					if (finished.compareAndSet(false, true)) {
+						unfinishedTasks.remove(uniqueId);
+						releaseInFlightPermit();
+					}
+				};
 				NodeTestTask<C> nodeTestTask = new NodeTestTask<>(taskContext.withListener(executionListener),
-					testDescriptor, () -> unfinishedTasks.remove(uniqueId));
+					testDescriptor, finalizer);
 				nodeTestTask.setParentContext(context);
 				unfinishedTasks.put(uniqueId, DynamicTaskState.unscheduled());
 				Future<@Nullable Void> future = taskContext.executorService().submit(nodeTestTask);
 				unfinishedTasks.computeIfPresent(uniqueId, (__, state) -> DynamicTaskState.scheduled(future));
-				return future;
+				return new FinalizingFuture(future, finalizer);
+			}
+		}
+
+		/**
+		 * Acquire a permit for submitting another dynamic test if the number
+		 * of dynamic tests in flight is limited, waiting for submitted ones
+		 * to finish while all permits are in use.
+		 */
+		private void acquireInFlightPermit(Map<UniqueId, DynamicTaskState> unfinishedTasks) {
+			Semaphore inFlightPermits = this.inFlightPermits;
+			if (inFlightPermits == null) {
+				return;
+			}
+			try {
+				while (!inFlightPermits.tryAcquire()) {
+					// Wait for a scheduled task rather than blocking on the semaphore so
+					// that executor services can use the waiting thread to execute tasks
+					DynamicTaskState scheduledTask = unfinishedTasks.values().stream() //
+							.filter(DynamicTaskState::isPending) //
+							.findFirst() //
+							.orElse(null);
+					if (scheduledTask == null) {
+						inFlightPermits.acquire();
+						return;
+					}
+					try {
+						scheduledTask.awaitFinished();
+					}
+					catch (CancellationException ignore) {
+						// Futures returned by execute() may have been cancelled
+					}
+					catch (ExecutionException e) {
+						throw ExceptionUtils.throwAsUncheckedException(requireNonNullElse(e.getCause(), e));
+					}
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw ExceptionUtils.throwAsUncheckedException(e);
+			}
+		}
+
+		private void releaseInFlightPermit() {
+			if (this.inFlightPermits != null) {
+				this.inFlightPermits.release();
 			}
 		}
 
 		@Override
 		public void awaitFinished() throws InterruptedException {
+			Map<UniqueId, DynamicTaskState> unfinishedTasks = this.unfinishedTasks;
+			if (unfinishedTasks == null) {
+				return;
+			}
 			for (DynamicTaskState state : unfinishedTasks.values()) {
 				try {
 					state.awaitFinished();
@@ -275,21 +395,77 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 		}
 	}
 
-	@FunctionalInterface
-	private interface DynamicTaskState {
+	private record DynamicTaskState(@Nullable Future<@Nullable Void> future) {
 
-		DynamicTaskState UNSCHEDULED = () -> {
-		};
+		private static final DynamicTaskState UNSCHEDULED = new DynamicTaskState(null);
 
 		static DynamicTaskState unscheduled() {
 			return UNSCHEDULED;
 		}
 
 		static DynamicTaskState scheduled(Future<@Nullable Void> future) {
-			return future::get;
+			return new DynamicTaskState(future);
+		}
+
+		/**
+		 * Determine whether the task has been scheduled and is not done yet.
+		 */
+		boolean isPending() {
+			return this.future != null && !this.future.isDone();
+		}
+
+		void awaitFinished() throws CancellationException, ExecutionException, InterruptedException {
+			if (this.future != null) {
+				this.future.get();
+			}
+		}
+	}
+
+	/**
+	 * {@link Future} of a dynamic test that calls the task's finalizer if it
+	 * is cancelled since the task itself may never be executed in that case.
+	 *
+	 * @since 6.0
+	 */
+	private static final class FinalizingFuture implements Future<@Nullable Void> {
+
+		private final Future<@Nullable Void> delegate;
+		private final Runnable finalizer;
+
+		FinalizingFuture(Future<@Nullable Void> delegate, Runnable finalizer) {
+			this.delegate = delegate;
+			this.finalizer = finalizer;
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			boolean cancelled = this.delegate.cancel(mayInterruptIfRunning);
+			if (cancelled) {
+				this.finalizer.run();
+			}
+			return cancelled;
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return this.delegate.isCancelled();
 		}
 
-		void awaitFinished() throws CancellationException, ExecutionException, InterruptedException;
+		@Override
+		public boolean isDone() {
+			return this.delegate.isDone();
+		}
+
+		@Override
+		public @Nullable Void get() throws InterruptedException, ExecutionException {
+			return this.delegate.get();
+		}
+
+		@Override
+		public @Nullable Void get(long timeout, TimeUnit unit)
+				throws InterruptedException, ExecutionException, TimeoutException {
+			return this.delegate.get(timeout, unit);
+		}
 	}
 
 }
@@ -16,13 +16,15 @@ import org.junit.platform.engine.EngineExecutionListener;
  * @since 1.3.1
  */
 record NodeTestTaskContext(EngineExecutionListener listener, HierarchicalTestExecutorService executorService,
-		ThrowableCollector.Factory throwableCollectorFactory, NodeExecutionAdvisor executionAdvisor) {
+		ThrowableCollector.Factory throwableCollectorFactory, NodeExecutionAdvisor executionAdvisor,
+		ExecutionTimeEstimates executionTimeEstimates, int maxDynamicTestsInFlight) {
 
 	NodeTestTaskContext withListener(EngineExecutionListener listener) {
 		if (this.listener == listener) {
 			return this;
 		}
-		return new NodeTestTaskContext(listener, executorService, throwableCollectorFactory, executionAdvisor);
+		return new NodeTestTaskContext(listener, executorService, throwableCollectorFactory, executionAdvisor,
+			executionTimeEstimates, maxDynamicTestsInFlight);
 	}
 
 }
@@ -14,8 +14,12 @@ import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.G
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ_WRITE;
 import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.SAME_THREAD;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.OptionalInt;
 import java.util.Set;
+import java.util.concurrent.Semaphore;
 import java.util.function.Consumer;
 
 import org.junit.platform.commons.util.Preconditions;
@@ -45,9 +49,32 @@ class NodeTreeWalker {
 			"Engine descriptor must not declare exclusive resources");
 		NodeExecutionAdvisor advisor = new NodeExecutionAdvisor();
 		rootDescriptor.getChildren().forEach(child -> walk(child, child, advisor));
+		applyConcurrencyLimits(rootDescriptor, List.of(), advisor);
 		return advisor;
 	}
 
+	private void applyConcurrencyLimits(TestDescriptor testDescriptor, List<Semaphore> ancestorConcurrencyLimits,
+			NodeExecutionAdvisor advisor) {
+
+		List<Semaphore> concurrencyLimits = ancestorConcurrencyLimits;
+		OptionalInt concurrencyLimit = NodeUtils.asNode(testDescriptor).getConcurrencyLimit();
+		if (concurrencyLimit.isPresent()) {
+			int permits = concurrencyLimit.getAsInt();
+			Preconditions.condition(permits > 0,
+				() -> "Concurrency limit of %s must be greater than zero but was %d".formatted(testDescriptor, permits));
+			Semaphore semaphore = new Semaphore(permits);
+			advisor.useConcurrencyLimit(testDescriptor, semaphore);
+			concurrencyLimits = new ArrayList<>(ancestorConcurrencyLimits);
+			concurrencyLimits.add(semaphore);
+		}
+		if (!concurrencyLimits.isEmpty() && testDescriptor.getType() == TestDescriptor.Type.TEST) {
+			advisor.enforceConcurrencyLimits(testDescriptor, concurrencyLimits);
+		}
+		for (TestDescriptor child : testDescriptor.getChildren()) {
+			applyConcurrencyLimits(child, concurrencyLimits, advisor);
+		}
+	}
+
 	private void walk(TestDescriptor globalLockDescriptor, TestDescriptor testDescriptor,
 			NodeExecutionAdvisor advisor) {
 
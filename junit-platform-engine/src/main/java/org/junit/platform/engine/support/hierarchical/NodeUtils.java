@@ -10,6 +10,9 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import java.lang.reflect.Method;
+
+import org.junit.platform.commons.function.Try;
 import org.junit.platform.engine.TestDescriptor;
 
 /**
@@ -26,8 +29,33 @@ final class NodeUtils {
 		return (testDescriptor instanceof Node node ? node : noOpNode);
 	}
 
+	/**
+	 * {@return whether the supplied node overrides
+	 * {@link Node#around(EngineExecutionContext, Node.Invocation)}}
+	 *
+	 * <p>Nodes that use the default implementation can be executed without
+	 * allocating an {@link Node.Invocation} per execution.
+	 *
+	 * @since 6.0
+	 */
+	static boolean overridesAround(Node<?> node) {
+		return aroundOverridden.get(node.getClass());
+	}
+
 	@SuppressWarnings("rawtypes")
 	private static final Node noOpNode = new Node() {
 	};
 
+	private static final ClassValue<Boolean> aroundOverridden = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			// Overriding methods declare a bridge method with the erased signature
+			return Try.call(() -> type.getMethod("around", EngineExecutionContext.class, Node.Invocation.class)) //
+					.toOptional() //
+					.map(Method::getDeclaringClass) //
+					.map(declaringClass -> declaringClass != Node.class) //
+					.orElse(true);
+		}
+	};
+
 }
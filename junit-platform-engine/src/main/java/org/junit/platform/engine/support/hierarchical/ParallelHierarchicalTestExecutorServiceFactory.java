@@ -0,0 +1,103 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.Locale;
+
+import org.apiguardian.api.API;
+import org.junit.platform.engine.ConfigurationParameters;
+
+/**
+ * Factory for {@linkplain HierarchicalTestExecutorService executor services}
+ * that execute {@linkplain HierarchicalTestExecutorService.TestTask test tasks}
+ * in parallel.
+ *
+ * <p>The kind of executor service is selected via the
+ * {@value #CONFIG_EXECUTOR_SERVICE_PROPERTY_NAME} configuration parameter.
+ *
+ * @since 6.0
+ * @see ParallelExecutorServiceType
+ * @see ForkJoinPoolHierarchicalTestExecutorService
+ * @see VirtualThreadHierarchicalTestExecutorService
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public final class ParallelHierarchicalTestExecutorServiceFactory {
+
+	/**
+	 * Property name used to determine the desired
+	 * {@linkplain ParallelExecutorServiceType executor service type}.
+	 *
+	 * <p>Value must be one of {@code fork_join_pool} or
+	 * {@code virtual_threads}; defaults to {@code fork_join_pool}.
+	 */
+	public static final String CONFIG_EXECUTOR_SERVICE_PROPERTY_NAME = "executor-service";
+
+	private ParallelHierarchicalTestExecutorServiceFactory() {
+		/* no-op */
+	}
+
+	/**
+	 * Create a new {@link HierarchicalTestExecutorService} based on the
+	 * supplied {@link ConfigurationParameters}.
+	 *
+	 * @param configurationParameters the configuration parameters to use;
+	 * never {@code null}
+	 * @return a new executor service; never {@code null}
+	 * @see #CONFIG_EXECUTOR_SERVICE_PROPERTY_NAME
+	 */
+	public static HierarchicalTestExecutorService create(ConfigurationParameters configurationParameters) {
+		ParallelExecutorServiceType type = configurationParameters.get(CONFIG_EXECUTOR_SERVICE_PROPERTY_NAME,
+			value -> ParallelExecutorServiceType.valueOf(value.strip().toUpperCase(Locale.ROOT))) //
+				.orElse(ParallelExecutorServiceType.FORK_JOIN_POOL);
+		return type.createExecutorService(configurationParameters);
+	}
+
+	/**
+	 * Supported types of parallel executor services.
+	 */
+	public enum ParallelExecutorServiceType {
+
+		/**
+		 * Executes tasks in a {@link java.util.concurrent.ForkJoinPool} whose
+		 * parallelism is determined by a
+		 * {@link ParallelExecutionConfigurationStrategy}.
+		 *
+		 * @see ForkJoinPoolHierarchicalTestExecutorService
+		 * @see DefaultParallelExecutionConfigurationStrategy
+		 */
+		FORK_JOIN_POOL {
+			@Override
+			HierarchicalTestExecutorService createExecutorService(ConfigurationParameters configurationParameters) {
+				return new ForkJoinPoolHierarchicalTestExecutorService(configurationParameters);
+			}
+		},
+
+		/**
+		 * Executes each concurrent task in its own virtual thread; requires
+		 * Java 21 or later.
+		 *
+		 * @see VirtualThreadHierarchicalTestExecutorService
+		 */
+		VIRTUAL_THREADS {
+			@Override
+			HierarchicalTestExecutorService createExecutorService(ConfigurationParameters configurationParameters) {
+				return new VirtualThreadHierarchicalTestExecutorService();
+			}
+		};
+
+		abstract HierarchicalTestExecutorService createExecutorService(
+				ConfigurationParameters configurationParameters);
+
+	}
+
+}
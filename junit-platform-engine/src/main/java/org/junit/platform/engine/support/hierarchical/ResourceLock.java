@@ -10,6 +10,7 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.util.List;
@@ -36,6 +37,26 @@ public interface ResourceLock extends AutoCloseable {
 	 */
 	ResourceLock acquire() throws InterruptedException;
 
+	/**
+	 * Try to acquire this resource lock without blocking.
+	 *
+	 * <p>Executor services may use this method to detect contention and
+	 * execute other tasks instead of blocking the current thread. If this
+	 * method returns {@code true}, the lock has been acquired and must be
+	 * {@linkplain #release() released} by the caller.
+	 *
+	 * <p>The default implementation returns {@code false} which causes callers
+	 * to fall back to {@link #acquire()}. Concrete implementations are
+	 * encouraged to override this method.
+	 *
+	 * @return {@code true} if the lock was acquired; {@code false} otherwise
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	default boolean tryAcquire() {
+		return false;
+	}
+
 	/**
 	 * Release this resource lock.
 	 */
@@ -44,10 +44,18 @@ class SingleLock implements ResourceLock {
 
 	@Override
 	public ResourceLock acquire() throws InterruptedException {
-		ForkJoinPool.managedBlock(new SingleLockManagedBlocker());
+		// Avoid creating a managed blocker if the lock is not contended
+		if (!tryAcquire()) {
+			ForkJoinPool.managedBlock(new SingleLockManagedBlocker());
+		}
 		return this;
 	}
 
+	@Override
+	public boolean tryAcquire() {
+		return this.lock.tryLock();
+	}
+
 	@Override
 	public void release() {
 		this.lock.unlock();
@@ -0,0 +1,427 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.ExceptionUtils;
+
+/**
+ * {@link ReadWriteLock} implementation optimized for resources that are
+ * predominantly locked in {@linkplain ExclusiveResource.LockMode#READ read
+ * mode}.
+ *
+ * <p>Readers are counted in cache-line padded stripes that are selected per
+ * thread so that acquiring and releasing the read lock neither contends on a
+ * single shared counter nor allocates (apart from the per-thread bookkeeping
+ * that is created when a thread acquires the read lock for the first time).
+ * Writers are serialized via a {@link ReentrantLock}, announce themselves to
+ * readers, and wait until all stripes are empty. Readers that observe a writer
+ * back off and wait for the writer to finish unless they already hold the read
+ * lock, in which case they may reacquire it to avoid deadlocks.
+ *
+ * <p>Analogous to {@link java.util.concurrent.locks.ReentrantReadWriteLock},
+ * only the write lock supports {@linkplain Lock#newCondition() conditions}.
+ *
+ * @since 6.0
+ * @see LockManager.LockImplementation#STRIPED
+ */
+class StripedReadWriteLock implements ReadWriteLock {
+
+	// 16 ints occupy a typical 64-byte cache line
+	private static final int PADDING = 16;
+	private static final int MAX_STRIPES = 64;
+	private static final long WRITER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+	private final AtomicIntegerArray readers;
+	private final int stripeMask;
+	private final ReentrantLock writerLock = new ReentrantLock();
+	private final ThreadLocal<ReadHolds> readHolds = ThreadLocal.withInitial(this::newReadHolds);
+	private final Lock readLock = new ReadLock();
+	private final WriteLock writeLock = new WriteLock();
+
+	private volatile boolean writerActive;
+
+	@Nullable
+	private volatile Thread waitingWriter;
+
+	StripedReadWriteLock() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	StripedReadWriteLock(int parallelism) {
+		int stripes = Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, parallelism - 1) << 1));
+		this.readers = new AtomicIntegerArray(stripes * PADDING);
+		this.stripeMask = stripes - 1;
+	}
+
+	@Override
+	public Lock readLock() {
+		return readLock;
+	}
+
+	@Override
+	public Lock writeLock() {
+		return writeLock;
+	}
+
+	private ReadHolds newReadHolds() {
+		int hash = System.identityHashCode(Thread.currentThread());
+		hash ^= (hash >>> 16);
+		return new ReadHolds((hash & stripeMask) * PADDING);
+	}
+
+	private boolean hasReaders() {
+		for (int i = 0; i < readers.length(); i += PADDING) {
+			if (readers.get(i) != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void releaseStripe(int index) {
+		readers.decrementAndGet(index);
+		if (writerActive) {
+			Thread writer = waitingWriter;
+			if (writer != null) {
+				LockSupport.unpark(writer);
+			}
+		}
+	}
+
+	private static final class ReadHolds {
+
+		final int index;
+		int count;
+
+		ReadHolds(int index) {
+			this.index = index;
+		}
+	}
+
+	private final class ReadLock implements Lock {
+
+		@Override
+		public void lock() {
+			acquire(false);
+		}
+
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			acquire(true);
+		}
+
+		private void acquire(boolean interruptibly) {
+			ReadHolds holds = readHolds.get();
+			if (holds.count > 0 || writerLock.isHeldByCurrentThread()) {
+				holds.count++;
+				if (holds.count == 1) {
+					readers.incrementAndGet(holds.index);
+				}
+				return;
+			}
+			while (true) {
+				readers.incrementAndGet(holds.index);
+				if (!writerActive) {
+					holds.count = 1;
+					return;
+				}
+				releaseStripe(holds.index);
+				awaitWriter(interruptibly);
+			}
+		}
+
+		private void awaitWriter(boolean interruptibly) {
+			if (interruptibly) {
+				try {
+					writerLock.lockInterruptibly();
+				}
+				catch (InterruptedException e) {
+					throw ExceptionUtils.throwAsUncheckedException(e);
+				}
+			}
+			else {
+				writerLock.lock();
+			}
+			writerLock.unlock();
+		}
+
+		@Override
+		public boolean tryLock() {
+			ReadHolds holds = readHolds.get();
+			if (holds.count > 0 || writerLock.isHeldByCurrentThread()) {
+				acquire(false);
+				return true;
+			}
+			readers.incrementAndGet(holds.index);
+			if (writerActive) {
+				releaseStripe(holds.index);
+				return false;
+			}
+			holds.count = 1;
+			return true;
+		}
+
+		@Override
+		public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+			long deadline = System.nanoTime() + unit.toNanos(time);
+			if (Thread.interrupted()) {
+				throw new InterruptedException();
+			}
+			ReadHolds holds = readHolds.get();
+			if (holds.count > 0 || writerLock.isHeldByCurrentThread()) {
+				acquire(false);
+				return true;
+			}
+			while (true) {
+				readers.incrementAndGet(holds.index);
+				if (!writerActive) {
+					holds.count = 1;
+					return true;
+				}
+				releaseStripe(holds.index);
+				// Wait for the active writer until the deadline
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0 || !writerLock.tryLock(remaining, NANOSECONDS)) {
+					return false;
+				}
+				writerLock.unlock();
+			}
+		}
+
+		@Override
+		public void unlock() {
+			ReadHolds holds = readHolds.get();
+			if (holds.count <= 0) {
+				throw new IllegalMonitorStateException("Current thread does not hold the read lock");
+			}
+			if (--holds.count == 0) {
+				releaseStripe(holds.index);
+			}
+		}
+
+		/**
+		 * Always throws {@link UnsupportedOperationException} since, as for
+		 * {@link java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock},
+		 * read locks do not support conditions.
+		 */
+		@Override
+		public Condition newCondition() {
+			throw new UnsupportedOperationException("Read locks do not support conditions");
+		}
+	}
+
+	private final class WriteLock implements Lock {
+
+		@Override
+		public void lock() {
+			writerLock.lock();
+			announceAndAwaitReaders(false);
+		}
+
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			writerLock.lockInterruptibly();
+			announceAndAwaitReaders(true);
+		}
+
+		private void announceAndAwaitReaders(boolean interruptibly) {
+			if (writerLock.getHoldCount() > 1) {
+				return;
+			}
+			awaitReaders(interruptibly);
+		}
+
+		private void awaitReaders(boolean interruptibly) {
+			waitingWriter = Thread.currentThread();
+			writerActive = true;
+			boolean interrupted = false;
+			while (hasReaders()) {
+				LockSupport.parkNanos(this, WRITER_PARK_NANOS);
+				if (Thread.interrupted()) {
+					if (interruptibly) {
+						waitingWriter = null;
+						writerActive = false;
+						writerLock.unlock();
+						throw ExceptionUtils.throwAsUncheckedException(new InterruptedException());
+					}
+					interrupted = true;
+				}
+			}
+			waitingWriter = null;
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		@Override
+		public boolean tryLock() {
+			if (!writerLock.tryLock()) {
+				return false;
+			}
+			if (writerLock.getHoldCount() > 1) {
+				return true;
+			}
+			writerActive = true;
+			if (hasReaders()) {
+				writerActive = false;
+				writerLock.unlock();
+				return false;
+			}
+			return true;
+		}
+
+		@Override
+		public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+			long deadline = System.nanoTime() + unit.toNanos(time);
+			if (!writerLock.tryLock(time, unit)) {
+				return false;
+			}
+			if (writerLock.getHoldCount() > 1) {
+				return true;
+			}
+			waitingWriter = Thread.currentThread();
+			writerActive = true;
+			while (hasReaders()) {
+				long remaining = deadline - System.nanoTime();
+				boolean interrupted = Thread.interrupted();
+				if (remaining <= 0 || interrupted) {
+					waitingWriter = null;
+					writerActive = false;
+					writerLock.unlock();
+					if (interrupted) {
+						throw new InterruptedException();
+					}
+					return false;
+				}
+				LockSupport.parkNanos(this, Math.min(remaining, WRITER_PARK_NANOS));
+			}
+			waitingWriter = null;
+			return true;
+		}
+
+		@Override
+		public void unlock() {
+			if (writerLock.isHeldByCurrentThread() && writerLock.getHoldCount() == 1) {
+				writerActive = false;
+			}
+			writerLock.unlock();
+		}
+
+		@Override
+		public Condition newCondition() {
+			return new WriteLockCondition(writerLock.newCondition());
+		}
+	}
+
+	/**
+	 * {@link Condition} of the write lock that lets readers acquire the lock
+	 * while the writer is waiting and waits for them to release it again
+	 * before returning.
+	 */
+	private final class WriteLockCondition implements Condition {
+
+		private final Condition condition;
+
+		WriteLockCondition(Condition condition) {
+			this.condition = condition;
+		}
+
+		@Override
+		public void await() throws InterruptedException {
+			releaseToReaders();
+			try {
+				condition.await();
+			}
+			finally {
+				reacquireFromReaders();
+			}
+		}
+
+		@Override
+		public void awaitUninterruptibly() {
+			releaseToReaders();
+			try {
+				condition.awaitUninterruptibly();
+			}
+			finally {
+				reacquireFromReaders();
+			}
+		}
+
+		@Override
+		public long awaitNanos(long nanosTimeout) throws InterruptedException {
+			releaseToReaders();
+			try {
+				return condition.awaitNanos(nanosTimeout);
+			}
+			finally {
+				reacquireFromReaders();
+			}
+		}
+
+		@Override
+		public boolean await(long time, TimeUnit unit) throws InterruptedException {
+			releaseToReaders();
+			try {
+				return condition.await(time, unit);
+			}
+			finally {
+				reacquireFromReaders();
+			}
+		}
+
+		@Override
+		public boolean awaitUntil(Date deadline) throws InterruptedException {
+			releaseToReaders();
+			try {
+				return condition.awaitUntil(deadline);
+			}
+			finally {
+				reacquireFromReaders();
+			}
+		}
+
+		@Override
+		public void signal() {
+			condition.signal();
+		}
+
+		@Override
+		public void signalAll() {
+			condition.signalAll();
+		}
+
+		private void releaseToReaders() {
+			if (!writerLock.isHeldByCurrentThread()) {
+				throw new IllegalMonitorStateException("Current thread does not hold the write lock");
+			}
+			writerActive = false;
+		}
+
+		private void reacquireFromReaders() {
+			// The condition has reacquired the writer lock at this point
+			writeLock.awaitReaders(false);
+		}
+	}
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ_WRITE;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.function.Try;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
+
+/**
+ * An {@linkplain HierarchicalTestExecutorService executor service} that
+ * executes each {@linkplain TestTask test task} with a
+ * {@linkplain Node.ExecutionMode#CONCURRENT concurrent} execution mode in
+ * its own virtual thread.
+ *
+ * <p>In contrast to {@link ForkJoinPoolHierarchicalTestExecutorService}, the
+ * number of concurrently executing tasks is not limited by a configured
+ * parallelism. Tasks that block, for example, while waiting for I/O, release
+ * their carrier thread so that other tasks may run in the meantime. This makes
+ * this service well suited for test suites that predominantly consist of
+ * I/O-bound tests.
+ *
+ * <p>{@linkplain TestTask#getResourceLock() Resource locks} are acquired in
+ * the virtual thread executing the task before the task is executed and
+ * released afterward. Tasks that require the
+ * {@linkplain ExclusiveResource#GLOBAL_READ_WRITE global read-write lock} are
+ * executed after all other tasks passed to {@link #invokeAll(List)} have
+ * finished.
+ *
+ * <p>Virtual threads require Java 21 or later. Creating an instance of this
+ * class on an earlier Java version results in a {@link JUnitException}.
+ *
+ * @since 6.0
+ * @see ParallelHierarchicalTestExecutorServiceFactory
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public class VirtualThreadHierarchicalTestExecutorService implements HierarchicalTestExecutorService {
+
+	private static final String THREAD_NAME_PREFIX = "junit-virtual-";
+
+	private final ThreadFactory threadFactory;
+	private final ClassLoader contextClassLoader;
+	private final Set<Thread> activeThreads = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Create a new {@code VirtualThreadHierarchicalTestExecutorService}.
+	 *
+	 * @throws JUnitException if virtual threads are not supported by the
+	 * current JVM
+	 */
+	public VirtualThreadHierarchicalTestExecutorService() {
+		this.threadFactory = createVirtualThreadFactory();
+		this.contextClassLoader = Thread.currentThread().getContextClassLoader();
+		LoggerFactory.getLogger(getClass()).config(() -> "Using virtual threads for concurrent test execution");
+	}
+
+	private static ThreadFactory createVirtualThreadFactory() {
+		// Thread.ofVirtual() is only available on Java 21+
+		return Try.call(() -> {
+			Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			builder = builderType.getMethod("name", String.class, long.class).invoke(builder, THREAD_NAME_PREFIX, 1L);
+			return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+		}).getNonNullOrThrow(cause -> new JUnitException(
+			"Virtual threads are not supported by the current JVM; Java 21 or later is required", cause));
+	}
+
+	@Override
+	@SuppressWarnings("NullAway")
+	public Future<@Nullable Void> submit(TestTask testTask) {
+		if (testTask.getExecutionMode() == CONCURRENT) {
+			return fork(testTask);
+		}
+		executeWithResourceLock(testTask);
+		return completedFuture(null);
+	}
+
+	@Override
+	public void invokeAll(List<? extends TestTask> tasks) {
+		if (tasks.size() == 1) {
+			executeWithResourceLock(tasks.get(0));
+			return;
+		}
+		List<TestTask> isolatedTasks = new ArrayList<>();
+		List<TestTask> sameThreadTasks = new ArrayList<>();
+		List<CompletableFuture<@Nullable Void>> concurrentTasks = new ArrayList<>();
+		for (TestTask testTask : tasks) {
+			if (requiresGlobalReadWriteLock(testTask)) {
+				isolatedTasks.add(testTask);
+			}
+			else if (testTask.getExecutionMode() == CONCURRENT) {
+				concurrentTasks.add(fork(testTask));
+			}
+			else {
+				sameThreadTasks.add(testTask);
+			}
+		}
+		sameThreadTasks.forEach(this::executeWithResourceLock);
+		concurrentTasks.forEach(VirtualThreadHierarchicalTestExecutorService::join);
+		isolatedTasks.forEach(this::executeWithResourceLock);
+	}
+
+	private static boolean requiresGlobalReadWriteLock(TestTask testTask) {
+		return testTask.getResourceLock().getResources().contains(GLOBAL_READ_WRITE);
+	}
+
+	private CompletableFuture<@Nullable Void> fork(TestTask testTask) {
+		CompletableFuture<@Nullable Void> future = new CompletableFuture<>();
+		Thread thread = threadFactory.newThread(() -> {
+			try {
+				executeWithResourceLock(testTask);
+				future.complete(null);
+			}
+			catch (Throwable t) {
+				future.completeExceptionally(t);
+				UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+			}
+			finally {
+				activeThreads.remove(Thread.currentThread());
+			}
+		});
+		thread.setContextClassLoader(contextClassLoader);
+		activeThreads.add(thread);
+		thread.start();
+		return future;
+	}
+
+	private static void join(CompletableFuture<@Nullable Void> future) {
+		try {
+			future.join();
+		}
+		catch (CompletionException e) {
+			throw ExceptionUtils.throwAsUncheckedException(e.getCause() != null ? e.getCause() : e);
+		}
+	}
+
+	@SuppressWarnings("try")
+	private void executeWithResourceLock(TestTask testTask) {
+		try (ResourceLock ignored = testTask.getResourceLock().acquire()) {
+			testTask.execute();
+		}
+		catch (InterruptedException e) {
+			throw ExceptionUtils.throwAsUncheckedException(e);
+		}
+	}
+
+	/**
+	 * Interrupt all virtual threads that are still executing test tasks.
+	 */
+	@Override
+	public void close() {
+		activeThreads.forEach(Thread::interrupt);
+		activeThreads.clear();
+	}
+
+}
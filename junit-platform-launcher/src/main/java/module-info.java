@@ -44,5 +44,6 @@ module org.junit.platform.launcher {
 	uses org.junit.platform.launcher.TestExecutionListener;
 
 	provides org.junit.platform.launcher.TestExecutionListener
-			with org.junit.platform.launcher.listeners.UniqueIdTrackingListener;
+			with org.junit.platform.launcher.listeners.ExecutionTimeRecordingListener,
+				org.junit.platform.launcher.listeners.UniqueIdTrackingListener;
 }
@@ -192,6 +192,91 @@ public class LauncherConstants {
 	@API(status = MAINTAINED, since = "1.13.3")
 	public static final String STACKTRACE_PRUNING_ENABLED_PROPERTY_NAME = "junit.platform.stacktrace.pruning.enabled";
 
+	/**
+	 * Property name used to enable asynchronous delivery of execution events
+	 * to registered listeners.
+	 *
+	 * <p>When enabled, events reported by test engines are buffered and
+	 * delivered to listeners in batches by a dedicated thread so that test
+	 * threads do not have to wait for listeners, for example, reporters
+	 * writing to files or the console. Events are delivered in the order in
+	 * which they were reported. All events are delivered before
+	 * {@link TestExecutionListener#testPlanExecutionFinished(TestPlan)} is
+	 * called.
+	 *
+	 * <p>Since listeners are no longer called on the thread that executes a
+	 * test, asynchronous delivery is not used if output capturing is enabled
+	 * via {@link #CAPTURE_STDOUT_PROPERTY_NAME} or
+	 * {@link #CAPTURE_STDERR_PROPERTY_NAME}.
+	 *
+	 * <p>Listeners that measure the time between events, for example, the
+	 * built-in XML reporting listeners, are always called synchronously so
+	 * that their durations are not affected by the delivery delay. Additional
+	 * listeners can be called synchronously via
+	 * {@link #ASYNC_EXECUTION_LISTENERS_EXCLUDE_PATTERN_PROPERTY_NAME}.
+	 *
+	 * <p>Value must be either {@code true} or {@code false}; defaults to {@code false}.
+	 *
+	 * @since 6.0
+	 * @see #ASYNC_EXECUTION_LISTENERS_BUFFER_SIZE_PROPERTY_NAME
+	 * @see #ASYNC_EXECUTION_LISTENERS_EXCLUDE_PATTERN_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String ASYNC_EXECUTION_LISTENERS_ENABLED_PROPERTY_NAME = "junit.platform.execution.listeners.async.enabled";
+
+	/**
+	 * Property name used to configure the maximum number of execution events
+	 * that are buffered when
+	 * {@linkplain #ASYNC_EXECUTION_LISTENERS_ENABLED_PROPERTY_NAME asynchronous
+	 * delivery} is enabled.
+	 *
+	 * <p>If the buffer is full, test threads wait until listeners have caught
+	 * up. Value must be a positive integer; defaults to
+	 * {@value #ASYNC_EXECUTION_LISTENERS_BUFFER_SIZE_DEFAULT}.
+	 *
+	 * @since 6.0
+	 * @see #ASYNC_EXECUTION_LISTENERS_ENABLED_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String ASYNC_EXECUTION_LISTENERS_BUFFER_SIZE_PROPERTY_NAME = "junit.platform.execution.listeners.async.bufferSize";
+
+	/**
+	 * Default maximum number of buffered execution events when
+	 * {@linkplain #ASYNC_EXECUTION_LISTENERS_ENABLED_PROPERTY_NAME asynchronous
+	 * delivery} is enabled.
+	 *
+	 * @since 6.0
+	 * @see #ASYNC_EXECUTION_LISTENERS_BUFFER_SIZE_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final int ASYNC_EXECUTION_LISTENERS_BUFFER_SIZE_DEFAULT = 8192;
+
+	/**
+	 * Property name used to provide patterns for {@link TestExecutionListener}
+	 * implementations that should be called synchronously on the thread that
+	 * reports an event even if
+	 * {@linkplain #ASYNC_EXECUTION_LISTENERS_ENABLED_PROPERTY_NAME asynchronous
+	 * delivery} is enabled: {@value}
+	 *
+	 * <p>This is useful for listeners that record when events happen, for
+	 * example, to measure the duration of tests. The built-in
+	 * {@code ExecutionTimeRecordingListener},
+	 * {@code LegacyXmlReportGeneratingListener}, and
+	 * {@code OpenTestReportGeneratingListener} are always called
+	 * synchronously.
+	 *
+	 * <h4>Pattern Matching Syntax</h4>
+	 *
+	 * <p>The value of this property must be a comma-separated list of fully
+	 * qualified class names which may contain the asterisk ({@code *})
+	 * wildcard, analogous to {@link #DEACTIVATE_LISTENERS_PATTERN_PROPERTY_NAME}.
+	 *
+	 * @since 6.0
+	 * @see #ASYNC_EXECUTION_LISTENERS_ENABLED_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String ASYNC_EXECUTION_LISTENERS_EXCLUDE_PATTERN_PROPERTY_NAME = "junit.platform.execution.listeners.async.exclude";
+
 	/**
 	 * Property name used to configure the output directory for reporting.
 	 *
@@ -267,6 +352,288 @@ public class LauncherConstants {
 	@API(status = EXPERIMENTAL, since = "6.0")
 	public static final String DISCOVERY_ISSUE_FAILURE_PHASE_PROPERTY_NAME = "junit.platform.discovery.issue.failure.phase";
 
+	/**
+	 * Property name used to enable concurrent test discovery of different
+	 * test engines: {@value}
+	 *
+	 * <p>When enabled, the {@code Launcher} discovers tests of all included
+	 * test engines concurrently using a bounded number of threads. Each engine
+	 * is still discovered by a single thread. Events for
+	 * {@link LauncherDiscoveryListener LauncherDiscoveryListeners} are
+	 * buffered per engine and delivered in the same order as during sequential
+	 * discovery once discovery of all engines has finished. The same applies
+	 * to the reporting of discovery issues.
+	 *
+	 * <p>Value must be either {@code true} or {@code false}; defaults to {@code false}.
+	 *
+	 * @since 6.0
+	 * @see #PARALLEL_DISCOVERY_MAX_THREADS_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME = "junit.platform.discovery.parallel.enabled";
+
+	/**
+	 * Property name used to configure the maximum number of threads used for
+	 * {@linkplain #PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME concurrent test
+	 * discovery}: {@value}
+	 *
+	 * <p>Value must be a positive integer; defaults to the number of available
+	 * processors.
+	 *
+	 * @since 6.0
+	 * @see #PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String PARALLEL_DISCOVERY_MAX_THREADS_PROPERTY_NAME = "junit.platform.discovery.parallel.maxThreads";
+
+	/**
+	 * Property name used to enable the persistent discovery cache by
+	 * specifying the path of the file it is stored in: {@value}
+	 *
+	 * <p>When set, the {@code Launcher} records the
+	 * {@linkplain org.junit.platform.engine.UniqueId unique IDs} of the
+	 * top-level containers each test engine resolved for a discovery request
+	 * in the supplied file. The entries are keyed by a fingerprint of the
+	 * classpath, consisting of the paths, sizes, and last-modified times of
+	 * all files on the class and module path and in selected classpath roots,
+	 * and of the selectors, discovery filters, and configuration parameters of
+	 * the request. JVM system properties are only taken into account if their
+	 * names start with {@code junit.}. When the same request is discovered again and the classpath
+	 * is unchanged, each engine is asked to resolve the cached unique IDs
+	 * instead of the original selectors, which avoids scanning the classpath.
+	 * Discovery listeners are notified about the original selectors. If the
+	 * unique IDs of the discovered descriptors differ from the cached ones,
+	 * for example, because an engine does not support selecting its top-level
+	 * containers by unique ID, the cached entry is discarded and the original
+	 * request is discovered instead.
+	 *
+	 * <p>Requests that contain selectors without an
+	 * {@linkplain org.junit.platform.engine.DiscoverySelector#toIdentifier()
+	 * identifier} or selectors of individual tests or nested classes, such as
+	 * method selectors, and discovery results that contain discovery issues or
+	 * failed selectors are never cached. Entries of different classpaths may
+	 * share the same file.
+	 *
+	 * <p>Value must be a path to a file; if the file does not exist, it will
+	 * be created. If not specified, the discovery cache is disabled.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String DISCOVERY_CACHE_FILE_PROPERTY_NAME = "junit.platform.discovery.cache.file";
+
+	/**
+	 * Property name used to enable incremental test discovery by specifying
+	 * the path of the index file to compare the class files of selected
+	 * classpath roots against: {@value}
+	 *
+	 * <p>When set,
+	 * {@link org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder#build()}
+	 * replaces each
+	 * {@linkplain org.junit.platform.engine.discovery.ClasspathRootSelector
+	 * classpath root selector} for a directory with
+	 * {@linkplain org.junit.platform.engine.discovery.ClassSelector class
+	 * selectors} for the top-level classes whose class files were added,
+	 * modified, or removed since the tests of the previous request were
+	 * executed, including the classes that directly or transitively reference
+	 * them, even if they reside in another selected classpath root. Changes
+	 * are detected by comparing the sizes and last-modified times of the class
+	 * files; references are determined by reading the constant pools of the
+	 * class files without loading them. The index file is updated once the
+	 * tests of a request have been executed; classes with tests that did not
+	 * succeed are treated as changed so that they are selected again.
+	 *
+	 * <p>Classpath roots that are not contained in the index yet, for example,
+	 * on the first run, are discovered completely. Other selectors are not
+	 * affected.
+	 *
+	 * <p>This mode is intended for repeatedly running tests in the same
+	 * working copy, for example, in a watch mode loop. Since tests of
+	 * unchanged classes are not executed, it should not be used for complete
+	 * test runs.
+	 *
+	 * <p>Value must be a path to a file; if the file does not exist, it will
+	 * be created. If not specified, incremental discovery is disabled.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String INCREMENTAL_DISCOVERY_INDEX_FILE_PROPERTY_NAME = "junit.platform.discovery.incremental.indexFile";
+
+	/**
+	 * Property name used to set the path to a file that contains the
+	 * execution times of a previous test run: {@value}
+	 *
+	 * <p>The file is a {@linkplain java.util.Properties properties file} that
+	 * maps the unique IDs of tests and containers to their execution time in
+	 * milliseconds. It is written by the
+	 * {@link org.junit.platform.launcher.listeners.ExecutionTimeRecordingListener}
+	 * when this property is set. If the file exists when execution starts,
+	 * engines based on
+	 * {@link org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine}
+	 * fork concurrent siblings in descending order of their previous execution
+	 * times so that long-running tests and containers are started first and
+	 * the tail of the test run is not dominated by a single straggler.
+	 *
+	 * <p>Unique IDs that are not contained in the file are treated as if their
+	 * execution time were zero. If the file does not exist or cannot be read,
+	 * the declared order is retained.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String EXECUTION_TIMES_FILE_PROPERTY_NAME = "junit.platform.execution.times.file";
+
+	/**
+	 * Property name used to set the total number of shards the tests are
+	 * split into: {@value}
+	 *
+	 * <p>When set,
+	 * {@link org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder#build()}
+	 * registers a {@link ShardingFilter} for the shard configured via
+	 * {@value #SHARD_INDEX_PROPERTY_NAME}. If
+	 * {@value #EXECUTION_TIMES_FILE_PROPERTY_NAME} is set as well, the
+	 * recorded execution times are used to balance the shards.
+	 *
+	 * <p>Requests that inherit their configuration from
+	 * {@linkplain org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder#parentConfigurationParameters
+	 * parent configuration parameters}, for example, those of test suites, are
+	 * not sharded again.
+	 *
+	 * <p>Value must be a positive integer. If not specified, all tests are
+	 * executed.
+	 *
+	 * @since 6.0
+	 * @see ShardingFilter
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String SHARD_COUNT_PROPERTY_NAME = "junit.platform.execution.shard.count";
+
+	/**
+	 * Property name used to set the one-based index of the shard to execute:
+	 * {@value}
+	 *
+	 * <p>Value must be an integer between {@code 1} and the value of
+	 * {@value #SHARD_COUNT_PROPERTY_NAME}. It is only evaluated if the latter
+	 * is set.
+	 *
+	 * @since 6.0
+	 * @see ShardingFilter
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String SHARD_INDEX_PROPERTY_NAME = "junit.platform.execution.shard.index";
+
+	/**
+	 * Property name used to set the number of worker JVMs the launcher forks
+	 * to execute tests in: {@value}
+	 *
+	 * <p>When set to a positive number, the top-level containers of each
+	 * engine, for example, test classes, are distributed among the worker
+	 * JVMs, each of which executes one container at a time. Worker JVMs are
+	 * started with the class and module path of the current JVM, the JVM
+	 * arguments configured via {@value #FORK_JVM_ARGS_PROPERTY_NAME}, and the
+	 * configuration parameters of the current request. Their execution events
+	 * are reported to the listeners registered in the current JVM. Since each
+	 * worker JVM has its own static state, this allows executing tests
+	 * concurrently that cannot be executed in parallel within the same JVM.
+	 *
+	 * <p>Worker JVMs select the tests to execute by their unique IDs. Hence,
+	 * only engines that support
+	 * {@linkplain org.junit.platform.engine.discovery.UniqueIdSelector unique
+	 * ID selectors} can be used. Output of worker JVMs is written to the
+	 * standard output and error streams of the current JVM and cannot be
+	 * {@linkplain #CAPTURE_STDOUT_PROPERTY_NAME captured}.
+	 *
+	 * <p>Value must be a non-negative integer. If not specified or zero, tests
+	 * are executed in the current JVM.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String FORK_COUNT_PROPERTY_NAME = "junit.platform.execution.forks.count";
+
+	/**
+	 * Property name used to set additional arguments of worker JVMs forked by
+	 * the launcher: {@value}
+	 *
+	 * <p>Value must be a whitespace-separated list of JVM arguments, for
+	 * example, {@code -Xmx1g -Dfoo=bar}. It is only evaluated if
+	 * {@value #FORK_COUNT_PROPERTY_NAME} is set.
+	 *
+	 * @since 6.0
+	 * @see #FORK_COUNT_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String FORK_JVM_ARGS_PROPERTY_NAME = "junit.platform.execution.forks.jvmArgs";
+
+	/**
+	 * Property name used to enable pipelined discovery and execution: {@value}
+	 *
+	 * <p>When enabled,
+	 * {@link Launcher#execute(LauncherDiscoveryRequest, TestExecutionListener...)}
+	 * starts executing the tests of a test engine as soon as its discovery has
+	 * finished while the remaining engines are still being discovered on a
+	 * separate thread. Engines are executed in the same order as without
+	 * pipelining. Combined with
+	 * {@linkplain #PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME parallel discovery},
+	 * the remaining engines are discovered concurrently.
+	 *
+	 * <p>Since the {@link TestPlan} passed to
+	 * {@link TestExecutionListener#testPlanExecutionStarted(TestPlan)} is
+	 * created once the first engine has been discovered, it does not contain
+	 * the tests of the remaining engines and
+	 * {@link TestPlan#containsTests()} only reflects the first engine.
+	 * Instead, the tests of the remaining engines are added to the test plan
+	 * and reported via
+	 * {@link TestExecutionListener#dynamicTestRegistered(TestIdentifier)}
+	 * before the respective engine is executed. Therefore, pipelining is only
+	 * applied if all registered {@link TestExecutionListener} implementations
+	 * {@linkplain #PIPELINED_EXECUTION_LISTENERS_INCLUDE_PATTERN_PROPERTY_NAME
+	 * support it}.
+	 *
+	 * <p>Pipelining is not applied in
+	 * {@linkplain #DRY_RUN_PROPERTY_NAME dry-run mode}, if
+	 * {@linkplain #DISCOVERY_ISSUE_FAILURE_PHASE_PROPERTY_NAME critical
+	 * discovery issues are configured to be reported during discovery}, or if
+	 * {@linkplain #CAPTURE_STDOUT_PROPERTY_NAME output is captured}.
+	 *
+	 * <p>Value must be either {@code true} or {@code false}; defaults to {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String PIPELINED_EXECUTION_ENABLED_PROPERTY_NAME = "junit.platform.execution.pipelined.enabled";
+
+	/**
+	 * Property name used to provide patterns for {@link TestExecutionListener}
+	 * implementations that support
+	 * {@linkplain #PIPELINED_EXECUTION_ENABLED_PROPERTY_NAME pipelined
+	 * execution}: {@value}
+	 *
+	 * <p>A listener supports pipelined execution if it does not rely on the
+	 * {@link TestPlan} passed to
+	 * {@link TestExecutionListener#testPlanExecutionStarted(TestPlan)} being
+	 * complete and handles tests reported via
+	 * {@link TestExecutionListener#dynamicTestRegistered(TestIdentifier)}. If
+	 * any other listener is registered, tests are executed once all engines
+	 * have been discovered. The built-in
+	 * {@code ExecutionTimeRecordingListener},
+	 * {@code FlightRecordingExecutionListener},
+	 * {@code SummaryGeneratingListener}, and {@code UniqueIdTrackingListener}
+	 * always support pipelined execution.
+	 *
+	 * <h4>Pattern Matching Syntax</h4>
+	 *
+	 * <p>The value of this property must be a comma-separated list of fully
+	 * qualified class names which may contain the asterisk ({@code *})
+	 * wildcard, analogous to {@link #DEACTIVATE_LISTENERS_PATTERN_PROPERTY_NAME}.
+	 *
+	 * @since 6.0
+	 * @see #PIPELINED_EXECUTION_ENABLED_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String PIPELINED_EXECUTION_LISTENERS_INCLUDE_PATTERN_PROPERTY_NAME = "junit.platform.execution.pipelined.listeners.include";
+
 	private LauncherConstants() {
 		/* no-op */
 	}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Comparator.comparingLong;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+
+/**
+ * {@code ShardingFilter} is a {@link PostDiscoveryFilter} that splits the
+ * tests of a {@link TestPlan} into a number of disjoint <em>shards</em> and
+ * only includes the tests of one of them so that the shards can be executed
+ * in different JVMs, for example, on different CI machines.
+ *
+ * <p>Tests are assigned to shards by their top-level container, that is, the
+ * child of the engine descriptor they belong to, for example, a test class.
+ * Top-level containers are distributed so that the total estimated execution
+ * time of each shard is as equal as possible, starting with the longest one.
+ * If no execution times are available, each top-level container is estimated
+ * to take the same time.
+ *
+ * <p>The assignment is deterministic: all shards include exactly the tests of
+ * their top-level containers if they discover the same tests and use the same
+ * file of execution times.
+ *
+ * @since 6.0
+ * @see LauncherConstants#SHARD_COUNT_PROPERTY_NAME
+ * @see LauncherConstants#SHARD_INDEX_PROPERTY_NAME
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public final class ShardingFilter implements PostDiscoveryFilter {
+
+	private static final Logger logger = LoggerFactory.getLogger(ShardingFilter.class);
+
+	private static final Comparator<Map.Entry<UniqueId, Long>> LONGEST_FIRST = //
+		comparingLong((Map.Entry<UniqueId, Long> entry) -> entry.getValue()).reversed() //
+				.thenComparing(entry -> entry.getKey().toString());
+
+	/**
+	 * Create a filter that only includes the tests of the shard with the
+	 * supplied index.
+	 *
+	 * @param shardIndex the one-based index of the shard to include; must be
+	 * between {@code 1} and {@code shardCount}
+	 * @param shardCount the total number of shards; must be positive
+	 * @throws PreconditionViolationException if the supplied index or count
+	 * are invalid
+	 */
+	public static ShardingFilter includeShard(int shardIndex, int shardCount) {
+		return new ShardingFilter(shardIndex, shardCount, Map.of());
+	}
+
+	/**
+	 * Create a filter that only includes the tests of the shard with the
+	 * supplied index and balances the shards based on the execution times in
+	 * the supplied file.
+	 *
+	 * <p>The file must be in the format written by
+	 * {@link org.junit.platform.launcher.listeners.ExecutionTimeRecordingListener}.
+	 * If it does not exist or cannot be read, no execution times are used.
+	 *
+	 * @param shardIndex the one-based index of the shard to include; must be
+	 * between {@code 1} and {@code shardCount}
+	 * @param shardCount the total number of shards; must be positive
+	 * @param executionTimesFile the file containing the execution times of a
+	 * previous test run; never {@code null}
+	 * @throws PreconditionViolationException if the supplied index or count
+	 * are invalid
+	 */
+	public static ShardingFilter includeShard(int shardIndex, int shardCount, Path executionTimesFile) {
+		Preconditions.notNull(executionTimesFile, "executionTimesFile must not be null");
+		return new ShardingFilter(shardIndex, shardCount, readExecutionTimes(executionTimesFile));
+	}
+
+	private final int shardIndex;
+	private final int shardCount;
+	private final Map<String, Long> executionTimes;
+
+	private final long[] estimatedShardMillis;
+	private final Map<UniqueId, Integer> shardIndexByContainer = new HashMap<>();
+	private final Set<UniqueId> assignedEngines = new HashSet<>();
+
+	private ShardingFilter(int shardIndex, int shardCount, Map<String, Long> executionTimes) {
+		Preconditions.condition(shardCount > 0, () -> "shardCount must be positive: " + shardCount);
+		Preconditions.condition(shardIndex >= 1 && shardIndex <= shardCount,
+			() -> "shardIndex must be between 1 and %d: %d".formatted(shardCount, shardIndex));
+		this.shardIndex = shardIndex;
+		this.shardCount = shardCount;
+		this.executionTimes = executionTimes;
+		this.estimatedShardMillis = new long[shardCount];
+	}
+
+	@Override
+	public FilterResult apply(TestDescriptor descriptor) {
+		if (descriptor.isRoot()) {
+			// Engines are visited before any of their descendants are removed
+			assignShards(descriptor);
+			return FilterResult.included("Engines are included in all shards");
+		}
+		int assignedShardIndex = getShardIndex(descriptor);
+		return FilterResult.includedIf(assignedShardIndex == this.shardIndex, //
+			() -> "Assigned to shard %d of %d".formatted(assignedShardIndex, this.shardCount), //
+			() -> "Assigned to shard %d of %d instead of shard %d".formatted(assignedShardIndex, this.shardCount,
+				this.shardIndex));
+	}
+
+	private synchronized int getShardIndex(TestDescriptor descriptor) {
+		TestDescriptor container = descriptor;
+		TestDescriptor parent = container.getParent().orElse(null);
+		while (parent != null && !parent.isRoot()) {
+			container = parent;
+			parent = container.getParent().orElse(null);
+		}
+		Integer shardIndex = this.shardIndexByContainer.get(container.getUniqueId());
+		if (shardIndex == null && parent != null) {
+			assignShards(parent);
+			shardIndex = this.shardIndexByContainer.get(container.getUniqueId());
+		}
+		if (shardIndex == null) {
+			shardIndex = assignShard(container.getUniqueId(), getEstimatedMillis(container.getUniqueId(), 1));
+		}
+		return shardIndex;
+	}
+
+	private synchronized void assignShards(TestDescriptor engineDescriptor) {
+		if (!this.assignedEngines.add(engineDescriptor.getUniqueId())) {
+			return;
+		}
+		List<UniqueId> containers = new ArrayList<>();
+		for (TestDescriptor child : engineDescriptor.getChildren()) {
+			containers.add(child.getUniqueId());
+		}
+		long defaultMillis = Math.max(1, (long) containers.stream() //
+				.map(UniqueId::toString) //
+				.filter(this.executionTimes::containsKey) //
+				.mapToLong(this.executionTimes::get) //
+				.average() //
+				.orElse(1));
+		Map<UniqueId, Long> estimatedMillis = new HashMap<>();
+		containers.forEach(uniqueId -> estimatedMillis.put(uniqueId, getEstimatedMillis(uniqueId, defaultMillis)));
+		estimatedMillis.entrySet().stream() //
+				.sorted(LONGEST_FIRST) //
+				.forEach(entry -> assignShard(entry.getKey(), entry.getValue()));
+		logger.config(() -> "Assigned %d top-level containers of engine %s to %d shards".formatted(containers.size(),
+			engineDescriptor.getUniqueId(), this.shardCount));
+	}
+
+	private long getEstimatedMillis(UniqueId container, long defaultMillis) {
+		// Avoid assigning all containers without recorded execution times to the same shard
+		return Math.max(1, this.executionTimes.getOrDefault(container.toString(), defaultMillis));
+	}
+
+	private int assignShard(UniqueId container, long estimatedMillis) {
+		int shortestShard = 0;
+		for (int shard = 1; shard < this.shardCount; shard++) {
+			if (this.estimatedShardMillis[shard] < this.estimatedShardMillis[shortestShard]) {
+				shortestShard = shard;
+			}
+		}
+		this.estimatedShardMillis[shortestShard] += estimatedMillis;
+		this.shardIndexByContainer.put(container, shortestShard + 1);
+		return shortestShard + 1;
+	}
+
+	@Override
+	public String toString() {
+		return "%s [shardIndex = %d, shardCount = %d]".formatted(getClass().getSimpleName(), this.shardIndex,
+			this.shardCount);
+	}
+
+	private static Map<String, Long> readExecutionTimes(Path file) {
+		if (!Files.isRegularFile(file)) {
+			return Map.of();
+		}
+		Properties properties = new Properties();
+		try (Reader reader = Files.newBufferedReader(file, UTF_8)) {
+			properties.load(reader);
+		}
+		catch (IOException | IllegalArgumentException ex) {
+			logger.warn(ex, () -> "Failed to read execution times from " + file.toAbsolutePath());
+			return Map.of();
+		}
+		Map<String, Long> executionTimes = new HashMap<>();
+		properties.stringPropertyNames().forEach(key -> {
+			try {
+				executionTimes.put(key, Long.parseLong(properties.getProperty(key).strip()));
+			}
+			catch (NumberFormatException ex) {
+				logger.debug(() -> "Ignoring invalid execution time for unique ID [%s]".formatted(key));
+			}
+		});
+		return executionTimes;
+	}
+
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static java.util.Collections.emptySet;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+
+/**
+ * Immutable, array-based index of the {@link TestIdentifier TestIdentifiers}
+ * of the trees of {@link TestDescriptor TestDescriptors} a {@link TestPlan}
+ * is created from.
+ *
+ * <p>Identifiers are stored in depth-first pre-order so that the
+ * descendants of each identifier occupy a contiguous range that ends at the
+ * index stored in {@link #subtreeEnds}. Identifiers are looked up by their
+ * unique IDs via an open-addressing hash table of indices. Compared to
+ * hash maps of unique IDs to identifiers and sets of children, this avoids
+ * allocating entries, sets, and boxed values per identifier.
+ *
+ * @since 6.0
+ * @see TestPlan#from
+ */
+final class TestIdentifierIndex {
+
+	/**
+	 * Create an index of the supplied engine descriptors and their
+	 * descendants.
+	 *
+	 * @return the index or {@code null} if the supplied descriptors contain
+	 * duplicate unique IDs
+	 */
+	static @Nullable TestIdentifierIndex from(Collection<TestDescriptor> engineDescriptors) {
+		Builder builder = new Builder();
+		engineDescriptors.forEach(builder::add);
+		return builder.build();
+	}
+
+	private final TestIdentifier[] identifiers;
+	private final int[] subtreeEnds;
+	private final int[] rootIndices;
+	private final int[] table;
+
+	private TestIdentifierIndex(TestIdentifier[] identifiers, int[] subtreeEnds, int[] rootIndices, int[] table) {
+		this.identifiers = identifiers;
+		this.subtreeEnds = subtreeEnds;
+		this.rootIndices = rootIndices;
+		this.table = table;
+	}
+
+	List<TestIdentifier> getRoots() {
+		List<TestIdentifier> roots = new ArrayList<>(this.rootIndices.length);
+		for (int rootIndex : this.rootIndices) {
+			roots.add(this.identifiers[rootIndex]);
+		}
+		return roots;
+	}
+
+	boolean contains(UniqueId uniqueId) {
+		return indexOf(uniqueId) >= 0;
+	}
+
+	@Nullable
+	TestIdentifier get(UniqueId uniqueId) {
+		int index = indexOf(uniqueId);
+		return index < 0 ? null : this.identifiers[index];
+	}
+
+	/**
+	 * Get an unmodifiable view of the children of the identifier with the
+	 * supplied unique ID.
+	 */
+	Set<TestIdentifier> getChildren(UniqueId parentId) {
+		int index = indexOf(parentId);
+		if (index < 0 || this.subtreeEnds[index] == index + 1) {
+			return emptySet();
+		}
+		return new Children(index);
+	}
+
+	Stream<TestIdentifier> stream() {
+		return Arrays.stream(this.identifiers);
+	}
+
+	private int indexOf(UniqueId uniqueId) {
+		int mask = this.table.length - 1;
+		for (int slot = hash(uniqueId) & mask;; slot = (slot + 1) & mask) {
+			int entry = this.table[slot];
+			if (entry == 0) {
+				return -1;
+			}
+			if (this.identifiers[entry - 1].getUniqueIdObject().equals(uniqueId)) {
+				return entry - 1;
+			}
+		}
+	}
+
+	private static int hash(UniqueId uniqueId) {
+		int hash = uniqueId.hashCode();
+		return hash ^ (hash >>> 16);
+	}
+
+	/**
+	 * Unmodifiable view of the direct children of an identifier.
+	 */
+	private final class Children extends AbstractSet<TestIdentifier> {
+
+		private final int parentIndex;
+		private int size = -1;
+
+		Children(int parentIndex) {
+			this.parentIndex = parentIndex;
+		}
+
+		@Override
+		public Iterator<TestIdentifier> iterator() {
+			return new Iterator<>() {
+
+				private int next = parentIndex + 1;
+
+				@Override
+				public boolean hasNext() {
+					return this.next < subtreeEnds[parentIndex];
+				}
+
+				@Override
+				public TestIdentifier next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					TestIdentifier child = identifiers[this.next];
+					// Skip the descendants of the current child
+					this.next = subtreeEnds[this.next];
+					return child;
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			int size = this.size;
+			if (size < 0) {
+				size = 0;
+				for (int child = parentIndex + 1; child < subtreeEnds[parentIndex]; child = subtreeEnds[child]) {
+					size++;
+				}
+				this.size = size;
+			}
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if (!(o instanceof TestIdentifier testIdentifier)) {
+				return false;
+			}
+			int index = indexOf(testIdentifier.getUniqueIdObject());
+			return index > parentIndex && index < subtreeEnds[parentIndex]
+					&& identifiers[parentIndex].getUniqueIdObject().equals(
+						testIdentifier.getParentIdObject().orElse(null));
+		}
+	}
+
+	private static final class Builder {
+
+		private TestIdentifier[] identifiers = new TestIdentifier[64];
+		private int[] subtreeEnds = new int[64];
+		private final List<Integer> rootIndices = new ArrayList<>();
+		private int size;
+
+		void add(TestDescriptor engineDescriptor) {
+			this.rootIndices.add(this.size);
+			addRecursively(engineDescriptor);
+		}
+
+		private void addRecursively(TestDescriptor descriptor) {
+			int index = this.size++;
+			if (index == this.identifiers.length) {
+				this.identifiers = Arrays.copyOf(this.identifiers, 2 * index);
+				this.subtreeEnds = Arrays.copyOf(this.subtreeEnds, 2 * index);
+			}
+			this.identifiers[index] = TestIdentifier.from(descriptor);
+			for (TestDescriptor child : descriptor.getChildren()) {
+				addRecursively(child);
+			}
+			this.subtreeEnds[index] = this.size;
+		}
+
+		@Nullable
+		TestIdentifierIndex build() {
+			TestIdentifier[] identifiers = Arrays.copyOf(this.identifiers, this.size);
+			int[] table = new int[tableSize(this.size)];
+			int mask = table.length - 1;
+			for (int index = 0; index < identifiers.length; index++) {
+				UniqueId uniqueId = identifiers[index].getUniqueIdObject();
+				int slot = hash(uniqueId) & mask;
+				while (table[slot] != 0) {
+					if (identifiers[table[slot] - 1].getUniqueIdObject().equals(uniqueId)) {
+						return null;
+					}
+					slot = (slot + 1) & mask;
+				}
+				table[slot] = index + 1;
+			}
+			int[] rootIndices = this.rootIndices.stream().mapToInt(Integer::intValue).toArray();
+			return new TestIdentifierIndex(identifiers, Arrays.copyOf(this.subtreeEnds, this.size), rootIndices,
+				table);
+		}
+
+		private static int tableSize(int size) {
+			// Keep the load factor at or below 0.5
+			return Math.max(2, Integer.highestOneBit(Math.max(1, size) * 2 - 1) << 1);
+		}
+	}
+
+}
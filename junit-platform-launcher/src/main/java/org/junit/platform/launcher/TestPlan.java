@@ -27,6 +27,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.ConfigurationParameters;
@@ -51,6 +52,11 @@ import org.junit.platform.engine.reporting.OutputDirectoryProvider;
  * test is registered at runtime, it is added to the original test plan and
  * reported to {@link TestExecutionListener} implementations.
  *
+ * <p>The identifiers of a test plan {@linkplain #from created} from the
+ * results of test discovery are stored in a compact, immutable
+ * representation. Only identifiers that are added later, such as those of
+ * dynamic tests, are stored in hash-based data structures.
+ *
  * <p>This class is not intended to be extended by clients.
  *
  * @since 1.0
@@ -63,6 +69,7 @@ public class TestPlan {
 	private final Set<TestIdentifier> roots = synchronizedSet(new LinkedHashSet<>(4));
 	private final Map<UniqueId, Set<TestIdentifier>> children = new ConcurrentHashMap<>(32);
 	private final Map<UniqueId, TestIdentifier> allIdentifiers = new ConcurrentHashMap<>(32);
+	private final @Nullable TestIdentifierIndex discoveredIdentifiers;
 
 	private final boolean containsTests;
 	private final ConfigurationParameters configurationParameters;
@@ -89,18 +96,32 @@ public class TestPlan {
 			ConfigurationParameters configurationParameters, OutputDirectoryProvider outputDirectoryProvider) {
 		Preconditions.notNull(engineDescriptors, "Cannot create TestPlan from a null collection of TestDescriptors");
 		Preconditions.notNull(configurationParameters, "Cannot create TestPlan from null ConfigurationParameters");
-		TestPlan testPlan = new TestPlan(containsTests, configurationParameters, outputDirectoryProvider);
-		TestDescriptor.Visitor visitor = descriptor -> testPlan.addInternal(TestIdentifier.from(descriptor));
-		engineDescriptors.forEach(engineDescriptor -> engineDescriptor.accept(visitor));
+		TestIdentifierIndex discoveredIdentifiers = TestIdentifierIndex.from(engineDescriptors);
+		TestPlan testPlan = new TestPlan(containsTests, configurationParameters, outputDirectoryProvider,
+			discoveredIdentifiers);
+		if (discoveredIdentifiers == null) {
+			// Duplicate unique IDs: the last identifier wins
+			TestDescriptor.Visitor visitor = descriptor -> testPlan.addInternal(TestIdentifier.from(descriptor));
+			engineDescriptors.forEach(engineDescriptor -> engineDescriptor.accept(visitor));
+		}
 		return testPlan;
 	}
 
 	@API(status = INTERNAL, since = "1.4")
 	protected TestPlan(boolean containsTests, ConfigurationParameters configurationParameters,
 			OutputDirectoryProvider outputDirectoryProvider) {
+		this(containsTests, configurationParameters, outputDirectoryProvider, null);
+	}
+
+	private TestPlan(boolean containsTests, ConfigurationParameters configurationParameters,
+			OutputDirectoryProvider outputDirectoryProvider, @Nullable TestIdentifierIndex discoveredIdentifiers) {
 		this.containsTests = containsTests;
 		this.configurationParameters = configurationParameters;
 		this.outputDirectoryProvider = outputDirectoryProvider;
+		this.discoveredIdentifiers = discoveredIdentifiers;
+		if (discoveredIdentifiers != null) {
+			this.roots.addAll(discoveredIdentifiers.getRoots());
+		}
 	}
 
 	@API(status = INTERNAL, since = "1.8")
@@ -117,7 +138,8 @@ public class TestPlan {
 		// Identifiers without a parent in this test plan. Could be a test
 		// engine that is used in a suite.
 		UniqueId parentId = testIdentifier.getParentIdObject().get();
-		if (!allIdentifiers.containsKey(parentId)) {
+		if (!allIdentifiers.containsKey(parentId)
+				&& (discoveredIdentifiers == null || !discoveredIdentifiers.contains(parentId))) {
 			roots.add(testIdentifier);
 			return;
 		}
@@ -169,7 +191,20 @@ public class TestPlan {
 	 */
 	@API(status = MAINTAINED, since = "1.10")
 	public Set<TestIdentifier> getChildren(UniqueId parentId) {
-		return children.containsKey(parentId) ? unmodifiableSet(children.get(parentId)) : emptySet();
+		Set<TestIdentifier> discoveredChildren = discoveredIdentifiers == null ? emptySet()
+				: discoveredIdentifiers.getChildren(parentId);
+		Set<TestIdentifier> addedChildren = children.get(parentId);
+		if (addedChildren == null) {
+			return discoveredChildren;
+		}
+		if (discoveredChildren.isEmpty()) {
+			return unmodifiableSet(addedChildren);
+		}
+		Set<TestIdentifier> result = new LinkedHashSet<>(discoveredChildren);
+		synchronized (addedChildren) {
+			result.addAll(addedChildren);
+		}
+		return unmodifiableSet(result);
 	}
 
 	/**
@@ -201,7 +236,11 @@ public class TestPlan {
 	@API(status = MAINTAINED, since = "1.10")
 	public TestIdentifier getTestIdentifier(UniqueId uniqueId) {
 		Preconditions.notNull(uniqueId, () -> "uniqueId must not be null");
-		return Preconditions.notNull(allIdentifiers.get(uniqueId),
+		TestIdentifier testIdentifier = allIdentifiers.get(uniqueId);
+		if (testIdentifier == null && discoveredIdentifiers != null) {
+			testIdentifier = discoveredIdentifiers.get(uniqueId);
+		}
+		return Preconditions.notNull(testIdentifier,
 			() -> "No TestIdentifier with unique ID [" + uniqueId + "] has been added to this TestPlan.");
 	}
 
@@ -215,7 +254,11 @@ public class TestPlan {
 	 */
 	public long countTestIdentifiers(Predicate<? super TestIdentifier> predicate) {
 		Preconditions.notNull(predicate, "Predicate must not be null");
-		return allIdentifiers.values().stream().filter(predicate).count();
+		long count = allIdentifiers.values().stream().filter(predicate).count();
+		if (discoveredIdentifiers != null) {
+			count += discoveredIdentifiers.stream().filter(predicate).count();
+		}
+		return count;
 	}
 
 	/**
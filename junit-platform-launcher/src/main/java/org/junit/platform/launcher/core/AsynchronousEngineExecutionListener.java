@@ -0,0 +1,231 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.FileEntry;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.LauncherConstants;
+
+/**
+ * {@link EngineExecutionListener} that buffers events in a bounded queue and
+ * delivers them to its delegate in batches on a dedicated thread.
+ *
+ * <p>Events are delivered in the order in which they were reported so that,
+ * for example, {@code executionStarted} is always delivered before
+ * {@code executionFinished} for the same test descriptor. If the queue is
+ * full, reporting threads wait until the dispatcher thread has caught up.
+ *
+ * <p>If the dispatcher thread is interrupted, it delivers all buffered events
+ * and subsequent events are delivered synchronously on the reporting threads
+ * so that they do not wait for a dispatcher thread that no longer exists.
+ *
+ * <p>{@link #close()} must be called once execution has finished to deliver
+ * all remaining events.
+ *
+ * @since 6.0
+ * @see LauncherConstants#ASYNC_EXECUTION_LISTENERS_ENABLED_PROPERTY_NAME
+ */
+class AsynchronousEngineExecutionListener implements EngineExecutionListener, AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(AsynchronousEngineExecutionListener.class);
+
+	private static final Runnable END_OF_EVENTS = () -> {
+	};
+
+	private final EngineExecutionListener delegate;
+	private final BlockingQueue<Runnable> events;
+	private final int maxBatchSize;
+	private final Thread dispatcherThread;
+
+	private final Object synchronousDeliveryLock = new Object();
+
+	private volatile boolean synchronousDelivery;
+
+	private volatile @Nullable Throwable unrecoverableFailure;
+
+	AsynchronousEngineExecutionListener(EngineExecutionListener delegate, int bufferSize) {
+		Preconditions.condition(bufferSize > 0, () -> "Buffer size must be greater than zero but was " + bufferSize);
+		this.delegate = delegate;
+		this.events = new ArrayBlockingQueue<>(bufferSize);
+		this.maxBatchSize = bufferSize;
+		this.dispatcherThread = new Thread(this::dispatchEvents, "junit-platform-event-dispatcher");
+		this.dispatcherThread.setDaemon(true);
+		this.dispatcherThread.start();
+	}
+
+	@Override
+	public void dynamicTestRegistered(TestDescriptor testDescriptor) {
+		enqueue(() -> delegate.dynamicTestRegistered(testDescriptor));
+	}
+
+	@Override
+	public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+		enqueue(() -> delegate.executionSkipped(testDescriptor, reason));
+	}
+
+	@Override
+	public void executionStarted(TestDescriptor testDescriptor) {
+		enqueue(() -> delegate.executionStarted(testDescriptor));
+	}
+
+	@Override
+	public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+		enqueue(() -> delegate.executionFinished(testDescriptor, testExecutionResult));
+	}
+
+	@Override
+	public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+		enqueue(() -> delegate.reportingEntryPublished(testDescriptor, entry));
+	}
+
+	@Override
+	public void fileEntryPublished(TestDescriptor testDescriptor, FileEntry file) {
+		enqueue(() -> delegate.fileEntryPublished(testDescriptor, file));
+	}
+
+	private void enqueue(Runnable event) {
+		if (this.synchronousDelivery) {
+			deliverSynchronously(event);
+			return;
+		}
+		// Avoid creating a managed blocker if the queue is not full
+		if (!this.events.offer(event)) {
+			try {
+				ForkJoinPool.managedBlock(new EnqueueManagedBlocker(event));
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw ExceptionUtils.throwAsUncheckedException(e);
+			}
+		}
+		// The dispatcher thread may have stopped before the event was enqueued
+		if (this.synchronousDelivery) {
+			deliverSynchronously(null);
+		}
+	}
+
+	/**
+	 * Deliver all buffered events followed by the supplied event, if any, on
+	 * the calling thread.
+	 */
+	private void deliverSynchronously(@Nullable Runnable event) {
+		synchronized (this.synchronousDeliveryLock) {
+			Runnable bufferedEvent;
+			while ((bufferedEvent = this.events.poll()) != null) {
+				if (bufferedEvent != END_OF_EVENTS) {
+					deliver(bufferedEvent);
+				}
+			}
+			if (event != null && event != END_OF_EVENTS) {
+				deliver(event);
+			}
+		}
+	}
+
+	private void dispatchEvents() {
+		List<Runnable> batch = new ArrayList<>();
+		while (true) {
+			try {
+				batch.add(this.events.take());
+			}
+			catch (InterruptedException e) {
+				logger.warn(() -> "Event dispatcher thread was interrupted; delivering remaining events synchronously");
+				this.synchronousDelivery = true;
+				deliverSynchronously(null);
+				return;
+			}
+			this.events.drainTo(batch, this.maxBatchSize - 1);
+			for (Runnable event : batch) {
+				if (event == END_OF_EVENTS) {
+					return;
+				}
+				deliver(event);
+			}
+			batch.clear();
+		}
+	}
+
+	private void deliver(Runnable event) {
+		try {
+			event.run();
+		}
+		catch (OutOfMemoryError error) {
+			// Keep delivering events so that reporting threads are not blocked
+			// forever and rethrow the error once execution has finished
+			this.unrecoverableFailure = error;
+		}
+		catch (Throwable throwable) {
+			logger.warn(throwable, () -> "Failed to deliver execution event to listener");
+		}
+	}
+
+	/**
+	 * Deliver all remaining events and stop the dispatcher thread.
+	 *
+	 * <p>An {@link OutOfMemoryError} thrown by the delegate while delivering
+	 * events is rethrown by this method.
+	 */
+	@Override
+	public void close() {
+		enqueue(END_OF_EVENTS);
+		try {
+			this.dispatcherThread.join();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw ExceptionUtils.throwAsUncheckedException(e);
+		}
+		Throwable failure = this.unrecoverableFailure;
+		if (failure != null) {
+			throw ExceptionUtils.throwAsUncheckedException(failure);
+		}
+	}
+
+	private class EnqueueManagedBlocker implements ForkJoinPool.ManagedBlocker {
+
+		private final Runnable event;
+		private volatile boolean enqueued;
+
+		EnqueueManagedBlocker(Runnable event) {
+			this.event = event;
+		}
+
+		@Override
+		public boolean block() throws InterruptedException {
+			if (!this.enqueued) {
+				AsynchronousEngineExecutionListener.this.events.put(this.event);
+				this.enqueued = true;
+			}
+			return true;
+		}
+
+		@Override
+		public boolean isReleasable() {
+			return this.enqueued || (this.enqueued = AsynchronousEngineExecutionListener.this.events.offer(this.event));
+		}
+
+	}
+
+}
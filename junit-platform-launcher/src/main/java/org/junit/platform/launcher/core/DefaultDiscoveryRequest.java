@@ -12,6 +12,7 @@ package org.junit.platform.launcher.core;
 
 import java.util.List;
 
+import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.DiscoveryFilter;
@@ -51,10 +52,13 @@ final class DefaultDiscoveryRequest implements LauncherDiscoveryRequest {
 
 	private final OutputDirectoryProvider outputDirectoryProvider;
 
+	// Updates the index of incremental discovery, if enabled, once the discovered tests have been executed
+	private final @Nullable IncrementalDiscovery incrementalDiscovery;
+
 	DefaultDiscoveryRequest(List<DiscoverySelector> selectors, List<EngineFilter> engineFilters,
 			List<DiscoveryFilter<?>> discoveryFilters, List<PostDiscoveryFilter> postDiscoveryFilters,
 			LauncherConfigurationParameters configurationParameters, LauncherDiscoveryListener discoveryListener,
-			OutputDirectoryProvider outputDirectoryProvider) {
+			OutputDirectoryProvider outputDirectoryProvider, @Nullable IncrementalDiscovery incrementalDiscovery) {
 		this.selectors = List.copyOf(selectors);
 		this.engineFilters = List.copyOf(engineFilters);
 		this.discoveryFilters = List.copyOf(discoveryFilters);
@@ -62,6 +66,7 @@ final class DefaultDiscoveryRequest implements LauncherDiscoveryRequest {
 		this.configurationParameters = configurationParameters;
 		this.discoveryListener = discoveryListener;
 		this.outputDirectoryProvider = outputDirectoryProvider;
+		this.incrementalDiscovery = incrementalDiscovery;
 	}
 
 	@Override
@@ -101,4 +106,9 @@ final class DefaultDiscoveryRequest implements LauncherDiscoveryRequest {
 		return this.outputDirectoryProvider;
 	}
 
+	@Nullable
+	IncrementalDiscovery getIncrementalDiscovery() {
+		return this.incrementalDiscovery;
+	}
+
 }
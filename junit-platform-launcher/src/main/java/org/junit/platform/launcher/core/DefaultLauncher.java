@@ -88,7 +88,13 @@ class DefaultLauncher implements Launcher {
 		Preconditions.notNull(discoveryRequest, "LauncherDiscoveryRequest must not be null");
 		Preconditions.notNull(listeners, "TestExecutionListener array must not be null");
 		Preconditions.containsNoNullElements(listeners, "individual listeners must not be null");
-		execute(InternalTestPlan.from(discover(discoveryRequest, EXECUTION)), listeners);
+		if (executionOrchestrator.isPipelinedExecutionEnabled(discoveryRequest.getConfigurationParameters(),
+			listeners)) {
+			executePipelined(discoveryRequest, listeners);
+		}
+		else {
+			execute(InternalTestPlan.from(discover(discoveryRequest, EXECUTION)), listeners);
+		}
 	}
 
 	@Override
@@ -110,6 +116,15 @@ class DefaultLauncher implements Launcher {
 		}
 	}
 
+	private void executePipelined(LauncherDiscoveryRequest discoveryRequest, TestExecutionListener[] listeners) {
+		try (NamespacedHierarchicalStore<Namespace> requestLevelStore = createRequestLevelStore()) {
+			executionOrchestrator.executePipelined(discoveryRequest,
+				engineDiscoveryFinished -> discoveryOrchestrator.discover(discoveryRequest, EXECUTION,
+					engineDiscoveryFinished),
+				requestLevelStore, listeners);
+		}
+	}
+
 	private NamespacedHierarchicalStore<Namespace> createRequestLevelStore() {
 		return new NamespacedHierarchicalStore<>(sessionLevelStore, closeAutoCloseables());
 	}
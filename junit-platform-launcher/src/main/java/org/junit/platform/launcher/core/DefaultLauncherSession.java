@@ -17,6 +17,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.commons.support.scanning.DefaultClasspathScanner;
 import org.junit.platform.engine.support.store.Namespace;
 import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
 import org.junit.platform.launcher.Launcher;
@@ -67,6 +68,9 @@ class DefaultLauncherSession implements LauncherSession {
 				interceptor);
 		}
 		this.launcher = new DelegatingLauncher(launcher);
+		// Classpath roots are usually scanned repeatedly within a session, for example, for multiple packages
+		this.store.put(Namespace.create(DefaultLauncherSession.class), "jarCentralDirectoryCache",
+			DefaultClasspathScanner.cacheJarCentralDirectories());
 		listener.launcherSessionOpened(this);
 	}
 
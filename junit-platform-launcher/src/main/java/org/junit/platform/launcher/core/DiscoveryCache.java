@@ -0,0 +1,465 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.platform.launcher.LauncherConstants.DISCOVERY_CACHE_FILE_PROPERTY_NAME;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.DiscoveryFilter;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.DiscoverySelectorIdentifier;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.ClassSelector;
+import org.junit.platform.engine.discovery.ClasspathRootSelector;
+import org.junit.platform.engine.discovery.IterationSelector;
+import org.junit.platform.engine.discovery.MethodSelector;
+import org.junit.platform.engine.discovery.NestedClassSelector;
+import org.junit.platform.engine.discovery.NestedMethodSelector;
+import org.junit.platform.engine.discovery.UniqueIdSelector;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+
+/**
+ * Persistent cache of the unique IDs of the top-level containers each test
+ * engine resolved for a discovery request.
+ *
+ * <p>In addition, each entry contains a hash of the unique IDs of all
+ * descriptors the engine resolved, so that a result rediscovered from the
+ * cached top-level containers can be verified to be complete and not wider
+ * than the original one, and the selectors of the request the engine could
+ * not resolve.
+ *
+ * <p>Entries are stored in a {@linkplain Properties properties file} encoded
+ * using UTF-8. Their keys start with a fingerprint of the classpath followed
+ * by a hash of the request and the unique ID of the engine. When the file is
+ * written, it is merged with its current content so that builds with
+ * different classpaths may share it. Only entries of the
+ * {@value #MAX_CLASSPATH_FINGERPRINTS} most recently used classpath
+ * fingerprints are retained.
+ *
+ * @since 6.0
+ * @see org.junit.platform.launcher.LauncherConstants#DISCOVERY_CACHE_FILE_PROPERTY_NAME
+ */
+class DiscoveryCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(DiscoveryCache.class);
+
+	private static final String KEY_SEPARATOR = "/";
+	private static final String INDEX_SEPARATOR = "#";
+	private static final String FINGERPRINT_SEPARATOR = "-";
+	private static final String DESCENDANTS_SUFFIX = INDEX_SEPARATOR + "descendants";
+	private static final String UNRESOLVED_SUFFIX = INDEX_SEPARATOR + "unresolved";
+	private static final String LIST_SEPARATOR = ",";
+
+	static final int MAX_CLASSPATH_FINGERPRINTS = 8;
+
+	/**
+	 * Create a discovery cache for the supplied request.
+	 *
+	 * @return the discovery cache or {@code null} if the cache is disabled or
+	 * the request cannot be cached
+	 */
+	static @Nullable DiscoveryCache create(LauncherDiscoveryRequest request) {
+		Optional<Path> file = request.getConfigurationParameters().get(DISCOVERY_CACHE_FILE_PROPERTY_NAME, Path::of);
+		if (file.isEmpty()) {
+			return null;
+		}
+		List<DiscoverySelector> selectors = request.getSelectorsByType(DiscoverySelector.class);
+		if (!selectors.stream().allMatch(DiscoveryCache::selectsContainers)) {
+			logger.debug(() -> "Discovery cache is not used since not all selectors select complete containers");
+			return null;
+		}
+		String requestHash = computeRequestHash(request);
+		if (requestHash == null) {
+			logger.debug(() -> "Discovery cache is not used since not all selectors have an identifier");
+			return null;
+		}
+		String classpathFingerprint = computeClasspathFingerprint(request);
+		return new DiscoveryCache(file.get(), selectors, classpathFingerprint,
+			classpathFingerprint + FINGERPRINT_SEPARATOR + requestHash);
+	}
+
+	/**
+	 * Determine whether the supplied selector selects complete top-level
+	 * containers rather than individual tests or nested containers.
+	 *
+	 * <p>Results for other selectors would be widened to their enclosing
+	 * top-level containers when rediscovered from the cache and are therefore
+	 * never cached.
+	 */
+	private static boolean selectsContainers(DiscoverySelector selector) {
+		if (selector instanceof MethodSelector || selector instanceof NestedMethodSelector
+				|| selector instanceof NestedClassSelector || selector instanceof IterationSelector) {
+			return false;
+		}
+		if (selector instanceof ClassSelector classSelector) {
+			return !classSelector.getClassName().contains("$");
+		}
+		if (selector instanceof UniqueIdSelector uniqueIdSelector) {
+			// engine and top-level container
+			return uniqueIdSelector.getUniqueId().getSegments().size() <= 2;
+		}
+		return true;
+	}
+
+	private final Path file;
+	private final List<DiscoverySelector> selectors;
+	private final String classpathFingerprint;
+	private final String keyPrefix;
+	private final Map<String, String> entries;
+	private volatile boolean modified;
+
+	private DiscoveryCache(Path file, List<DiscoverySelector> selectors, String classpathFingerprint,
+			String keyPrefix) {
+		this.file = file;
+		this.selectors = selectors;
+		this.classpathFingerprint = classpathFingerprint;
+		this.keyPrefix = keyPrefix;
+		this.entries = new ConcurrentHashMap<>(readEntries(file));
+	}
+
+	/**
+	 * Get the cached entry of the engine with the supplied unique ID.
+	 *
+	 * @return the cached entry or {@code null} if there is no valid entry
+	 */
+	@Nullable
+	Entry get(UniqueId uniqueEngineId) {
+		String key = toKey(uniqueEngineId);
+		String count = this.entries.get(key);
+		String descendantsHash = this.entries.get(key + DESCENDANTS_SUFFIX);
+		String unresolvedSelectorIndexes = this.entries.get(key + UNRESOLVED_SUFFIX);
+		if (count == null || descendantsHash == null || unresolvedSelectorIndexes == null) {
+			return null;
+		}
+		try {
+			int size = Integer.parseInt(count);
+			List<UniqueId> containerIds = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				String uniqueId = this.entries.get(key + INDEX_SEPARATOR + i);
+				if (uniqueId == null) {
+					return null;
+				}
+				containerIds.add(UniqueId.parse(uniqueId));
+			}
+			Set<DiscoverySelector> unresolvedSelectors = new HashSet<>();
+			for (String index : unresolvedSelectorIndexes.split(LIST_SEPARATOR)) {
+				if (!index.isEmpty()) {
+					unresolvedSelectors.add(this.selectors.get(Integer.parseInt(index)));
+				}
+			}
+			return new Entry(containerIds, descendantsHash, unresolvedSelectors);
+		}
+		catch (RuntimeException ex) {
+			logger.debug(ex, () -> "Ignoring invalid discovery cache entry for engine " + uniqueEngineId);
+			return null;
+		}
+	}
+
+	/**
+	 * Cache the unique IDs of the children and a hash of the unique IDs of all
+	 * descendants of the supplied engine descriptor along with the selectors
+	 * of the request that could not be resolved.
+	 */
+	void put(TestDescriptor engineDescriptor, Set<DiscoverySelector> unresolvedSelectors) {
+		String key = toKey(engineDescriptor.getUniqueId());
+		List<UniqueId> uniqueIds = getChildIds(engineDescriptor);
+		this.entries.keySet().removeIf(existingKey -> existingKey.startsWith(key + INDEX_SEPARATOR));
+		for (int i = 0; i < uniqueIds.size(); i++) {
+			this.entries.put(key + INDEX_SEPARATOR + i, uniqueIds.get(i).toString());
+		}
+		this.entries.put(key + DESCENDANTS_SUFFIX, computeDescendantsHash(engineDescriptor));
+		StringJoiner unresolvedSelectorIndexes = new StringJoiner(LIST_SEPARATOR);
+		for (int i = 0; i < this.selectors.size(); i++) {
+			if (unresolvedSelectors.contains(this.selectors.get(i))) {
+				unresolvedSelectorIndexes.add(String.valueOf(i));
+			}
+		}
+		this.entries.put(key + UNRESOLVED_SUFFIX, unresolvedSelectorIndexes.toString());
+		this.entries.put(key, String.valueOf(uniqueIds.size()));
+		this.modified = true;
+	}
+
+	/**
+	 * Get the selectors of the request this cache was created for.
+	 */
+	List<DiscoverySelector> getSelectors() {
+		return this.selectors;
+	}
+
+	/**
+	 * Write the cache to its file if it has been modified.
+	 *
+	 * <p>The entries of this cache's request are merged into the current
+	 * content of the file which may have been written by another process in
+	 * the meantime.
+	 */
+	void save() {
+		if (!this.modified) {
+			return;
+		}
+		logger.debug(() -> "Writing discovery cache to " + this.file.toAbsolutePath());
+		String requestKeyPrefix = this.keyPrefix + KEY_SEPARATOR;
+		Map<String, String> mergedEntries = readEntries(this.file);
+		mergedEntries.keySet().removeIf(key -> key.startsWith(requestKeyPrefix));
+		this.entries.forEach((key, value) -> {
+			if (key.startsWith(requestKeyPrefix)) {
+				mergedEntries.put(key, value);
+			}
+		});
+		// The value of a fingerprint's own key records when it was last written
+		mergedEntries.put(this.classpathFingerprint, String.valueOf(System.currentTimeMillis()));
+		retainMostRecentClasspathFingerprints(mergedEntries);
+		Properties properties = new Properties();
+		properties.putAll(mergedEntries);
+		try {
+			Path target = this.file.toAbsolutePath();
+			Path directory = requireNonNull(target.getParent());
+			Files.createDirectories(directory);
+			// Write to a temporary file first so concurrent readers never see a partial file
+			Path tempFile = Files.createTempFile(directory, target.getFileName() + "-", ".tmp");
+			try {
+				try (Writer writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+					properties.store(writer, "Discovery cache");
+				}
+				move(tempFile, target);
+			}
+			finally {
+				Files.deleteIfExists(tempFile);
+			}
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> "Failed to write discovery cache to " + this.file.toAbsolutePath());
+		}
+	}
+
+	private static void retainMostRecentClasspathFingerprints(Map<String, String> entries) {
+		Map<String, Long> lastWritten = new HashMap<>();
+		entries.forEach((key, value) -> {
+			if (!key.contains(FINGERPRINT_SEPARATOR)) {
+				try {
+					lastWritten.put(key, Long.parseLong(value));
+				}
+				catch (NumberFormatException ignore) {
+					// discarded below
+				}
+			}
+		});
+		Set<String> retainedFingerprints = lastWritten.entrySet().stream() //
+				.sorted(Map.Entry.<String, Long> comparingByValue().reversed()) //
+				.limit(MAX_CLASSPATH_FINGERPRINTS) //
+				.map(Map.Entry::getKey) //
+				.collect(toSet());
+		entries.keySet().removeIf(key -> {
+			int separatorIndex = key.indexOf(FINGERPRINT_SEPARATOR);
+			String fingerprint = separatorIndex < 0 ? key : key.substring(0, separatorIndex);
+			return !retainedFingerprints.contains(fingerprint);
+		});
+	}
+
+	static List<UniqueId> getChildIds(TestDescriptor engineDescriptor) {
+		return engineDescriptor.getChildren().stream().map(TestDescriptor::getUniqueId).toList();
+	}
+
+	/**
+	 * Compute a hash of the unique IDs of all descendants of the supplied
+	 * engine descriptor, independent of their order.
+	 */
+	static String computeDescendantsHash(TestDescriptor engineDescriptor) {
+		MessageDigest digest = newMessageDigest();
+		engineDescriptor.getDescendants().stream() //
+				.map(descendant -> descendant.getUniqueId().toString()) //
+				.sorted() //
+				.forEach(uniqueId -> update(digest, "descendant", uniqueId));
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Cached discovery result of a test engine.
+	 *
+	 * @param containerIds the unique IDs of the engine's top-level containers
+	 * @param descendantsHash the hash of the unique IDs of all descendants of
+	 * the engine descriptor
+	 * @param unresolvedSelectors the selectors of the request that the engine
+	 * could not resolve
+	 */
+	record Entry(List<UniqueId> containerIds, String descendantsHash, Set<DiscoverySelector> unresolvedSelectors) {
+	}
+
+	private String toKey(UniqueId uniqueEngineId) {
+		return this.keyPrefix + KEY_SEPARATOR + uniqueEngineId;
+	}
+
+	private static void move(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, ATOMIC_MOVE, REPLACE_EXISTING);
+		}
+		catch (AtomicMoveNotSupportedException ex) {
+			Files.move(source, target, REPLACE_EXISTING);
+		}
+	}
+
+	private static Map<String, String> readEntries(Path file) {
+		Map<String, String> entries = new TreeMap<>();
+		if (!Files.isRegularFile(file)) {
+			return entries;
+		}
+		Properties properties = new Properties();
+		try (Reader reader = Files.newBufferedReader(file, UTF_8)) {
+			properties.load(reader);
+		}
+		catch (IOException | IllegalArgumentException ex) {
+			logger.warn(ex, () -> "Failed to read discovery cache from " + file.toAbsolutePath());
+			return entries;
+		}
+		properties.stringPropertyNames().forEach(key -> entries.put(key, properties.getProperty(key)));
+		return entries;
+	}
+
+	/**
+	 * Compute a hash of the selectors, discovery filters, and configuration
+	 * parameters of the supplied request, excluding JVM system properties
+	 * whose names do not start with {@code junit.}.
+	 *
+	 * @return the hash or {@code null} if not all selectors have an identifier
+	 */
+	private static @Nullable String computeRequestHash(LauncherDiscoveryRequest request) {
+		MessageDigest digest = newMessageDigest();
+		for (DiscoverySelector selector : request.getSelectorsByType(DiscoverySelector.class)) {
+			Optional<DiscoverySelectorIdentifier> identifier = selector.toIdentifier();
+			if (identifier.isEmpty()) {
+				return null;
+			}
+			update(digest, "selector", identifier.get().toString());
+		}
+		for (DiscoveryFilter<?> filter : request.getFiltersByType(DiscoveryFilter.class)) {
+			update(digest, "filter", filter.toString());
+		}
+		ConfigurationParameters configurationParameters = request.getConfigurationParameters();
+		for (String key : new TreeSet<>(configurationParameters.keySet())) {
+			// JVM system properties like "user.timezone" may change during a run
+			if (key.startsWith("junit.") || System.getProperty(key) == null) {
+				update(digest, key, configurationParameters.get(key).orElse(""));
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Compute a fingerprint of the paths, sizes, and last-modified times of all
+	 * files on the class and module path and in the classpath roots selected
+	 * by the supplied request.
+	 */
+	private static String computeClasspathFingerprint(LauncherDiscoveryRequest request) {
+		Set<Path> roots = new LinkedHashSet<>();
+		addPaths(roots, System.getProperty("java.class.path"));
+		addPaths(roots, System.getProperty("jdk.module.path"));
+		for (ClasspathRootSelector selector : request.getSelectorsByType(ClasspathRootSelector.class)) {
+			if ("file".equals(selector.getClasspathRoot().getScheme())) {
+				roots.add(Path.of(selector.getClasspathRoot()));
+			}
+		}
+		MessageDigest digest = newMessageDigest();
+		for (Path root : roots) {
+			update(digest, "root", root.toAbsolutePath().toString());
+			try {
+				updateRecursively(digest, root);
+			}
+			catch (IOException ex) {
+				logger.debug(ex, () -> "Failed to compute fingerprint of classpath root " + root);
+				update(digest, "error", String.valueOf(ex));
+			}
+		}
+		// Shortened since it's used as a prefix of all keys
+		return HexFormat.of().formatHex(digest.digest(), 0, 8);
+	}
+
+	private static void addPaths(Set<Path> roots, @Nullable String paths) {
+		if (paths == null || paths.isBlank()) {
+			return;
+		}
+		for (String path : paths.split(File.pathSeparator)) {
+			if (!path.isBlank()) {
+				roots.add(Path.of(path));
+			}
+		}
+	}
+
+	private static void updateRecursively(MessageDigest digest, Path root) throws IOException {
+		if (!Files.exists(root)) {
+			return;
+		}
+		// Sorted since the order in which files are visited is not specified
+		Map<String, String> files = new TreeMap<>();
+		Files.walkFileTree(root, new SimpleFileVisitor<>() {
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+				files.put(root.relativize(file).toString(),
+					attributes.size() + ":" + attributes.lastModifiedTime().toMillis());
+				return FileVisitResult.CONTINUE;
+			}
+		});
+		files.forEach((path, attributes) -> update(digest, path, attributes));
+	}
+
+	private static void update(MessageDigest digest, String key, String value) {
+		digest.update(key.getBytes(UTF_8));
+		digest.update((byte) 0);
+		digest.update(value.getBytes(UTF_8));
+		digest.update((byte) 0);
+	}
+
+	private static MessageDigest newMessageDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new JUnitException("SHA-256 is not supported", ex);
+		}
+	}
+
+}
@@ -10,30 +10,52 @@
 
 package org.junit.platform.launcher.core;
 
+import static java.util.Objects.requireNonNull;
+import static java.util.Objects.requireNonNullElse;
 import static java.util.stream.Collectors.joining;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.junit.platform.engine.Filter.composeFilters;
+import static org.junit.platform.launcher.LauncherConstants.PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.PARALLEL_DISCOVERY_MAX_THREADS_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherPhase.getDiscoveryIssueFailurePhase;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.UnrecoverableExceptions;
 import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.DiscoveryIssue;
+import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.Filter;
 import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.SelectorResolutionResult;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
 import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
 import org.junit.platform.launcher.EngineDiscoveryResult;
 import org.junit.platform.launcher.LauncherDiscoveryListener;
@@ -77,11 +99,27 @@ public class EngineDiscoveryOrchestrator {
 	 * {@linkplain TestDescriptor#prune() prunes} the resulting test tree.
 	 */
 	public LauncherDiscoveryResult discover(LauncherDiscoveryRequest request) {
-		return discover(request, Optional.empty(), UniqueId::forEngine);
+		return discover(request, Optional.empty(), UniqueId::forEngine, null);
 	}
 
 	LauncherDiscoveryResult discover(LauncherDiscoveryRequest request, LauncherPhase phase) {
-		return discover(request, Optional.of(phase), UniqueId::forEngine);
+		return discover(request, Optional.of(phase), UniqueId::forEngine, null);
+	}
+
+	/**
+	 * Discovers tests for the supplied request in the supplied phase and
+	 * passes the result of each engine to the supplied consumer as soon as it
+	 * is available.
+	 *
+	 * <p>The consumer is called on the calling thread in the order of the
+	 * configured test engines once {@linkplain PostDiscoveryFilter
+	 * post-discovery filters} have been applied to the engine's test tree and
+	 * it has been {@linkplain TestDescriptor#prune() pruned}. Remaining
+	 * engines are discovered on a separate thread in the meantime.
+	 */
+	LauncherDiscoveryResult discover(LauncherDiscoveryRequest request, LauncherPhase phase,
+			BiConsumer<TestEngine, EngineResultInfo> engineDiscoveryFinished) {
+		return discover(request, Optional.of(phase), UniqueId::forEngine, engineDiscoveryFinished);
 	}
 
 	/**
@@ -99,12 +137,13 @@ public class EngineDiscoveryOrchestrator {
 	 * for engines without tests.
 	 */
 	public LauncherDiscoveryResult discover(LauncherDiscoveryRequest request, UniqueId parentId) {
-		LauncherDiscoveryResult result = discover(request, Optional.empty(), parentId::appendEngine);
+		LauncherDiscoveryResult result = discover(request, Optional.empty(), parentId::appendEngine, null);
 		return result.withRetainedEngines(TestDescriptor::containsTests);
 	}
 
 	private LauncherDiscoveryResult discover(LauncherDiscoveryRequest request, Optional<LauncherPhase> phase,
-			Function<String, UniqueId> uniqueIdCreator) {
+			Function<String, UniqueId> uniqueIdCreator,
+			@Nullable BiConsumer<TestEngine, EngineResultInfo> engineDiscoveryFinished) {
 		DiscoveryIssueCollector issueCollector = new DiscoveryIssueCollector(request.getConfigurationParameters());
 		LauncherDiscoveryListener listener = getLauncherDiscoveryListener(request, issueCollector);
 		LauncherDiscoveryRequest delegatingRequest = new DelegatingLauncherDiscoveryRequest(request) {
@@ -114,15 +153,25 @@ public class EngineDiscoveryOrchestrator {
 			}
 		};
 		listener.launcherDiscoveryStarted(request);
+		AtomicBoolean discoveryFinished = new AtomicBoolean();
+		Runnable finishDiscovery = () -> {
+			if (discoveryFinished.compareAndSet(false, true)) {
+				listener.launcherDiscoveryFinished(request);
+			}
+		};
 		LauncherDiscoveryResult discoveryResult;
 		try {
+			DiscoveryCache discoveryCache = DiscoveryCache.create(request);
 			Map<TestEngine, EngineResultInfo> testEngineResults = discoverSafely(delegatingRequest, phase,
-				issueCollector, uniqueIdCreator);
+				issueCollector, uniqueIdCreator, discoveryCache, engineDiscoveryFinished, finishDiscovery);
+			if (discoveryCache != null) {
+				discoveryCache.save();
+			}
 			discoveryResult = new LauncherDiscoveryResult(testEngineResults, request.getConfigurationParameters(),
-				request.getOutputDirectoryProvider());
+				request.getOutputDirectoryProvider(), IncrementalDiscovery.from(request).orElse(null));
 		}
 		finally {
-			listener.launcherDiscoveryFinished(request);
+			finishDiscovery.run();
 		}
 		if (shouldReportDiscoveryIssues(request, phase)) {
 			reportDiscoveryIssues(discoveryResult);
@@ -155,10 +204,12 @@ public class EngineDiscoveryOrchestrator {
 
 	private Map<TestEngine, EngineResultInfo> discoverSafely(LauncherDiscoveryRequest request,
 			Optional<LauncherPhase> phase, DiscoveryIssueCollector issueCollector,
-			Function<String, UniqueId> uniqueIdCreator) {
+			Function<String, UniqueId> uniqueIdCreator, @Nullable DiscoveryCache discoveryCache,
+			@Nullable BiConsumer<TestEngine, EngineResultInfo> engineDiscoveryFinished, Runnable finishDiscovery) {
 		Map<TestEngine, EngineResultInfo> testEngineDescriptors = new LinkedHashMap<>();
 		EngineFilterer engineFilterer = new EngineFilterer(request.getEngineFilters());
 
+		List<TestEngine> includedTestEngines = new ArrayList<>();
 		for (TestEngine testEngine : this.testEngines) {
 			boolean engineIsExcluded = engineFilterer.isExcluded(testEngine);
 
@@ -168,48 +219,288 @@ public class EngineDiscoveryOrchestrator {
 				continue;
 			}
 
-			logger.debug(() -> "Discovering tests%s in engine '%s'.".formatted(
-				phase.map(" during Launcher %s phase"::formatted).orElse(""), testEngine.getId()));
-
-			EngineResultInfo engineResult = discoverEngineRoot(testEngine, request, issueCollector, uniqueIdCreator);
-			testEngineDescriptors.put(testEngine, engineResult);
+			includedTestEngines.add(testEngine);
 		}
 
-		engineFilterer.performSanityChecks();
-
 		List<PostDiscoveryFilter> filters = new LinkedList<>(postDiscoveryFilters);
 		filters.addAll(request.getPostDiscoveryFilters());
 
-		applyPostDiscoveryFilters(testEngineDescriptors, filters);
-		prune(testEngineDescriptors);
+		BiConsumer<TestEngine, EngineResultInfo> engineResultConsumer = testEngineDescriptors::put;
+		if (engineDiscoveryFinished != null) {
+			// Results are consumed before all engines have been discovered
+			engineFilterer.performSanityChecks();
+			TestEngine lastTestEngine = includedTestEngines.isEmpty() ? null
+					: includedTestEngines.get(includedTestEngines.size() - 1);
+			engineResultConsumer = engineResultConsumer.andThen((testEngine, engineResult) -> {
+				Map<TestEngine, EngineResultInfo> singleEngineResult = Map.of(testEngine, engineResult);
+				applyPostDiscoveryFilters(singleEngineResult, filters);
+				prune(singleEngineResult);
+				if (testEngine == lastTestEngine) {
+					// Discovery listeners are notified before the last engine is executed
+					finishDiscovery.run();
+				}
+				engineDiscoveryFinished.accept(testEngine, engineResult);
+			});
+		}
+
+		int maxThreads = getMaxDiscoveryThreads(request.getConfigurationParameters());
+		if ((maxThreads > 1 || engineDiscoveryFinished != null) && includedTestEngines.size() > 1) {
+			discoverConcurrently(includedTestEngines, maxThreads, request, phase, issueCollector, uniqueIdCreator,
+				discoveryCache, engineResultConsumer);
+		}
+		else {
+			for (TestEngine testEngine : includedTestEngines) {
+				logDiscoveryStart(testEngine, phase);
+				EngineResultInfo engineResult = discoverEngineRoot(testEngine, request, issueCollector,
+					uniqueIdCreator, discoveryCache);
+				engineResultConsumer.accept(testEngine, engineResult);
+			}
+		}
+
+		if (engineDiscoveryFinished == null) {
+			engineFilterer.performSanityChecks();
+			applyPostDiscoveryFilters(testEngineDescriptors, filters);
+			prune(testEngineDescriptors);
+		}
 
 		return testEngineDescriptors;
 	}
 
+	private static void logDiscoveryStart(TestEngine testEngine, Optional<LauncherPhase> phase) {
+		logger.debug(() -> "Discovering tests%s in engine '%s'.".formatted(
+			phase.map(" during Launcher %s phase"::formatted).orElse(""), testEngine.getId()));
+	}
+
+	private static int getMaxDiscoveryThreads(ConfigurationParameters configurationParameters) {
+		if (!configurationParameters.getBoolean(PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME).orElse(false)) {
+			return 1;
+		}
+		return configurationParameters.get(PARALLEL_DISCOVERY_MAX_THREADS_PROPERTY_NAME, value -> {
+			int maxThreads = Integer.parseInt(value.strip());
+			Preconditions.condition(maxThreads > 0,
+				() -> "Maximum number of discovery threads must be greater than zero but was " + maxThreads);
+			return maxThreads;
+		}).orElseGet(() -> Runtime.getRuntime().availableProcessors());
+	}
+
 	private EngineResultInfo discoverEngineRoot(TestEngine testEngine, LauncherDiscoveryRequest request,
-			DiscoveryIssueCollector issueCollector, Function<String, UniqueId> uniqueIdCreator) {
+			DiscoveryIssueCollector issueCollector, Function<String, UniqueId> uniqueIdCreator,
+			@Nullable DiscoveryCache discoveryCache) {
 		UniqueId uniqueEngineId = uniqueIdCreator.apply(testEngine.getId());
-		LauncherDiscoveryListener listener = request.getDiscoveryListener();
 		try {
-			listener.engineDiscoveryStarted(uniqueEngineId);
-			TestDescriptor engineRoot = testEngine.discover(request, uniqueEngineId);
-			discoveryResultValidator.validate(testEngine, engineRoot);
-			listener.engineDiscoveryFinished(uniqueEngineId, EngineDiscoveryResult.successful());
+			TestDescriptor engineRoot = discoverEngineRoot(testEngine, request, uniqueEngineId, discoveryCache);
 			return EngineResultInfo.completed(engineRoot, issueCollector.toNotifier());
 		}
+		catch (Throwable throwable) {
+			return handleDiscoveryFailure(testEngine, uniqueEngineId, request.getDiscoveryListener(), issueCollector,
+				throwable);
+		}
+	}
+
+	private TestDescriptor discoverEngineRoot(TestEngine testEngine, LauncherDiscoveryRequest request,
+			UniqueId uniqueEngineId, @Nullable DiscoveryCache discoveryCache) {
+		if (discoveryCache == null) {
+			return discoverEngineRoot(testEngine, request, uniqueEngineId);
+		}
+		TestDescriptor engineRoot = discoverEngineRootFromCache(testEngine, request, uniqueEngineId, discoveryCache);
+		if (engineRoot != null) {
+			return engineRoot;
+		}
+		DiscoveryIssueDetector issueDetector = new DiscoveryIssueDetector();
+		LauncherDiscoveryListener listener = ListenerRegistry.forLauncherDiscoveryListeners() //
+				.add(request.getDiscoveryListener()) //
+				.add(issueDetector) //
+				.getCompositeListener();
+		engineRoot = discoverEngineRoot(testEngine, withDiscoveryListener(request, listener), uniqueEngineId);
+		if (!issueDetector.issuesDetected) {
+			discoveryCache.put(engineRoot, issueDetector.unresolvedSelectors);
+		}
+		return engineRoot;
+	}
+
+	/**
+	 * Discover the supplied test engine by selecting the unique IDs of the
+	 * top-level containers cached for it.
+	 *
+	 * <p>Events for the discovery listener of the supplied request are only
+	 * reported if the unique IDs of all discovered descriptors match the
+	 * cached ones. In that case, the listener is notified about the selectors
+	 * of the supplied request rather than the ones used for discovery.
+	 * Otherwise, {@code null} is returned so the original request can be
+	 * discovered instead.
+	 */
+	private @Nullable TestDescriptor discoverEngineRootFromCache(TestEngine testEngine,
+			LauncherDiscoveryRequest request, UniqueId uniqueEngineId, DiscoveryCache discoveryCache) {
+		DiscoveryCache.Entry entry = discoveryCache.get(uniqueEngineId);
+		if (entry == null) {
+			return null;
+		}
+		List<DiscoverySelector> selectors = entry.containerIds().stream() //
+				.<DiscoverySelector> map(DiscoverySelectors::selectUniqueId) //
+				.toList();
+		DiscoveryIssueDetector issueDetector = new DiscoveryIssueDetector();
+		LauncherDiscoveryRequest cachedRequest = new DelegatingLauncherDiscoveryRequest(request) {
+			@Override
+			public LauncherDiscoveryListener getDiscoveryListener() {
+				return issueDetector;
+			}
+
+			@Override
+			public <T extends DiscoverySelector> List<T> getSelectorsByType(Class<T> selectorType) {
+				return selectors.stream().filter(selectorType::isInstance).map(selectorType::cast).toList();
+			}
+		};
+		try {
+			TestDescriptor engineRoot = discoverEngineRoot(testEngine, cachedRequest, uniqueEngineId);
+			if (!issueDetector.issuesDetected
+					&& DiscoveryCache.getChildIds(engineRoot).equals(entry.containerIds())
+					&& DiscoveryCache.computeDescendantsHash(engineRoot).equals(entry.descendantsHash())) {
+				logger.debug(() -> "Discovered tests in engine '%s' using discovery cache.".formatted(
+					testEngine.getId()));
+				reportCachedDiscovery(request.getDiscoveryListener(), uniqueEngineId, discoveryCache.getSelectors(),
+					entry.unresolvedSelectors());
+				return engineRoot;
+			}
+		}
 		catch (Throwable throwable) {
 			UnrecoverableExceptions.rethrowIfUnrecoverable(throwable);
-			JUnitException cause = null;
-			if (throwable instanceof LinkageError error) {
-				cause = ClasspathAlignmentChecker.check(error).orElse(null);
+			logger.debug(throwable,
+				() -> "Failed to discover tests in engine '%s' using discovery cache.".formatted(testEngine.getId()));
+		}
+		logger.debug(() -> "Discarding cached discovery result of engine '%s'.".formatted(testEngine.getId()));
+		return null;
+	}
+
+	private static void reportCachedDiscovery(LauncherDiscoveryListener listener, UniqueId uniqueEngineId,
+			List<DiscoverySelector> selectors, Set<DiscoverySelector> unresolvedSelectors) {
+		listener.engineDiscoveryStarted(uniqueEngineId);
+		for (DiscoverySelector selector : selectors) {
+			SelectorResolutionResult result = unresolvedSelectors.contains(selector)
+					? SelectorResolutionResult.unresolved()
+					: SelectorResolutionResult.resolved();
+			listener.selectorProcessed(uniqueEngineId, selector, result);
+		}
+		listener.engineDiscoveryFinished(uniqueEngineId, EngineDiscoveryResult.successful());
+	}
+
+	private static LauncherDiscoveryRequest withDiscoveryListener(LauncherDiscoveryRequest request,
+			LauncherDiscoveryListener listener) {
+		return new DelegatingLauncherDiscoveryRequest(request) {
+			@Override
+			public LauncherDiscoveryListener getDiscoveryListener() {
+				return listener;
 			}
-			if (cause == null) {
-				String message = "TestEngine with ID '%s' failed to discover tests".formatted(testEngine.getId());
-				cause = new JUnitException(message, throwable);
+		};
+	}
+
+	private TestDescriptor discoverEngineRoot(TestEngine testEngine, LauncherDiscoveryRequest request,
+			UniqueId uniqueEngineId) {
+		LauncherDiscoveryListener listener = request.getDiscoveryListener();
+		listener.engineDiscoveryStarted(uniqueEngineId);
+		TestDescriptor engineRoot = testEngine.discover(request, uniqueEngineId);
+		discoveryResultValidator.validate(testEngine, engineRoot);
+		listener.engineDiscoveryFinished(uniqueEngineId, EngineDiscoveryResult.successful());
+		return engineRoot;
+	}
+
+	private static EngineResultInfo handleDiscoveryFailure(TestEngine testEngine, UniqueId uniqueEngineId,
+			LauncherDiscoveryListener listener, DiscoveryIssueCollector issueCollector, Throwable throwable) {
+		UnrecoverableExceptions.rethrowIfUnrecoverable(throwable);
+		JUnitException cause = null;
+		if (throwable instanceof LinkageError error) {
+			cause = ClasspathAlignmentChecker.check(error).orElse(null);
+		}
+		if (cause == null) {
+			String message = "TestEngine with ID '%s' failed to discover tests".formatted(testEngine.getId());
+			cause = new JUnitException(message, throwable);
+		}
+		listener.engineDiscoveryFinished(uniqueEngineId, EngineDiscoveryResult.failed(cause));
+		return EngineResultInfo.errored(new EngineDescriptor(uniqueEngineId, testEngine.getId()),
+			issueCollector.toNotifier(), cause);
+	}
+
+	/**
+	 * Discover the supplied test engines concurrently.
+	 *
+	 * <p>Events for the discovery listener of the supplied request are
+	 * recorded per engine and replayed in the order of the supplied engines
+	 * once an engine's discovery has finished so that listeners and the supplied
+	 * {@link DiscoveryIssueCollector} observe the same sequence of events as
+	 * during sequential discovery.
+	 */
+	private void discoverConcurrently(List<TestEngine> testEngines, int maxThreads, LauncherDiscoveryRequest request,
+			Optional<LauncherPhase> phase, DiscoveryIssueCollector issueCollector,
+			Function<String, UniqueId> uniqueIdCreator, @Nullable DiscoveryCache discoveryCache,
+			BiConsumer<TestEngine, EngineResultInfo> engineResultConsumer) {
+
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		AtomicInteger threadNumber = new AtomicInteger();
+		ExecutorService executorService = Executors.newFixedThreadPool(Math.min(maxThreads, testEngines.size()),
+			runnable -> {
+				Thread thread = new Thread(runnable, "junit-platform-discovery-" + threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				// Engines load test classes via the context class loader
+				thread.setContextClassLoader(contextClassLoader);
+				return thread;
+			});
+		try {
+			Map<TestEngine, Future<ConcurrentEngineDiscovery>> discoveries = new LinkedHashMap<>();
+			for (TestEngine testEngine : testEngines) {
+				logDiscoveryStart(testEngine, phase);
+				UniqueId uniqueEngineId = uniqueIdCreator.apply(testEngine.getId());
+				discoveries.put(testEngine,
+					executorService.submit(() -> discoverEngineRootConcurrently(testEngine, request, uniqueEngineId,
+						discoveryCache)));
 			}
-			listener.engineDiscoveryFinished(uniqueEngineId, EngineDiscoveryResult.failed(cause));
-			return EngineResultInfo.errored(new EngineDescriptor(uniqueEngineId, testEngine.getId()),
-				issueCollector.toNotifier(), cause);
+			LauncherDiscoveryListener listener = request.getDiscoveryListener();
+			discoveries.forEach((testEngine, future) -> {
+				ConcurrentEngineDiscovery discovery = await(future);
+				EngineResultInfo engineResult;
+				try {
+					discovery.events().replay(listener);
+					Throwable failure = discovery.failure();
+					if (failure != null) {
+						throw failure;
+					}
+					engineResult = EngineResultInfo.completed(requireNonNull(discovery.engineRoot()),
+						issueCollector.toNotifier());
+				}
+				catch (Throwable throwable) {
+					engineResult = handleDiscoveryFailure(testEngine, discovery.uniqueEngineId(), listener,
+						issueCollector, throwable);
+				}
+				engineResultConsumer.accept(testEngine, engineResult);
+			});
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private ConcurrentEngineDiscovery discoverEngineRootConcurrently(TestEngine testEngine,
+			LauncherDiscoveryRequest request, UniqueId uniqueEngineId, @Nullable DiscoveryCache discoveryCache) {
+		RecordingLauncherDiscoveryListener events = new RecordingLauncherDiscoveryListener();
+		LauncherDiscoveryRequest recordingRequest = withDiscoveryListener(request, events);
+		try {
+			TestDescriptor engineRoot = discoverEngineRoot(testEngine, recordingRequest, uniqueEngineId,
+				discoveryCache);
+			return new ConcurrentEngineDiscovery(uniqueEngineId, events, engineRoot, null);
+		}
+		catch (Throwable throwable) {
+			return new ConcurrentEngineDiscovery(uniqueEngineId, events, null, throwable);
+		}
+	}
+
+	private static <T> T await(Future<T> future) {
+		try {
+			return future.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw ExceptionUtils.throwAsUncheckedException(e);
+		}
+		catch (ExecutionException e) {
+			throw ExceptionUtils.throwAsUncheckedException(requireNonNullElse(e.getCause(), e));
 		}
 	}
 
@@ -274,4 +565,74 @@ public class EngineDiscoveryOrchestrator {
 		testEngineResults.values().forEach(result -> result.getRootDescriptor().accept(visitor));
 	}
 
+	private record ConcurrentEngineDiscovery(UniqueId uniqueEngineId, RecordingLauncherDiscoveryListener events,
+			@Nullable TestDescriptor engineRoot, @Nullable Throwable failure) {
+	}
+
+	/**
+	 * {@link LauncherDiscoveryListener} that records the events of the
+	 * discovery of a single engine so they can be replayed later.
+	 */
+	private static class RecordingLauncherDiscoveryListener implements LauncherDiscoveryListener {
+
+		private final List<Consumer<LauncherDiscoveryListener>> events = new ArrayList<>();
+
+		@Override
+		public void engineDiscoveryStarted(UniqueId engineId) {
+			record(listener -> listener.engineDiscoveryStarted(engineId));
+		}
+
+		@Override
+		public void engineDiscoveryFinished(UniqueId engineId, EngineDiscoveryResult result) {
+			record(listener -> listener.engineDiscoveryFinished(engineId, result));
+		}
+
+		@Override
+		public void selectorProcessed(UniqueId engineId, DiscoverySelector selector,
+				SelectorResolutionResult result) {
+			record(listener -> listener.selectorProcessed(engineId, selector, result));
+		}
+
+		@Override
+		public void issueEncountered(UniqueId engineId, DiscoveryIssue issue) {
+			record(listener -> listener.issueEncountered(engineId, issue));
+		}
+
+		// engines may report events from multiple threads
+		private synchronized void record(Consumer<LauncherDiscoveryListener> event) {
+			this.events.add(event);
+		}
+
+		synchronized void replay(LauncherDiscoveryListener listener) {
+			this.events.forEach(event -> event.accept(listener));
+		}
+	}
+
+	/**
+	 * {@link LauncherDiscoveryListener} that detects whether discovery issues
+	 * were encountered or selectors failed to be resolved and collects the
+	 * selectors that could not be resolved.
+	 */
+	private static class DiscoveryIssueDetector implements LauncherDiscoveryListener {
+
+		private final Set<DiscoverySelector> unresolvedSelectors = ConcurrentHashMap.newKeySet();
+		private volatile boolean issuesDetected;
+
+		@Override
+		public void selectorProcessed(UniqueId engineId, DiscoverySelector selector,
+				SelectorResolutionResult result) {
+			if (result.getStatus() == SelectorResolutionResult.Status.FAILED) {
+				this.issuesDetected = true;
+			}
+			else if (result.getStatus() == SelectorResolutionResult.Status.UNRESOLVED) {
+				this.unresolvedSelectors.add(selector);
+			}
+		}
+
+		@Override
+		public void issueEncountered(UniqueId engineId, DiscoveryIssue issue) {
+			this.issuesDetected = true;
+		}
+	}
+
 }
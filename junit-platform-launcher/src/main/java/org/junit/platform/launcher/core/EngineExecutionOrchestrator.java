@@ -10,17 +10,37 @@
 
 package org.junit.platform.launcher.core;
 
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.partitioningBy;
 import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_EXECUTION_LISTENERS_BUFFER_SIZE_DEFAULT;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_EXECUTION_LISTENERS_BUFFER_SIZE_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_EXECUTION_LISTENERS_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_EXECUTION_LISTENERS_EXCLUDE_PATTERN_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.CAPTURE_STDERR_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.CAPTURE_STDOUT_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.DRY_RUN_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.PIPELINED_EXECUTION_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.PIPELINED_EXECUTION_LISTENERS_INCLUDE_PATTERN_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.STACKTRACE_PRUNING_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherPhase.getDiscoveryIssueFailurePhase;
 import static org.junit.platform.launcher.core.ListenerRegistry.forEngineExecutionListeners;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ClassNamePatternFilterUtils;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.UnrecoverableExceptions;
 import org.junit.platform.engine.ConfigurationParameters;
@@ -32,10 +52,15 @@ import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.reporting.OutputDirectoryProvider;
 import org.junit.platform.engine.support.store.Namespace;
 import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
+import org.junit.platform.launcher.LauncherConstants;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.TestPlan;
 import org.junit.platform.launcher.core.LauncherDiscoveryResult.EngineResultInfo;
+import org.junit.platform.launcher.listeners.ExecutionTimeRecordingListener;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.UniqueIdTrackingListener;
 
 /**
  * Orchestrates test execution using the configured test engines.
@@ -45,6 +70,30 @@ import org.junit.platform.launcher.core.LauncherDiscoveryResult.EngineResultInfo
 @API(status = INTERNAL, since = "1.7", consumers = { "org.junit.platform.testkit", "org.junit.platform.suite.engine" })
 public class EngineExecutionOrchestrator {
 
+	private static final Logger logger = LoggerFactory.getLogger(EngineExecutionOrchestrator.class);
+
+	/**
+	 * Built-in listeners that record when events happen and are therefore
+	 * always called synchronously.
+	 *
+	 * @see LauncherConstants#ASYNC_EXECUTION_LISTENERS_EXCLUDE_PATTERN_PROPERTY_NAME
+	 */
+	private static final String SYNCHRONOUS_LISTENER_PATTERNS = String.join(",",
+		ExecutionTimeRecordingListener.class.getName(),
+		"org.junit.platform.reporting.legacy.xml.LegacyXmlReportGeneratingListener",
+		"org.junit.platform.reporting.open.xml.OpenTestReportGeneratingListener");
+
+	/**
+	 * Built-in listeners that neither rely on the test plan being complete when
+	 * execution starts nor ignore dynamically registered tests and therefore
+	 * support pipelined execution.
+	 *
+	 * @see LauncherConstants#PIPELINED_EXECUTION_LISTENERS_INCLUDE_PATTERN_PROPERTY_NAME
+	 */
+	private static final String PIPELINED_LISTENER_PATTERNS = String.join(",",
+		ExecutionTimeRecordingListener.class.getName(), SummaryGeneratingListener.class.getName(),
+		UniqueIdTrackingListener.class.getName(), "org.junit.platform.launcher.jfr.FlightRecordingExecutionListener");
+
 	private final ListenerRegistry<TestExecutionListener> listenerRegistry;
 
 	public EngineExecutionOrchestrator() {
@@ -59,9 +108,9 @@ public class EngineExecutionOrchestrator {
 			TestExecutionListener... listeners) {
 		ConfigurationParameters configurationParameters = internalTestPlan.getConfigurationParameters();
 		ListenerRegistry<TestExecutionListener> testExecutionListenerListeners = buildListenerRegistryForExecution(
-			listeners);
+			internalTestPlan.getDiscoveryResult().getIncrementalDiscovery(), listeners);
 		withInterceptedStreams(configurationParameters, testExecutionListenerListeners,
-			testExecutionListener -> execute(internalTestPlan, EngineExecutionListener.NOOP, testExecutionListener,
+			testExecutionListeners -> execute(internalTestPlan, EngineExecutionListener.NOOP, testExecutionListeners,
 				requestLevelStore));
 	}
 
@@ -81,30 +130,100 @@ public class EngineExecutionOrchestrator {
 		Preconditions.notNull(requestLevelStore, "requestLevelStore must not be null");
 
 		InternalTestPlan internalTestPlan = InternalTestPlan.from(discoveryResult);
-		execute(internalTestPlan, engineExecutionListener, testExecutionListener, requestLevelStore);
+		execute(internalTestPlan, engineExecutionListener,
+			ListenerRegistry.forTestExecutionListeners().add(testExecutionListener), requestLevelStore);
 	}
 
 	private void execute(InternalTestPlan internalTestPlan, EngineExecutionListener parentEngineExecutionListener,
-			TestExecutionListener testExecutionListener, NamespacedHierarchicalStore<Namespace> requestLevelStore) {
+			ListenerRegistry<TestExecutionListener> testExecutionListeners,
+			NamespacedHierarchicalStore<Namespace> requestLevelStore) {
 		internalTestPlan.markStarted();
 
 		// Do not directly pass the internal test plan to test execution listeners.
 		// Hyrum's Law indicates that someone will eventually come to depend on it.
 		TestPlan testPlan = internalTestPlan.getDelegate();
 		LauncherDiscoveryResult discoveryResult = internalTestPlan.getDiscoveryResult();
+		TestExecutionListener testExecutionListener = testExecutionListeners.getCompositeListener();
 
 		testExecutionListener.testPlanExecutionStarted(testPlan);
 		if (isDryRun(internalTestPlan)) {
 			dryRun(testPlan, testExecutionListener);
 		}
 		else {
-			execute(discoveryResult,
-				buildEngineExecutionListener(parentEngineExecutionListener, testExecutionListener, testPlan),
-				requestLevelStore);
+			ExecutionListeners executionListeners = buildExecutionListeners(parentEngineExecutionListener,
+				testExecutionListeners, testPlan, discoveryResult.getConfigurationParameters());
+			executeEngines(discoveryResult, executionListeners, requestLevelStore);
 		}
 		testExecutionListener.testPlanExecutionFinished(testPlan);
 	}
 
+	/**
+	 * Discovers and executes tests for the supplied request such that the
+	 * tests of each engine are executed as soon as its discovery has finished.
+	 *
+	 * <p>The supplied discovery function must pass the result of each engine
+	 * to the supplied consumer on the calling thread.
+	 *
+	 * @see #isPipelinedExecutionEnabled(ConfigurationParameters, TestExecutionListener...)
+	 */
+	void executePipelined(LauncherDiscoveryRequest discoveryRequest,
+			Consumer<BiConsumer<TestEngine, EngineResultInfo>> discovery,
+			NamespacedHierarchicalStore<Namespace> requestLevelStore, TestExecutionListener... listeners) {
+		ListenerRegistry<TestExecutionListener> testExecutionListeners = buildListenerRegistryForExecution(
+			IncrementalDiscovery.from(discoveryRequest), listeners);
+		PipelinedExecution execution = new PipelinedExecution(discoveryRequest, testExecutionListeners,
+			requestLevelStore);
+		try {
+			discovery.accept(execution);
+		}
+		finally {
+			execution.finish();
+		}
+	}
+
+	/**
+	 * Determine whether tests should be executed in pipelined mode.
+	 *
+	 * <p>Pipelining is only applied if all registered and supplied listeners
+	 * support it and output is not captured since the discovery of the
+	 * remaining engines would otherwise be attributed to the tests currently
+	 * being executed.
+	 */
+	boolean isPipelinedExecutionEnabled(ConfigurationParameters configurationParameters,
+			TestExecutionListener... listeners) {
+		if (!configurationParameters.getBoolean(PIPELINED_EXECUTION_ENABLED_PROPERTY_NAME).orElse(false)) {
+			return false;
+		}
+		if (configurationParameters.getBoolean(DRY_RUN_PROPERTY_NAME).orElse(false) //
+				|| getDiscoveryIssueFailurePhase(configurationParameters).orElse(
+					LauncherPhase.EXECUTION) != LauncherPhase.EXECUTION //
+				|| configurationParameters.getBoolean(CAPTURE_STDOUT_PROPERTY_NAME).orElse(false) //
+				|| configurationParameters.getBoolean(CAPTURE_STDERR_PROPERTY_NAME).orElse(false)) {
+			logger.config(() -> "Pipelined execution is not applied in dry-run mode, if discovery issues are "
+					+ "reported during discovery, or if output is captured.");
+			return false;
+		}
+		List<String> unsupportedListeners = Stream.concat(this.listenerRegistry.getListeners().stream(),
+			Arrays.stream(listeners)) //
+				.filter(supportsPipelinedExecution(configurationParameters).negate()) //
+				.map(listener -> listener.getClass().getName()) //
+				.toList();
+		if (!unsupportedListeners.isEmpty()) {
+			logger.config(() -> "Pipelined execution is not applied since the following test execution listeners "
+					+ "do not support it: " + unsupportedListeners);
+			return false;
+		}
+		return true;
+	}
+
+	private static Predicate<TestExecutionListener> supportsPipelinedExecution(
+			ConfigurationParameters configurationParameters) {
+		String patterns = configurationParameters.get(PIPELINED_EXECUTION_LISTENERS_INCLUDE_PATTERN_PROPERTY_NAME) //
+				.map(customPatterns -> PIPELINED_LISTENER_PATTERNS + "," + customPatterns) //
+				.orElse(PIPELINED_LISTENER_PATTERNS);
+		return ClassNamePatternFilterUtils.includeMatchingClasses(patterns);
+	}
+
 	private Boolean isDryRun(InternalTestPlan internalTestPlan) {
 		return internalTestPlan.getConfigurationParameters().getBoolean(DRY_RUN_PROPERTY_NAME).orElse(false);
 	}
@@ -130,24 +249,61 @@ public class EngineExecutionOrchestrator {
 		});
 	}
 
-	private static EngineExecutionListener buildEngineExecutionListener(
-			EngineExecutionListener parentEngineExecutionListener, TestExecutionListener testExecutionListener,
-			TestPlan testPlan) {
+	private static ExecutionListeners buildExecutionListeners(EngineExecutionListener parentEngineExecutionListener,
+			ListenerRegistry<TestExecutionListener> testExecutionListeners, TestPlan testPlan,
+			ConfigurationParameters configurationParameters) {
+		if (!isAsynchronousDeliveryEnabled(configurationParameters)) {
+			ListenerRegistry<EngineExecutionListener> engineExecutionListenerRegistry = forEngineExecutionListeners();
+			engineExecutionListenerRegistry.add(
+				new ExecutionListenerAdapter(testPlan, testExecutionListeners.getCompositeListener()));
+			engineExecutionListenerRegistry.add(parentEngineExecutionListener);
+			return new ExecutionListeners(
+				selectExecutionListener(engineExecutionListenerRegistry.getCompositeListener(), configurationParameters),
+				null);
+		}
+
+		// Listeners that measure durations are called synchronously so that they
+		// observe events when they happen rather than when they are delivered.
+		Map<Boolean, List<TestExecutionListener>> listenersBySynchronicity = testExecutionListeners.getListeners() //
+				.stream() //
+				.collect(partitioningBy(isSynchronousListener(configurationParameters)));
+
+		ListenerRegistry<EngineExecutionListener> asynchronousRegistry = forEngineExecutionListeners();
+		asynchronousRegistry.add(new ExecutionListenerAdapter(testPlan,
+			new CompositeTestExecutionListener(listenersBySynchronicity.get(false)), false));
+		asynchronousRegistry.add(parentEngineExecutionListener);
+		AsynchronousEngineExecutionListener asynchronousListener = createAsynchronousListener(
+			asynchronousRegistry.getCompositeListener(), configurationParameters);
+
+		// The synchronous adapter is notified first so that it registers dynamic
+		// tests with the test plan before the event is enqueued.
 		ListenerRegistry<EngineExecutionListener> engineExecutionListenerRegistry = forEngineExecutionListeners();
-		engineExecutionListenerRegistry.add(new ExecutionListenerAdapter(testPlan, testExecutionListener));
-		engineExecutionListenerRegistry.add(parentEngineExecutionListener);
-		return engineExecutionListenerRegistry.getCompositeListener();
+		engineExecutionListenerRegistry.add(new ExecutionListenerAdapter(testPlan,
+			new CompositeTestExecutionListener(listenersBySynchronicity.get(true))));
+		engineExecutionListenerRegistry.add(asynchronousListener);
+		return new ExecutionListeners(
+			selectExecutionListener(engineExecutionListenerRegistry.getCompositeListener(), configurationParameters),
+			asynchronousListener);
+	}
+
+	private static Predicate<TestExecutionListener> isSynchronousListener(
+			ConfigurationParameters configurationParameters) {
+		String patterns = configurationParameters.get(ASYNC_EXECUTION_LISTENERS_EXCLUDE_PATTERN_PROPERTY_NAME) //
+				.map(customPatterns -> SYNCHRONOUS_LISTENER_PATTERNS + "," + customPatterns) //
+				.orElse(SYNCHRONOUS_LISTENER_PATTERNS);
+		return ClassNamePatternFilterUtils.includeMatchingClasses(patterns);
 	}
 
 	private void withInterceptedStreams(ConfigurationParameters configurationParameters,
-			ListenerRegistry<TestExecutionListener> listenerRegistry, Consumer<TestExecutionListener> action) {
+			ListenerRegistry<TestExecutionListener> listenerRegistry,
+			Consumer<ListenerRegistry<TestExecutionListener>> action) {
 
 		TestExecutionListener testExecutionListener = listenerRegistry.getCompositeListener();
 		Optional<StreamInterceptingTestExecutionListener> streamInterceptingTestExecutionListener = StreamInterceptingTestExecutionListener.create(
 			configurationParameters, testExecutionListener::reportingEntryPublished);
 		streamInterceptingTestExecutionListener.ifPresent(listenerRegistry::add);
 		try {
-			action.accept(listenerRegistry.getCompositeListener());
+			action.accept(listenerRegistry);
 		}
 		finally {
 			streamInterceptingTestExecutionListener.ifPresent(StreamInterceptingTestExecutionListener::unregister);
@@ -166,10 +322,32 @@ public class EngineExecutionOrchestrator {
 		Preconditions.notNull(engineExecutionListener, "engineExecutionListener must not be null");
 
 		ConfigurationParameters configurationParameters = discoveryResult.getConfigurationParameters();
-		EngineExecutionListener listener = selectExecutionListener(engineExecutionListener, configurationParameters);
+		AsynchronousEngineExecutionListener asynchronousListener = isAsynchronousDeliveryEnabled(
+			configurationParameters) ? createAsynchronousListener(engineExecutionListener, configurationParameters)
+					: null;
+		EngineExecutionListener listener = selectExecutionListener(
+			asynchronousListener == null ? engineExecutionListener : asynchronousListener, configurationParameters);
+		executeEngines(discoveryResult, new ExecutionListeners(listener, asynchronousListener), requestLevelStore);
+	}
 
-		for (TestEngine testEngine : discoveryResult.getTestEngines()) {
-			failOrExecuteEngine(discoveryResult, listener, testEngine, requestLevelStore);
+	private void executeEngines(LauncherDiscoveryResult discoveryResult, ExecutionListeners executionListeners,
+			NamespacedHierarchicalStore<Namespace> requestLevelStore) {
+		ForkedExecutor forkedExecutor = ForkedExecutor.create(discoveryResult.getConfigurationParameters());
+		try {
+			for (TestEngine testEngine : discoveryResult.getTestEngines()) {
+				failOrExecuteEngine(discoveryResult, executionListeners.engineExecutionListener(), testEngine,
+					requestLevelStore, forkedExecutor);
+			}
+		}
+		finally {
+			try {
+				if (forkedExecutor != null) {
+					forkedExecutor.close();
+				}
+			}
+			finally {
+				executionListeners.close();
+			}
 		}
 	}
 
@@ -183,8 +361,30 @@ public class EngineExecutionOrchestrator {
 		return engineExecutionListener;
 	}
 
+	private static boolean isAsynchronousDeliveryEnabled(ConfigurationParameters configurationParameters) {
+		if (!configurationParameters.getBoolean(ASYNC_EXECUTION_LISTENERS_ENABLED_PROPERTY_NAME).orElse(false)) {
+			return false;
+		}
+		// Output capturing relies on listeners being called on the thread that executes a test
+		if (configurationParameters.getBoolean(CAPTURE_STDOUT_PROPERTY_NAME).orElse(false)
+				|| configurationParameters.getBoolean(CAPTURE_STDERR_PROPERTY_NAME).orElse(false)) {
+			logger.warn(() -> "Asynchronous delivery of execution events is not supported in combination with "
+					+ "output capturing and has been disabled.");
+			return false;
+		}
+		return true;
+	}
+
+	private static AsynchronousEngineExecutionListener createAsynchronousListener(EngineExecutionListener listener,
+			ConfigurationParameters configurationParameters) {
+		int bufferSize = configurationParameters.get(ASYNC_EXECUTION_LISTENERS_BUFFER_SIZE_PROPERTY_NAME,
+			Integer::parseInt).orElse(ASYNC_EXECUTION_LISTENERS_BUFFER_SIZE_DEFAULT);
+		return new AsynchronousEngineExecutionListener(listener, bufferSize);
+	}
+
 	private void failOrExecuteEngine(LauncherDiscoveryResult discoveryResult, EngineExecutionListener listener,
-			TestEngine testEngine, NamespacedHierarchicalStore<Namespace> requestLevelStore) {
+			TestEngine testEngine, NamespacedHierarchicalStore<Namespace> requestLevelStore,
+			@Nullable ForkedExecutor forkedExecutor) {
 		EngineResultInfo engineDiscoveryResult = discoveryResult.getEngineResult(testEngine);
 		DiscoveryIssueNotifier discoveryIssueNotifier = shouldReportDiscoveryIssues(discoveryResult) //
 				? engineDiscoveryResult.getDiscoveryIssueNotifier() //
@@ -202,7 +402,7 @@ public class EngineExecutionOrchestrator {
 		}
 		else {
 			executeEngine(engineDescriptor, listener, discoveryResult.getConfigurationParameters(), testEngine,
-				discoveryResult.getOutputDirectoryProvider(), discoveryIssueNotifier, requestLevelStore);
+				discoveryResult.getOutputDirectoryProvider(), discoveryIssueNotifier, requestLevelStore, forkedExecutor);
 		}
 	}
 
@@ -213,22 +413,32 @@ public class EngineExecutionOrchestrator {
 	}
 
 	private ListenerRegistry<TestExecutionListener> buildListenerRegistryForExecution(
-			TestExecutionListener... listeners) {
-		if (listeners.length == 0) {
+			Optional<IncrementalDiscovery> incrementalDiscovery, TestExecutionListener... listeners) {
+		if (listeners.length == 0 && incrementalDiscovery.isEmpty()) {
 			return this.listenerRegistry;
 		}
-		return ListenerRegistry.copyOf(this.listenerRegistry).addAll(listeners);
+		ListenerRegistry<TestExecutionListener> registry = ListenerRegistry.copyOf(this.listenerRegistry);
+		if (listeners.length > 0) {
+			registry.addAll(listeners);
+		}
+		incrementalDiscovery.ifPresent(discovery -> registry.add(discovery.createIndexUpdatingListener()));
+		return registry;
 	}
 
 	private void executeEngine(TestDescriptor engineDescriptor, EngineExecutionListener listener,
 			ConfigurationParameters configurationParameters, TestEngine testEngine,
 			OutputDirectoryProvider outputDirectoryProvider, DiscoveryIssueNotifier discoveryIssueNotifier,
-			NamespacedHierarchicalStore<Namespace> requestLevelStore) {
+			NamespacedHierarchicalStore<Namespace> requestLevelStore, @Nullable ForkedExecutor forkedExecutor) {
 		OutcomeDelayingEngineExecutionListener delayingListener = new OutcomeDelayingEngineExecutionListener(listener,
 			engineDescriptor);
 		try {
-			testEngine.execute(ExecutionRequest.create(engineDescriptor, delayingListener, configurationParameters,
-				outputDirectoryProvider, requestLevelStore));
+			if (forkedExecutor == null) {
+				testEngine.execute(ExecutionRequest.create(engineDescriptor, delayingListener, configurationParameters,
+					outputDirectoryProvider, requestLevelStore));
+			}
+			else {
+				forkedExecutor.execute(engineDescriptor, delayingListener);
+			}
 			discoveryIssueNotifier.logNonCriticalIssues(testEngine);
 			delayingListener.reportEngineOutcome();
 		}
@@ -247,4 +457,96 @@ public class EngineExecutionOrchestrator {
 			delayingListener.reportEngineFailure(cause);
 		}
 	}
+
+	/**
+	 * Executes the tests of each engine passed to it as soon as its discovery
+	 * has finished.
+	 *
+	 * <p>The {@link TestPlan} reported to listeners is created from the first
+	 * engine. The tests of subsequent engines are added to it and reported as
+	 * dynamic tests before they are executed.
+	 */
+	private class PipelinedExecution implements BiConsumer<TestEngine, EngineResultInfo> {
+
+		private final ConfigurationParameters configurationParameters;
+		private final OutputDirectoryProvider outputDirectoryProvider;
+		private final ListenerRegistry<TestExecutionListener> testExecutionListeners;
+		private final TestExecutionListener testExecutionListener;
+		private final NamespacedHierarchicalStore<Namespace> requestLevelStore;
+
+		private @Nullable TestPlan testPlan;
+		private @Nullable ExecutionListeners executionListeners;
+		private @Nullable ForkedExecutor forkedExecutor;
+
+		PipelinedExecution(LauncherDiscoveryRequest discoveryRequest,
+				ListenerRegistry<TestExecutionListener> testExecutionListeners,
+				NamespacedHierarchicalStore<Namespace> requestLevelStore) {
+			this.configurationParameters = discoveryRequest.getConfigurationParameters();
+			this.outputDirectoryProvider = discoveryRequest.getOutputDirectoryProvider();
+			this.testExecutionListeners = testExecutionListeners;
+			this.testExecutionListener = testExecutionListeners.getCompositeListener();
+			this.requestLevelStore = requestLevelStore;
+		}
+
+		@Override
+		public void accept(TestEngine testEngine, EngineResultInfo engineResult) {
+			LauncherDiscoveryResult discoveryResult = createDiscoveryResult(Map.of(testEngine, engineResult));
+			ExecutionListeners executionListeners = this.executionListeners;
+			EngineExecutionListener listener;
+			if (executionListeners == null) {
+				listener = start(discoveryResult);
+			}
+			else {
+				listener = executionListeners.engineExecutionListener();
+				engineResult.getRootDescriptor().accept(listener::dynamicTestRegistered);
+			}
+			failOrExecuteEngine(discoveryResult, listener, testEngine, this.requestLevelStore, this.forkedExecutor);
+		}
+
+		private EngineExecutionListener start(LauncherDiscoveryResult discoveryResult) {
+			TestPlan testPlan = InternalTestPlan.from(discoveryResult).getDelegate();
+			this.testPlan = testPlan;
+			this.testExecutionListener.testPlanExecutionStarted(testPlan);
+			ExecutionListeners executionListeners = buildExecutionListeners(EngineExecutionListener.NOOP,
+				this.testExecutionListeners, testPlan, this.configurationParameters);
+			this.executionListeners = executionListeners;
+			this.forkedExecutor = ForkedExecutor.create(this.configurationParameters);
+			return executionListeners.engineExecutionListener();
+		}
+
+		void finish() {
+			if (this.testPlan == null) {
+				start(createDiscoveryResult(Map.of()));
+			}
+			try {
+				if (this.forkedExecutor != null) {
+					this.forkedExecutor.close();
+				}
+			}
+			finally {
+				requireNonNull(this.executionListeners).close();
+			}
+			this.testExecutionListener.testPlanExecutionFinished(requireNonNull(this.testPlan));
+		}
+
+		private LauncherDiscoveryResult createDiscoveryResult(Map<TestEngine, EngineResultInfo> testEngineResults) {
+			return new LauncherDiscoveryResult(testEngineResults, this.configurationParameters,
+				this.outputDirectoryProvider);
+		}
+	}
+
+	/**
+	 * Listener passed to engines and the asynchronous listener it delegates
+	 * to, if any, that must be closed once execution has finished.
+	 */
+	private record ExecutionListeners(EngineExecutionListener engineExecutionListener,
+			@Nullable AsynchronousEngineExecutionListener asynchronousListener) {
+
+		void close() {
+			if (this.asynchronousListener != null) {
+				this.asynchronousListener.close();
+			}
+		}
+	}
+
 }
@@ -29,16 +29,35 @@ class ExecutionListenerAdapter implements EngineExecutionListener {
 
 	private final TestPlan testPlan;
 	private final TestExecutionListener testExecutionListener;
+	private final boolean registersDynamicTests;
 
 	ExecutionListenerAdapter(TestPlan testPlan, TestExecutionListener testExecutionListener) {
+		this(testPlan, testExecutionListener, true);
+	}
+
+	/**
+	 * @param registersDynamicTests whether dynamic tests are added to the
+	 * supplied test plan by this adapter or by another adapter that is
+	 * notified before this one
+	 * @since 6.0
+	 */
+	ExecutionListenerAdapter(TestPlan testPlan, TestExecutionListener testExecutionListener,
+			boolean registersDynamicTests) {
 		this.testPlan = testPlan;
 		this.testExecutionListener = testExecutionListener;
+		this.registersDynamicTests = registersDynamicTests;
 	}
 
 	@Override
 	public void dynamicTestRegistered(TestDescriptor testDescriptor) {
-		TestIdentifier testIdentifier = TestIdentifier.from(testDescriptor);
-		this.testPlan.addInternal(testIdentifier);
+		TestIdentifier testIdentifier;
+		if (this.registersDynamicTests) {
+			testIdentifier = TestIdentifier.from(testDescriptor);
+			this.testPlan.addInternal(testIdentifier);
+		}
+		else {
+			testIdentifier = getTestIdentifier(testDescriptor);
+		}
 		this.testExecutionListener.dynamicTestRegistered(testIdentifier);
 	}
 
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.net.Socket;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.platform.commons.util.ClassLoaderUtils;
+
+/**
+ * Bidirectional channel between the launcher and a forked worker JVM that
+ * exchanges length-prefixed, individually serialized messages over a local
+ * socket.
+ *
+ * <p>Since each message is serialized into a byte array before it is written,
+ * a message that cannot be serialized does not corrupt the channel.
+ *
+ * <p>Only instances of the classes accepted by {@link #isSerializable(Class)}
+ * may be sent and received. Received messages are deserialized with a
+ * corresponding {@link ObjectInputFilter}.
+ *
+ * @since 6.0
+ * @see ForkedExecutor
+ * @see ForkedExecutionWorker
+ */
+final class ForkedExecutionChannel implements AutoCloseable {
+
+	private static final ObjectInputFilter FILTER = filterInfo -> {
+		Class<?> serialClass = filterInfo.serialClass();
+		if (serialClass == null) {
+			return ObjectInputFilter.Status.UNDECIDED;
+		}
+		return isSerializable(serialClass) ? ObjectInputFilter.Status.ALLOWED : ObjectInputFilter.Status.REJECTED;
+	};
+
+	private static final Set<String> SERIALIZABLE_JDK_CLASSES = Set.of("java.io.File", "java.lang.Boolean",
+		"java.lang.Character", "java.lang.Object", "java.lang.StackTraceElement", "java.lang.String",
+		"java.math.BigDecimal", "java.math.BigInteger", "java.net.URI", "java.util.ArrayList", "java.util.CollSer",
+		"java.util.HashMap", "java.util.HashSet", "java.util.LinkedHashMap", "java.util.LinkedHashSet",
+		"java.util.LinkedList", "java.util.Map$Entry", "java.util.TreeMap", "java.util.TreeSet");
+
+	private static final List<String> SERIALIZABLE_PACKAGE_PREFIXES = List.of("org.junit.platform.",
+		"org.opentest4j.");
+
+	/**
+	 * Determine whether instances of the supplied class may be exchanged
+	 * over a channel.
+	 *
+	 * <p>Besides selected JDK classes, enums, and classes of the JUnit
+	 * Platform and OpenTest4J, this includes all {@link Throwable Throwables}
+	 * since they are used to report the results of tests.
+	 */
+	static boolean isSerializable(Class<?> serialClass) {
+		Class<?> type = serialClass;
+		while (type.isArray()) {
+			type = type.getComponentType();
+		}
+		if (type.isPrimitive() || (Number.class.isAssignableFrom(type) && type.getName().startsWith("java.lang."))
+				|| Enum.class.isAssignableFrom(type) || Throwable.class.isAssignableFrom(type)) {
+			return true;
+		}
+		String name = type.getName();
+		return SERIALIZABLE_JDK_CLASSES.contains(name) //
+				|| name.startsWith("java.util.Collections$") //
+				|| name.startsWith("java.util.ImmutableCollections$") //
+				|| SERIALIZABLE_PACKAGE_PREFIXES.stream().anyMatch(name::startsWith);
+	}
+
+	private final Socket socket;
+	private final DataInputStream in;
+	private final DataOutputStream out;
+
+	ForkedExecutionChannel(Socket socket) throws IOException {
+		this.socket = socket;
+		this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+		this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+	}
+
+	/**
+	 * Send the supplied token to authenticate the sending side.
+	 *
+	 * <p>Must be sent before any other message.
+	 */
+	synchronized void sendToken(String token) throws IOException {
+		this.out.writeUTF(token);
+		this.out.flush();
+	}
+
+	/**
+	 * Receive a token and check whether it equals the expected one without
+	 * deserializing anything sent by the other side.
+	 *
+	 * @return {@code true} if the received token equals the expected one
+	 */
+	boolean receiveToken(String expectedToken) throws IOException {
+		String token = this.in.readUTF();
+		// Constant-time comparison so the token cannot be guessed byte by byte
+		return MessageDigest.isEqual(token.getBytes(UTF_8), expectedToken.getBytes(UTF_8));
+	}
+
+	/**
+	 * Serialize and send the supplied message.
+	 *
+	 * @throws java.io.ObjectStreamException if the message cannot be
+	 * serialized or contains instances of classes that are not
+	 * {@linkplain #isSerializable(Class) accepted}; nothing is sent in this
+	 * case
+	 */
+	synchronized void send(Serializable message) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream objectOutputStream = new FilteringObjectOutputStream(bytes)) {
+			objectOutputStream.writeObject(message);
+		}
+		this.out.writeInt(bytes.size());
+		bytes.writeTo(this.out);
+		this.out.flush();
+	}
+
+	/**
+	 * Receive and deserialize the next message, blocking until it is
+	 * available.
+	 */
+	Object receive() throws IOException, ClassNotFoundException {
+		byte[] bytes = new byte[this.in.readInt()];
+		this.in.readFully(bytes);
+		try (ObjectInputStream objectInputStream = new ContextClassLoaderObjectInputStream(
+			new ByteArrayInputStream(bytes))) {
+			objectInputStream.setObjectInputFilter(FILTER);
+			return objectInputStream.readObject();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.socket.close();
+	}
+
+	/**
+	 * Rejects classes the receiving side would reject so that the sender can
+	 * fall back to a message that can be received.
+	 */
+	private static class FilteringObjectOutputStream extends ObjectOutputStream {
+
+		FilteringObjectOutputStream(OutputStream out) throws IOException {
+			super(out);
+		}
+
+		@Override
+		protected void annotateClass(Class<?> type) throws IOException {
+			// Called for each class descriptor that is written
+			if (!isSerializable(type)) {
+				throw new InvalidClassException(type.getName(), "not accepted by forked execution channel");
+			}
+		}
+	}
+
+	/**
+	 * Resolves classes, for example, of exceptions thrown by tests, via the
+	 * context class loader which may contain additional classpath entries.
+	 */
+	private static class ContextClassLoaderObjectInputStream extends ObjectInputStream {
+
+		ContextClassLoaderObjectInputStream(InputStream in) throws IOException {
+			super(in);
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass description) throws IOException, ClassNotFoundException {
+			try {
+				return Class.forName(description.getName(), false, ClassLoaderUtils.getDefaultClassLoader());
+			}
+			catch (ClassNotFoundException ex) {
+				return super.resolveClass(description);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.HashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestExecutionResult.Status;
+import org.junit.platform.engine.reporting.FileEntry;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestIdentifier;
+
+/**
+ * Execution events sent from a forked worker JVM to the launcher.
+ *
+ * <p>Tests and containers are referenced by the string representation of
+ * their unique IDs.
+ *
+ * @since 6.0
+ * @see ForkedExecutionWorker
+ * @see ForkedExecutor
+ */
+sealed interface ForkedExecutionEvent extends Serializable {
+
+	record ExecutionStarted(String uniqueId) implements ForkedExecutionEvent {
+	}
+
+	record ExecutionSkipped(String uniqueId, String reason) implements ForkedExecutionEvent {
+	}
+
+	record ExecutionFinished(String uniqueId, Status status, @Nullable Throwable throwable)
+			implements ForkedExecutionEvent {
+
+		static ExecutionFinished from(TestIdentifier testIdentifier, TestExecutionResult result) {
+			return new ExecutionFinished(testIdentifier.getUniqueId(), result.getStatus(),
+				result.getThrowable().orElse(null));
+		}
+
+		/**
+		 * Create a copy of this event that replaces its throwable, including
+		 * its causes, with instances of {@link JUnitException} that retain
+		 * their string representations and stack traces.
+		 */
+		ExecutionFinished withSerializableThrowable() {
+			return new ExecutionFinished(this.uniqueId, this.status,
+				this.throwable == null ? null : toSerializableThrowable(this.throwable));
+		}
+
+		TestExecutionResult toResult() {
+			return switch (this.status) {
+				case SUCCESSFUL -> TestExecutionResult.successful();
+				case ABORTED -> TestExecutionResult.aborted(this.throwable);
+				case FAILED -> TestExecutionResult.failed(this.throwable);
+			};
+		}
+
+		private static Throwable toSerializableThrowable(Throwable throwable) {
+			Throwable cause = throwable.getCause();
+			JUnitException result = new JUnitException(throwable.toString(),
+				cause == null || cause == throwable ? null : toSerializableThrowable(cause));
+			result.setStackTrace(throwable.getStackTrace());
+			return result;
+		}
+	}
+
+	record DynamicTestRegistered(TestIdentifier testIdentifier) implements ForkedExecutionEvent {
+	}
+
+	record ReportingEntryPublished(String uniqueId, HashMap<String, String> keyValuePairs)
+			implements ForkedExecutionEvent {
+
+		static ReportingEntryPublished from(TestIdentifier testIdentifier, ReportEntry entry) {
+			return new ReportingEntryPublished(testIdentifier.getUniqueId(), new HashMap<>(entry.getKeyValuePairs()));
+		}
+
+		ReportEntry toReportEntry() {
+			return ReportEntry.from(this.keyValuePairs);
+		}
+	}
+
+	record FileEntryPublished(String uniqueId, String path, @Nullable String mediaType)
+			implements ForkedExecutionEvent {
+
+		static FileEntryPublished from(TestIdentifier testIdentifier, FileEntry file) {
+			return new FileEntryPublished(testIdentifier.getUniqueId(), file.getPath().toString(),
+				file.getMediaType().orElse(null));
+		}
+
+		FileEntry toFileEntry() {
+			return FileEntry.from(Path.of(this.path), this.mediaType);
+		}
+	}
+
+	/**
+	 * Sent once all tests of a task have been executed.
+	 */
+	record TaskFinished() implements ForkedExecutionEvent {
+	}
+
+}
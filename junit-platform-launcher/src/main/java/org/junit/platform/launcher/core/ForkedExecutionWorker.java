@@ -0,0 +1,172 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.engine.reporting.FileEntry;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.ForkedExecutionEvent.DynamicTestRegistered;
+import org.junit.platform.launcher.core.ForkedExecutionEvent.ExecutionFinished;
+import org.junit.platform.launcher.core.ForkedExecutionEvent.ExecutionSkipped;
+import org.junit.platform.launcher.core.ForkedExecutionEvent.ExecutionStarted;
+import org.junit.platform.launcher.core.ForkedExecutionEvent.FileEntryPublished;
+import org.junit.platform.launcher.core.ForkedExecutionEvent.ReportingEntryPublished;
+import org.junit.platform.launcher.core.ForkedExecutionEvent.TaskFinished;
+
+/**
+ * Entry point of worker JVMs forked by the {@link ForkedExecutor}.
+ *
+ * <p>The worker reads a token from its standard input stream, connects to
+ * the port passed as its only argument, and authenticates itself by sending
+ * the token. It then receives the configuration parameters to use and
+ * executes {@linkplain Task tasks}, each consisting of the ID of an engine
+ * and a list of unique IDs to select, until it receives an empty task. Only
+ * the engine of a task is executed so that other engines do not report
+ * events for their engine descriptors. Execution events are sent back to the
+ * launcher as {@link ForkedExecutionEvent ForkedExecutionEvents}.
+ *
+ * @since 6.0
+ */
+@API(status = INTERNAL, since = "6.0")
+public final class ForkedExecutionWorker {
+
+	private ForkedExecutionWorker() {
+		/* no-op */
+	}
+
+	public static void main(String[] args) throws Exception {
+		int port = Integer.parseInt(args[0]);
+		String token = new BufferedReader(new InputStreamReader(System.in, UTF_8)).readLine();
+		if (token == null) {
+			throw new JUnitException("Worker JVM did not receive a token via its standard input stream");
+		}
+		try (ForkedExecutionChannel channel = new ForkedExecutionChannel(
+			new Socket(InetAddress.getLoopbackAddress(), port))) {
+			channel.sendToken(token);
+			run(channel);
+		}
+		// Do not wait for non-daemon threads started by tests
+		System.exit(0);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void run(ForkedExecutionChannel channel) throws IOException, ClassNotFoundException {
+		Map<String, String> configurationParameters = (Map<String, String>) channel.receive();
+		// Listeners are notified in the JVM that forked this worker
+		Launcher launcher = LauncherFactory.create(
+			LauncherConfig.builder().enableTestExecutionListenerAutoRegistration(false).build());
+		Task task = (Task) channel.receive();
+		while (!task.isEmpty()) {
+			LauncherDiscoveryRequest request = request() //
+					.selectors(task.uniqueIds().stream().map(DiscoverySelectors::selectUniqueId).toList()) //
+					.filters(includeEngines(task.engineId())) //
+					.configurationParameters(configurationParameters) //
+					.enableImplicitConfigurationParameters(false) //
+					.build();
+			launcher.execute(request, new EventSendingListener(channel));
+			channel.send(new TaskFinished());
+			task = (Task) channel.receive();
+		}
+	}
+
+	/**
+	 * Task sent to a worker JVM that selects the supplied unique IDs of tests
+	 * of the engine with the supplied ID.
+	 */
+	record Task(String engineId, ArrayList<String> uniqueIds) implements Serializable {
+
+		/**
+		 * Create an empty task that causes the worker JVM to terminate.
+		 */
+		static Task empty() {
+			return new Task("", new ArrayList<>());
+		}
+
+		boolean isEmpty() {
+			return this.uniqueIds.isEmpty();
+		}
+	}
+
+	private record EventSendingListener(ForkedExecutionChannel channel) implements TestExecutionListener {
+
+		@Override
+		public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+			send(new DynamicTestRegistered(testIdentifier));
+		}
+
+		@Override
+		public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+			send(new ExecutionSkipped(testIdentifier.getUniqueId(), reason));
+		}
+
+		@Override
+		public void executionStarted(TestIdentifier testIdentifier) {
+			send(new ExecutionStarted(testIdentifier.getUniqueId()));
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			ExecutionFinished event = ExecutionFinished.from(testIdentifier, testExecutionResult);
+			try {
+				this.channel.send(event);
+			}
+			catch (ObjectStreamException ex) {
+				send(event.withSerializableThrowable());
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+
+		@Override
+		public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+			send(ReportingEntryPublished.from(testIdentifier, entry));
+		}
+
+		@Override
+		public void fileEntryPublished(TestIdentifier testIdentifier, FileEntry file) {
+			send(FileEntryPublished.from(testIdentifier, file));
+		}
+
+		private void send(ForkedExecutionEvent event) {
+			try {
+				this.channel.send(event);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+	}
+
+}
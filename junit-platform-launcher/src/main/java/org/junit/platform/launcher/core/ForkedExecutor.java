@@ -0,0 +1,565 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.platform.launcher.LauncherConstants.DEACTIVATE_LISTENERS_PATTERN_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.DISCOVERY_CACHE_FILE_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.FORK_COUNT_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.FORK_JVM_ARGS_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.INCREMENTAL_DISCOVERY_INDEX_FILE_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_COUNT_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_INDEX_PROPERTY_NAME;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ClassLoaderUtils;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.ForkedExecutionEvent.DynamicTestRegistered;
+import org.junit.platform.launcher.core.ForkedExecutionEvent.ExecutionFinished;
+import org.junit.platform.launcher.core.ForkedExecutionEvent.ExecutionSkipped;
+import org.junit.platform.launcher.core.ForkedExecutionEvent.ExecutionStarted;
+import org.junit.platform.launcher.core.ForkedExecutionEvent.FileEntryPublished;
+import org.junit.platform.launcher.core.ForkedExecutionEvent.ReportingEntryPublished;
+import org.junit.platform.launcher.core.ForkedExecutionEvent.TaskFinished;
+
+/**
+ * Executes the tests of engines in a pool of forked worker JVMs.
+ *
+ * <p>The children of an engine descriptor are used as tasks. Each task is
+ * sent to the next idle worker JVM which executes it by selecting the unique
+ * IDs of its leaf descriptors and only including their engine. The execution
+ * events of worker JVMs are translated to events of the descriptors
+ * discovered in the current JVM. If a worker JVM terminates unexpectedly,
+ * the tests of its current task are reported as failed and a new worker JVM
+ * is started for the next task.
+ *
+ * <p>Each worker JVM receives a random token via its standard input stream
+ * which it has to send after connecting to the launcher. Connections that do
+ * not send the token are closed before anything is sent to or deserialized
+ * from them.
+ *
+ * @since 6.0
+ * @see org.junit.platform.launcher.LauncherConstants#FORK_COUNT_PROPERTY_NAME
+ * @see ForkedExecutionWorker
+ */
+final class ForkedExecutor implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(ForkedExecutor.class);
+
+	private static final Set<String> EXCLUDED_CONFIGURATION_PARAMETERS = Set.of(FORK_COUNT_PROPERTY_NAME,
+		FORK_JVM_ARGS_PROPERTY_NAME, SHARD_COUNT_PROPERTY_NAME, SHARD_INDEX_PROPERTY_NAME,
+		DISCOVERY_CACHE_FILE_PROPERTY_NAME, INCREMENTAL_DISCOVERY_INDEX_FILE_PROPERTY_NAME);
+
+	private static final long WORKER_CONNECT_TIMEOUT_SECONDS = 60;
+	private static final long WORKER_SHUTDOWN_TIMEOUT_SECONDS = 10;
+	private static final int WORKER_TOKEN_LENGTH = 32;
+
+	/**
+	 * Create a {@code ForkedExecutor} if forking is enabled via the supplied
+	 * configuration parameters.
+	 *
+	 * @return a new {@code ForkedExecutor}; {@code null} if tests should be
+	 * executed in the current JVM
+	 */
+	static @Nullable ForkedExecutor create(ConfigurationParameters configurationParameters) {
+		int forkCount = configurationParameters.get(FORK_COUNT_PROPERTY_NAME, Integer::parseInt).orElse(0);
+		if (forkCount <= 0) {
+			return null;
+		}
+		List<String> jvmArgs = configurationParameters.get(FORK_JVM_ARGS_PROPERTY_NAME) //
+				.map(String::strip) //
+				.filter(value -> !value.isEmpty()) //
+				.map(value -> Arrays.asList(value.split("\\s+"))) //
+				.orElse(List.of());
+		return new ForkedExecutor(forkCount, jvmArgs, toWorkerConfigurationParameters(configurationParameters));
+	}
+
+	private static HashMap<String, String> toWorkerConfigurationParameters(
+			ConfigurationParameters configurationParameters) {
+		HashMap<String, String> result = new HashMap<>();
+		for (String key : configurationParameters.keySet()) {
+			// Worker JVMs have their own system properties
+			if (EXCLUDED_CONFIGURATION_PARAMETERS.contains(key)
+					|| (System.getProperty(key) != null && !key.startsWith("junit."))) {
+				continue;
+			}
+			configurationParameters.get(key).ifPresent(value -> result.put(key, value));
+		}
+		// Listeners are notified in the current JVM
+		result.put(DEACTIVATE_LISTENERS_PATTERN_PROPERTY_NAME, "*");
+		return result;
+	}
+
+	private final List<String> jvmArgs;
+	private final HashMap<String, String> workerConfigurationParameters;
+	private final @Nullable Worker[] workers;
+	private final ExecutorService executorService;
+
+	private ForkedExecutor(int forkCount, List<String> jvmArgs, HashMap<String, String> workerConfigurationParameters) {
+		this.jvmArgs = jvmArgs;
+		this.workerConfigurationParameters = workerConfigurationParameters;
+		this.workers = new Worker[forkCount];
+		AtomicInteger threadNumber = new AtomicInteger();
+		this.executorService = Executors.newFixedThreadPool(forkCount, runnable -> {
+			Thread thread = new Thread(runnable, "junit-platform-forked-executor-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Execute the tests of the supplied engine descriptor in worker JVMs and
+	 * report their execution events to the supplied listener.
+	 */
+	void execute(TestDescriptor engineDescriptor, EngineExecutionListener listener) {
+		listener.executionStarted(engineDescriptor);
+		Map<String, TestDescriptor> descriptors = new ConcurrentHashMap<>();
+		engineDescriptor.accept(descriptor -> descriptors.put(descriptor.getUniqueId().toString(), descriptor));
+		Queue<TestDescriptor> tasks = new ConcurrentLinkedQueue<>(engineDescriptor.getChildren());
+		List<Throwable> engineFailures = new ArrayList<>();
+
+		List<Future<?>> futures = new ArrayList<>();
+		for (int slot = 0; slot < this.workers.length; slot++) {
+			int currentSlot = slot;
+			futures.add(this.executorService.submit(() -> {
+				TestDescriptor task;
+				while ((task = tasks.poll()) != null) {
+					TaskExecution execution = new TaskExecution(task, engineDescriptor, descriptors, listener);
+					try {
+						execution.run(getOrStartWorker(currentSlot));
+					}
+					catch (Throwable throwable) {
+						UnrecoverableExceptions.rethrowIfUnrecoverable(throwable);
+						closeWorker(currentSlot);
+						execution.failRemaining(new JUnitException(
+							"Worker JVM failed to execute " + task.getUniqueId(), throwable));
+					}
+					synchronized (engineFailures) {
+						engineFailures.addAll(execution.engineFailures);
+					}
+				}
+			}));
+		}
+		for (Future<?> future : futures) {
+			try {
+				future.get();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new JUnitException("Interrupted while waiting for worker JVMs", ex);
+			}
+			catch (ExecutionException ex) {
+				throw ExceptionUtils.throwAsUncheckedException(ex.getCause());
+			}
+		}
+
+		if (engineFailures.isEmpty()) {
+			listener.executionFinished(engineDescriptor, TestExecutionResult.successful());
+		}
+		else {
+			Throwable failure = engineFailures.get(0);
+			engineFailures.subList(1, engineFailures.size()).forEach(failure::addSuppressed);
+			listener.executionFinished(engineDescriptor, TestExecutionResult.failed(failure));
+		}
+	}
+
+	private synchronized Worker getOrStartWorker(int slot) throws IOException {
+		Worker worker = this.workers[slot];
+		if (worker == null) {
+			worker = Worker.start(this.jvmArgs, this.workerConfigurationParameters);
+			this.workers[slot] = worker;
+		}
+		return worker;
+	}
+
+	private synchronized void closeWorker(int slot) {
+		Worker worker = this.workers[slot];
+		if (worker != null) {
+			this.workers[slot] = null;
+			worker.close();
+		}
+	}
+
+	@Override
+	public void close() {
+		this.executorService.shutdownNow();
+		for (int slot = 0; slot < this.workers.length; slot++) {
+			closeWorker(slot);
+		}
+	}
+
+	/**
+	 * Execution of a single task that translates the events received from a
+	 * worker JVM.
+	 */
+	private static final class TaskExecution {
+
+		private final TestDescriptor task;
+		private final TestDescriptor engineDescriptor;
+		private final Map<String, TestDescriptor> descriptors;
+		private final EngineExecutionListener listener;
+		private final Deque<TestDescriptor> started = new ArrayDeque<>();
+		private final Set<TestDescriptor> finished = new HashSet<>();
+		private final List<Throwable> engineFailures = new ArrayList<>();
+
+		TaskExecution(TestDescriptor task, TestDescriptor engineDescriptor, Map<String, TestDescriptor> descriptors,
+				EngineExecutionListener listener) {
+			this.task = task;
+			this.engineDescriptor = engineDescriptor;
+			this.descriptors = descriptors;
+			this.listener = listener;
+		}
+
+		void run(Worker worker) throws IOException, ClassNotFoundException {
+			String engineId = this.engineDescriptor.getUniqueId().getEngineId().orElseThrow();
+			worker.channel.send(new ForkedExecutionWorker.Task(engineId, new ArrayList<>(leafUniqueIds(this.task))));
+			Object event;
+			while (!((event = worker.channel.receive()) instanceof TaskFinished)) {
+				handle((ForkedExecutionEvent) event);
+			}
+			if (!this.finished.contains(this.task)) {
+				failRemaining(new JUnitException(
+					"Worker JVM did not execute %s; the engine might not support selecting it by its unique ID".formatted(
+						this.task.getUniqueId())));
+			}
+		}
+
+		private static Set<String> leafUniqueIds(TestDescriptor task) {
+			Set<String> result = new LinkedHashSet<>();
+			task.accept(descriptor -> {
+				if (descriptor.getChildren().isEmpty()) {
+					result.add(descriptor.getUniqueId().toString());
+				}
+			});
+			return result;
+		}
+
+		private void handle(ForkedExecutionEvent event) {
+			if (event instanceof DynamicTestRegistered registered) {
+				TestIdentifier testIdentifier = registered.testIdentifier();
+				TestDescriptor parent = testIdentifier.getParentId().map(this.descriptors::get).orElse(null);
+				if (parent != null) {
+					TestDescriptor descriptor = new ForkedTestDescriptor(testIdentifier);
+					parent.addChild(descriptor);
+					this.descriptors.put(testIdentifier.getUniqueId(), descriptor);
+					this.listener.dynamicTestRegistered(descriptor);
+				}
+			}
+			else if (event instanceof ExecutionStarted started) {
+				lookUp(started.uniqueId()).ifPresent(descriptor -> {
+					this.started.push(descriptor);
+					this.listener.executionStarted(descriptor);
+				});
+			}
+			else if (event instanceof ExecutionSkipped skipped) {
+				lookUp(skipped.uniqueId()).ifPresent(descriptor -> {
+					this.finished.add(descriptor);
+					this.listener.executionSkipped(descriptor, skipped.reason());
+				});
+			}
+			else if (event instanceof ExecutionFinished finished) {
+				TestExecutionResult result = finished.toResult();
+				if (finished.uniqueId().equals(this.engineDescriptor.getUniqueId().toString())) {
+					result.getThrowable().ifPresent(this.engineFailures::add);
+				}
+				else {
+					lookUp(finished.uniqueId()).ifPresent(descriptor -> {
+						this.started.remove(descriptor);
+						this.finished.add(descriptor);
+						this.listener.executionFinished(descriptor, result);
+					});
+				}
+			}
+			else if (event instanceof ReportingEntryPublished published) {
+				lookUpIncludingEngine(published.uniqueId()) //
+						.ifPresent(descriptor -> this.listener.reportingEntryPublished(descriptor,
+							published.toReportEntry()));
+			}
+			else if (event instanceof FileEntryPublished published) {
+				lookUpIncludingEngine(published.uniqueId()) //
+						.ifPresent(descriptor -> this.listener.fileEntryPublished(descriptor, published.toFileEntry()));
+			}
+		}
+
+		/**
+		 * Look up a descriptor reported by the worker JVM, ignoring the engine
+		 * descriptor whose events are reported once for all tasks.
+		 */
+		private Optional<TestDescriptor> lookUp(String uniqueId) {
+			if (uniqueId.equals(this.engineDescriptor.getUniqueId().toString())) {
+				return Optional.empty();
+			}
+			return lookUpIncludingEngine(uniqueId);
+		}
+
+		private Optional<TestDescriptor> lookUpIncludingEngine(String uniqueId) {
+			TestDescriptor descriptor = this.descriptors.get(uniqueId);
+			if (descriptor == null) {
+				logger.warn(() -> "Ignoring event for unknown test or container reported by worker JVM: " + uniqueId);
+			}
+			return Optional.ofNullable(descriptor);
+		}
+
+		/**
+		 * Report all descriptors of the task that have been started but not
+		 * finished as failed, including the task itself if it has not been
+		 * reported at all.
+		 */
+		void failRemaining(Throwable failure) {
+			while (!this.started.isEmpty()) {
+				TestDescriptor descriptor = this.started.pop();
+				this.finished.add(descriptor);
+				this.listener.executionFinished(descriptor, TestExecutionResult.failed(failure));
+			}
+			if (!this.finished.contains(this.task)) {
+				this.finished.add(this.task);
+				this.listener.executionStarted(this.task);
+				this.listener.executionFinished(this.task, TestExecutionResult.failed(failure));
+			}
+		}
+	}
+
+	/**
+	 * Descriptor of a dynamic test or container registered by a worker JVM.
+	 */
+	private static final class ForkedTestDescriptor extends AbstractTestDescriptor {
+
+		private final Type type;
+		private final Set<TestTag> tags;
+		private final String legacyReportingName;
+
+		ForkedTestDescriptor(TestIdentifier testIdentifier) {
+			super(testIdentifier.getUniqueIdObject(), testIdentifier.getDisplayName(),
+				testIdentifier.getSource().orElse(null));
+			this.type = testIdentifier.getType();
+			this.tags = testIdentifier.getTags();
+			this.legacyReportingName = testIdentifier.getLegacyReportingName();
+		}
+
+		@Override
+		public Type getType() {
+			return this.type;
+		}
+
+		@Override
+		public Set<TestTag> getTags() {
+			return this.tags;
+		}
+
+		@Override
+		public String getLegacyReportingName() {
+			return this.legacyReportingName;
+		}
+	}
+
+	/**
+	 * Forked worker JVM and the channel used to communicate with it.
+	 */
+	private record Worker(Process process, ForkedExecutionChannel channel) {
+
+		static Worker start(List<String> jvmArgs, HashMap<String, String> configurationParameters)
+				throws IOException {
+			try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+				serverSocket.setSoTimeout(1000);
+				List<String> command = createCommand(jvmArgs, serverSocket.getLocalPort());
+				logger.debug(() -> "Starting worker JVM: " + command);
+				Process process = new ProcessBuilder(command) //
+						.redirectOutput(ProcessBuilder.Redirect.INHERIT) //
+						.redirectError(ProcessBuilder.Redirect.INHERIT) //
+						.start();
+				String token = generateToken();
+				// Unlike command line arguments, standard input is not visible to other processes
+				try (Writer writer = new OutputStreamWriter(process.getOutputStream(), UTF_8)) {
+					writer.write(token + "\n");
+				}
+				ForkedExecutionChannel channel = accept(serverSocket, process, token);
+				channel.send(configurationParameters);
+				return new Worker(process, channel);
+			}
+		}
+
+		private static String generateToken() {
+			byte[] bytes = new byte[WORKER_TOKEN_LENGTH];
+			new SecureRandom().nextBytes(bytes);
+			return HexFormat.of().formatHex(bytes);
+		}
+
+		/**
+		 * Accept connections until the worker JVM connects and authenticates
+		 * itself using the supplied token.
+		 */
+		private static ForkedExecutionChannel accept(ServerSocket serverSocket, Process process, String token)
+				throws IOException {
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(WORKER_CONNECT_TIMEOUT_SECONDS);
+			while (true) {
+				try {
+					Socket socket = serverSocket.accept();
+					ForkedExecutionChannel channel = new ForkedExecutionChannel(socket);
+					if (isAuthenticated(socket, channel, token)) {
+						return channel;
+					}
+					logger.warn(() -> "Rejected unauthenticated connection from " + socket.getRemoteSocketAddress());
+					channel.close();
+				}
+				catch (SocketTimeoutException ex) {
+					if (!process.isAlive()) {
+						throw new JUnitException(
+							"Worker JVM terminated with exit code %d before connecting".formatted(process.exitValue()));
+					}
+				}
+				if (System.nanoTime() - deadline > 0) {
+					process.destroyForcibly();
+					throw new JUnitException(
+						"Worker JVM did not connect within %d seconds".formatted(WORKER_CONNECT_TIMEOUT_SECONDS));
+				}
+			}
+		}
+
+		private static boolean isAuthenticated(Socket socket, ForkedExecutionChannel channel, String token) {
+			try {
+				// Prevents other connections from blocking the worker JVM's one
+				socket.setSoTimeout(1000);
+				boolean authenticated = channel.receiveToken(token);
+				socket.setSoTimeout(0);
+				return authenticated;
+			}
+			catch (IOException ex) {
+				return false;
+			}
+		}
+
+		private static List<String> createCommand(List<String> jvmArgs, int port) {
+			List<String> command = new ArrayList<>();
+			command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+			command.addAll(jvmArgs);
+			command.add("-cp");
+			command.add(String.join(File.pathSeparator, classPath()));
+			Module module = ForkedExecutionWorker.class.getModule();
+			String modulePath = System.getProperty("jdk.module.path");
+			if (module.isNamed() && modulePath != null) {
+				command.add("--module-path");
+				command.add(modulePath);
+				command.add("--add-modules");
+				command.add("ALL-MODULE-PATH");
+				command.add("--module");
+				command.add(module.getName() + "/" + ForkedExecutionWorker.class.getName());
+			}
+			else {
+				command.add(ForkedExecutionWorker.class.getName());
+			}
+			command.add(String.valueOf(port));
+			return command;
+		}
+
+		/**
+		 * Determine the class path of the current JVM including additional
+		 * entries of {@link URLClassLoader URLClassLoaders} in the hierarchy
+		 * of the default class loader, for example, those created by the
+		 * {@code ConsoleLauncher} for {@code --class-path} arguments.
+		 */
+		private static Set<String> classPath() {
+			Set<String> result = new LinkedHashSet<>();
+			Deque<String> additionalEntries = new ArrayDeque<>();
+			ClassLoader classLoader = ClassLoaderUtils.getDefaultClassLoader();
+			while (classLoader != null) {
+				if (classLoader instanceof URLClassLoader urlClassLoader) {
+					List<String> entries = new ArrayList<>();
+					for (URL url : urlClassLoader.getURLs()) {
+						if ("file".equals(url.getProtocol())) {
+							try {
+								entries.add(Path.of(url.toURI()).toString());
+							}
+							catch (Exception ex) {
+								logger.debug(ex, () -> "Ignoring class path entry: " + url);
+							}
+						}
+					}
+					// Entries of parent class loaders take precedence
+					for (int i = entries.size() - 1; i >= 0; i--) {
+						additionalEntries.push(entries.get(i));
+					}
+				}
+				classLoader = classLoader.getParent();
+			}
+			String javaClassPath = System.getProperty("java.class.path", "");
+			if (!javaClassPath.isEmpty()) {
+				result.addAll(Arrays.asList(javaClassPath.split(File.pathSeparator)));
+			}
+			result.addAll(additionalEntries);
+			return result;
+		}
+
+		void close() {
+			try {
+				this.channel.send(ForkedExecutionWorker.Task.empty());
+				this.channel.close();
+			}
+			catch (IOException ex) {
+				logger.debug(ex, () -> "Failed to shut down worker JVM gracefully");
+			}
+			try {
+				if (!this.process.waitFor(WORKER_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+					this.process.destroyForcibly();
+				}
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				this.process.destroyForcibly();
+			}
+		}
+	}
+
+}
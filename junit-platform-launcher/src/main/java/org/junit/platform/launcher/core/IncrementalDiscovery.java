@@ -0,0 +1,433 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toCollection;
+import static org.junit.platform.engine.TestExecutionResult.Status.SUCCESSFUL;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ClassFileUtils;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.discovery.ClasspathRootSelector;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Replaces {@link ClasspathRootSelector ClasspathRootSelectors} for
+ * directories with {@link org.junit.platform.engine.discovery.ClassSelector
+ * ClassSelectors} for the classes that changed since the previous run and
+ * the classes that depend on them.
+ *
+ * <p>The index of the previous run is stored in a
+ * {@linkplain Properties properties file} encoded using UTF-8 that maps the
+ * URI of each classpath root and the name of each of its classes to the
+ * size and last-modified time of the class file and the names of the
+ * classes of all selected roots it references. Dependencies are thus
+ * tracked across classpath roots, e.g. from test classes to the classes
+ * under test in a separate root.
+ *
+ * <p>The index is not updated when the selectors are computed but by the
+ * {@linkplain #createIndexUpdatingListener() listener} that is notified
+ * once the tests have been executed. Classes with tests that did not
+ * succeed are stored as changed so that they are selected again in the
+ * next run.
+ *
+ * @since 6.0
+ * @see org.junit.platform.launcher.LauncherConstants#INCREMENTAL_DISCOVERY_INDEX_FILE_PROPERTY_NAME
+ */
+class IncrementalDiscovery {
+
+	private static final Logger logger = LoggerFactory.getLogger(IncrementalDiscovery.class);
+
+	private static final String CLASS_FILE_SUFFIX = ".class";
+	private static final String KEY_SEPARATOR = "!";
+	private static final String VALUE_SEPARATOR = ",";
+
+	private final Path indexFile;
+	private final Map<String, String> updatedIndex;
+	private final List<DiscoverySelector> selectors;
+
+	/**
+	 * Replace all classpath root selectors for directories in the supplied
+	 * list with class selectors for the changed classes and their dependents.
+	 *
+	 * <p>Classpath roots without an entry in the index are retained so that
+	 * all of their classes are discovered.
+	 */
+	IncrementalDiscovery(Path indexFile, List<DiscoverySelector> selectors) {
+		this.indexFile = indexFile;
+		this.updatedIndex = readIndex(indexFile);
+		this.selectors = apply(selectors, this.updatedIndex);
+	}
+
+	/**
+	 * Get the incremental discovery used to build the supplied request, if
+	 * any.
+	 */
+	static Optional<IncrementalDiscovery> from(LauncherDiscoveryRequest request) {
+		return request instanceof DefaultDiscoveryRequest defaultRequest
+				? Optional.ofNullable(defaultRequest.getIncrementalDiscovery())
+				: Optional.empty();
+	}
+
+	List<DiscoverySelector> getSelectors() {
+		return this.selectors;
+	}
+
+	/**
+	 * Create a listener that writes the updated index once the tests
+	 * discovered for the {@linkplain #getSelectors() selectors} have been
+	 * executed.
+	 */
+	TestExecutionListener createIndexUpdatingListener() {
+		return new IndexUpdatingListener();
+	}
+
+	private static List<DiscoverySelector> apply(List<DiscoverySelector> selectors, Map<String, String> index) {
+		Map<ClasspathRootSelector, Map<String, ClassFile>> classFilesByRoot = new LinkedHashMap<>();
+		for (DiscoverySelector selector : selectors) {
+			if (selector instanceof ClasspathRootSelector classpathRootSelector
+					&& isDirectory(classpathRootSelector.getClasspathRoot())) {
+				try {
+					classFilesByRoot.put(classpathRootSelector,
+						findClassFiles(Path.of(classpathRootSelector.getClasspathRoot())));
+				}
+				catch (IOException ex) {
+					logger.warn(ex, () -> "Failed to determine changed classes in classpath root "
+							+ classpathRootSelector.getClasspathRoot());
+				}
+			}
+		}
+
+		Set<String> knownClassNames = new HashSet<>();
+		classFilesByRoot.values().forEach(classFiles -> knownClassNames.addAll(classFiles.keySet()));
+		index.keySet().forEach(key -> knownClassNames.add(key.substring(key.lastIndexOf(KEY_SEPARATOR) + 1)));
+
+		Set<String> changed = new TreeSet<>();
+		Map<String, Set<String>> dependents = new HashMap<>();
+		Set<ClasspathRootSelector> unindexedRoots = new HashSet<>();
+		for (Map.Entry<ClasspathRootSelector, Map<String, ClassFile>> rootEntry : classFilesByRoot.entrySet()) {
+			ClasspathRootSelector selector = rootEntry.getKey();
+			try {
+				Map<String, IndexEntry> updated = update(selector.getClasspathRoot(), rootEntry.getValue(),
+					knownClassNames, index, changed);
+				if (updated == null) {
+					unindexedRoots.add(selector);
+				}
+				else {
+					updated.forEach((className, entry) -> entry.referencedClassNames().forEach(
+						referencedClassName -> dependents.computeIfAbsent(referencedClassName,
+							__ -> new HashSet<>()).add(className)));
+				}
+			}
+			catch (IOException ex) {
+				logger.warn(ex, () -> "Failed to determine changed classes in classpath root "
+						+ selector.getClasspathRoot());
+				unindexedRoots.add(selector);
+			}
+		}
+
+		Set<String> affected = findDependents(changed, dependents);
+		logger.config(() -> "%d classes changed in %d classpath roots; discovering %d affected classes".formatted(
+			changed.size(), classFilesByRoot.size(), affected.size()));
+
+		List<DiscoverySelector> result = new ArrayList<>(selectors.size());
+		for (DiscoverySelector selector : selectors) {
+			Map<String, ClassFile> classFiles = classFilesByRoot.get(selector);
+			if (classFiles == null || unindexedRoots.contains(selector)) {
+				result.add(selector);
+			}
+			else {
+				affected.stream() //
+						.filter(classFiles::containsKey) //
+						.map(IncrementalDiscovery::getTopLevelClassName) //
+						.distinct() //
+						.forEach(className -> result.add(selectClass(className)));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Update the entries of the supplied classpath root in the supplied index
+	 * and collect the names of its changed classes.
+	 *
+	 * @return the updated entries of the classpath root or {@code null} if
+	 * the index did not contain any entries for it
+	 */
+	private static @Nullable Map<String, IndexEntry> update(URI root, Map<String, ClassFile> current,
+			Set<String> knownClassNames, Map<String, String> index, Set<String> changed) throws IOException {
+		String keyPrefix = root + KEY_SEPARATOR;
+		Map<String, IndexEntry> previous = new HashMap<>();
+		index.forEach((key, value) -> {
+			if (key.startsWith(keyPrefix)) {
+				previous.put(key.substring(keyPrefix.length()), IndexEntry.parse(value));
+			}
+		});
+
+		Map<String, IndexEntry> updated = new TreeMap<>();
+		for (ClassFile classFile : current.values()) {
+			IndexEntry entry = previous.get(classFile.className());
+			if (entry == null || entry.size() != classFile.size() || entry.lastModified() != classFile.lastModified()) {
+				changed.add(classFile.className());
+				entry = new IndexEntry(classFile.size(), classFile.lastModified(),
+					readReferencedClassNames(classFile, knownClassNames));
+			}
+			updated.put(classFile.className(), entry);
+		}
+		previous.keySet().stream().filter(className -> !current.containsKey(className)).forEach(changed::add);
+
+		index.keySet().removeIf(key -> key.startsWith(keyPrefix));
+		updated.forEach((className, entry) -> index.put(keyPrefix + className, entry.toString()));
+
+		if (previous.isEmpty()) {
+			logger.config(() -> "No index of previous run found for classpath root " + root);
+			return null;
+		}
+		return updated;
+	}
+
+	/**
+	 * Find the supplied changed classes and all classes that directly or
+	 * transitively depend on them.
+	 */
+	private static Set<String> findDependents(Set<String> changed, Map<String, Set<String>> dependents) {
+		Set<String> affected = new TreeSet<>(changed);
+		Deque<String> queue = new ArrayDeque<>(changed);
+		while (!queue.isEmpty()) {
+			for (String dependent : dependents.getOrDefault(queue.poll(), Set.of())) {
+				if (affected.add(dependent)) {
+					queue.add(dependent);
+				}
+			}
+		}
+		return affected;
+	}
+
+	private static String getTopLevelClassName(String className) {
+		int index = className.indexOf('$');
+		return index > 0 ? className.substring(0, index) : className;
+	}
+
+	private static Set<String> readReferencedClassNames(ClassFile classFile, Set<String> classNames)
+			throws IOException {
+		try (InputStream inputStream = Files.newInputStream(classFile.path())) {
+			return ClassFileUtils.getReferencedClassNames(inputStream).stream() //
+					.filter(classNames::contains) //
+					.filter(className -> !className.equals(classFile.className())) //
+					.collect(toCollection(TreeSet::new));
+		}
+	}
+
+	private static Map<String, ClassFile> findClassFiles(Path root) throws IOException {
+		Map<String, ClassFile> classFiles = new HashMap<>();
+		Files.walkFileTree(root, new SimpleFileVisitor<>() {
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+				String fileName = file.getFileName().toString();
+				if (fileName.endsWith(CLASS_FILE_SUFFIX) && !fileName.equals("module-info.class")
+						&& !fileName.equals("package-info.class")) {
+					String relativePath = root.relativize(file).toString();
+					String className = relativePath.substring(0,
+						relativePath.length() - CLASS_FILE_SUFFIX.length()).replace(file.getFileSystem().getSeparator(),
+							".");
+					classFiles.put(className, new ClassFile(className, file, attributes.size(),
+						attributes.lastModifiedTime().toMillis()));
+				}
+				return FileVisitResult.CONTINUE;
+			}
+		});
+		return classFiles;
+	}
+
+	private static boolean isDirectory(URI uri) {
+		return "file".equals(uri.getScheme()) && Files.isDirectory(Path.of(uri));
+	}
+
+	private static Map<String, String> readIndex(Path indexFile) {
+		Map<String, String> index = new TreeMap<>();
+		if (!Files.isRegularFile(indexFile)) {
+			return index;
+		}
+		Properties properties = new Properties();
+		try (Reader reader = Files.newBufferedReader(indexFile, UTF_8)) {
+			properties.load(reader);
+		}
+		catch (IOException | IllegalArgumentException ex) {
+			logger.warn(ex, () -> "Failed to read discovery index from " + indexFile.toAbsolutePath());
+			return index;
+		}
+		properties.stringPropertyNames().forEach(key -> index.put(key, properties.getProperty(key)));
+		return index;
+	}
+
+	private void writeIndex(Set<String> unsuccessfulClassNames) {
+		Map<String, String> index = new TreeMap<>(this.updatedIndex);
+		index.replaceAll((key, value) -> {
+			String className = key.substring(key.lastIndexOf(KEY_SEPARATOR) + 1);
+			return unsuccessfulClassNames.contains(getTopLevelClassName(className))
+					? IndexEntry.parse(value).invalidate().toString()
+					: value;
+		});
+		logger.debug(() -> "Writing discovery index to " + this.indexFile.toAbsolutePath());
+		try {
+			Path parent = this.indexFile.toAbsolutePath().getParent();
+			if (parent != null) {
+				Files.createDirectories(parent);
+			}
+			Properties properties = new Properties();
+			properties.putAll(index);
+			try (Writer writer = Files.newBufferedWriter(this.indexFile, UTF_8)) {
+				properties.store(writer, "Discovery index");
+			}
+		}
+		catch (IOException ex) {
+			logger.error(ex, () -> "Failed to write discovery index to " + this.indexFile.toAbsolutePath());
+		}
+	}
+
+	/**
+	 * Records the top-level classes of tests that did not succeed, including
+	 * those that were not executed at all, and writes the updated index once
+	 * execution has finished.
+	 */
+	private class IndexUpdatingListener implements TestExecutionListener {
+
+		private final Set<String> unsuccessfulClassNames = ConcurrentHashMap.newKeySet();
+		private final Set<TestIdentifier> pendingTests = ConcurrentHashMap.newKeySet();
+
+		private @Nullable TestPlan testPlan;
+
+		@Override
+		public void testPlanExecutionStarted(TestPlan testPlan) {
+			this.testPlan = testPlan;
+			testPlan.accept(new TestPlan.Visitor() {
+				@Override
+				public void visit(TestIdentifier testIdentifier) {
+					if (testIdentifier.isTest()) {
+						pendingTests.add(testIdentifier);
+					}
+				}
+			});
+		}
+
+		@Override
+		public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+			this.pendingTests.remove(testIdentifier);
+			requireNonNull(this.testPlan).getDescendants(testIdentifier).forEach(this.pendingTests::remove);
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			if (testExecutionResult.getStatus() == SUCCESSFUL) {
+				this.pendingTests.remove(testIdentifier);
+			}
+			else {
+				addTopLevelClassName(testIdentifier);
+			}
+		}
+
+		@Override
+		public void testPlanExecutionFinished(TestPlan testPlan) {
+			this.pendingTests.forEach(this::addTopLevelClassName);
+			writeIndex(this.unsuccessfulClassNames);
+		}
+
+		private void addTopLevelClassName(TestIdentifier testIdentifier) {
+			TestPlan testPlan = requireNonNull(this.testPlan);
+			TestIdentifier current = testIdentifier;
+			while (current != null) {
+				TestSource source = current.getSource().orElse(null);
+				if (source instanceof ClassSource classSource) {
+					this.unsuccessfulClassNames.add(getTopLevelClassName(classSource.getClassName()));
+					return;
+				}
+				if (source instanceof MethodSource methodSource) {
+					this.unsuccessfulClassNames.add(getTopLevelClassName(methodSource.getClassName()));
+					return;
+				}
+				current = testPlan.getParent(current).orElse(null);
+			}
+		}
+	}
+
+	private record ClassFile(String className, Path path, long size, long lastModified) {
+	}
+
+	private record IndexEntry(long size, long lastModified, Set<String> referencedClassNames) {
+
+		static IndexEntry parse(String value) {
+			String[] parts = value.split(VALUE_SEPARATOR);
+			try {
+				return new IndexEntry(Long.parseLong(parts[0]), Long.parseLong(parts[1]),
+					new TreeSet<>(Arrays.asList(parts).subList(2, parts.length)));
+			}
+			catch (RuntimeException ex) {
+				// Treat invalid entries as changed
+				return new IndexEntry(-1, -1, Set.of());
+			}
+		}
+
+		/**
+		 * Create a copy of this entry that does not match any class file and
+		 * is thus treated as changed.
+		 */
+		IndexEntry invalidate() {
+			return new IndexEntry(-1, -1, this.referencedClassNames);
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder builder = new StringBuilder().append(this.size).append(VALUE_SEPARATOR).append(
+				this.lastModified);
+			this.referencedClassNames.forEach(className -> builder.append(VALUE_SEPARATOR).append(className));
+			return builder.toString();
+		}
+	}
+
+}
@@ -12,14 +12,20 @@ package org.junit.platform.launcher.core;
 
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
+import static org.junit.platform.launcher.LauncherConstants.EXECUTION_TIMES_FILE_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.INCREMENTAL_DISCOVERY_INDEX_FILE_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.OUTPUT_DIR_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_COUNT_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_INDEX_PROPERTY_NAME;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
@@ -35,6 +41,7 @@ import org.junit.platform.launcher.LauncherConstants;
 import org.junit.platform.launcher.LauncherDiscoveryListener;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.PostDiscoveryFilter;
+import org.junit.platform.launcher.ShardingFilter;
 import org.junit.platform.launcher.core.LauncherConfigurationParameters.Builder;
 import org.junit.platform.launcher.listeners.OutputDir;
 import org.junit.platform.launcher.listeners.discovery.LauncherDiscoveryListeners;
@@ -331,8 +338,42 @@ public final class LauncherDiscoveryRequestBuilder {
 		LauncherConfigurationParameters launcherConfigurationParameters = buildLauncherConfigurationParameters();
 		LauncherDiscoveryListener discoveryListener = getLauncherDiscoveryListener(launcherConfigurationParameters);
 		OutputDirectoryProvider outputDirectoryProvider = getOutputDirectoryProvider(launcherConfigurationParameters);
-		return new DefaultDiscoveryRequest(this.selectors, this.engineFilters, this.discoveryFilters,
-			this.postDiscoveryFilters, launcherConfigurationParameters, discoveryListener, outputDirectoryProvider);
+		IncrementalDiscovery incrementalDiscovery = getIncrementalDiscovery(launcherConfigurationParameters);
+		List<DiscoverySelector> selectors = incrementalDiscovery == null ? this.selectors
+				: incrementalDiscovery.getSelectors();
+		List<PostDiscoveryFilter> postDiscoveryFilters = getPostDiscoveryFilters(launcherConfigurationParameters);
+		return new DefaultDiscoveryRequest(selectors, this.engineFilters, this.discoveryFilters, postDiscoveryFilters,
+			launcherConfigurationParameters, discoveryListener, outputDirectoryProvider, incrementalDiscovery);
+	}
+
+	private @Nullable IncrementalDiscovery getIncrementalDiscovery(
+			LauncherConfigurationParameters configurationParameters) {
+		return configurationParameters.get(INCREMENTAL_DISCOVERY_INDEX_FILE_PROPERTY_NAME, Path::of) //
+				.map(indexFile -> new IncrementalDiscovery(indexFile, this.selectors)) //
+				.orElse(null);
+	}
+
+	private List<PostDiscoveryFilter> getPostDiscoveryFilters(
+			LauncherConfigurationParameters configurationParameters) {
+		// Nested requests, e.g. of test suites, are part of the shard of their parent
+		if (this.parentConfigurationParameters != null) {
+			return this.postDiscoveryFilters;
+		}
+		Optional<Integer> shardCount = configurationParameters.get(SHARD_COUNT_PROPERTY_NAME, Integer::parseInt);
+		if (shardCount.isEmpty()) {
+			return this.postDiscoveryFilters;
+		}
+		int shardIndex = configurationParameters.get(SHARD_INDEX_PROPERTY_NAME, Integer::parseInt) //
+				.orElseThrow(() -> new PreconditionViolationException(
+					"Configuration parameter '%s' must be set if '%s' is set".formatted(SHARD_INDEX_PROPERTY_NAME,
+						SHARD_COUNT_PROPERTY_NAME)));
+		ShardingFilter shardingFilter = configurationParameters.get(EXECUTION_TIMES_FILE_PROPERTY_NAME, Path::of) //
+				.map(executionTimesFile -> ShardingFilter.includeShard(shardIndex, shardCount.get(),
+					executionTimesFile)) //
+				.orElseGet(() -> ShardingFilter.includeShard(shardIndex, shardCount.get()));
+		List<PostDiscoveryFilter> postDiscoveryFilters = new ArrayList<>(this.postDiscoveryFilters);
+		postDiscoveryFilters.add(shardingFilter);
+		return postDiscoveryFilters;
 	}
 
 	private OutputDirectoryProvider getOutputDirectoryProvider(
@@ -42,12 +42,20 @@ public class LauncherDiscoveryResult {
 	private final Map<TestEngine, EngineResultInfo> testEngineResults;
 	private final ConfigurationParameters configurationParameters;
 	private final OutputDirectoryProvider outputDirectoryProvider;
+	private final @Nullable IncrementalDiscovery incrementalDiscovery;
 
 	LauncherDiscoveryResult(Map<TestEngine, EngineResultInfo> testEngineResults,
 			ConfigurationParameters configurationParameters, OutputDirectoryProvider outputDirectoryProvider) {
+		this(testEngineResults, configurationParameters, outputDirectoryProvider, null);
+	}
+
+	LauncherDiscoveryResult(Map<TestEngine, EngineResultInfo> testEngineResults,
+			ConfigurationParameters configurationParameters, OutputDirectoryProvider outputDirectoryProvider,
+			@Nullable IncrementalDiscovery incrementalDiscovery) {
 		this.testEngineResults = unmodifiableMap(new LinkedHashMap<>(testEngineResults));
 		this.configurationParameters = configurationParameters;
 		this.outputDirectoryProvider = outputDirectoryProvider;
+		this.incrementalDiscovery = incrementalDiscovery;
 	}
 
 	public TestDescriptor getEngineTestDescriptor(TestEngine testEngine) {
@@ -71,6 +79,10 @@ public class LauncherDiscoveryResult {
 		return this.outputDirectoryProvider;
 	}
 
+	Optional<IncrementalDiscovery> getIncrementalDiscovery() {
+		return Optional.ofNullable(this.incrementalDiscovery);
+	}
+
 	public Collection<TestEngine> getTestEngines() {
 		return this.testEngineResults.keySet();
 	}
@@ -90,7 +102,7 @@ public class LauncherDiscoveryResult {
 		Map<TestEngine, EngineResultInfo> prunedTestEngineResults = retainEngines(predicate);
 		if (prunedTestEngineResults.size() < this.testEngineResults.size()) {
 			return new LauncherDiscoveryResult(prunedTestEngineResults, this.configurationParameters,
-				this.outputDirectoryProvider);
+				this.outputDirectoryProvider, this.incrementalDiscovery);
 		}
 		return this;
 	}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine;
+import org.junit.platform.launcher.LauncherConstants;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@code ExecutionTimeRecordingListener} is a {@link TestExecutionListener}
+ * that records the execution time of all tests and containers and writes them
+ * to a file once execution of the {@link TestPlan} has
+ * {@linkplain #testPlanExecutionFinished(TestPlan) finished}.
+ *
+ * <p>The listener is registered automatically via Java's
+ * {@link java.util.ServiceLoader} mechanism but only records execution times
+ * if the {@value LauncherConstants#EXECUTION_TIMES_FILE_PROPERTY_NAME}
+ * configuration parameter is set to the path of the file to be written. The
+ * file is a {@linkplain Properties properties file} encoded using UTF-8 that
+ * maps the {@linkplain TestIdentifier#getUniqueId() unique IDs} of tests and
+ * containers to their execution times in milliseconds. Entries for tests and
+ * containers that were not executed in the current run, for example, because
+ * they were filtered out, are retained from the existing file.
+ *
+ * <p>On subsequent runs, engines based on {@link HierarchicalTestEngine} read
+ * the same file to start long-running tests and containers first when
+ * executing them in parallel.
+ *
+ * @since 6.0
+ * @see LauncherConstants#EXECUTION_TIMES_FILE_PROPERTY_NAME
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public class ExecutionTimeRecordingListener implements TestExecutionListener {
+
+	private final Logger logger = LoggerFactory.getLogger(ExecutionTimeRecordingListener.class);
+
+	private final Map<String, Long> startTimes = new ConcurrentHashMap<>();
+	private final Map<String, Long> executionTimes = new ConcurrentHashMap<>();
+
+	private @Nullable Path outputFile;
+
+	public ExecutionTimeRecordingListener() {
+		// to avoid missing-explicit-ctor warning
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		this.outputFile = testPlan.getConfigurationParameters() //
+				.get(LauncherConstants.EXECUTION_TIMES_FILE_PROPERTY_NAME, Path::of) //
+				.orElse(null);
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		if (this.outputFile != null) {
+			this.startTimes.put(testIdentifier.getUniqueId(), System.nanoTime());
+		}
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		if (this.outputFile != null) {
+			Long startTime = this.startTimes.remove(testIdentifier.getUniqueId());
+			if (startTime != null) {
+				long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+				this.executionTimes.put(testIdentifier.getUniqueId(), millis);
+			}
+		}
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		Path outputFile = this.outputFile;
+		if (outputFile != null) {
+			Map<String, String> entries = new TreeMap<>();
+			readExistingEntries(outputFile, entries);
+			this.executionTimes.forEach((uniqueId, millis) -> entries.put(uniqueId, String.valueOf(millis)));
+			writeEntries(outputFile, entries);
+		}
+		this.outputFile = null;
+		this.startTimes.clear();
+		this.executionTimes.clear();
+	}
+
+	private void readExistingEntries(Path outputFile, Map<String, String> entries) {
+		if (!Files.isRegularFile(outputFile)) {
+			return;
+		}
+		Properties properties = new Properties();
+		try (Reader reader = Files.newBufferedReader(outputFile, UTF_8)) {
+			properties.load(reader);
+		}
+		catch (IOException | IllegalArgumentException ex) {
+			logger.warn(ex, () -> "Failed to read existing execution times from " + outputFile.toAbsolutePath());
+			return;
+		}
+		properties.stringPropertyNames().forEach(key -> entries.put(key, properties.getProperty(key)));
+	}
+
+	private void writeEntries(Path outputFile, Map<String, String> entries) {
+		logger.debug(() -> "Writing execution times to output file " + outputFile.toAbsolutePath());
+		try {
+			Path parent = outputFile.toAbsolutePath().getParent();
+			if (parent != null) {
+				Files.createDirectories(parent);
+			}
+			Properties properties = new Properties();
+			properties.putAll(entries);
+			try (Writer writer = Files.newBufferedWriter(outputFile, UTF_8)) {
+				properties.store(writer, "Execution times in milliseconds by unique ID");
+			}
+		}
+		catch (IOException ex) {
+			logger.error(ex, () -> "Failed to write execution times to output file " + outputFile.toAbsolutePath());
+		}
+	}
+
+}
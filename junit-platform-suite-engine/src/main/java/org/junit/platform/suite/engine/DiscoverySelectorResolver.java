@@ -22,7 +22,8 @@ final class DiscoverySelectorResolver {
 
 	// @formatter:off
 	private static final EngineDiscoveryRequestResolver<SuiteEngineDescriptor> resolver = EngineDiscoveryRequestResolver.<SuiteEngineDescriptor>builder()
-			.addClassContainerSelectorResolverWithContext(context -> new IsSuiteClass(context.getIssueReporter()))
+			.addClassContainerSelectorResolverWithContext(context -> new IsSuiteClass(context.getIssueReporter()),
+					referencedClassName -> referencedClassName.startsWith("org.junit.platform.suite.api."))
 			.addSelectorResolver(context -> new ClassSelectorResolver(
 					context.getClassNameFilter(),
 					context.getEngineDescriptor(),
@@ -0,0 +1,13 @@
+plugins {
+	id("junitbuild.java-library-conventions")
+	id("junitbuild.java-nullability-conventions")
+}
+
+description = "JUnit Platform Test Index"
+
+dependencies {
+	api(platform(projects.junitBom))
+
+	compileOnlyApi(libs.apiguardian)
+	compileOnly(libs.jspecify)
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+/**
+ * Annotation processor that generates an index of test classes at compile
+ * time which is used by the JUnit Platform instead of scanning the class path.
+ *
+ * @since 6.0
+ */
+module org.junit.platform.testindex {
+
+	requires static transitive org.apiguardian.api;
+	requires static org.jspecify;
+
+	requires java.compiler;
+
+	exports org.junit.platform.testindex;
+
+	provides javax.annotation.processing.Processor
+			with org.junit.platform.testindex.TestIndexProcessor;
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.testindex;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.apiguardian.api.API;
+
+/**
+ * Annotation processor that writes the binary names of all test classes of
+ * the current compilation to the {@value #TEST_INDEX_RESOURCE_NAME}
+ * resource.
+ *
+ * <p>If the {@code junit.platform.classpath.scanning.test-index.enabled}
+ * JVM system property is set to {@code true} and a class path root contains
+ * this resource, the default classpath scanner of the JUnit Platform loads
+ * the classes listed in it instead of walking the class path root. Hence,
+ * the index must be generated for all classes of the class path root at
+ * once. Partial or incremental compilations, for example, by an IDE or by
+ * build tools that only recompile changed sources, produce an index that
+ * only contains the test classes of the recompiled sources, so test classes
+ * that are missing from it are not found while the index is used.
+ *
+ * <p>A class is considered a test class if it or one of its methods,
+ * including inherited ones, is annotated or meta-annotated with
+ * {@code @Testable}, which is the case for test classes and methods of the
+ * JUnit Jupiter and JUnit Platform Suite engines, or if it is a JUnit 4 or
+ * JUnit 3 test class. Test classes of other test engines may therefore be
+ * missing from the index.
+ *
+ * <p>The index is a UTF-8 encoded text file that contains one binary class
+ * name per line, ordered by name and thus grouped by package.
+ *
+ * @since 6.0
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public class TestIndexProcessor extends AbstractProcessor {
+
+	/**
+	 * Name of the resource the test index is written to: {@value}
+	 */
+	public static final String TEST_INDEX_RESOURCE_NAME = "META-INF/junit-platform/test-index";
+
+	private static final String TESTABLE_ANNOTATION_NAME = "org.junit.platform.commons.annotation.Testable";
+
+	private static final Set<String> JUNIT4_ANNOTATION_NAMES = Set.of("org.junit.Test", "org.junit.runner.RunWith");
+
+	private static final String JUNIT3_TEST_INTERFACE_NAME = "junit.framework.Test";
+
+	private final Set<String> testClassNames = new TreeSet<>();
+
+	private final Map<String, Boolean> testAnnotationCache = new HashMap<>();
+
+	public TestIndexProcessor() {
+	}
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Set.of("*");
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+		if (roundEnvironment.processingOver()) {
+			writeIndex();
+		}
+		else {
+			roundEnvironment.getRootElements().forEach(this::collectTestClasses);
+		}
+		return false;
+	}
+
+	private void collectTestClasses(Element element) {
+		if (element instanceof TypeElement type) {
+			if (isTestClass(type)) {
+				this.testClassNames.add(elements().getBinaryName(type).toString());
+			}
+			type.getEnclosedElements().forEach(this::collectTestClasses);
+		}
+	}
+
+	private boolean isTestClass(TypeElement type) {
+		if (hasTestAnnotation(elements().getAllAnnotationMirrors(type)) || isJUnit3TestClass(type.asType())) {
+			return true;
+		}
+		return elements().getAllMembers(type).stream() //
+				.anyMatch(member -> hasTestAnnotation(member.getAnnotationMirrors()));
+	}
+
+	private boolean hasTestAnnotation(List<? extends AnnotationMirror> annotations) {
+		return annotations.stream() //
+				.map(annotation -> (TypeElement) annotation.getAnnotationType().asElement()) //
+				.anyMatch(this::isTestAnnotation);
+	}
+
+	private boolean isTestAnnotation(TypeElement annotationType) {
+		String name = annotationType.getQualifiedName().toString();
+		Boolean cached = this.testAnnotationCache.get(name);
+		if (cached == null) {
+			cached = isTestAnnotation(annotationType, new HashSet<>());
+			this.testAnnotationCache.put(name, cached);
+		}
+		return cached;
+	}
+
+	/**
+	 * Results for meta-annotations are not cached since they may be incomplete
+	 * if they are part of a cycle, for example, {@code @Documented}.
+	 */
+	private boolean isTestAnnotation(TypeElement annotationType, Set<String> visited) {
+		String name = annotationType.getQualifiedName().toString();
+		if (!visited.add(name)) {
+			return false;
+		}
+		if (TESTABLE_ANNOTATION_NAME.equals(name) || JUNIT4_ANNOTATION_NAMES.contains(name)
+				|| Boolean.TRUE.equals(this.testAnnotationCache.get(name))) {
+			return true;
+		}
+		return annotationType.getAnnotationMirrors().stream() //
+				.map(metaAnnotation -> (TypeElement) metaAnnotation.getAnnotationType().asElement()) //
+				.anyMatch(metaAnnotationType -> isTestAnnotation(metaAnnotationType, visited));
+	}
+
+	private boolean isJUnit3TestClass(TypeMirror type) {
+		if (type.getKind() != TypeKind.DECLARED) {
+			return false;
+		}
+		TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+		if (JUNIT3_TEST_INTERFACE_NAME.contentEquals(element.getQualifiedName())) {
+			return true;
+		}
+		return processingEnv.getTypeUtils().directSupertypes(type).stream().anyMatch(this::isJUnit3TestClass);
+	}
+
+	private void writeIndex() {
+		try {
+			FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+				TEST_INDEX_RESOURCE_NAME);
+			try (Writer writer = resource.openWriter()) {
+				for (String testClassName : this.testClassNames) {
+					writer.write(testClassName);
+					writer.write('\n');
+				}
+			}
+		}
+		catch (IOException ex) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+				"Failed to write JUnit Platform test index: " + ex.getMessage());
+		}
+	}
+
+	private Elements elements() {
+		return processingEnv.getElementUtils();
+	}
+
+}
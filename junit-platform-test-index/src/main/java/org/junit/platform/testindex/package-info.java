@@ -0,0 +1,9 @@
+/**
+ * Annotation processor that generates an index of the test classes of a
+ * compilation unit for the JUnit Platform.
+ */
+
+@NullMarked
+package org.junit.platform.testindex;
+
+import org.jspecify.annotations.NullMarked;
@@ -32,7 +32,8 @@ public class VintageDiscoverer {
 
 	// @formatter:off
 	private static final EngineDiscoveryRequestResolver<TestDescriptor> resolver = EngineDiscoveryRequestResolver.builder()
-			.addClassContainerSelectorResolver(isPotentialJUnit4TestClass)
+			.addClassContainerSelectorResolverWithContext(__ -> isPotentialJUnit4TestClass,
+					referencedClassName -> referencedClassName.startsWith("org.junit.") || referencedClassName.startsWith("junit."))
 			.addSelectorResolver(context -> new ClassSelectorResolver(ClassFilter.of(context.getClassNameFilter(), isPotentialJUnit4TestClass)))
 			.addSelectorResolver(new MethodSelectorResolver())
 			.build();
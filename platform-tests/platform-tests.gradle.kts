@@ -38,6 +38,7 @@ dependencies {
 	testImplementation(projects.junitPlatformEngine)
 	testImplementation(projects.junitPlatformLauncher)
 	testImplementation(projects.junitPlatformSuiteEngine)
+	testImplementation(projects.junitPlatformTestIndex)
 
 	// --- Things we are testing with ---------------------------------------------
 	testImplementation(projects.junitPlatformTestkit)
@@ -77,6 +78,7 @@ dependencies {
 
 	// --- https://openjdk.java.net/projects/code-tools/jmh/ ----------------------
 	jmh(projects.junitJupiterApi)
+	jmh(projects.junitPlatformEngine)
 	jmh(libs.junit4)
 
 	// --- ProcessStarter dependencies --------------------------------------------
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.jmh;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.OutputDirectoryProvider;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.engine.support.hierarchical.EngineExecutionContext;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine;
+import org.junit.platform.engine.support.hierarchical.Node;
+import org.junit.platform.engine.support.store.Namespace;
+import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH benchmarks for executing trivial leaf tests with a
+ * {@link HierarchicalTestEngine}.
+ *
+ * <p>Each operation corresponds to the execution of a single test. Run with
+ * the GC profiler (e.g., {@code -prof gc}) and compare
+ * {@code gc.alloc.rate.norm} to determine the number of bytes allocated per
+ * test.
+ *
+ * @since 6.0
+ */
+@State(Scope.Benchmark)
+public class HierarchicalTestExecutorBenchmarks {
+
+	private static final int NUMBER_OF_TESTS = 10_000;
+
+	private final BenchmarkEngine engine = new BenchmarkEngine();
+
+	private TestDescriptor engineDescriptor;
+
+	@Setup
+	public void createTestTree() {
+		var uniqueId = UniqueId.forEngine(engine.getId());
+		var descriptor = new BenchmarkEngineDescriptor(uniqueId);
+		for (int i = 0; i < NUMBER_OF_TESTS; i++) {
+			descriptor.addChild(new TrivialLeaf(uniqueId.append("test", String.valueOf(i))));
+		}
+		this.engineDescriptor = descriptor;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(NUMBER_OF_TESTS)
+	public void executeTrivialLeafTests() {
+		engine.execute(ExecutionRequest.create(engineDescriptor, EngineExecutionListener.NOOP,
+			EmptyConfigurationParameters.INSTANCE, NoOutputDirectoryProvider.INSTANCE,
+			new NamespacedHierarchicalStore<Namespace>(null)));
+	}
+
+	static class BenchmarkContext implements EngineExecutionContext {
+	}
+
+	static class BenchmarkEngine extends HierarchicalTestEngine<BenchmarkContext> {
+
+		@Override
+		public String getId() {
+			return "benchmark";
+		}
+
+		@Override
+		public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+			throw new UnsupportedOperationException("not used by benchmarks");
+		}
+
+		@Override
+		protected BenchmarkContext createExecutionContext(ExecutionRequest request) {
+			return new BenchmarkContext();
+		}
+	}
+
+	static class BenchmarkEngineDescriptor extends EngineDescriptor implements Node<BenchmarkContext> {
+
+		BenchmarkEngineDescriptor(UniqueId uniqueId) {
+			super(uniqueId, "Benchmark");
+		}
+	}
+
+	static class TrivialLeaf extends AbstractTestDescriptor implements Node<BenchmarkContext> {
+
+		TrivialLeaf(UniqueId uniqueId) {
+			super(uniqueId, uniqueId.getLastSegment().getValue());
+		}
+
+		@Override
+		public Type getType() {
+			return Type.TEST;
+		}
+	}
+
+	static class EmptyConfigurationParameters implements ConfigurationParameters {
+
+		static final ConfigurationParameters INSTANCE = new EmptyConfigurationParameters();
+
+		@Override
+		public Optional<String> get(String key) {
+			return Optional.empty();
+		}
+
+		@Override
+		public Optional<Boolean> getBoolean(String key) {
+			return Optional.empty();
+		}
+
+		@Override
+		public Set<String> keySet() {
+			return Set.of();
+		}
+	}
+
+	static class NoOutputDirectoryProvider implements OutputDirectoryProvider {
+
+		static final OutputDirectoryProvider INSTANCE = new NoOutputDirectoryProvider();
+
+		@Override
+		public Path getRootDirectory() {
+			throw new UnsupportedOperationException("not used by benchmarks");
+		}
+
+		@Override
+		public Path createOutputDirectory(TestDescriptor testDescriptor) {
+			throw new UnsupportedOperationException("not used by benchmarks");
+		}
+	}
+
+}
@@ -32,9 +32,13 @@ import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.logging.Level;
@@ -45,6 +49,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledIf;
 import org.junit.jupiter.api.fixtures.TrackLogRecords;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.commons.function.Try;
 import org.junit.platform.commons.logging.LogRecordListener;
@@ -63,7 +69,7 @@ class DefaultClasspathScannerTests {
 	private static final ClassFilter allClasses = ClassFilter.of(type -> true);
 	private static final Predicate<Resource> allResources = type -> true;
 
-	private final List<Class<?>> loadedClasses = new ArrayList<>();
+	private final List<Class<?>> loadedClasses = Collections.synchronizedList(new ArrayList<>());
 
 	private final BiFunction<String, ClassLoader, Try<Class<?>>> trackingClassLoader = (name,
 			classLoader) -> ReflectionUtils.tryToLoadClass(name, classLoader).ifSuccess(loadedClasses::add);
@@ -198,6 +204,119 @@ class DefaultClasspathScannerTests {
 		}
 	}
 
+	@Test
+	void scanForClassesInClasspathRootWithinJarFileInParallel() throws Exception {
+		var jarfile = getClass().getResource("/jartest.jar");
+
+		try (var classLoader = new URLClassLoader(new URL[] { jarfile }, null)) {
+			var classpathScanner = new DefaultClasspathScanner(() -> classLoader, ReflectionUtils::tryToLoadClass,
+				true);
+
+			var classes = classpathScanner.scanForClassesInClasspathRoot(jarfile.toURI(),
+				ClassFilter.of(name -> !name.contains("notincluded"), type -> true));
+			assertThat(classes).extracting(Class::getName) //
+					.containsExactlyInAnyOrder("org.junit.platform.jartest.included.recursive.RecursivelyIncluded",
+						"org.junit.platform.jartest.included.Included");
+		}
+	}
+
+	@Test
+	void scanForClassesInPackageInParallelYieldsSameClassesInSameOrderAsSequentialScan() {
+		var parallelClasspathScanner = new DefaultClasspathScanner(ClassLoaderUtils::getDefaultClassLoader,
+			ReflectionUtils::tryToLoadClass, true);
+		var classFilter = ClassFilter.of(name -> !name.contains("Simulation"), type -> !type.isInterface());
+
+		var sequentialClasses = classpathScanner.scanForClassesInPackage("org.junit.platform.commons", classFilter);
+		var parallelClasses = parallelClasspathScanner.scanForClassesInPackage("org.junit.platform.commons",
+			classFilter);
+
+		assertThat(parallelClasses).isNotEmpty().containsExactlyElementsOf(sequentialClasses);
+	}
+
+	@Test
+	void scanForClassesInParallelDoesNotUseForkJoinPoolOfCallingThread() throws Exception {
+		Set<ForkJoinPool> pools = ConcurrentHashMap.newKeySet();
+		var parallelClasspathScanner = new DefaultClasspathScanner(ClassLoaderUtils::getDefaultClassLoader,
+			(name, classLoader) -> {
+				var pool = ForkJoinTask.getPool();
+				if (pool != null) {
+					pools.add(pool);
+				}
+				return ReflectionUtils.tryToLoadClass(name, classLoader);
+			}, true);
+		var callerPool = new ForkJoinPool(2);
+		try {
+			var classes = callerPool.submit(
+				() -> parallelClasspathScanner.scanForClassesInPackage(getClass().getPackageName(), allClasses)).get();
+
+			assertThat(classes).contains(DefaultClasspathScannerTests.class);
+			assertThat(pools).isNotEmpty().doesNotContain(callerPool);
+		}
+		finally {
+			callerPool.shutdownNow();
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void scanForClassesInPackageOnlyLoadsClassesReferencingMatchingClasses(boolean parallel) {
+		var classpathScanner = new DefaultClasspathScanner(ClassLoaderUtils::getDefaultClassLoader,
+			trackingClassLoader, parallel);
+		var classFilter = ClassFilter.of(name -> !name.contains("Simulation"), type -> true) //
+				.withReferencedClassNamePredicate(Test.class.getName()::equals);
+
+		var classes = classpathScanner.scanForClassesInPackage(getClass().getPackageName(), classFilter);
+
+		assertThat(classes) //
+				.contains(DefaultClasspathScannerTests.class) //
+				.contains(MemberClassToBeFound.class, NestedClassToBeFound.class) //
+				.doesNotContain(DefaultClasspathScanner.class, ClassFilter.class);
+		assertThat(loadedClasses).containsExactlyInAnyOrderElementsOf(classes);
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void scanForClassesInClasspathRootOnlyLoadsClassesListedInTestIndex(boolean parallel, @TempDir Path root)
+			throws Exception {
+		var classpathScanner = new DefaultClasspathScanner(ClassLoaderUtils::getDefaultClassLoader,
+			trackingClassLoader, parallel, true);
+		var packageDir = Files.createDirectories(root.resolve(getClass().getPackageName().replace('.', '/')));
+		Files.createFile(packageDir.resolve("NotIndexed.class"));
+		var testIndex = Files.createDirectories(root.resolve("META-INF/junit-platform")).resolve("test-index");
+		Files.write(testIndex, List.of( //
+			"# test classes", //
+			NestedClassToBeFound.class.getName(), //
+			"", //
+			MemberClassToBeFound.class.getName(), //
+			"com.example.MissingTests" //
+		));
+
+		var classes = classpathScanner.scanForClassesInClasspathRoot(root.toUri(), allClasses);
+
+		assertThat(classes).containsExactly(NestedClassToBeFound.class, MemberClassToBeFound.class);
+		assertThat(loadedClasses).containsExactly(NestedClassToBeFound.class, MemberClassToBeFound.class);
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void scanForClassesInClasspathRootIgnoresTestIndexUnlessEnabled(boolean parallel, @TempDir Path root)
+			throws Exception {
+		var classpathScanner = new DefaultClasspathScanner(ClassLoaderUtils::getDefaultClassLoader,
+			trackingClassLoader, parallel);
+		var packageDir = Files.createDirectories(root.resolve(getClass().getPackageName().replace('.', '/')));
+		var classFileName = MemberClassToBeFound.class.getName().substring(
+			getClass().getPackageName().length() + 1) + ".class";
+		try (var classFile = requireNonNull(MemberClassToBeFound.class.getResourceAsStream(classFileName))) {
+			Files.copy(classFile, packageDir.resolve(classFileName));
+		}
+		var testIndex = Files.createDirectories(root.resolve("META-INF/junit-platform")).resolve("test-index");
+		Files.write(testIndex, List.of(NestedClassToBeFound.class.getName()));
+
+		var classes = classpathScanner.scanForClassesInClasspathRoot(root.toUri(), allClasses);
+
+		assertThat(classes).containsExactly(MemberClassToBeFound.class);
+	}
+
 	@Test
 	void scanForResourcesInClasspathRootWithinJarFile() throws Exception {
 		scanForResourcesInClasspathRootWithinJarFile("/jartest.jar");
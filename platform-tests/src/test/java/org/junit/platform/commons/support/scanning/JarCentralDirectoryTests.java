@@ -0,0 +1,107 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.support.scanning;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @since 6.0
+ */
+class JarCentralDirectoryTests {
+
+	@TempDir
+	Path tempDir;
+
+	Path jarFile;
+
+	@BeforeEach
+	void copyJarFile() throws Exception {
+		jarFile = tempDir.resolve("jartest.jar");
+		try (var inputStream = getClass().getResourceAsStream("/jartest.jar")) {
+			Files.copy(inputStream, jarFile, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	@Test
+	void enumeratesClassNamesInDirectoryAndItsSubdirectories() throws Exception {
+		var centralDirectory = JarCentralDirectory.get(jarFile).orElseThrow();
+
+		assertThat(classNames(centralDirectory, "", "")).containsExactlyInAnyOrder( //
+			"org.junit.platform.jartest.included.Included", //
+			"org.junit.platform.jartest.included.recursive.RecursivelyIncluded", //
+			"org.junit.platform.jartest.notincluded.NotIncluded");
+		assertThat(classNames(centralDirectory, "org/junit/platform/jartest/included",
+			"org.junit.platform.jartest.included")).containsExactlyInAnyOrder( //
+				"org.junit.platform.jartest.included.Included", //
+				"org.junit.platform.jartest.included.recursive.RecursivelyIncluded");
+		assertThat(classNames(centralDirectory, "org/junit/platform/jartest/include", "")).isEmpty();
+		assertThat(centralDirectory.containsEntry("META-INF/MANIFEST.MF")).isTrue();
+		assertThat(centralDirectory.containsEntry("META-INF/MANIFEST")).isFalse();
+	}
+
+	@Test
+	void supportsJarFilesWithPrependedData() throws Exception {
+		var prependedJarFile = tempDir.resolve("prepended.jar");
+		try (OutputStream outputStream = Files.newOutputStream(prependedJarFile)) {
+			outputStream.write(new byte[1024]);
+			Files.copy(jarFile, outputStream);
+		}
+
+		var centralDirectory = JarCentralDirectory.get(prependedJarFile).orElseThrow();
+
+		assertThat(classNames(centralDirectory, "", "")).hasSize(3);
+	}
+
+	@Test
+	void doesNotSupportFilesWithoutCentralDirectory() throws Exception {
+		var file = Files.write(tempDir.resolve("invalid.jar"), new byte[1024]);
+
+		assertThat(JarCentralDirectory.get(file)).isEmpty();
+	}
+
+	@Test
+	void cachesCentralDirectoriesWhileRetainedAndUnmodified() throws Exception {
+		// The launcher session executing this test may retain the cache as well
+		var retention = JarCentralDirectory.retainCache();
+		try {
+			var centralDirectory = JarCentralDirectory.get(jarFile).orElseThrow();
+			assertThat(JarCentralDirectory.get(jarFile)).containsSame(centralDirectory);
+
+			Files.setLastModifiedTime(jarFile, FileTime.fromMillis(0));
+			var modifiedCentralDirectory = JarCentralDirectory.get(jarFile).orElseThrow();
+			assertThat(modifiedCentralDirectory).isNotSameAs(centralDirectory);
+			assertThat(JarCentralDirectory.get(jarFile)).containsSame(modifiedCentralDirectory);
+		}
+		finally {
+			retention.close();
+		}
+	}
+
+	private static List<String> classNames(JarCentralDirectory centralDirectory, String directory,
+			String packageName) {
+		List<String> classNames = new ArrayList<>();
+		centralDirectory.forEachClassName(directory, packageName, classNames::add);
+		return classNames;
+	}
+
+}
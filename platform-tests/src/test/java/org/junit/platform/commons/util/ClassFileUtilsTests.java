@@ -0,0 +1,72 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @since 6.0
+ */
+class ClassFileUtilsTests {
+
+	@Test
+	void findsClassesReferencedByClassConstantsAndDescriptors() throws Exception {
+		try (var classFile = openClassFile(Fixture.class)) {
+			var classNames = ClassFileUtils.getReferencedClassNames(classFile);
+
+			assertThat(classNames).contains( //
+				Fixture.class.getName(), // this class
+				Object.class.getName(), // superclass
+				Objects.class.getName(), // method invocation
+				List.class.getName(), // field type
+				Map.class.getName(), // parameter type
+				Integer.class.getName(), // generic signature
+				Deprecated.class.getName() // annotation
+			);
+		}
+	}
+
+	@Test
+	void rejectsStreamsThatDoNotContainClassFiles() {
+		var inputStream = new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 });
+
+		assertThatExceptionOfType(IOException.class) //
+				.isThrownBy(() -> ClassFileUtils.getReferencedClassNames(inputStream)) //
+				.withMessage("Not a class file");
+	}
+
+	private static InputStream openClassFile(Class<?> clazz) {
+		var resourceName = clazz.getName().replace('.', '/') + ".class";
+		return Objects.requireNonNull(clazz.getClassLoader().getResourceAsStream(resourceName));
+	}
+
+	@SuppressWarnings("unused")
+	static class Fixture {
+
+		@Deprecated
+		List<Integer> values = List.of();
+
+		void process(Map<String, String> map) {
+			Objects.requireNonNull(map);
+		}
+	}
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.commons.util.ReflectionUtils.HierarchyTraversalMode.BOTTOM_UP;
+import static org.junit.platform.commons.util.ReflectionUtils.HierarchyTraversalMode.TOP_DOWN;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ClassMetadataCache} and its use in
+ * {@link ReflectionUtils}.
+ *
+ * @since 6.0
+ */
+class ClassMetadataCacheTests {
+
+	@Test
+	void computesValueOncePerClass() {
+		List<Class<?>> computedClasses = new ArrayList<>();
+		var cache = new ClassMetadataCache<>(type -> {
+			computedClasses.add(type);
+			return type.getSimpleName();
+		});
+
+		assertThat(cache.get(ParentClass.class)).isEqualTo("ParentClass");
+		assertThat(cache.get(ChildClass.class)).isEqualTo("ChildClass");
+		assertThat(cache.get(ParentClass.class)).isEqualTo("ParentClass");
+
+		assertThat(computedClasses).containsExactly(ParentClass.class, ChildClass.class);
+	}
+
+	@Test
+	void doesNotCacheValuesOfClassesOfAncestorClassLoaders() {
+		List<Class<?>> computedClasses = new ArrayList<>();
+		var cache = new ClassMetadataCache<>(type -> {
+			computedClasses.add(type);
+			return type.getSimpleName();
+		});
+
+		assertThat(cache.get(Object.class)).isEqualTo("Object");
+		assertThat(cache.get(Object.class)).isEqualTo("Object");
+
+		assertThat(computedClasses).containsExactly(Object.class, Object.class);
+		assertThat(ClassMetadataCache.isCacheable(Object.class)).isFalse();
+		assertThat(ClassMetadataCache.isCacheable(ClassMetadataCacheTests.class)).isTrue();
+	}
+
+	@Test
+	void findMethodsReturnsMethodsInSameOrderForRepeatedInvocations() {
+		var topDown = ReflectionUtils.findMethods(ChildClass.class, method -> true, TOP_DOWN);
+		var bottomUp = ReflectionUtils.findMethods(ChildClass.class, method -> true, BOTTOM_UP);
+
+		assertThat(ReflectionUtils.findMethods(ChildClass.class, method -> true, TOP_DOWN)) //
+				.containsExactlyElementsOf(topDown);
+		assertThat(ReflectionUtils.findMethods(ChildClass.class, method -> true, BOTTOM_UP)) //
+				.containsExactlyElementsOf(bottomUp);
+		assertThat(topDown).extracting(Method::getDeclaringClass) //
+				.containsExactly(ParentClass.class, ParentClass.class, ChildClass.class, ChildClass.class);
+		assertThat(bottomUp).extracting(Method::getDeclaringClass) //
+				.containsExactly(ChildClass.class, ChildClass.class, ParentClass.class, ParentClass.class);
+	}
+
+	@Test
+	void findFieldsReturnsFieldsInSameOrderForRepeatedInvocations() {
+		var topDown = ReflectionUtils.findFields(ChildClass.class, field -> true, TOP_DOWN);
+		var bottomUp = ReflectionUtils.findFields(ChildClass.class, field -> true, BOTTOM_UP);
+
+		assertThat(ReflectionUtils.findFields(ChildClass.class, field -> true, TOP_DOWN)) //
+				.containsExactlyElementsOf(topDown);
+		assertThat(ReflectionUtils.findFields(ChildClass.class, field -> true, BOTTOM_UP)) //
+				.containsExactlyElementsOf(bottomUp);
+		assertThat(topDown).extracting(Field::getDeclaringClass) //
+				.containsExactly(ParentClass.class, ParentClass.class, ChildClass.class, ChildClass.class);
+		assertThat(bottomUp).extracting(Field::getDeclaringClass) //
+				.containsExactly(ChildClass.class, ChildClass.class, ParentClass.class, ParentClass.class);
+	}
+
+	@Test
+	void findMethodsReturnsCopiesOfCachedMethods() {
+		assertReturnsCopies(() -> ReflectionUtils.findMethods(ChildClass.class, method -> true, TOP_DOWN));
+	}
+
+	@Test
+	void findFieldsReturnsCopiesOfCachedFields() {
+		assertReturnsCopies(() -> ReflectionUtils.findFields(ChildClass.class, field -> true, TOP_DOWN));
+	}
+
+	@Test
+	void findMethodReturnsCopyOfCachedMethod() throws Exception {
+		assertReturnsCopies(() -> List.of(ReflectionUtils.findMethod(ChildClass.class, "parentMethod1").orElseThrow()));
+
+		assertThat(ReflectionUtils.findMethod(ChildClass.class, "parentMethod1")) //
+				.contains(ParentClass.class.getDeclaredMethod("parentMethod1"));
+	}
+
+	@SuppressWarnings("deprecation")
+	private static <T extends AccessibleObject> void assertReturnsCopies(Supplier<List<T>> supplier) {
+		var first = supplier.get();
+		first.forEach(member -> member.setAccessible(true));
+
+		var second = supplier.get();
+
+		assertThat(second).containsExactlyElementsOf(first);
+		for (int i = 0; i < first.size(); i++) {
+			assertThat(second.get(i)).isNotSameAs(first.get(i));
+			assertThat(second.get(i).isAccessible()).isFalse();
+		}
+	}
+
+	@SuppressWarnings("unused")
+	static class ParentClass {
+
+		private int parentField1;
+		private int parentField2;
+
+		private void parentMethod1() {
+		}
+
+		private void parentMethod2() {
+		}
+	}
+
+	@SuppressWarnings("unused")
+	static class ChildClass extends ParentClass {
+
+		private int childField1;
+		private int childField2;
+
+		private void childMethod1() {
+		}
+
+		private void childMethod2() {
+		}
+	}
+
+}
@@ -1513,6 +1513,17 @@ class ReflectionUtilsTests {
 			assertTrue(methods.size() > 10);
 		}
 
+		@Test
+		void findMethodsReturnsSameMethodsInSameOrderForRepeatedInvocations() {
+			var methods = findMethods(ChildClass.class, method -> true, BOTTOM_UP);
+
+			assertThat(findMethods(ChildClass.class, method -> true, BOTTOM_UP)) //
+					.usingElementComparator((method1, method2) -> method1 == method2 ? 0 : 1) //
+					.containsExactlyElementsOf(methods);
+			assertThat(findMethods(ChildClass.class, method -> true, TOP_DOWN)).containsExactlyInAnyOrderElementsOf(
+				methods);
+		}
+
 		@Test
 		void findMethodsInVoid() {
 			assertThat(findMethods(void.class, method -> true)).isEmpty();
@@ -315,6 +315,28 @@ class CommandLineOptionsParsingTests {
 		assertOptionWithMissingRequiredArgumentThrowsException("-E", "--exclude-engine");
 	}
 
+	@ParameterizedTest
+	@EnumSource
+	void parseValidShard(ArgsType type) {
+		// @formatter:off
+		assertAll(
+			() -> assertEquals(2, type.parseArgLine("--shard 2/4").discovery.getShardIndex()),
+			() -> assertEquals(4, type.parseArgLine("--shard=2/4").discovery.getShardCount()),
+			() -> assertEquals(0, type.parseArgLine("").discovery.getShardIndex()),
+			() -> assertEquals(0, type.parseArgLine("").discovery.getShardCount())
+		);
+		// @formatter:on
+	}
+
+	@ParameterizedTest
+	@EnumSource
+	void parseInvalidShard(ArgsType type) {
+		Exception e = assertThrows(Exception.class, () -> type.parseArgLine("--shard 5/4"));
+
+		assertThat(e.getMessage()).isEqualTo("Invalid shard '5/4': expected INDEX/COUNT with 1 <= INDEX <= COUNT.");
+		assertOptionWithMissingRequiredArgumentThrowsException("--shard");
+	}
+
 	@ParameterizedTest
 	@EnumSource
 	void parseValidAdditionalClasspathEntries(ArgsType type) {
@@ -221,6 +221,19 @@ class DiscoveryRequestCreatorTests {
 		assertThat(engineFilters.get(1).toString()).contains("excludes", "[engine2]");
 	}
 
+	@Test
+	void convertsShardOption() {
+		options.setScanClasspath(true);
+		options.setShard(2, 4);
+
+		var request = convert();
+		var postDiscoveryFilters = request.getPostDiscoveryFilters();
+
+		assertThat(postDiscoveryFilters).hasSize(1);
+		assertThat(postDiscoveryFilters.getFirst().toString()).contains("ShardingFilter", "shardIndex = 2",
+			"shardCount = 4");
+	}
+
 	@Test
 	void propagatesUniqueIdSelectors() {
 		options.setSelectedUniqueId(List.of(selectUniqueId("[engine:a]/[1:1]"), selectUniqueId("[engine:b]/[2:2]")));
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * @since 6.0
+ */
+@Timeout(value = 10, unit = TimeUnit.SECONDS)
+class LauncherDaemonTests {
+
+	private final List<List<String>> executedCommands = new CopyOnWriteArrayList<>();
+
+	private LauncherDaemon daemon;
+	private Thread daemonThread;
+
+	@BeforeEach
+	void startDaemon() throws Exception {
+		daemon = new LauncherDaemon(0, (args, out) -> {
+			executedCommands.add(List.of(args));
+			out.println("executing " + String.join(" ", args));
+			System.out.println("output of test");
+			return args.length;
+		});
+		daemonThread = new Thread(() -> {
+			try {
+				daemon.run();
+			}
+			catch (Exception ex) {
+				throw new RuntimeException(ex);
+			}
+		});
+		daemonThread.start();
+	}
+
+	@AfterEach
+	void stopDaemon() throws Exception {
+		daemon.close();
+		daemonThread.join();
+	}
+
+	@Test
+	void executesReceivedCommandsAndReportsTheirOutputAndExitCode() throws Exception {
+		var firstResponse = send("execute", "--select-class", "com.example.MyTests");
+		var secondResponse = send("discover");
+
+		assertThat(firstResponse).isEqualTo("""
+				executing execute --select-class com.example.MyTests
+				output of test
+				Exit code: 3
+				""");
+		assertThat(secondResponse).endsWith("Exit code: 1\n");
+		assertThat(executedCommands).containsExactly( //
+			List.of("execute", "--select-class", "com.example.MyTests"), //
+			List.of("discover"));
+	}
+
+	@Test
+	void stopsWhenReceivingStopCommand() throws Exception {
+		var response = send(LauncherDaemon.STOP_COMMAND);
+
+		daemonThread.join();
+		assertThat(response).endsWith("Exit code: 0\n");
+		assertThat(executedCommands).isEmpty();
+	}
+
+	@Test
+	void rejectsConnectionsWithoutValidToken() throws Exception {
+		var response = sendWithToken("not-the-token", "execute", "--select-class", "com.example.MyTests");
+		var stopResponse = sendWithToken("", LauncherDaemon.STOP_COMMAND);
+
+		assertThat(response).isEqualTo(LauncherDaemon.AUTHENTICATION_FAILED_MESSAGE + "\n");
+		assertThat(stopResponse).isEqualTo(LauncherDaemon.AUTHENTICATION_FAILED_MESSAGE + "\n");
+		assertThat(executedCommands).isEmpty();
+		assertThat(daemonThread.isAlive()).isTrue();
+	}
+
+	@Test
+	void generatesRandomTokens() throws Exception {
+		try (var otherDaemon = new LauncherDaemon(0, (args, out) -> 0)) {
+			assertThat(daemon.getToken()).hasSize(64).isNotEqualTo(otherDaemon.getToken());
+		}
+	}
+
+	private String send(String... args) throws Exception {
+		return sendWithToken(daemon.getToken(), args);
+	}
+
+	private String sendWithToken(String token, String... args) throws Exception {
+		try (var socket = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort())) {
+			var request = new StringBuilder(token).append('\n');
+			for (var arg : args) {
+				request.append(arg).append('\n');
+			}
+			request.append('\n');
+			socket.getOutputStream().write(request.toString().getBytes(UTF_8));
+			socket.getOutputStream().flush();
+			return new String(socket.getInputStream().readAllBytes(), UTF_8).replace(System.lineSeparator(), "\n");
+		}
+	}
+
+}
@@ -17,6 +17,8 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.commons.util.SerializationUtils.deserialize;
+import static org.junit.platform.commons.util.SerializationUtils.serialize;
 
 import java.util.Optional;
 
@@ -124,6 +126,14 @@ class UniqueIdTests {
 		}
 
 		@SuppressWarnings({ "DataFlowIssue", "NullAway" })
+		@Test
+		void segmentTypesAreShared() {
+			var id1 = UniqueId.forEngine(ENGINE_ID).append(new String("type"), "v1");
+			var id2 = UniqueId.forEngine(ENGINE_ID).append(new String("type"), "v2");
+
+			assertSame(id1.getLastSegment().getType(), id2.getLastSegment().getType());
+		}
+
 		@Test
 		void appendingNullIsNotAllowed() {
 			var uniqueId = UniqueId.forEngine(ENGINE_ID);
@@ -217,6 +227,16 @@ class UniqueIdTests {
 			assertNotEquals(id1, id2);
 		}
 
+		@Test
+		void appendedAndParsedUniqueIdsAreEqual() {
+			var appended = UniqueId.forEngine(ENGINE_ID).append("t1", "v1").append("t2", "v2");
+			var parsed = UniqueId.parse(appended.toString());
+
+			assertEquals(appended, parsed);
+			assertEquals(appended.hashCode(), parsed.hashCode());
+			assertEquals(appended.getSegments().hashCode(), appended.hashCode());
+		}
+
 		@Test
 		void additionalSegmentMakesItNotEqual() {
 			var id1 = UniqueId.root("engine", "junit-jupiter").append("t1", "v1");
@@ -259,6 +279,15 @@ class UniqueIdTests {
 			assertTrue(id3.hasPrefix(id2));
 		}
 
+		@Test
+		void parsedUniqueIdIsPrefixForAppendedUniqueId() {
+			var id1 = UniqueId.parse("[engine:junit-jupiter]/[t1:v1]");
+			var id2 = UniqueId.forEngine(ENGINE_ID).append("t1", "v1").append("t2", "v2");
+
+			assertTrue(id2.hasPrefix(id1));
+			assertFalse(id2.hasPrefix(UniqueId.parse("[engine:junit-jupiter]/[t1:v2]")));
+		}
+
 		@Test
 		void completelyUnrelatedUniqueIdsAreNotPrefixesForEachOther() {
 			var id1 = UniqueId.forEngine("foo");
@@ -291,6 +320,39 @@ class UniqueIdTests {
 			assertEquals(uniqueId, newUniqueId);
 		}
 
+		@Test
+		void removingLastSegmentReturnsUniqueIdItWasAppendedTo() {
+			var uniqueId = UniqueId.forEngine("foo").append("type", "bar");
+
+			assertSame(uniqueId, uniqueId.append("type", "baz").removeLastSegment());
+		}
+
+	}
+
+	@Nested
+	class Serialization {
+
+		@Test
+		void uniqueIdCanBeSerializedAndDeserialized() throws Exception {
+			var uniqueId = UniqueId.forEngine(ENGINE_ID).append("t1", "v1").append("t2", "v2");
+
+			var deserialized = (UniqueId) deserialize(serialize(uniqueId));
+
+			assertEquals(uniqueId, deserialized);
+			assertEquals(uniqueId.toString(), deserialized.toString());
+			assertEquals(uniqueId.getSegments(), deserialized.getSegments());
+			assertTrue(deserialized.hasPrefix(uniqueId.removeLastSegment()));
+		}
+
+		@Test
+		void segmentTypesAreInternedWhenDeserialized() throws Exception {
+			var uniqueId = UniqueId.forEngine(ENGINE_ID).append("t1", "v1");
+
+			var deserialized = (UniqueId) deserialize(serialize(uniqueId));
+
+			assertSame(uniqueId.getLastSegment().getType(), deserialized.getLastSegment().getType());
+		}
+
 	}
 
 	private void assertSegment(Segment segment, String expectedType, String expectedValue) {
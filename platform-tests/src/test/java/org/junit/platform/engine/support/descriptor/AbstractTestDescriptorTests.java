@@ -20,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -162,6 +163,81 @@ class AbstractTestDescriptorTests implements TestDescriptorOrderChildrenTests {
 			UniqueId.forEngine("testEngine"));
 	}
 
+	@Test
+	void keepsChildrenInInsertionOrderWhenAddingAndRemovingManyChildren() {
+		var group = new GroupDescriptor(UniqueId.root("group", "many"));
+		List<LeafDescriptor> leaves = IntStream.range(0, 20) //
+				.mapToObj(i -> new LeafDescriptor(UniqueId.root("leaf", "leaf-" + i))) //
+				.toList();
+		leaves.forEach(group::addChild);
+		leaves.forEach(group::addChild);
+
+		leaves.stream().filter(leaf -> leaves.indexOf(leaf) % 2 == 0).forEach(group::removeChild);
+		group.removeChild(new LeafDescriptor(UniqueId.root("leaf", "leaf-1")));
+
+		assertThat(group.getChildren()) //
+				.extracting(TestDescriptor::getUniqueId) //
+				.extracting(uniqueId -> uniqueId.getLastSegment().getValue()) //
+				.containsExactly("leaf-3", "leaf-5", "leaf-7", "leaf-9", "leaf-11", "leaf-13", "leaf-15", "leaf-17",
+					"leaf-19");
+		assertThat(group.getChildren()).contains(leaves.get(3)).doesNotContain(leaves.get(2));
+	}
+
+	@Test
+	void keepsChildrenInInsertionOrderWhenRemovingChildrenDuringIteration() {
+		var group = new GroupDescriptor(UniqueId.root("group", "many"));
+		List<LeafDescriptor> leaves = IntStream.range(0, 100) //
+				.mapToObj(i -> new LeafDescriptor(UniqueId.root("leaf", "leaf-" + i))) //
+				.toList();
+		leaves.forEach(group::addChild);
+
+		group.getChildren().forEach(child -> {
+			if (leaves.indexOf(child) % 10 != 0) {
+				group.removeChild(child);
+			}
+		});
+		group.addChild(leaves.get(1));
+
+		assertThat(group.getChildren()) //
+				.extracting(TestDescriptor::getUniqueId) //
+				.extracting(uniqueId -> uniqueId.getLastSegment().getValue()) //
+				.containsExactly("leaf-0", "leaf-10", "leaf-20", "leaf-30", "leaf-40", "leaf-50", "leaf-60", "leaf-70",
+					"leaf-80", "leaf-90", "leaf-1");
+		assertThat(group.getChildren()).contains(leaves.get(90)).doesNotContain(leaves.get(99));
+	}
+
+	@Test
+	void iteratorsReflectChildrenAtTheTimeTheyWereCreated() {
+		var children = group1.getChildren().iterator();
+		var newLeaf = new LeafDescriptor(UniqueId.root("leaf", "leaf1-3"));
+
+		group1.addChild(newLeaf);
+		group1.removeChild(group11);
+
+		List<TestDescriptor> iterated = new ArrayList<>();
+		children.forEachRemaining(iterated::add);
+		assertThat(iterated).extracting(TestDescriptor::getUniqueId).containsExactly( //
+			UniqueId.root("group", "group1-1"), //
+			UniqueId.root("leaf", "leaf1-1"), //
+			UniqueId.root("leaf", "leaf1-2"));
+		assertThat(group1.getChildren()).extracting(TestDescriptor::getUniqueId).containsExactly( //
+			UniqueId.root("leaf", "leaf1-1"), //
+			UniqueId.root("leaf", "leaf1-2"), //
+			UniqueId.root("leaf", "leaf1-3"));
+	}
+
+	@Test
+	void getDescendants() {
+		assertThat(engineDescriptor.getDescendants()).extracting(TestDescriptor::getUniqueId).containsExactly( //
+			UniqueId.root("group", "group1"), //
+			UniqueId.root("group", "group2"), //
+			UniqueId.root("group", "group1-1"), //
+			UniqueId.root("leaf", "leaf1-1"), //
+			UniqueId.root("leaf", "leaf1-2"), //
+			UniqueId.root("leaf", "leaf11-1"), //
+			UniqueId.root("leaf", "leaf2-1"));
+	}
+
 	private List<UniqueId> getAncestorsUniqueIds(TestDescriptor descriptor) {
 		return descriptor.getAncestors().stream().map(TestDescriptor::getUniqueId).toList();
 	}
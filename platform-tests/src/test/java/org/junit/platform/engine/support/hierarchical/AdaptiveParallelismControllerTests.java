@@ -0,0 +1,115 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.support.hierarchical.AdaptiveParallelismController.computeParallelism;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.platform.engine.support.hierarchical.AdaptiveParallelismController.Sample;
+
+/**
+ * @since 6.0
+ */
+class AdaptiveParallelismControllerTests {
+
+	@Test
+	void increasesParallelismWhenMostBusyWorkersAreBlocked() {
+		var sample = new Sample(8, 6, 0.2);
+
+		assertThat(computeParallelism(8, 1, 32, 8, sample)).isEqualTo(10);
+	}
+
+	@Test
+	void increasesParallelismWhenAllWorkersAreBusyButCpuIsUnderutilized() {
+		var sample = new Sample(8, 0, 0.1);
+
+		assertThat(computeParallelism(8, 1, 32, 8, sample)).isEqualTo(10);
+	}
+
+	@Test
+	void doesNotIncreaseParallelismBeyondMaximum() {
+		var sample = new Sample(8, 8, 0.1);
+
+		assertThat(computeParallelism(8, 1, 9, 8, sample)).isEqualTo(9);
+		assertThat(computeParallelism(9, 1, 9, 8, sample)).isEqualTo(9);
+	}
+
+	@Test
+	void doesNotIncreaseParallelismWhenCpuIsSaturated() {
+		var sample = new Sample(8, 6, 0.9);
+
+		assertThat(computeParallelism(8, 1, 32, 8, sample)).isEqualTo(8);
+	}
+
+	@Test
+	void decreasesParallelismTowardAvailableProcessorsWhenCpuIsSaturated() {
+		var sample = new Sample(16, 0, 0.95);
+
+		assertThat(computeParallelism(16, 1, 32, 8, sample)).isEqualTo(12);
+		assertThat(computeParallelism(10, 1, 32, 8, sample)).isEqualTo(8);
+		assertThat(computeParallelism(8, 1, 32, 8, sample)).isEqualTo(8);
+	}
+
+	@Test
+	void doesNotDecreaseParallelismBelowMinimum() {
+		var sample = new Sample(16, 0, 0.95);
+
+		assertThat(computeParallelism(16, 14, 32, 8, sample)).isEqualTo(14);
+	}
+
+	@Test
+	void retainsParallelismWhenCpuUtilizationIsUnknownAndWorkersAreNotBlocked() {
+		var sample = new Sample(8, 0, Double.NaN);
+
+		assertThat(computeParallelism(8, 1, 32, 8, sample)).isEqualTo(8);
+	}
+
+	@Test
+	@Timeout(10)
+	@EnabledForJreRange(min = JRE.JAVA_19)
+	void increasesParallelismOfForkJoinPoolWhileTaskIsBlocked() throws Exception {
+		var configuration = new AdaptiveParallelExecutionConfiguration(1, 1, 4, 256 + 4, 30, __ -> true);
+		var forkJoinPool = new ForkJoinPool(1);
+		var controller = requireNonNull(AdaptiveParallelismController.start(forkJoinPool, configuration));
+
+		var blocked = new CountDownLatch(1);
+		var release = new CountDownLatch(1);
+		try (controller) {
+			var task = forkJoinPool.submit(() -> {
+				try (var ignored = controller.enter(true)) {
+					blocked.countDown();
+					release.await();
+				}
+				return null;
+			});
+			blocked.await();
+
+			while (forkJoinPool.getParallelism() == 1) {
+				Thread.sleep(10);
+			}
+
+			release.countDown();
+			task.get();
+		}
+		finally {
+			forkJoinPool.shutdownNow();
+		}
+	}
+
+}
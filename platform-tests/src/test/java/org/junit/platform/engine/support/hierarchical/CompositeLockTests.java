@@ -10,11 +10,13 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -83,6 +85,24 @@ class CompositeLockTests {
 		verify(unavailableLock, never()).unlock();
 	}
 
+	@Test
+	void tryAcquireReleasesAlreadyAcquiredLocksInReverseOrderWhenLockIsContended() {
+		var lock1 = mock(Lock.class);
+		var lock2 = mock(Lock.class);
+		var lock3 = mock(Lock.class);
+		when(lock1.tryLock()).thenReturn(true);
+		when(lock2.tryLock()).thenReturn(true);
+		when(lock3.tryLock()).thenReturn(false);
+
+		var acquired = new CompositeLock(anyResources(3), List.of(lock1, lock2, lock3)).tryAcquire();
+
+		assertFalse(acquired);
+		var inOrder = inOrder(lock1, lock2);
+		inOrder.verify(lock2).unlock();
+		inOrder.verify(lock1).unlock();
+		verify(lock3, never()).unlock();
+	}
+
 	private Lock mockLock(String name, Executable lockAction) throws InterruptedException {
 		var lock = mock(Lock.class, name);
 		doAnswer(invocation -> {
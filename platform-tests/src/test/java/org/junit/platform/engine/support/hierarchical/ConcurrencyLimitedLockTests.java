@@ -0,0 +1,89 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @since 6.0
+ */
+class ConcurrencyLimitedLockTests {
+
+	@Test
+	@SuppressWarnings("resource")
+	void acquiresDelegateBeforePermitsAndReleasesItAfterwards() throws Exception {
+		var delegate = mock(ResourceLock.class);
+		var outer = new Semaphore(2);
+		var inner = new Semaphore(1);
+
+		var lock = new ConcurrencyLimitedLock(delegate, List.of(outer, inner)).acquire();
+
+		verify(delegate).acquire();
+		assertThat(outer.availablePermits()).isEqualTo(1);
+		assertThat(inner.availablePermits()).isZero();
+
+		lock.release();
+
+		verify(delegate).release();
+		assertThat(outer.availablePermits()).isEqualTo(2);
+		assertThat(inner.availablePermits()).isEqualTo(1);
+	}
+
+	@Test
+	void tryAcquireFailsWithoutHoldingAnythingWhenLimitIsExhausted() {
+		var delegate = mock(ResourceLock.class);
+		when(delegate.tryAcquire()).thenReturn(true);
+		var outer = new Semaphore(1);
+		var inner = new Semaphore(0);
+
+		var acquired = new ConcurrencyLimitedLock(delegate, List.of(outer, inner)).tryAcquire();
+
+		assertThat(acquired).isFalse();
+		assertThat(outer.availablePermits()).isEqualTo(1);
+		var inOrder = inOrder(delegate);
+		inOrder.verify(delegate).tryAcquire();
+		inOrder.verify(delegate).release();
+	}
+
+	@Test
+	void tryAcquireDoesNotTakePermitsWhenDelegateIsContended() {
+		var delegate = mock(ResourceLock.class);
+		var limit = new Semaphore(1);
+
+		var acquired = new ConcurrencyLimitedLock(delegate, List.of(limit)).tryAcquire();
+
+		assertThat(acquired).isFalse();
+		assertThat(limit.availablePermits()).isEqualTo(1);
+		verify(delegate, never()).release();
+	}
+
+	@Test
+	void delegatesResourcesAndExclusiveness() {
+		var resource = new ExclusiveResource("a", ExclusiveResource.LockMode.READ_WRITE);
+		var delegate = new LockManager().getLockForResource(resource);
+
+		var lock = new ConcurrencyLimitedLock(delegate, List.of(new Semaphore(1)));
+
+		assertThat(lock.getResources()).containsExactly(resource);
+		assertThat(lock.isExclusive()).isTrue();
+	}
+
+}
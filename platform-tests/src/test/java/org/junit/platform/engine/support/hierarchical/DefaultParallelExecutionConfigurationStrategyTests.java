@@ -103,6 +103,44 @@ class DefaultParallelExecutionConfigurationStrategyTests {
 		assertThat(configuration.getSaturatePredicate().test(null)).isFalse();
 	}
 
+	@Test
+	void adaptiveStrategyCreatesValidConfiguration() {
+		when(configParams.get("adaptive.min-parallelism")).thenReturn(Optional.of("2"));
+		when(configParams.get("adaptive.max-parallelism")).thenReturn(Optional.of("1000"));
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		var configuration = strategy.createConfiguration(configParams);
+
+		var expectedParallelism = Math.max(2, Runtime.getRuntime().availableProcessors());
+		assertThat(configuration).isInstanceOf(AdaptiveParallelExecutionConfiguration.class);
+		assertThat(configuration.getParallelism()).isEqualTo(expectedParallelism);
+		assertThat(configuration.getCorePoolSize()).isEqualTo(expectedParallelism);
+		assertThat(configuration.getMinimumRunnable()).isEqualTo(expectedParallelism);
+		assertThat(configuration.getMaxPoolSize()).isEqualTo(256 + 1000);
+		assertThat(configuration.getKeepAliveSeconds()).isEqualTo(30);
+		assertThat(((AdaptiveParallelExecutionConfiguration) configuration).getMinParallelism()).isEqualTo(2);
+		assertThat(((AdaptiveParallelExecutionConfiguration) configuration).getMaxParallelism()).isEqualTo(1000);
+	}
+
+	@Test
+	void adaptiveStrategyLimitsInitialParallelismToMaxParallelism() {
+		when(configParams.get("adaptive.max-parallelism")).thenReturn(Optional.of("1"));
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		var configuration = strategy.createConfiguration(configParams);
+
+		assertThat(configuration.getParallelism()).isEqualTo(1);
+	}
+
+	@Test
+	void adaptiveStrategyThrowsExceptionWhenMaxParallelismIsLessThanMinParallelism() {
+		when(configParams.get("adaptive.min-parallelism")).thenReturn(Optional.of("4"));
+		when(configParams.get("adaptive.max-parallelism")).thenReturn(Optional.of("2"));
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		assertThrows(JUnitException.class, () -> strategy.createConfiguration(configParams));
+	}
+
 	@Test
 	void customStrategyCreatesValidConfiguration() {
 		when(configParams.get("custom.class")).thenReturn(
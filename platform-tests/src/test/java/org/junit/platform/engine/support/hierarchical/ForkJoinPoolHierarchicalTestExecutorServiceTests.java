@@ -22,30 +22,41 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ_WRITE;
 import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+import static org.mockito.Mockito.mock;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.api.function.ThrowingConsumer;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.platform.commons.JUnitException;
+import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode;
+import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService.DeferredTasks;
 import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService.TaskEventListener;
+import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService.ThreadLock;
 import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
 import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+import org.junit.platform.fakes.TestDescriptorStub;
 
 @Timeout(5)
 class ForkJoinPoolHierarchicalTestExecutorServiceTests {
@@ -133,6 +144,25 @@ class ForkJoinPoolHierarchicalTestExecutorServiceTests {
 		assertNotEquals(tasks.get("leafTaskA").threadName, tasks.get("leafTaskB").threadName);
 	}
 
+	@SuppressWarnings("NullAway")
+	@ParameterizedTest
+	@MethodSource("incompatibleLockCombinations")
+	void resubmitsDeferredTasksOnceIncompatibleLockIsReleased(Set<ExclusiveResource> initialResources,
+			Set<ExclusiveResource> incompatibleResources) throws Throwable {
+
+		var initialLock = lockManager.getLockForResources(initialResources);
+		var incompatibleLock = lockManager.getLockForResources(incompatibleResources);
+
+		var deferred = new CountDownLatch(1);
+		var incompatibleTask = taskFactory.create("incompatibleTask", incompatibleLock);
+
+		var tasks = runWithAttemptedWorkStealing(__ -> deferred.countDown(), incompatibleTask, initialLock,
+			() -> await(deferred, "Interrupted while waiting for task to be deferred"));
+
+		assertThat(incompatibleTask.completion).isCompleted();
+		assertThat(tasks.get("nestedTask").completion).isCompleted();
+	}
+
 	static List<Arguments> compatibleLockCombinations() {
 		return List.of(//
 			arguments(//
@@ -243,6 +273,64 @@ class ForkJoinPoolHierarchicalTestExecutorServiceTests {
 				.values().extracting(it -> it.completion.isCompletedExceptionally()).containsOnly(false);
 	}
 
+	@Test
+	void executesOtherTasksWhileResourceLockIsContended() throws Throwable {
+		var contendedLock = lockManager.getLockForResource(new ExclusiveResource("a", LockMode.READ_WRITE));
+
+		var lockHeldByOtherThread = new CountDownLatch(1);
+		var otherTaskExecuted = new CountDownLatch(1);
+		var lockHolder = new Thread(() -> {
+			var lock = ((SingleLock) contendedLock).getLock();
+			lock.lock();
+			try {
+				lockHeldByOtherThread.countDown();
+				await(otherTaskExecuted, "other task to be executed");
+			}
+			finally {
+				lock.unlock();
+			}
+		});
+		lockHolder.start();
+		lockHeldByOtherThread.await();
+
+		var contendedTask = taskFactory.create("contendedTask", contendedLock);
+		var otherTask = taskFactory.create("otherTask", NopLock.INSTANCE, otherTaskExecuted::countDown);
+
+		var configuration = new DefaultParallelExecutionConfiguration(1, 1, 256 + 1, 1, 1, __ -> true);
+
+		withForkJoinPoolHierarchicalTestExecutorService(configuration, TaskEventListener.NOOP, service -> {
+			var parentTask = taskFactory.create("parentTask", NopLock.INSTANCE,
+				() -> service.invokeAll(List.of(otherTask, contendedTask)));
+			service.submit(parentTask).get();
+		});
+		lockHolder.join();
+
+		assertThat(contendedTask.completion).isCompleted();
+		assertThat(otherTask.completion).isCompleted();
+		assertEquals(contendedTask.threadName, otherTask.threadName);
+	}
+
+	@Test
+	void removesQueueOfDeferredTasksOnceItHasBeenDrained() throws Throwable {
+		var lock = lockManager.getLockForResource(new ExclusiveResource("a", LockMode.READ_WRITE));
+		var task = taskFactory.create("task", lock);
+		var deferredTasks = new DeferredTasks();
+
+		var configuration = new DefaultParallelExecutionConfiguration(1, 1, 256 + 1, 1, 1, __ -> true);
+
+		withForkJoinPoolHierarchicalTestExecutorService(configuration, TaskEventListener.NOOP, service -> {
+			var exclusiveTask = service.new ExclusiveTask(task);
+			deferredTasks.add(lock, exclusiveTask);
+			assertThat(deferredTasks.size()).isEqualTo(1);
+
+			deferredTasks.resubmitTasksWaitingFor(lock, new ThreadLock());
+			exclusiveTask.join();
+		});
+
+		assertThat(task.completion).isCompleted();
+		assertThat(deferredTasks.size()).isZero();
+	}
+
 	private Map<String, DummyTestTask> runWithAttemptedWorkStealing(TaskEventListener taskEventListener,
 			DummyTestTask taskToBeStolen, ResourceLock initialLock, Runnable waitAction) throws Throwable {
 
@@ -283,6 +371,35 @@ class ForkJoinPoolHierarchicalTestExecutorServiceTests {
 		});
 	}
 
+	@Test
+	void sortsConcurrentTasksByEstimatedExecutionTimeDescending(@TempDir Path tempDir) throws Exception {
+		var engineId = UniqueId.forEngine("dummy");
+		var file = tempDir.resolve("execution-times.properties");
+		var properties = new Properties();
+		properties.setProperty(engineId.append("test", "fast").toString(), "10");
+		properties.setProperty(engineId.append("test", "slow").toString(), "1000");
+		properties.setProperty(engineId.append("test", "medium").toString(), "100");
+		try (var writer = Files.newBufferedWriter(file)) {
+			properties.store(writer, null);
+		}
+
+		var configuration = new DefaultParallelExecutionConfiguration(1, 1, 1, 1, 0, __ -> true);
+		try (var service = new ForkJoinPoolHierarchicalTestExecutorService(configuration)) {
+			var taskContext = new NodeTestTaskContext(mock(), service, OpenTest4JAwareThrowableCollector::new,
+				mock(), ExecutionTimeEstimates.load(file), Integer.MAX_VALUE);
+
+			var tasks = Stream.of("unknown", "fast", "slow", "other", "medium") //
+					.map(name -> new TestDescriptorStub(engineId.append("test", name), name)) //
+					.map(descriptor -> service.new ExclusiveTask(new NodeTestTask<>(taskContext, descriptor))) //
+					.toList();
+
+			var sortedTasks = new ArrayList<>(tasks);
+			ForkJoinPoolHierarchicalTestExecutorService.sortByEstimatedExecutionTimeDescending(sortedTasks);
+
+			assertThat(sortedTasks).extracting(tasks::indexOf).containsExactly(2, 4, 1, 0, 3);
+		}
+	}
+
 	private static void await(CountDownLatch latch, String message) {
 		try {
 			latch.await();
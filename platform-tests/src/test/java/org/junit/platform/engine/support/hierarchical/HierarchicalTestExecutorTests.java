@@ -27,16 +27,21 @@ import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Map;
+import java.util.OptionalInt;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.function.ThrowingConsumer;
 import org.junit.platform.engine.ConfigurationParameters;
@@ -80,8 +85,13 @@ class HierarchicalTestExecutorTests {
 
 	private HierarchicalTestExecutor<MyEngineExecutionContext> createExecutor(
 			HierarchicalTestExecutorService executorService) {
-		var request = ExecutionRequest.create(root, listener, mock(ConfigurationParameters.class),
-			dummyOutputDirectoryProvider(), dummyNamespacedHierarchicalStore());
+		return createExecutor(executorService, mock(ConfigurationParameters.class));
+	}
+
+	private HierarchicalTestExecutor<MyEngineExecutionContext> createExecutor(
+			HierarchicalTestExecutorService executorService, ConfigurationParameters configurationParameters) {
+		var request = ExecutionRequest.create(root, listener, configurationParameters, dummyOutputDirectoryProvider(),
+			dummyNamespacedHierarchicalStore());
 		return new HierarchicalTestExecutor<>(request, rootContext, executorService,
 			OpenTest4JAwareThrowableCollector::new);
 	}
@@ -127,6 +137,44 @@ class HierarchicalTestExecutorTests {
 		assertThat(childExecutionResult.getValue().getStatus()).isEqualTo(SUCCESSFUL);
 	}
 
+	@Test
+	void nodeUsingDefaultAroundImplementationIsExecutedWithAllLifecyclePhases() throws Exception {
+
+		var phases = new ArrayList<String>();
+		var exception = new RuntimeException("in execute");
+		var child = new MyLeaf(UniqueId.root("leaf", "leaf")) {
+
+			@Override
+			public MyEngineExecutionContext before(MyEngineExecutionContext context) {
+				phases.add("before");
+				return context;
+			}
+
+			@Override
+			public MyEngineExecutionContext execute(MyEngineExecutionContext context,
+					DynamicTestExecutor dynamicTestExecutor) {
+				phases.add("execute");
+				throw exception;
+			}
+
+			@Override
+			public void after(MyEngineExecutionContext context) {
+				phases.add("after");
+			}
+		};
+		root.addChild(child);
+
+		executor.execute();
+
+		var childExecutionResult = ArgumentCaptor.forClass(TestExecutionResult.class);
+		verify(listener).executionFinished(eq(child), childExecutionResult.capture());
+		assertThat(NodeUtils.overridesAround(child)).isFalse();
+		assertThat(NodeUtils.overridesAround(root)).isTrue();
+		assertThat(phases).containsExactly("before", "execute", "after");
+		assertThat(childExecutionResult.getValue().getStatus()).isEqualTo(FAILED);
+		assertThat(childExecutionResult.getValue().getThrowable()).containsSame(exception);
+	}
+
 	@Test
 	void rootDescriptorWithOneChildLeaf() throws Exception {
 
@@ -593,6 +641,113 @@ class HierarchicalTestExecutorTests {
 		assertTrue(interrupted.get(), "dynamic node was interrupted");
 	}
 
+	@Test
+	void limitsNumberOfDynamicTestsInFlight() throws Exception {
+
+		var leafUniqueId = UniqueId.root("leaf", "child leaf");
+		var child = spy(new MyLeaf(leafUniqueId));
+		root.addChild(child);
+
+		var running = new AtomicInteger();
+		var maxRunning = new AtomicInteger();
+		when(child.execute(any(), any())).thenAnswer(useDynamicTestExecutor(executor -> {
+			for (var i = 0; i < 20; i++) {
+				executor.execute(new MyLeaf(leafUniqueId.append("dynamic", "child" + i)) {
+					@Override
+					public MyEngineExecutionContext execute(MyEngineExecutionContext context,
+							DynamicTestExecutor dynamicTestExecutor) {
+						maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+						try {
+							Thread.sleep(10);
+						}
+						catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+						running.decrementAndGet();
+						return context;
+					}
+				});
+			}
+			executor.awaitFinished();
+		}));
+
+		var parameters = ConfigurationParametersFactoryForTests.create(Map.of(//
+			DefaultParallelExecutionConfigurationStrategy.CONFIG_STRATEGY_PROPERTY_NAME, "fixed", //
+			DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_PARALLELISM_PROPERTY_NAME, "4", //
+			HierarchicalTestEngine.DYNAMIC_TESTS_MAX_IN_FLIGHT_PROPERTY_NAME, "2"));
+
+		try (var executorService = new ForkJoinPoolHierarchicalTestExecutorService(parameters)) {
+			createExecutor(executorService, parameters).execute().get();
+		}
+
+		verify(listener, times(20)).dynamicTestRegistered(any());
+		verify(listener, times(21)).executionFinished(any(MyLeaf.class), eq(successful()));
+		assertThat(maxRunning.get()).isBetween(1, 2);
+	}
+
+	@Test
+	@Timeout(10)
+	void releasesInFlightPermitsOfCancelledDynamicTests() throws Exception {
+
+		var leafUniqueId = UniqueId.root("leaf", "child leaf");
+		var child = spy(new MyLeaf(leafUniqueId));
+		root.addChild(child);
+
+		var lastDynamicTest = new MyLeaf(leafUniqueId.append("dynamic", "last"));
+		when(child.execute(any(), any())).thenAnswer(useDynamicTestExecutor(executor -> {
+			for (var i = 0; i < 3; i++) {
+				var dynamicTest = new MyLeaf(leafUniqueId.append("dynamic", "cancelled" + i));
+				executor.execute(dynamicTest, EngineExecutionListener.NOOP).cancel(false);
+			}
+			executor.execute(lastDynamicTest);
+			executor.awaitFinished();
+		}));
+
+		var parameters = ConfigurationParametersFactoryForTests.create(Map.of(//
+			DefaultParallelExecutionConfigurationStrategy.CONFIG_STRATEGY_PROPERTY_NAME, "fixed", //
+			DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_PARALLELISM_PROPERTY_NAME, "1", //
+			HierarchicalTestEngine.DYNAMIC_TESTS_MAX_IN_FLIGHT_PROPERTY_NAME, "1"));
+
+		try (var executorService = new ForkJoinPoolHierarchicalTestExecutorService(parameters)) {
+			createExecutor(executorService, parameters).execute().get();
+		}
+
+		verify(listener).executionFinished(lastDynamicTest, successful());
+		verify(listener).executionFinished(child, successful());
+	}
+
+	@Test
+	void limitsNumberOfConcurrentlyExecutingDescendants() throws Exception {
+
+		var child = spy(new MyContainer(UniqueId.root("container", "child container")));
+		when(child.getConcurrencyLimit()).thenReturn(OptionalInt.of(2));
+		root.addChild(child);
+
+		var running = new AtomicInteger();
+		var maxRunning = new AtomicInteger();
+		for (var i = 0; i < 8; i++) {
+			var leaf = spy(new MyLeaf(child.getUniqueId().append("leaf", "leaf" + i)));
+			when(leaf.execute(any(), any())).thenAnswer(invocation -> {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				Thread.sleep(20);
+				running.decrementAndGet();
+				return invocation.getArgument(0);
+			});
+			child.addChild(leaf);
+		}
+
+		var parameters = ConfigurationParametersFactoryForTests.create(Map.of(//
+			DefaultParallelExecutionConfigurationStrategy.CONFIG_STRATEGY_PROPERTY_NAME, "fixed", //
+			DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_PARALLELISM_PROPERTY_NAME, "4"));
+
+		try (var executorService = new ForkJoinPoolHierarchicalTestExecutorService(parameters)) {
+			createExecutor(executorService).execute().get();
+		}
+
+		verify(listener, times(8)).executionFinished(any(MyLeaf.class), eq(successful()));
+		assertThat(maxRunning.get()).isBetween(1, 2);
+	}
+
 	private Answer<Object> execute(TestDescriptor dynamicChild) {
 		return useDynamicTestExecutor(executor -> executor.execute(dynamicChild));
 	}
@@ -129,6 +129,19 @@ class LockManagerTests {
 				.isSameAs(lockManager.getLockForResource(ExclusiveResource.GLOBAL_READ_WRITE));
 	}
 
+	@Test
+	void usesConfiguredLockImplementation() {
+		var lockManager = new LockManager(LockManager.LockImplementation.STRIPED);
+
+		var lock = lockManager.getLockForResources(List.of( //
+			new ExclusiveResource("a", READ), //
+			new ExclusiveResource("b", READ_WRITE)));
+
+		assertThat(ResourceLockSupport.getLocks(lock)) //
+				.extracting(it -> it.getClass().getEnclosingClass()) //
+				.containsOnly(StripedReadWriteLock.class);
+	}
+
 	private Lock getSingleLock(String key, LockMode lockMode) {
 		return getLocks(Set.of(new ExclusiveResource(key, lockMode)), SingleLock.class).getFirst();
 	}
@@ -43,6 +43,30 @@ class SingleLockTests {
 		assertFalse(lock.isLocked());
 	}
 
+	@Test
+	void tryAcquire() throws Exception {
+		var lock = new ReentrantLock();
+		var singleLock = new SingleLock(anyResource(), lock);
+
+		assertTrue(singleLock.tryAcquire());
+		assertTrue(lock.isLocked());
+
+		singleLock.release();
+		assertFalse(lock.isLocked());
+	}
+
+	@Test
+	void tryAcquireReturnsFalseWhenLockIsContended() throws Exception {
+		var lock = new ReentrantLock();
+		var singleLock = new SingleLock(anyResource(), lock);
+
+		var thread = new Thread(lock::lock);
+		thread.start();
+		thread.join();
+
+		assertFalse(singleLock.tryAcquire());
+	}
+
 	private static ExclusiveResource anyResource() {
 		return new ExclusiveResource("key", LockMode.READ);
 	}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * @since 6.0
+ */
+@Timeout(10)
+class StripedReadWriteLockTests {
+
+	final StripedReadWriteLock lock = new StripedReadWriteLock(4);
+
+	@Test
+	void readLockCanBeHeldByMultipleThreads() throws Exception {
+		lock.readLock().lockInterruptibly();
+		try {
+			var acquired = CompletableFuture.supplyAsync(() -> {
+				var result = lock.readLock().tryLock();
+				lock.readLock().unlock();
+				return result;
+			}).get();
+			assertTrue(acquired);
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Test
+	void writeLockExcludesReaders() throws Exception {
+		lock.writeLock().lockInterruptibly();
+		try {
+			assertFalse(CompletableFuture.supplyAsync(() -> lock.readLock().tryLock()).get());
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+		assertTrue(CompletableFuture.supplyAsync(() -> {
+			var result = lock.readLock().tryLock();
+			lock.readLock().unlock();
+			return result;
+		}).get());
+	}
+
+	@Test
+	void readLockExcludesWriters() throws Exception {
+		lock.readLock().lockInterruptibly();
+		try {
+			assertFalse(CompletableFuture.supplyAsync(() -> lock.writeLock().tryLock()).get());
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+		assertTrue(CompletableFuture.supplyAsync(() -> {
+			var result = lock.writeLock().tryLock();
+			lock.writeLock().unlock();
+			return result;
+		}).get());
+	}
+
+	@Test
+	void readLockIsReentrantWhileWriterIsWaiting() throws Exception {
+		lock.readLock().lockInterruptibly();
+
+		var writer = new Thread(() -> {
+			lock.writeLock().lock();
+			lock.writeLock().unlock();
+		});
+		writer.start();
+		while (writer.getState() != Thread.State.TIMED_WAITING) {
+			Thread.onSpinWait();
+		}
+
+		lock.readLock().lockInterruptibly();
+		lock.readLock().unlock();
+		lock.readLock().unlock();
+
+		writer.join();
+	}
+
+	@Test
+	void writersAreMutuallyExclusiveWithEachOtherAndWithReaders() {
+		var readers = new AtomicInteger();
+		var writers = new AtomicInteger();
+		var violations = new AtomicInteger();
+
+		var futures = IntStream.range(0, 200) //
+				.mapToObj(i -> CompletableFuture.runAsync(() -> {
+					if (i % 10 == 0) {
+						lock.writeLock().lock();
+						try {
+							if (writers.incrementAndGet() != 1 || readers.get() != 0) {
+								violations.incrementAndGet();
+							}
+							writers.decrementAndGet();
+						}
+						finally {
+							lock.writeLock().unlock();
+						}
+					}
+					else {
+						lock.readLock().lock();
+						try {
+							readers.incrementAndGet();
+							if (writers.get() != 0) {
+								violations.incrementAndGet();
+							}
+							readers.decrementAndGet();
+						}
+						finally {
+							lock.readLock().unlock();
+						}
+					}
+				})) //
+				.toArray(CompletableFuture[]::new);
+
+		CompletableFuture.allOf(futures).join();
+
+		assertThat(violations).hasValue(0);
+	}
+
+	@Test
+	void unlockingReadLockThatIsNotHeldThrowsException() {
+		assertThrows(IllegalMonitorStateException.class, () -> lock.readLock().unlock());
+	}
+
+	@Test
+	void waitingWriterCanBeInterrupted() throws Exception {
+		lock.readLock().lockInterruptibly();
+		try {
+			var interrupted = new CompletableFuture<Boolean>();
+			var writer = new Thread(() -> {
+				try {
+					lock.writeLock().lockInterruptibly();
+					interrupted.complete(false);
+				}
+				catch (InterruptedException e) {
+					interrupted.complete(true);
+				}
+			});
+			writer.start();
+			writer.interrupt();
+			assertTrue(interrupted.get());
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+		assertTrue(lock.writeLock().tryLock());
+		lock.writeLock().unlock();
+	}
+
+	@Test
+	void timedTryLockOfReadLockWaitsForWriterUntilDeadline() throws Exception {
+		lock.writeLock().lockInterruptibly();
+		assertFalse(CompletableFuture.supplyAsync(() -> tryLock(lock.readLock(), 10)).get());
+
+		var acquired = CompletableFuture.supplyAsync(() -> tryLock(lock.readLock(), 10_000));
+		lock.writeLock().unlock();
+		assertTrue(acquired.get());
+	}
+
+	@Test
+	void timedTryLockOfWriteLockWaitsForReadersUntilDeadline() throws Exception {
+		lock.readLock().lockInterruptibly();
+		try {
+			assertFalse(CompletableFuture.supplyAsync(() -> tryLock(lock.writeLock(), 10)).get());
+			// Readers are not blocked by a writer that gave up
+			assertTrue(CompletableFuture.supplyAsync(() -> tryLock(lock.readLock(), 0)).get());
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+		assertTrue(lock.writeLock().tryLock(1, SECONDS));
+		lock.writeLock().unlock();
+	}
+
+	@Test
+	void writeLockConditionLetsReadersAcquireLockWhileAwaiting() throws Exception {
+		var condition = lock.writeLock().newCondition();
+		lock.writeLock().lockInterruptibly();
+		try {
+			var signalled = CompletableFuture.supplyAsync(() -> {
+				var acquired = tryLock(lock.readLock(), 10_000);
+				lock.writeLock().lock();
+				try {
+					condition.signal();
+				}
+				finally {
+					lock.writeLock().unlock();
+				}
+				return acquired;
+			});
+			while (!signalled.isDone()) {
+				condition.await(10, MILLISECONDS);
+			}
+			assertTrue(signalled.get());
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Test
+	void readLockDoesNotSupportConditions() {
+		assertThrows(UnsupportedOperationException.class, () -> lock.readLock().newCondition());
+	}
+
+	private static boolean tryLock(Lock lock, long timeoutMillis) {
+		try {
+			var acquired = lock.tryLock(timeoutMillis, MILLISECONDS);
+			if (acquired) {
+				lock.unlock();
+			}
+			return acquired;
+		}
+		catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.SAME_THREAD;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+
+/**
+ * @since 6.0
+ */
+@Timeout(10)
+class VirtualThreadHierarchicalTestExecutorServiceTests {
+
+	final LockManager lockManager = new LockManager();
+
+	@Test
+	void executesConcurrentTasksInVirtualThreads() throws Exception {
+		var task = new DummyTestTask(CONCURRENT, NopLock.INSTANCE, () -> {
+		});
+
+		try (var service = new VirtualThreadHierarchicalTestExecutorService()) {
+			service.submit(task).get();
+		}
+
+		var thread = requireNonNull(task.thread);
+		assertThat(thread.isVirtual()).isTrue();
+		assertThat(thread.getName()).startsWith("junit-virtual-");
+	}
+
+	@Test
+	void executesSameThreadTasksInCallingThread() throws Exception {
+		var task = new DummyTestTask(SAME_THREAD, NopLock.INSTANCE, () -> {
+		});
+
+		try (var service = new VirtualThreadHierarchicalTestExecutorService()) {
+			service.submit(task).get();
+		}
+
+		assertThat(task.thread).isSameAs(Thread.currentThread());
+	}
+
+	@Test
+	void executesMoreBlockingTasksConcurrentlyThanThereAreProcessors() {
+		var numberOfTasks = 50 * Runtime.getRuntime().availableProcessors();
+		var allTasksRunning = new CountDownLatch(numberOfTasks);
+
+		var tasks = IntStream.range(0, numberOfTasks) //
+				.mapToObj(__ -> new DummyTestTask(CONCURRENT, NopLock.INSTANCE, () -> {
+					allTasksRunning.countDown();
+					allTasksRunning.await();
+				})) //
+				.toList();
+
+		try (var service = new VirtualThreadHierarchicalTestExecutorService()) {
+			service.invokeAll(tasks);
+		}
+
+		assertThat(allTasksRunning.getCount()).isZero();
+	}
+
+	@Test
+	void honorsExclusiveResourceLocks() {
+		var lock = lockManager.getLockForResource(new ExclusiveResource("a", LockMode.READ_WRITE));
+		var concurrentExecutions = new AtomicInteger();
+		var maxConcurrentExecutions = new AtomicInteger();
+
+		var tasks = IntStream.range(0, 100) //
+				.mapToObj(__ -> new DummyTestTask(CONCURRENT, lock, () -> {
+					maxConcurrentExecutions.accumulateAndGet(concurrentExecutions.incrementAndGet(), Math::max);
+					Thread.sleep(1);
+					concurrentExecutions.decrementAndGet();
+				})) //
+				.toList();
+
+		try (var service = new VirtualThreadHierarchicalTestExecutorService()) {
+			service.invokeAll(tasks);
+		}
+
+		assertThat(maxConcurrentExecutions).hasValue(1);
+	}
+
+	@Test
+	void executesIsolatedTasksAfterAllOtherTasks() {
+		var globalReadWriteLock = lockManager.getLockForResource(ExclusiveResource.GLOBAL_READ_WRITE);
+		var finishedTasks = new AtomicInteger();
+		var finishedTasksSeenByIsolatedTask = new AtomicInteger(-1);
+
+		var isolatedTask = new DummyTestTask(CONCURRENT, globalReadWriteLock,
+			() -> finishedTasksSeenByIsolatedTask.set(finishedTasks.get()));
+		var otherTasks = IntStream.range(0, 2) //
+				.mapToObj(__ -> new DummyTestTask(CONCURRENT, NopLock.INSTANCE, () -> {
+					Thread.sleep(10);
+					finishedTasks.incrementAndGet();
+				})) //
+				.toList();
+
+		try (var service = new VirtualThreadHierarchicalTestExecutorService()) {
+			service.invokeAll(List.of(isolatedTask, otherTasks.get(0), otherTasks.get(1)));
+		}
+
+		assertThat(finishedTasksSeenByIsolatedTask).hasValue(2);
+	}
+
+	@Test
+	void factoryCreatesForkJoinPoolExecutorServiceByDefault() {
+		ConfigurationParameters configParams = mock();
+		when(configParams.get(any(), any())).thenCallRealMethod();
+
+		try (var service = ParallelHierarchicalTestExecutorServiceFactory.create(configParams)) {
+			assertThat(service).isInstanceOf(ForkJoinPoolHierarchicalTestExecutorService.class);
+		}
+	}
+
+	@Test
+	void factoryCreatesVirtualThreadExecutorServiceWhenConfigured() {
+		ConfigurationParameters configParams = mock();
+		when(configParams.get(any(), any())).thenCallRealMethod();
+		when(configParams.get("executor-service")).thenReturn(Optional.of("virtual_threads"));
+
+		try (var service = ParallelHierarchicalTestExecutorServiceFactory.create(configParams)) {
+			assertThat(service).isInstanceOf(VirtualThreadHierarchicalTestExecutorService.class);
+		}
+	}
+
+	@Test
+	void factoryRejectsUnknownExecutorServiceType() {
+		ConfigurationParameters configParams = mock();
+		when(configParams.get(any(), any())).thenCallRealMethod();
+		when(configParams.get("executor-service")).thenReturn(Optional.of("carrier_pigeons"));
+
+		var exception = assertThrows(JUnitException.class,
+			() -> ParallelHierarchicalTestExecutorServiceFactory.create(configParams));
+
+		assertThat(exception).hasMessageContaining("executor-service");
+	}
+
+	static final class DummyTestTask implements TestTask {
+
+		private final ExecutionMode executionMode;
+		private final ResourceLock resourceLock;
+		private final Executable action;
+
+		@Nullable
+		volatile Thread thread;
+
+		DummyTestTask(ExecutionMode executionMode, ResourceLock resourceLock, Executable action) {
+			this.executionMode = executionMode;
+			this.resourceLock = resourceLock;
+			this.action = action;
+		}
+
+		@Override
+		public ExecutionMode getExecutionMode() {
+			return executionMode;
+		}
+
+		@Override
+		public ResourceLock getResourceLock() {
+			return resourceLock;
+		}
+
+		@Override
+		public void execute() {
+			thread = Thread.currentThread();
+			try {
+				action.execute();
+			}
+			catch (Throwable t) {
+				throw new RuntimeException(t);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.platform.launcher.ShardingFilter.includeShard;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.fakes.TestDescriptorStub;
+
+/**
+ * @since 6.0
+ */
+class ShardingFilterTests {
+
+	@Test
+	void shardsContainDisjointTopLevelContainersOfEqualSize() {
+		var engineDescriptor = createEngineDescriptor("c1", "c2", "c3", "c4", "c5", "c6");
+
+		var shard1 = includedTests(includeShard(1, 3), engineDescriptor);
+		var shard2 = includedTests(includeShard(2, 3), engineDescriptor);
+		var shard3 = includedTests(includeShard(3, 3), engineDescriptor);
+
+		assertThat(shard1).hasSize(4).doesNotContainAnyElementsOf(shard2).doesNotContainAnyElementsOf(shard3);
+		assertThat(shard2).hasSize(4).doesNotContainAnyElementsOf(shard3);
+		assertThat(shard3).hasSize(4);
+		assertThat(engineDescriptor.getDescendants()).filteredOn(TestDescriptor::isTest) //
+				.extracting(TestDescriptor::getUniqueId) //
+				.containsExactlyInAnyOrderElementsOf(concat(shard1, shard2, shard3));
+	}
+
+	@Test
+	void balancesShardsBasedOnExecutionTimes(@TempDir Path tempDir) throws Exception {
+		var engineDescriptor = createEngineDescriptor("c1", "c2", "c3", "c4");
+		var executionTimesFile = Files.writeString(tempDir.resolve("times.properties"), """
+				[engine\\:engine]/[container\\:c1]=100
+				[engine\\:engine]/[container\\:c2]=60
+				[engine\\:engine]/[container\\:c3]=50
+				[engine\\:engine]/[container\\:c4]=10
+				""");
+
+		var shard1 = includedTests(includeShard(1, 2, executionTimesFile), engineDescriptor);
+		var shard2 = includedTests(includeShard(2, 2, executionTimesFile), engineDescriptor);
+
+		assertThat(shard1).extracting(uniqueId -> uniqueId.removeLastSegment().getLastSegment().getValue()) //
+				.containsOnly("c1", "c4");
+		assertThat(shard2).extracting(uniqueId -> uniqueId.removeLastSegment().getLastSegment().getValue()) //
+				.containsOnly("c2", "c3");
+	}
+
+	@Test
+	void ignoresMissingExecutionTimesFile(@TempDir Path tempDir) {
+		var engineDescriptor = createEngineDescriptor("c1", "c2");
+
+		var shard1 = includedTests(includeShard(1, 2, tempDir.resolve("missing.properties")), engineDescriptor);
+
+		assertThat(shard1).hasSize(2);
+	}
+
+	@Test
+	void rejectsInvalidShards() {
+		assertThatThrownBy(() -> includeShard(1, 0)) //
+				.isInstanceOf(PreconditionViolationException.class) //
+				.hasMessage("shardCount must be positive: 0");
+		assertThatThrownBy(() -> includeShard(0, 2)) //
+				.isInstanceOf(PreconditionViolationException.class) //
+				.hasMessage("shardIndex must be between 1 and 2: 0");
+		assertThatThrownBy(() -> includeShard(3, 2)) //
+				.isInstanceOf(PreconditionViolationException.class) //
+				.hasMessage("shardIndex must be between 1 and 2: 3");
+	}
+
+	private static EngineDescriptor createEngineDescriptor(String... containerNames) {
+		var engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "Engine");
+		for (var containerName : containerNames) {
+			var container = new TestDescriptorStub(engineDescriptor.getUniqueId().append("container", containerName),
+				containerName);
+			container.addChild(new TestDescriptorStub(container.getUniqueId().append("test", "t1"), "t1"));
+			container.addChild(new TestDescriptorStub(container.getUniqueId().append("test", "t2"), "t2"));
+			engineDescriptor.addChild(container);
+		}
+		return engineDescriptor;
+	}
+
+	private static List<UniqueId> includedTests(ShardingFilter filter, TestDescriptor engineDescriptor) {
+		List<UniqueId> includedTests = new ArrayList<>();
+		engineDescriptor.accept(descriptor -> {
+			if (filter.apply(descriptor).included() && descriptor.isTest()) {
+				includedTests.add(descriptor.getUniqueId());
+			}
+		});
+		return includedTests;
+	}
+
+	@SafeVarargs
+	private static List<UniqueId> concat(List<UniqueId>... lists) {
+		List<UniqueId> result = new ArrayList<>();
+		for (var list : lists) {
+			result.addAll(list);
+		}
+		return result;
+	}
+
+}
@@ -10,6 +10,8 @@
 
 package org.junit.platform.launcher;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.junit.platform.launcher.core.OutputDirectoryProviders.dummyOutputDirectoryProvider;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
@@ -17,6 +19,7 @@ import static org.mockito.Mockito.mock;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
@@ -64,4 +67,56 @@ class TestPlanTests {
 		inOrder.verify(visitor).postVisitContainer(TestIdentifier.from(engineDescriptor2));
 	}
 
+	@Test
+	void providesParentsChildrenAndDescendantsOfDiscoveredIdentifiers() {
+		var container = new TestDescriptorStub(engineDescriptor.getUniqueId().append("container", "bar"), "Bar");
+		var test1 = new TestDescriptorStub(container.getUniqueId().append("test", "bar1"), "Bar1");
+		var test2 = new TestDescriptorStub(container.getUniqueId().append("test", "bar2"), "Bar2");
+		var test3 = new TestDescriptorStub(engineDescriptor.getUniqueId().append("test", "baz"), "Baz");
+		container.addChild(test1);
+		container.addChild(test2);
+		engineDescriptor.addChild(container);
+		engineDescriptor.addChild(test3);
+
+		var testPlan = TestPlan.from(true, List.of(engineDescriptor), configParams, dummyOutputDirectoryProvider());
+
+		var engineIdentifier = TestIdentifier.from(engineDescriptor);
+		var containerIdentifier = TestIdentifier.from(container);
+		assertThat(testPlan.getRoots()).containsExactly(engineIdentifier);
+		assertThat(testPlan.getChildren(engineIdentifier)) //
+				.containsExactly(containerIdentifier, TestIdentifier.from(test3)) //
+				.contains(containerIdentifier) //
+				.doesNotContain(TestIdentifier.from(test1));
+		assertThat(testPlan.getChildren(containerIdentifier)) //
+				.containsExactly(TestIdentifier.from(test1), TestIdentifier.from(test2));
+		assertThat(testPlan.getChildren(TestIdentifier.from(test1))).isEmpty();
+		assertThat(testPlan.getDescendants(engineIdentifier)).hasSize(4);
+		assertThat(testPlan.getParent(TestIdentifier.from(test2))).contains(containerIdentifier);
+		assertThat(testPlan.getTestIdentifier(test3.getUniqueId())).isEqualTo(TestIdentifier.from(test3));
+		assertThat(testPlan.countTestIdentifiers(TestIdentifier::isTest)).isEqualTo(3);
+		assertThatExceptionOfType(PreconditionViolationException.class) //
+				.isThrownBy(() -> testPlan.getTestIdentifier(engineDescriptor.getUniqueId().append("test", "qux")));
+	}
+
+	@Test
+	void combinesDiscoveredAndAddedIdentifiers() {
+		var container = new TestDescriptorStub(engineDescriptor.getUniqueId().append("container", "bar"), "Bar");
+		var test1 = new TestDescriptorStub(container.getUniqueId().append("test", "bar1"), "Bar1");
+		container.addChild(test1);
+		engineDescriptor.addChild(container);
+		var testPlan = TestPlan.from(true, List.of(engineDescriptor), configParams, dummyOutputDirectoryProvider());
+
+		var test2 = new TestDescriptorStub(container.getUniqueId().append("dynamic-test", "bar2"), "Bar2");
+		container.addChild(test2);
+		testPlan.addInternal(TestIdentifier.from(test2));
+
+		var containerIdentifier = TestIdentifier.from(container);
+		assertThat(testPlan.getChildren(containerIdentifier)) //
+				.containsExactly(TestIdentifier.from(test1), TestIdentifier.from(test2));
+		assertThat(testPlan.getParent(TestIdentifier.from(test2))).contains(containerIdentifier);
+		assertThat(testPlan.getTestIdentifier(test2.getUniqueId())).isEqualTo(TestIdentifier.from(test2));
+		assertThat(testPlan.countTestIdentifiers(TestIdentifier::isTest)).isEqualTo(2);
+		assertThat(testPlan.getRoots()).containsExactly(TestIdentifier.from(engineDescriptor));
+	}
+
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Level;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.fixtures.TrackLogRecords;
+import org.junit.platform.commons.logging.LogRecordListener;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.fakes.TestDescriptorStub;
+
+/**
+ * @since 6.0
+ */
+class AsynchronousEngineExecutionListenerTests {
+
+	private final TestDescriptor testDescriptor = new TestDescriptorStub(UniqueId.root("test", "test"), "test");
+
+	@Test
+	void deliversAllEventsInOrderBeforeCloseReturns() {
+		EngineExecutionListener delegate = mock();
+		var entry = ReportEntry.from("key", "value");
+
+		try (var listener = new AsynchronousEngineExecutionListener(delegate, 2)) {
+			listener.executionStarted(testDescriptor);
+			listener.reportingEntryPublished(testDescriptor, entry);
+			listener.executionFinished(testDescriptor, TestExecutionResult.successful());
+			listener.executionSkipped(testDescriptor, "reason");
+		}
+
+		var inOrder = inOrder(delegate);
+		inOrder.verify(delegate).executionStarted(testDescriptor);
+		inOrder.verify(delegate).reportingEntryPublished(testDescriptor, entry);
+		inOrder.verify(delegate).executionFinished(testDescriptor, TestExecutionResult.successful());
+		inOrder.verify(delegate).executionSkipped(testDescriptor, "reason");
+		inOrder.verifyNoMoreInteractions();
+	}
+
+	@Test
+	@Timeout(10)
+	void blocksReportingThreadWhileBufferIsFull() throws Exception {
+		var deliveryStarted = new CountDownLatch(1);
+		var continueDelivery = new CountDownLatch(1);
+		var listener = new AsynchronousEngineExecutionListener(new EngineExecutionListener() {
+			@Override
+			public void executionStarted(TestDescriptor testDescriptor) {
+				deliveryStarted.countDown();
+				try {
+					continueDelivery.await();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}, 1);
+
+		listener.executionStarted(testDescriptor);
+		deliveryStarted.await();
+		listener.executionSkipped(testDescriptor, "fills buffer");
+
+		var reportingThread = new Thread(() -> listener.executionSkipped(testDescriptor, "blocks"));
+		reportingThread.start();
+		while (reportingThread.getState() != Thread.State.WAITING) {
+			Thread.sleep(10);
+		}
+
+		continueDelivery.countDown();
+		reportingThread.join();
+		listener.close();
+	}
+
+	@Test
+	@Timeout(10)
+	void deliversEventsSynchronouslyOnceDispatcherThreadHasBeenInterrupted() {
+		List<String> deliveredEvents = new CopyOnWriteArrayList<>();
+		var listener = new AsynchronousEngineExecutionListener(new EngineExecutionListener() {
+			@Override
+			public void executionStarted(TestDescriptor testDescriptor) {
+				deliveredEvents.add("started");
+				Thread.currentThread().interrupt();
+			}
+
+			@Override
+			public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+				deliveredEvents.add(reason);
+			}
+		}, 1);
+
+		listener.executionStarted(testDescriptor);
+		listener.executionSkipped(testDescriptor, "first");
+		listener.executionSkipped(testDescriptor, "second");
+		listener.executionSkipped(testDescriptor, "third");
+		listener.close();
+
+		assertThat(deliveredEvents).containsExactly("started", "first", "second", "third");
+	}
+
+	@Test
+	@TrackLogRecords
+	void logsExceptionsThrownByDelegateAndContinuesDelivery(LogRecordListener logRecordListener) {
+		var finished = new CountDownLatch(1);
+		var listener = new AsynchronousEngineExecutionListener(new EngineExecutionListener() {
+			@Override
+			public void executionStarted(TestDescriptor testDescriptor) {
+				throw new RuntimeException("boom");
+			}
+
+			@Override
+			public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+				finished.countDown();
+			}
+		}, 8);
+
+		listener.executionStarted(testDescriptor);
+		listener.executionFinished(testDescriptor, TestExecutionResult.successful());
+		listener.close();
+
+		assertThat(finished.getCount()).isZero();
+		assertThat(logRecordListener.stream(AsynchronousEngineExecutionListener.class, Level.WARNING)) //
+				.extracting(record -> record.getThrown().getMessage()) //
+				.containsExactly("boom");
+	}
+
+	@Test
+	void rethrowsOutOfMemoryErrorOnClose() {
+		var listener = new AsynchronousEngineExecutionListener(new EngineExecutionListener() {
+			@Override
+			public void executionStarted(TestDescriptor testDescriptor) {
+				throw new OutOfMemoryError("in listener");
+			}
+		}, 8);
+
+		listener.executionStarted(testDescriptor);
+
+		assertThatThrownBy(listener::close).isInstanceOf(OutOfMemoryError.class).hasMessage("in listener");
+	}
+
+}
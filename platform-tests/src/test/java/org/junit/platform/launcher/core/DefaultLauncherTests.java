@@ -18,37 +18,60 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
+import static org.junit.platform.engine.SelectorResolutionResult.resolved;
 import static org.junit.platform.engine.SelectorResolutionResult.unresolved;
 import static org.junit.platform.engine.TestExecutionResult.successful;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClasspathRoots;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectNestedClass;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
 import static org.junit.platform.fakes.FaultyTestEngines.createEngineThatCannotResolveAnything;
 import static org.junit.platform.fakes.FaultyTestEngines.createEngineThatFailsToResolveAnything;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_EXECUTION_LISTENERS_BUFFER_SIZE_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_EXECUTION_LISTENERS_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_EXECUTION_LISTENERS_EXCLUDE_PATTERN_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.DISCOVERY_CACHE_FILE_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.DISCOVERY_ISSUE_FAILURE_PHASE_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.DRY_RUN_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.PARALLEL_DISCOVERY_MAX_THREADS_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.DEFAULT_DISCOVERY_LISTENER_CONFIGURATION_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.UnaryOperator;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.fixtures.TrackLogRecords;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.platform.commons.JUnitException;
@@ -67,6 +90,9 @@ import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.TestExecutionResult.Status;
 import org.junit.platform.engine.TestTag;
 import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.ClasspathRootSelector;
+import org.junit.platform.engine.discovery.PackageSelector;
+import org.junit.platform.engine.discovery.UniqueIdSelector;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
 import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestDescriptor;
 import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestEngine;
@@ -653,6 +679,62 @@ class DefaultLauncherTests {
 		inOrder.verifyNoMoreInteractions();
 	}
 
+	@Test
+	void asynchronousModeDeliversAllEventsInOrderBeforeTestPlanExecutionFinished() {
+		var engine = new DemoHierarchicalTestEngine("engine");
+		var container = engine.addContainer("container", "Container", null);
+		var test = new DemoHierarchicalTestDescriptor(container.getUniqueId().append("test", "test"), "Test",
+			(__, ___) -> {
+			});
+		container.addChild(test);
+
+		var launcher = createLauncher(engine);
+		var listenerThread = new AtomicReference<Thread>();
+		TestExecutionListener listener = mock();
+		doAnswer(invocation -> {
+			listenerThread.set(Thread.currentThread());
+			return null;
+		}).when(listener).executionFinished(eq(TestIdentifier.from(test)), any());
+
+		launcher.execute(request() //
+				.configurationParameter(ASYNC_EXECUTION_LISTENERS_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(ASYNC_EXECUTION_LISTENERS_BUFFER_SIZE_PROPERTY_NAME, "1") //
+				.build(), listener);
+
+		var inOrder = inOrder(listener);
+		inOrder.verify(listener).testPlanExecutionStarted(any());
+		inOrder.verify(listener).executionStarted(TestIdentifier.from(engine.getEngineDescriptor()));
+		inOrder.verify(listener).executionStarted(TestIdentifier.from(container));
+		inOrder.verify(listener).executionStarted(TestIdentifier.from(test));
+		inOrder.verify(listener).executionFinished(TestIdentifier.from(test), successful());
+		inOrder.verify(listener).executionFinished(TestIdentifier.from(container), successful());
+		inOrder.verify(listener).executionFinished(TestIdentifier.from(engine.getEngineDescriptor()), successful());
+		inOrder.verify(listener).testPlanExecutionFinished(any());
+		inOrder.verifyNoMoreInteractions();
+		assertThat(listenerThread.get()).isNotSameAs(Thread.currentThread());
+	}
+
+	@Test
+	void asynchronousModeCallsExcludedListenersOnTestThread() {
+		var engine = new DemoHierarchicalTestEngine("engine");
+		var testThread = new AtomicReference<Thread>();
+		var test = engine.addTest("test", "Test", (__, ___) -> testThread.set(Thread.currentThread()));
+
+		var synchronousListener = new ThreadRecordingListener();
+		var asynchronousListener = new ThreadRecordingListener() {
+		};
+		createLauncher(engine).execute(request() //
+				.configurationParameter(ASYNC_EXECUTION_LISTENERS_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(ASYNC_EXECUTION_LISTENERS_EXCLUDE_PATTERN_PROPERTY_NAME,
+					"*." + ThreadRecordingListener.class.getSimpleName()) //
+				.build(), synchronousListener, asynchronousListener);
+
+		var testIdentifier = TestIdentifier.from(test);
+		assertThat(synchronousListener.finishedThreads).containsEntry(testIdentifier, testThread.get());
+		assertThat(asynchronousListener.finishedThreads).containsKey(testIdentifier);
+		assertThat(asynchronousListener.finishedThreads.get(testIdentifier)).isNotSameAs(testThread.get());
+	}
+
 	@Test
 	void notifiesDiscoveryListenersOfProcessedSelectors() {
 		TestEngine engine = new TestEngineStub("some-engine-id") {
@@ -692,6 +774,296 @@ class DefaultLauncherTests {
 		);
 	}
 
+	@Test
+	void discoversEnginesConcurrentlyAndNotifiesDiscoveryListenersInEngineOrder() {
+		var bothEnginesStarted = new CountDownLatch(2);
+		var failure = new RuntimeException("boom");
+		TestEngine firstEngine = new TestEngineStub("first-engine") {
+			@Override
+			public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+				awaitOtherEngine(bothEnginesStarted);
+				discoveryRequest.getDiscoveryListener().issueEncountered(uniqueId,
+					DiscoveryIssue.create(Severity.WARNING, "first"));
+				return new EngineDescriptor(uniqueId, "First");
+			}
+		};
+		TestEngine secondEngine = new TestEngineStub("second-engine") {
+			@Override
+			public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+				awaitOtherEngine(bothEnginesStarted);
+				discoveryRequest.getDiscoveryListener().issueEncountered(uniqueId,
+					DiscoveryIssue.create(Severity.WARNING, "second"));
+				throw failure;
+			}
+		};
+		var firstEngineId = UniqueId.forEngine(firstEngine.getId());
+		var secondEngineId = UniqueId.forEngine(secondEngine.getId());
+		var discoveryListener = mock(LauncherDiscoveryListener.class);
+
+		var launcherConfig = LauncherFactoryForTestingPurposesOnly.createLauncherConfigBuilderWithDisabledServiceLoading() //
+				.addTestEngines(firstEngine, secondEngine) //
+				.build();
+
+		LauncherFactory.create(launcherConfig).discover(request() //
+				.configurationParameter(PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(PARALLEL_DISCOVERY_MAX_THREADS_PROPERTY_NAME, "2") //
+				.listeners(discoveryListener) //
+				.build());
+
+		var inOrder = inOrder(discoveryListener);
+		inOrder.verify(discoveryListener).launcherDiscoveryStarted(any());
+		inOrder.verify(discoveryListener).engineDiscoveryStarted(firstEngineId);
+		inOrder.verify(discoveryListener).issueEncountered(firstEngineId,
+			DiscoveryIssue.create(Severity.WARNING, "first"));
+		inOrder.verify(discoveryListener).engineDiscoveryFinished(firstEngineId, EngineDiscoveryResult.successful());
+		inOrder.verify(discoveryListener).engineDiscoveryStarted(secondEngineId);
+		inOrder.verify(discoveryListener).issueEncountered(secondEngineId,
+			DiscoveryIssue.create(Severity.WARNING, "second"));
+		var result = ArgumentCaptor.forClass(EngineDiscoveryResult.class);
+		inOrder.verify(discoveryListener).engineDiscoveryFinished(eq(secondEngineId), result.capture());
+		inOrder.verify(discoveryListener).launcherDiscoveryFinished(any());
+		inOrder.verifyNoMoreInteractions();
+		assertThat(result.getValue().getThrowable()).get(InstanceOfAssertFactories.THROWABLE) //
+				.hasRootCause(failure);
+	}
+
+	@Test
+	void executesFirstEngineWhileSecondEngineIsDiscoveredInPipelinedMode() {
+		var firstEngineExecuting = new CountDownLatch(1);
+		var secondEngineDiscovered = new CountDownLatch(1);
+		var firstEngine = new DemoHierarchicalTestEngine("first-engine");
+		firstEngine.addTest("test", () -> {
+			firstEngineExecuting.countDown();
+			await(secondEngineDiscovered);
+		});
+		TestEngine secondEngine = new TestEngineStub("second-engine") {
+			@Override
+			public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+				await(firstEngineExecuting);
+				var engineDescriptor = new EngineDescriptor(uniqueId, "Second");
+				engineDescriptor.addChild(new TestDescriptorStub(uniqueId.append("test", "test"), "test"));
+				secondEngineDiscovered.countDown();
+				return engineDescriptor;
+			}
+		};
+		var firstEngineId = firstEngine.getEngineDescriptor().getUniqueId();
+		var secondEngineId = UniqueId.forEngine(secondEngine.getId());
+		var discoveryListener = mock(LauncherDiscoveryListener.class);
+		var listener = mock(TestExecutionListener.class);
+
+		var launcherConfig = LauncherFactoryForTestingPurposesOnly.createLauncherConfigBuilderWithDisabledServiceLoading() //
+				.addTestEngines(firstEngine, secondEngine) //
+				.build();
+		LauncherFactory.create(launcherConfig).execute(request() //
+				.configurationParameter(LauncherConstants.PIPELINED_EXECUTION_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(LauncherConstants.PIPELINED_EXECUTION_LISTENERS_INCLUDE_PATTERN_PROPERTY_NAME,
+					"*") //
+				.listeners(discoveryListener) //
+				.build(), listener);
+
+		var testPlan = ArgumentCaptor.forClass(TestPlan.class);
+		var inOrder = inOrder(discoveryListener, listener);
+		inOrder.verify(listener).testPlanExecutionStarted(testPlan.capture());
+		inOrder.verify(listener).executionFinished(
+			argThat(identifier -> identifier.getUniqueIdObject().equals(firstEngineId)), eq(successful()));
+		inOrder.verify(discoveryListener).launcherDiscoveryFinished(any());
+		inOrder.verify(listener).dynamicTestRegistered(
+			argThat(identifier -> identifier.getUniqueIdObject().equals(secondEngineId)));
+		inOrder.verify(listener).dynamicTestRegistered(
+			argThat(identifier -> identifier.getUniqueIdObject().equals(secondEngineId.append("test", "test"))));
+		inOrder.verify(listener).testPlanExecutionFinished(same(testPlan.getValue()));
+		assertThat(testPlan.getValue().getRoots()).hasSize(2);
+	}
+
+	@Test
+	void executesTestsOnceAllEnginesHaveBeenDiscoveredIfListenersDoNotSupportPipelinedExecution() {
+		var firstEngine = new DemoHierarchicalTestEngine("first-engine");
+		firstEngine.addTest("test", noOp);
+		var secondEngine = new DemoHierarchicalTestEngine("second-engine");
+		secondEngine.addTest("test", noOp);
+		var listener = mock(TestExecutionListener.class);
+
+		var launcherConfig = LauncherFactoryForTestingPurposesOnly.createLauncherConfigBuilderWithDisabledServiceLoading() //
+				.addTestEngines(firstEngine, secondEngine) //
+				.build();
+		LauncherFactory.create(launcherConfig).execute(request() //
+				.configurationParameter(LauncherConstants.PIPELINED_EXECUTION_ENABLED_PROPERTY_NAME, "true") //
+				.build(), listener);
+
+		var testPlan = ArgumentCaptor.forClass(TestPlan.class);
+		verify(listener).testPlanExecutionStarted(testPlan.capture());
+		verify(listener, never()).dynamicTestRegistered(any());
+		assertThat(testPlan.getValue().getRoots()).extracting(TestIdentifier::getUniqueIdObject) //
+				.containsExactly(firstEngine.getEngineDescriptor().getUniqueId(),
+					secondEngine.getEngineDescriptor().getUniqueId());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			assertTrue(latch.await(10, TimeUnit.SECONDS), "discovery and execution were not pipelined");
+		}
+		catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	@Test
+	void discoversCachedUniqueIdsIfClasspathAndRequestAreUnchanged(@TempDir Path tempDir) {
+		var engine = new CacheAwareTestEngine(true);
+		var childId = engine.getChildId();
+		var request = request() //
+				.selectors(selectPackage("org.example")) //
+				.configurationParameter(DISCOVERY_CACHE_FILE_PROPERTY_NAME,
+					tempDir.resolve("discovery-cache.properties").toString()) //
+				.build();
+
+		var firstTestPlan = createLauncher(engine).discover(request);
+		var secondTestPlan = createLauncher(engine).discover(request);
+
+		assertThat(engine.requestedSelectors).containsExactly( //
+			List.of(selectPackage("org.example")), //
+			List.of(selectUniqueId(childId)));
+		assertThat(firstTestPlan.getTestIdentifier(childId)).isNotNull();
+		assertThat(secondTestPlan.getTestIdentifier(childId)).isNotNull();
+	}
+
+	@Test
+	void discoversOriginalSelectorsIfCachedResultDiffers(@TempDir Path tempDir) {
+		var engine = new CacheAwareTestEngine(false);
+		var engineId = UniqueId.forEngine(engine.getId());
+		var discoveryListener = mock(LauncherDiscoveryListener.class);
+		var request = request() //
+				.selectors(selectPackage("org.example")) //
+				.configurationParameter(DISCOVERY_CACHE_FILE_PROPERTY_NAME,
+					tempDir.resolve("discovery-cache.properties").toString()) //
+				.listeners(discoveryListener) //
+				.build();
+
+		createLauncher(engine).discover(request);
+		var testPlan = createLauncher(engine).discover(request);
+
+		assertThat(engine.requestedSelectors).containsExactly( //
+			List.of(selectPackage("org.example")), //
+			List.of(selectUniqueId(engine.getChildId())), //
+			List.of(selectPackage("org.example")));
+		assertThat(testPlan.getTestIdentifier(engine.getChildId())).isNotNull();
+		verify(discoveryListener, times(2)).engineDiscoveryStarted(engineId);
+		verify(discoveryListener, times(2)).engineDiscoveryFinished(engineId, EngineDiscoveryResult.successful());
+	}
+
+	@Test
+	void discoversOriginalSelectorsIfCachedDescendantsDiffer(@TempDir Path tempDir) {
+		var engine = new CacheAwareTestEngine(true);
+		var request = request() //
+				.selectors(selectPackage("org.example")) //
+				.configurationParameter(DISCOVERY_CACHE_FILE_PROPERTY_NAME,
+					tempDir.resolve("discovery-cache.properties").toString()) //
+				.build();
+
+		createLauncher(engine).discover(request);
+		engine.testNames = List.of("test", "otherTest");
+		var testPlan = createLauncher(engine).discover(request);
+
+		assertThat(engine.requestedSelectors).containsExactly( //
+			List.of(selectPackage("org.example")), //
+			List.of(selectUniqueId(engine.getChildId())), //
+			List.of(selectPackage("org.example")));
+		assertThat(testPlan.getTestIdentifier(engine.getTestId("otherTest"))).isNotNull();
+	}
+
+	@Test
+	void reportsOriginalSelectorsIfDiscoveredUsingCache(@TempDir Path tempDir) {
+		var engine = new CacheAwareTestEngine(true);
+		var engineId = UniqueId.forEngine(engine.getId());
+		var discoveryListener = mock(LauncherDiscoveryListener.class);
+		var request = request() //
+				.selectors(selectPackage("org.example"), selectPackage("org.other")) //
+				.configurationParameter(DISCOVERY_CACHE_FILE_PROPERTY_NAME,
+					tempDir.resolve("discovery-cache.properties").toString()) //
+				.listeners(discoveryListener) //
+				.build();
+
+		createLauncher(engine).discover(request);
+		createLauncher(engine).discover(request);
+
+		assertThat(engine.requestedSelectors).containsExactly( //
+			List.of(selectPackage("org.example"), selectPackage("org.other")), //
+			List.of(selectUniqueId(engine.getChildId())));
+		verify(discoveryListener, times(2)).selectorProcessed(engineId, selectPackage("org.example"), resolved());
+		verify(discoveryListener, times(2)).selectorProcessed(engineId, selectPackage("org.other"), unresolved());
+		verify(discoveryListener, never()).selectorProcessed(eq(engineId), isA(UniqueIdSelector.class), any());
+	}
+
+	@Test
+	void doesNotUseCacheForMethodSelectors(@TempDir Path tempDir) {
+		assertDiscoveryCacheNotUsed(selectMethod("org.example.FooTests#test()"), tempDir);
+	}
+
+	@Test
+	void doesNotUseCacheForNestedClassSelectors(@TempDir Path tempDir) {
+		assertDiscoveryCacheNotUsed(selectNestedClass(List.of("org.example.FooTests"), "org.example.FooTests$Inner"),
+			tempDir);
+	}
+
+	@Test
+	void doesNotUseCacheForUniqueIdSelectorsOfIndividualTests(@TempDir Path tempDir) {
+		assertDiscoveryCacheNotUsed(selectUniqueId(new CacheAwareTestEngine(true).getTestId("test")), tempDir);
+	}
+
+	private static void assertDiscoveryCacheNotUsed(DiscoverySelector selector, Path tempDir) {
+		var engine = new CacheAwareTestEngine(true);
+		var request = request() //
+				.selectors(selectPackage("org.example"), selector) //
+				.configurationParameter(DISCOVERY_CACHE_FILE_PROPERTY_NAME,
+					tempDir.resolve("discovery-cache.properties").toString()) //
+				.build();
+
+		createLauncher(engine).discover(request);
+		createLauncher(engine).discover(request);
+
+		assertThat(engine.requestedSelectors).containsExactly( //
+			List.of(selectPackage("org.example"), selector), //
+			List.of(selectPackage("org.example"), selector));
+		assertThat(tempDir.resolve("discovery-cache.properties")).doesNotExist();
+	}
+
+	@Test
+	void retainsCachedResultsOfOtherClasspaths(@TempDir Path tempDir) throws Exception {
+		var engine = new CacheAwareTestEngine(true);
+		var cacheFile = tempDir.resolve("discovery-cache.properties").toString();
+		var firstRoot = Files.createDirectory(tempDir.resolve("first"));
+		var secondRoot = Files.createDirectory(tempDir.resolve("second"));
+		var firstRequest = request() //
+				.selectors(selectClasspathRoots(Set.of(firstRoot))) //
+				.configurationParameter(DISCOVERY_CACHE_FILE_PROPERTY_NAME, cacheFile) //
+				.build();
+		var secondRequest = request() //
+				.selectors(selectClasspathRoots(Set.of(secondRoot))) //
+				.configurationParameter(DISCOVERY_CACHE_FILE_PROPERTY_NAME, cacheFile) //
+				.build();
+
+		createLauncher(engine).discover(firstRequest);
+		createLauncher(engine).discover(secondRequest);
+		createLauncher(engine).discover(firstRequest);
+		createLauncher(engine).discover(secondRequest);
+
+		assertThat(engine.requestedSelectors).containsExactly( //
+			selectClasspathRoots(Set.of(firstRoot)), //
+			selectClasspathRoots(Set.of(secondRoot)), //
+			List.of(selectUniqueId(engine.getChildId())), //
+			List.of(selectUniqueId(engine.getChildId())));
+	}
+
+	private static void awaitOtherEngine(CountDownLatch bothEnginesStarted) {
+		bothEnginesStarted.countDown();
+		try {
+			assertTrue(bothEnginesStarted.await(10, TimeUnit.SECONDS), "engines were not discovered concurrently");
+		}
+		catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
 	@Test
 	void reportsEngineExecutionFailureForCriticalDiscoveryIssuesAndLogsRemaining(
 			@TrackLogRecords LogRecordListener listener) {
@@ -1027,4 +1399,64 @@ class DefaultLauncherTests {
 			TestExecutionResult testExecutionResult, Instant startTime, Instant finishTime) {
 	}
 
+	private static class ThreadRecordingListener implements TestExecutionListener {
+
+		final Map<TestIdentifier, Thread> finishedThreads = new ConcurrentHashMap<>();
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			finishedThreads.put(testIdentifier, Thread.currentThread());
+		}
+	}
+
+	private static class CacheAwareTestEngine extends TestEngineStub {
+
+		private final List<List<DiscoverySelector>> requestedSelectors = new ArrayList<>();
+		private final boolean supportsUniqueIdSelectors;
+		private List<String> testNames = List.of("test");
+
+		CacheAwareTestEngine(boolean supportsUniqueIdSelectors) {
+			super("cache-aware-engine");
+			this.supportsUniqueIdSelectors = supportsUniqueIdSelectors;
+		}
+
+		UniqueId getChildId() {
+			return UniqueId.forEngine(getId()).append("class", "org.example.FooTests");
+		}
+
+		UniqueId getTestId(String name) {
+			return getChildId().append("method", name + "()");
+		}
+
+		@Override
+		public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+			var selectors = discoveryRequest.getSelectorsByType(DiscoverySelector.class);
+			requestedSelectors.add(selectors);
+			var engineDescriptor = new EngineDescriptor(uniqueId, "Cache-aware Engine");
+			var childSelected = false;
+			for (var selector : selectors) {
+				var selected = selectsChild(selector);
+				discoveryRequest.getDiscoveryListener().selectorProcessed(uniqueId, selector,
+					selected ? resolved() : unresolved());
+				childSelected |= selected;
+			}
+			if (childSelected) {
+				var child = new TestDescriptorStub(getChildId(), "FooTests");
+				testNames.forEach(name -> child.addChild(new TestDescriptorStub(getTestId(name), name)));
+				engineDescriptor.addChild(child);
+			}
+			return engineDescriptor;
+		}
+
+		private boolean selectsChild(DiscoverySelector selector) {
+			if (selector instanceof PackageSelector packageSelector) {
+				return packageSelector.getPackageName().equals("org.example");
+			}
+			if (selector instanceof UniqueIdSelector uniqueIdSelector) {
+				return supportsUniqueIdSelectors && uniqueIdSelector.getUniqueId().hasPrefix(getChildId());
+			}
+			return selector instanceof ClasspathRootSelector;
+		}
+	}
+
 }
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.InvalidClassException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestExecutionResult.Status;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.fakes.TestDescriptorStub;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.ForkedExecutionEvent.DynamicTestRegistered;
+import org.junit.platform.launcher.core.ForkedExecutionEvent.ExecutionFinished;
+import org.junit.platform.launcher.core.ForkedExecutionEvent.ReportingEntryPublished;
+import org.junit.platform.launcher.core.ForkedExecutionEvent.TaskFinished;
+
+/**
+ * @since 6.0
+ */
+class ForkedExecutionChannelTests {
+
+	private Socket workerSocket;
+	private ForkedExecutionChannel launcherSide;
+	private ForkedExecutionChannel workerSide;
+
+	@BeforeEach
+	void connect() throws Exception {
+		try (var serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+			workerSocket = new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+			workerSide = new ForkedExecutionChannel(workerSocket);
+			launcherSide = new ForkedExecutionChannel(serverSocket.accept());
+		}
+	}
+
+	@AfterEach
+	void close() throws Exception {
+		workerSide.close();
+		launcherSide.close();
+	}
+
+	@Test
+	void exchangesMessagesInBothDirections() throws Exception {
+		var testIdentifier = TestIdentifier.from(
+			new TestDescriptorStub(UniqueId.forEngine("engine").append("test", "t1"), "t1"));
+
+		launcherSide.send(new ArrayList<>(List.of(testIdentifier.getUniqueId())));
+		workerSide.send(new DynamicTestRegistered(testIdentifier));
+		workerSide.send(ReportingEntryPublished.from(testIdentifier, ReportEntry.from("key", "value")));
+		workerSide.send(new TaskFinished());
+
+		assertThat(workerSide.receive()).isEqualTo(List.of(testIdentifier.getUniqueId()));
+		assertThat(launcherSide.receive()).isEqualTo(new DynamicTestRegistered(testIdentifier));
+		assertThat(((ReportingEntryPublished) launcherSide.receive()).toReportEntry().getKeyValuePairs()) //
+				.containsExactly(Map.entry("key", "value"));
+		assertThat(launcherSide.receive()).isInstanceOf(TaskFinished.class);
+	}
+
+	@Test
+	void checksReceivedToken() throws Exception {
+		workerSide.sendToken("secret");
+		workerSide.sendToken("guess");
+
+		assertThat(launcherSide.receiveToken("secret")).isTrue();
+		assertThat(launcherSide.receiveToken("secret")).isFalse();
+	}
+
+	@Test
+	void refusesToSendInstancesOfClassesNotAcceptedByReceiver() throws Exception {
+		var event = new ExecutionFinished("[engine:engine]", Status.FAILED, new FailureWithUnacceptedState());
+
+		assertThatThrownBy(() -> workerSide.send(event)).isInstanceOf(InvalidClassException.class);
+		workerSide.send(event.withSerializableThrowable());
+
+		assertThat(((ExecutionFinished) launcherSide.receive()).toResult().getThrowable()).get() //
+				.isInstanceOf(JUnitException.class);
+	}
+
+	@Test
+	void rejectsReceivedInstancesOfClassesNotAcceptedAndRemainsUsable() throws Exception {
+		var bytes = new ByteArrayOutputStream();
+		try (var objectOutputStream = new ObjectOutputStream(bytes)) {
+			objectOutputStream.writeObject(new AtomicInteger());
+		}
+		var out = new DataOutputStream(workerSocket.getOutputStream());
+		out.writeInt(bytes.size());
+		bytes.writeTo(out);
+		out.flush();
+		workerSide.send(new TaskFinished());
+
+		assertThatThrownBy(launcherSide::receive).isInstanceOf(InvalidClassException.class);
+		assertThat(launcherSide.receive()).isInstanceOf(TaskFinished.class);
+	}
+
+	@Test
+	void acceptsClassesUsedForExecutionEvents() {
+		assertThat(ForkedExecutionChannel.isSerializable(String[].class)).isTrue();
+		assertThat(ForkedExecutionChannel.isSerializable(StackTraceElement[].class)).isTrue();
+		assertThat(ForkedExecutionChannel.isSerializable(Status.class)).isTrue();
+		assertThat(ForkedExecutionChannel.isSerializable(UniqueId.class)).isTrue();
+		assertThat(ForkedExecutionChannel.isSerializable(IllegalStateException.class)).isTrue();
+		assertThat(ForkedExecutionChannel.isSerializable(AtomicInteger.class)).isFalse();
+		assertThat(ForkedExecutionChannel.isSerializable(AtomicInteger[].class)).isFalse();
+	}
+
+	@Test
+	void remainsUsableWhenMessageCannotBeSerialized() throws Exception {
+		var event = new ExecutionFinished("[engine:engine]", Status.FAILED, new NotSerializableFailure("boom"));
+
+		assertThatThrownBy(() -> workerSide.send(event)).isInstanceOf(NotSerializableException.class);
+		workerSide.send(event.withSerializableThrowable());
+
+		var received = (ExecutionFinished) launcherSide.receive();
+		TestExecutionResult result = received.toResult();
+		assertThat(result.getStatus()).isEqualTo(Status.FAILED);
+		assertThat(result.getThrowable()).get() //
+				.isInstanceOf(JUnitException.class) //
+				.hasMessage(NotSerializableFailure.class.getName() + ": boom") //
+				.satisfies(throwable -> assertThat(throwable.getStackTrace()).isNotEmpty());
+	}
+
+	@Test
+	void retainsCausesOfNonSerializableThrowables() {
+		var event = new ExecutionFinished("[engine:engine]", Status.ABORTED,
+			new NotSerializableFailure("outer", new IllegalStateException("inner")));
+
+		var result = event.withSerializableThrowable().toResult();
+
+		assertThat(result.getStatus()).isEqualTo(Status.ABORTED);
+		assertThat(result.getThrowable()).get() //
+				.extracting(Throwable::getCause) //
+				.isInstanceOf(JUnitException.class) //
+				.extracting(Throwable::getMessage) //
+				.isEqualTo("java.lang.IllegalStateException: inner");
+	}
+
+	@SuppressWarnings({ "serial", "unused" })
+	private static class FailureWithUnacceptedState extends AssertionError {
+
+		private final AtomicInteger state = new AtomicInteger();
+	}
+
+	@SuppressWarnings({ "serial", "unused" })
+	private static class NotSerializableFailure extends AssertionError {
+
+		private final Object nonSerializableState = new Object();
+
+		NotSerializableFailure(String message) {
+			super(message);
+		}
+
+		NotSerializableFailure(String message, Throwable cause) {
+			super(message, cause);
+		}
+	}
+
+}
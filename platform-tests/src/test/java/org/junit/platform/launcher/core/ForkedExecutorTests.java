@@ -0,0 +1,149 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.launcher.LauncherConstants.FORK_COUNT_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.FORK_JVM_ARGS_PROPERTY_NAME;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.testkit.engine.EventConditions.container;
+import static org.junit.platform.testkit.engine.EventConditions.event;
+import static org.junit.platform.testkit.engine.EventConditions.finishedSuccessfully;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.EventConditions.test;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.fixtures.TrackLogRecords;
+import org.junit.jupiter.engine.JupiterTestEngine;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.LogRecordListener;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.testkit.engine.EngineExecutionResults;
+import org.junit.platform.testkit.engine.ExecutionRecorder;
+
+/**
+ * Integration tests for {@link ForkedExecutor} that fork real worker JVMs.
+ *
+ * @since 6.0
+ */
+@Timeout(value = 2, unit = TimeUnit.MINUTES)
+class ForkedExecutorTests {
+
+	private static final String CRASH_PROPERTY_NAME = "junit.platform.forked.executor.tests.crash";
+
+	@Test
+	void isNotCreatedUnlessForkCountIsPositive() {
+		assertThat(ForkedExecutor.create(configurationParameters(Map.of()))).isNull();
+		assertThat(ForkedExecutor.create(configurationParameters(Map.of(FORK_COUNT_PROPERTY_NAME, "0")))).isNull();
+	}
+
+	@Test
+	void executesTasksInWorkerJvmAndTranslatesTheirEvents() {
+		var results = execute(discover(SuccessfulTestCase.class, FailingTestCase.class), "");
+
+		results.containerEvents().assertStatistics(stats -> stats.started(3).succeeded(3));
+		results.testEvents().assertStatistics(stats -> stats.started(2).succeeded(1).failed(1));
+		results.testEvents().assertThatEvents() //
+				.haveExactly(1, event(test("succeeds"), finishedSuccessfully())) //
+				.haveExactly(1, event(test("fails"), finishedWithFailure(instanceOf(AssertionError.class),
+					message("boom"))));
+		assertThat(results.allEvents().reportingEntryPublished().list()) //
+				.singleElement() //
+				.extracting(reported -> reported.getRequiredPayload(ReportEntry.class).getKeyValuePairs().get("pid")) //
+				.isNotEqualTo(String.valueOf(ProcessHandle.current().pid()));
+	}
+
+	@Test
+	void onlyExecutesEngineOfTaskInWorkerJvm(@TrackLogRecords LogRecordListener log) {
+		var results = execute(discover(SuccessfulTestCase.class), "");
+
+		results.testEvents().assertStatistics(stats -> stats.started(1).succeeded(1));
+		assertThat(log.stream(ForkedExecutor.class, Level.WARNING)).isEmpty();
+	}
+
+	@Test
+	void reportsTestsOfTerminatedWorkerJvmAsFailedAndContinuesInNewWorkerJvm() {
+		var results = execute(discover(CrashingTestCase.class, SuccessfulTestCase.class),
+			"-D" + CRASH_PROPERTY_NAME + "=true");
+
+		results.allEvents().assertThatEvents() //
+				.haveExactly(1, event(container(CrashingTestCase.class),
+					finishedWithFailure(instanceOf(JUnitException.class),
+						message(value -> value.startsWith("Worker JVM failed to execute"))))) //
+				.haveExactly(1, event(test("crashes"), finishedWithFailure(instanceOf(JUnitException.class)))) //
+				.haveExactly(1, event(container(SuccessfulTestCase.class), finishedSuccessfully())) //
+				.haveExactly(1, event(test("succeeds"), finishedSuccessfully()));
+	}
+
+	private static TestDescriptor discover(Class<?>... testClasses) {
+		var discoveryRequest = request() //
+				.selectors(Arrays.stream(testClasses).map(DiscoverySelectors::selectClass).toList()) //
+				.build();
+		return new JupiterTestEngine().discover(discoveryRequest, UniqueId.forEngine("junit-jupiter"));
+	}
+
+	private static EngineExecutionResults execute(TestDescriptor engineDescriptor, String jvmArgs) {
+		var recorder = new ExecutionRecorder();
+		try (var forkedExecutor = ForkedExecutor.create(configurationParameters(
+			Map.of(FORK_COUNT_PROPERTY_NAME, "1", FORK_JVM_ARGS_PROPERTY_NAME, jvmArgs)))) {
+			assertThat(forkedExecutor).isNotNull();
+			forkedExecutor.execute(engineDescriptor, recorder);
+		}
+		return recorder.getExecutionResults();
+	}
+
+	private static LauncherConfigurationParameters configurationParameters(Map<String, String> parameters) {
+		return LauncherConfigurationParameters.builder() //
+				.explicitParameters(parameters) //
+				.enableImplicitProviders(false) //
+				.build();
+	}
+
+	static class SuccessfulTestCase {
+
+		@Test
+		void succeeds(TestReporter testReporter) {
+			testReporter.publishEntry("pid", String.valueOf(ProcessHandle.current().pid()));
+		}
+	}
+
+	static class FailingTestCase {
+
+		@Test
+		void fails() {
+			throw new AssertionError("boom");
+		}
+	}
+
+	static class CrashingTestCase {
+
+		@Test
+		void crashes() {
+			// Only terminate worker JVMs, not the JVM running the tests
+			if (Boolean.getBoolean(CRASH_PROPERTY_NAME)) {
+				Runtime.getRuntime().halt(1);
+			}
+		}
+	}
+
+}
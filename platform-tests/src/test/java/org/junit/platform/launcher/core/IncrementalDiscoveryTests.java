@@ -0,0 +1,273 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClasspathRoots;
+import static org.junit.platform.launcher.LauncherConstants.INCREMENTAL_DISCOVERY_INDEX_FILE_PROPERTY_NAME;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.spi.ToolProvider;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.ClassSelector;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.fakes.TestEngineStub;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+
+/**
+ * Unit tests for {@link IncrementalDiscovery}.
+ *
+ * @since 6.0
+ */
+class IncrementalDiscoveryTests {
+
+	@TempDir
+	Path tempDir;
+
+	private Path sourcesDir;
+	private Path classesDir;
+
+	@BeforeEach
+	void writeSources() throws Exception {
+		sourcesDir = Files.createDirectories(tempDir.resolve("src/pkg"));
+		classesDir = tempDir.resolve("classes");
+		Files.writeString(sourcesDir.resolve("Helper.java"), """
+				package pkg;
+				public class Helper {
+					public static int value() { return 42; }
+				}
+				""");
+		Files.writeString(sourcesDir.resolve("HelperTests.java"), """
+				package pkg;
+				public class HelperTests {
+					void test() { Helper.value(); }
+					static class NestedTests {
+						java.util.List<Helper> helpers;
+					}
+				}
+				""");
+		Files.writeString(sourcesDir.resolve("IndependentTests.java"), """
+				package pkg;
+				public class IndependentTests {
+					void test() {}
+				}
+				""");
+	}
+
+	@Test
+	void retainsClasspathRootSelectorIfIndexDoesNotExist() {
+		compile(classesDir, "Helper.java", "HelperTests.java", "IndependentTests.java");
+
+		var selectors = getSelectors(buildRequest(classesDir));
+
+		assertThat(selectors).containsExactlyElementsOf(selectClasspathRoots(Set.of(classesDir)));
+	}
+
+	@Test
+	void writesIndexOnlyOnceTestsHaveBeenExecuted() {
+		compile(classesDir, "Helper.java", "HelperTests.java", "IndependentTests.java");
+
+		var request = buildRequest(classesDir);
+		buildRequest(classesDir);
+
+		assertThat(indexFile()).doesNotExist();
+
+		execute(request);
+
+		assertThat(indexFile()).isRegularFile();
+	}
+
+	@Test
+	void selectsNothingIfNoClassChanged() {
+		compile(classesDir, "Helper.java", "HelperTests.java", "IndependentTests.java");
+		execute(buildRequest(classesDir));
+
+		var selectors = getSelectors(buildRequest(classesDir));
+
+		assertThat(selectors).isEmpty();
+	}
+
+	@Test
+	void selectsChangedClassesAndTheirDependents() throws Exception {
+		compile(classesDir, "Helper.java", "HelperTests.java", "IndependentTests.java");
+		execute(buildRequest(classesDir));
+		touch(classesDir.resolve("pkg/Helper.class"));
+
+		var selectors = getSelectors(buildRequest(classesDir));
+
+		assertThat(selectors).containsExactly(selectClass("pkg.Helper"), selectClass("pkg.HelperTests"));
+	}
+
+	@Test
+	void selectsChangedClassesAgainUntilTestsHaveBeenExecuted() throws Exception {
+		compile(classesDir, "Helper.java", "HelperTests.java", "IndependentTests.java");
+		execute(buildRequest(classesDir));
+		touch(classesDir.resolve("pkg/Helper.class"));
+
+		buildRequest(classesDir);
+		var selectors = getSelectors(buildRequest(classesDir));
+
+		assertThat(selectors).containsExactly(selectClass("pkg.Helper"), selectClass("pkg.HelperTests"));
+	}
+
+	@Test
+	void selectsClassesWithFailedTestsAgain() throws Exception {
+		compile(classesDir, "Helper.java", "HelperTests.java", "IndependentTests.java");
+		execute(buildRequest(classesDir));
+		touch(classesDir.resolve("pkg/Helper.class"));
+		execute(buildRequest(classesDir), "pkg.HelperTests");
+
+		var selectors = getSelectors(buildRequest(classesDir));
+
+		assertThat(selectors).containsExactly(selectClass("pkg.HelperTests"));
+	}
+
+	@Test
+	void selectsDependentsOfRemovedClasses() throws Exception {
+		compile(classesDir, "Helper.java", "HelperTests.java", "IndependentTests.java");
+		execute(buildRequest(classesDir));
+		Files.delete(classesDir.resolve("pkg/Helper.class"));
+
+		var selectors = getSelectors(buildRequest(classesDir));
+
+		assertThat(selectors).containsExactly(selectClass("pkg.HelperTests"));
+	}
+
+	@Test
+	void selectsAddedClasses() throws Exception {
+		compile(classesDir, "Helper.java", "HelperTests.java", "IndependentTests.java");
+		execute(buildRequest(classesDir));
+		Files.move(classesDir.resolve("pkg/IndependentTests.class"), tempDir.resolve("IndependentTests.class"));
+		execute(buildRequest(classesDir));
+		Files.move(tempDir.resolve("IndependentTests.class"), classesDir.resolve("pkg/IndependentTests.class"));
+
+		var selectors = getSelectors(buildRequest(classesDir));
+
+		assertThat(selectors).containsExactly(selectClass("pkg.IndependentTests"));
+	}
+
+	@Test
+	void selectsDependentsInOtherClasspathRoots() throws Exception {
+		var mainClassesDir = tempDir.resolve("main-classes");
+		compile(mainClassesDir, "Helper.java");
+		compile(classesDir, "-cp", mainClassesDir.toString(), "HelperTests.java", "IndependentTests.java");
+		execute(buildRequest(mainClassesDir, classesDir));
+		touch(mainClassesDir.resolve("pkg/Helper.class"));
+
+		var selectors = getSelectors(buildRequest(mainClassesDir, classesDir));
+
+		assertThat(selectors).containsExactly(selectClass("pkg.Helper"), selectClass("pkg.HelperTests"));
+	}
+
+	private void compile(Path outputDir, String... arguments) {
+		var javacArguments = new ArrayList<>(List.of("-d", outputDir.toString()));
+		for (var argument : arguments) {
+			javacArguments.add(argument.endsWith(".java") ? sourcesDir.resolve(argument).toString() : argument);
+		}
+		var exitCode = ToolProvider.findFirst("javac").orElseThrow().run(System.out, System.err,
+			javacArguments.toArray(String[]::new));
+		assertThat(exitCode).isZero();
+	}
+
+	private LauncherDiscoveryRequest buildRequest(Path... classpathRoots) {
+		var selectors = new ArrayList<DiscoverySelector>();
+		for (var classpathRoot : classpathRoots) {
+			selectors.addAll(selectClasspathRoots(Set.of(classpathRoot)));
+		}
+		return request() //
+				.selectors(selectors) //
+				.enableImplicitConfigurationParameters(false) //
+				.configurationParameter(INCREMENTAL_DISCOVERY_INDEX_FILE_PROPERTY_NAME, indexFile().toString()) //
+				.build();
+	}
+
+	private static List<DiscoverySelector> getSelectors(LauncherDiscoveryRequest request) {
+		return request.getSelectorsByType(DiscoverySelector.class);
+	}
+
+	private static void execute(LauncherDiscoveryRequest request, String... failingClassNames) {
+		createLauncher(new ClassSelectorEngine(Set.of(failingClassNames))).execute(request);
+	}
+
+	private Path indexFile() {
+		return tempDir.resolve("index.properties");
+	}
+
+	private static void touch(Path file) throws Exception {
+		var lastModifiedTime = Files.getLastModifiedTime(file).toMillis();
+		Files.setLastModifiedTime(file, FileTime.fromMillis(lastModifiedTime + 10_000));
+	}
+
+	/**
+	 * Discovers a test for each selected class without loading it and fails
+	 * the tests of the supplied classes.
+	 */
+	private static class ClassSelectorEngine extends TestEngineStub {
+
+		private final Set<String> failingClassNames;
+
+		ClassSelectorEngine(Set<String> failingClassNames) {
+			super("class-selector-engine");
+			this.failingClassNames = failingClassNames;
+		}
+
+		@Override
+		public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+			var engineDescriptor = new EngineDescriptor(uniqueId, "Class Selector Engine");
+			for (var selector : discoveryRequest.getSelectorsByType(ClassSelector.class)) {
+				var className = selector.getClassName();
+				engineDescriptor.addChild(new AbstractTestDescriptor(uniqueId.append("class", className), className,
+					ClassSource.from(className)) {
+
+					@Override
+					public Type getType() {
+						return Type.TEST;
+					}
+				});
+			}
+			return engineDescriptor;
+		}
+
+		@Override
+		public void execute(ExecutionRequest request) {
+			var listener = request.getEngineExecutionListener();
+			var engineDescriptor = request.getRootTestDescriptor();
+			listener.executionStarted(engineDescriptor);
+			for (var child : engineDescriptor.getChildren()) {
+				listener.executionStarted(child);
+				var failed = failingClassNames.contains(child.getDisplayName());
+				listener.executionFinished(child, failed ? TestExecutionResult.failed(new AssertionError("boom"))
+						: TestExecutionResult.successful());
+			}
+			listener.executionFinished(engineDescriptor, TestExecutionResult.successful());
+		}
+	}
+
+}
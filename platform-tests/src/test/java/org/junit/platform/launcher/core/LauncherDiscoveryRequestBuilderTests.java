@@ -11,6 +11,7 @@
 package org.junit.platform.launcher.core;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.platform.engine.FilterResult.excluded;
@@ -20,6 +21,8 @@ import static org.junit.platform.engine.discovery.DiscoverySelectors.selectModul
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
 import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_COUNT_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_INDEX_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.DEFAULT_DISCOVERY_LISTENER_CONFIGURATION_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 import static org.junit.platform.launcher.listeners.discovery.LauncherDiscoveryListeners.abortOnFailure;
@@ -224,6 +227,47 @@ class LauncherDiscoveryRequestBuilderTests {
 			assertThat(filters).containsOnly(postFilter1, postFilter2);
 		}
 
+		@Test
+		void shardingFilterIsStoredInDiscoveryRequestIfShardIsConfigured() {
+			// @formatter:off
+			var discoveryRequest = request()
+					.configurationParameter(SHARD_INDEX_PROPERTY_NAME, "2")
+					.configurationParameter(SHARD_COUNT_PROPERTY_NAME, "3")
+					.build();
+			// @formatter:on
+
+			var filters = discoveryRequest.getPostDiscoveryFilters();
+			assertThat(filters).singleElement().asString() //
+					.isEqualTo("ShardingFilter [shardIndex = 2, shardCount = 3]");
+		}
+
+		@Test
+		void shardingFilterIsNotStoredInDiscoveryRequestWithParentConfigurationParameters() {
+			var parentConfigurationParameters = request() //
+					.configurationParameter(SHARD_INDEX_PROPERTY_NAME, "2") //
+					.configurationParameter(SHARD_COUNT_PROPERTY_NAME, "3") //
+					.build() //
+					.getConfigurationParameters();
+
+			// @formatter:off
+			var discoveryRequest = request()
+					.parentConfigurationParameters(parentConfigurationParameters)
+					.build();
+			// @formatter:on
+
+			assertThat(discoveryRequest.getPostDiscoveryFilters()).isEmpty();
+		}
+
+		@Test
+		void exceptionForShardCountWithoutShardIndex() {
+			var builder = request().configurationParameter(SHARD_COUNT_PROPERTY_NAME, "3");
+
+			assertThatThrownBy(builder::build) //
+					.isInstanceOf(PreconditionViolationException.class) //
+					.hasMessage("Configuration parameter '%s' must be set if '%s' is set", SHARD_INDEX_PROPERTY_NAME,
+						SHARD_COUNT_PROPERTY_NAME);
+		}
+
 		@Test
 		void exceptionForIllegalFilterClass() {
 			Exception exception = assertThrows(PreconditionViolationException.class,
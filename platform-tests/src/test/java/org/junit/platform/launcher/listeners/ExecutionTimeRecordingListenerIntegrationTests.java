@@ -0,0 +1,120 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
+import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.LauncherConstants.EXECUTION_TIMES_FILE_PROPERTY_NAME;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.ServiceLoader;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+/**
+ * Integration tests for the {@link ExecutionTimeRecordingListener}.
+ *
+ * @since 6.0
+ */
+class ExecutionTimeRecordingListenerIntegrationTests {
+
+	private static final String engine = "[engine:junit-jupiter]";
+	private static final String testClass = engine
+			+ "/[class:org.junit.platform.launcher.listeners.ExecutionTimeRecordingListenerIntegrationTests$TestCase]";
+	private static final String fastTest = testClass + "/[method:fastTest()]";
+	private static final String slowTest = testClass + "/[method:slowTest()]";
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void listenerIsRegistered() {
+		var numListenersRegistered = ServiceLoader.load(TestExecutionListener.class).stream()//
+				.filter(provider -> ExecutionTimeRecordingListener.class.equals(provider.type()))//
+				.count();
+		assertThat(numListenersRegistered).isEqualTo(1);
+	}
+
+	@Test
+	void recordsExecutionTimesOfTestsAndContainers() throws Exception {
+		var file = tempDir.resolve("nested/execution-times.properties");
+
+		execute(file, selectClass(TestCase.class));
+
+		var executionTimes = load(file);
+		assertThat(executionTimes.stringPropertyNames()).containsExactlyInAnyOrder(engine, testClass, fastTest,
+			slowTest);
+		assertThat(Long.parseLong(executionTimes.getProperty(slowTest))).isGreaterThanOrEqualTo(50);
+		assertThat(Long.parseLong(executionTimes.getProperty(testClass))) //
+				.isGreaterThanOrEqualTo(Long.parseLong(executionTimes.getProperty(slowTest)));
+	}
+
+	@Test
+	void retainsExecutionTimesOfTestsThatWereNotExecuted() throws Exception {
+		var file = tempDir.resolve("execution-times.properties");
+		var existing = new Properties();
+		existing.setProperty(slowTest, "4711");
+		existing.setProperty(fastTest, "4711");
+		try (var writer = Files.newBufferedWriter(file)) {
+			existing.store(writer, null);
+		}
+
+		execute(file, selectMethod(TestCase.class, "fastTest"));
+
+		var executionTimes = load(file);
+		assertThat(executionTimes.getProperty(slowTest)).isEqualTo("4711");
+		assertThat(executionTimes.getProperty(fastTest)).isNotEqualTo("4711");
+	}
+
+	private static void execute(Path file, DiscoverySelector selector) {
+		var request = request() //
+				.selectors(selector) //
+				.filters(includeEngines("junit-jupiter")) //
+				.configurationParameter(EXECUTION_TIMES_FILE_PROPERTY_NAME, file.toString()) //
+				.build();
+		LauncherFactory.create().execute(request);
+	}
+
+	private static Properties load(Path file) throws IOException {
+		var properties = new Properties();
+		try (Reader reader = Files.newBufferedReader(file)) {
+			properties.load(reader);
+		}
+		return properties;
+	}
+
+	// -------------------------------------------------------------------------
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class TestCase {
+
+		@Test
+		void fastTest() {
+		}
+
+		@Test
+		void slowTest() throws Exception {
+			Thread.sleep(50);
+		}
+	}
+
+}
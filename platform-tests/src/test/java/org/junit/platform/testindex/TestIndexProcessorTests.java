@@ -0,0 +1,113 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.testindex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link TestIndexProcessor}.
+ *
+ * @since 6.0
+ */
+class TestIndexProcessorTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void writesSortedBinaryNamesOfTestClassesToTestIndex() throws Exception {
+		compile(Map.of( //
+			"com/example/FirstTests.java", """
+					package com.example;
+					import org.junit.jupiter.api.Nested;
+					import org.junit.jupiter.api.Test;
+					class FirstTests {
+						@Test void test() {}
+						@Nested class Inner { @Test void test() {} }
+						static class Helper {}
+					}
+					""", //
+			"com/example/AbstractTests.java", """
+					package com.example;
+					abstract class AbstractTests {
+						@org.junit.jupiter.api.RepeatedTest(2) void test() {}
+					}
+					""", //
+			"com/example/InheritingTests.java", """
+					package com.example;
+					class InheritingTests extends AbstractTests {}
+					""", //
+			"com/example/suites/MySuite.java", """
+					package com.example.suites;
+					@org.junit.platform.suite.api.Suite
+					class MySuite {}
+					""", //
+			"com/example/Production.java", """
+					package com.example;
+					public class Production { public void test() {} }
+					""" //
+		));
+
+		assertThat(readTestIndex()).containsExactly( //
+			"com.example.AbstractTests", //
+			"com.example.FirstTests", //
+			"com.example.FirstTests$Inner", //
+			"com.example.InheritingTests", //
+			"com.example.suites.MySuite" //
+		);
+	}
+
+	@Test
+	void writesEmptyTestIndexIfThereAreNoTestClasses() throws Exception {
+		compile(Map.of("com/example/Production.java", """
+				package com.example;
+				public class Production {}
+				"""));
+
+		assertThat(readTestIndex()).isEmpty();
+	}
+
+	private void compile(Map<String, String> sources) throws IOException {
+		var sourceDir = Files.createDirectories(tempDir.resolve("src"));
+		var outputDir = Files.createDirectories(tempDir.resolve("classes"));
+		for (var entry : sources.entrySet()) {
+			var file = sourceDir.resolve(entry.getKey());
+			Files.createDirectories(file.getParent());
+			Files.writeString(file, entry.getValue());
+		}
+		var compiler = ToolProvider.getSystemJavaCompiler();
+		try (var fileManager = compiler.getStandardFileManager(null, null, null);
+				var sourceFiles = Files.walk(sourceDir)) {
+			var compilationUnits = fileManager.getJavaFileObjectsFromPaths(
+				sourceFiles.filter(Files::isRegularFile).toList());
+			var options = List.of("-d", outputDir.toString(), "-classpath", System.getProperty("java.class.path"));
+			var task = compiler.getTask(null, fileManager, null, options, null, compilationUnits);
+			task.setProcessors(List.of(new TestIndexProcessor()));
+			assertThat(task.call()).isTrue();
+		}
+	}
+
+	private List<String> readTestIndex() throws IOException {
+		return Files.readAllLines(tempDir.resolve("classes").resolve(TestIndexProcessor.TEST_INDEX_RESOURCE_NAME));
+	}
+
+}
@@ -44,6 +44,7 @@ class HelperTests {
 			"junit-platform-suite", //
 			"junit-platform-suite-api", //
 			"junit-platform-suite-engine", //
+			"junit-platform-test-index", //
 			"junit-platform-testkit", //
 			"junit-vintage-engine"//
 		), Helper.loadModuleDirectoryNames());
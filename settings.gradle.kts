@@ -86,6 +86,7 @@ include("junit-platform-reporting")
 include("junit-platform-suite")
 include("junit-platform-suite-api")
 include("junit-platform-suite-engine")
+include("junit-platform-test-index")
 include("junit-platform-testkit")
 include("junit-vintage-engine")
 include("jupiter-tests")